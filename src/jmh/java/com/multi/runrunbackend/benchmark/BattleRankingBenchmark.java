@@ -0,0 +1,61 @@
+package com.multi.runrunbackend.benchmark;
+
+import com.multi.runrunbackend.domain.running.battle.dto.res.BattleRankingResDto;
+import com.multi.runrunbackend.domain.running.battle.util.BattleRankingSorter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author : kyungsoo
+ * @description : 배틀 순위 정렬/부여 비용 (GPS tick 마다 순위 브로드캐스트 전에 호출)
+ * @filename : BattleRankingBenchmark
+ * @since : 2026. 1. 27. Tuesday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BattleRankingBenchmark {
+
+    private static final String[] STATUSES = {"RUNNING", "RUNNING", "FINISHED", "TIMEOUT", "GIVE_UP"};
+
+    @Param({"4", "10"})
+    public int participants;
+
+    private List<BattleRankingResDto> rankings;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 7, 0);
+        rankings = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            String status = STATUSES[random.nextInt(STATUSES.length)];
+            rankings.add(BattleRankingResDto.builder()
+                .rank(0)
+                .userId((long) i)
+                .username("runner" + i)
+                .totalDistance(random.nextDouble() * 5000)
+                .isFinished("FINISHED".equals(status))
+                .finishTimeActual("FINISHED".equals(status)
+                    ? base.plusSeconds(1500 + random.nextInt(600)) : null)
+                .status(status)
+                .build());
+        }
+    }
+
+    @Benchmark
+    public List<BattleRankingResDto> rank() {
+        return BattleRankingSorter.rank(rankings);
+    }
+}
@@ -0,0 +1,78 @@
+package com.multi.runrunbackend.benchmark;
+
+import com.multi.runrunbackend.benchmark.support.SyntheticRoutes;
+import com.multi.runrunbackend.domain.running.dto.GPSDataDTO;
+import com.multi.runrunbackend.domain.running.util.CoursePathMatcher;
+import com.multi.runrunbackend.domain.running.util.CoursePathMatcher.MatchResult;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.locationtech.jts.geom.LineString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author : kyungsoo
+ * @description : GPS tick 당 코스 진행도 매칭 비용 (RunningTrackingService 가 tick 마다 호출)
+ * @filename : CoursePathMatcherBenchmark
+ * @since : 2026. 1. 27. Tuesday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CoursePathMatcherBenchmark {
+
+    // 5km / 10km / 21km 코스, 10m 간격 포인트
+    @Param({"5000", "10000", "21100"})
+    public int courseMeters;
+
+    private LineString path;
+    private double[] lats;
+    private double[] lngs;
+    private double[] prevAlong;
+    private int tick;
+
+    @Setup
+    public void setUp() {
+        List<double[]> course = SyntheticRoutes.course(courseMeters, 10, 42);
+        path = SyntheticRoutes.lineString(course);
+
+        List<GPSDataDTO> track = SyntheticRoutes.gpsAlong(course, 3.0, 8.0, 7);
+        lats = new double[track.size()];
+        lngs = new double[track.size()];
+        prevAlong = new double[track.size()];
+        for (int i = 0; i < track.size(); i++) {
+            lats[i] = track.get(i).getLatitude();
+            lngs[i] = track.get(i).getLongitude();
+            prevAlong[i] = track.get(i).getTotalDistance() * 1000;
+        }
+    }
+
+    private int nextTick() {
+        int i = tick;
+        tick = (tick + 1) % lats.length;
+        return i;
+    }
+
+    @Benchmark
+    public MatchResult matchWithPrevious() {
+        int i = nextTick();
+        return CoursePathMatcher.matchAlongMeters(path, lats[i], lngs[i], prevAlong[i]);
+    }
+
+    @Benchmark
+    public MatchResult matchFullScan() {
+        int i = nextTick();
+        return CoursePathMatcher.matchAlongMeters(path, lats[i], lngs[i], null);
+    }
+
+    @Benchmark
+    public double lineStringMeters() {
+        return CoursePathMatcher.lineStringMeters(path);
+    }
+}
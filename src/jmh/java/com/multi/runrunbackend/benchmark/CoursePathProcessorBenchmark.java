@@ -0,0 +1,55 @@
+package com.multi.runrunbackend.benchmark;
+
+import com.multi.runrunbackend.benchmark.support.SyntheticRoutes;
+import com.multi.runrunbackend.domain.course.util.route.CoursePathProcessor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.locationtech.jts.geom.LineString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author : kyungsoo
+ * @description : 코스 저장/썸네일용 경로 단순화 비용 (GPS 기록 코스는 1~3m 간격 포인트가 수천 개)
+ * @filename : CoursePathProcessorBenchmark
+ * @since : 2026. 1. 27. Tuesday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CoursePathProcessorBenchmark {
+
+    @Param({"5000", "21100"})
+    public int courseMeters;
+
+    private final CoursePathProcessor processor = new CoursePathProcessor();
+    private LineString rawPath;
+    private List<double[]> rawCoords;
+
+    @Setup
+    public void setUp() {
+        rawCoords = SyntheticRoutes.course(courseMeters, 2, 42);
+        rawPath = SyntheticRoutes.lineString(rawCoords);
+    }
+
+    @Benchmark
+    public LineString simplifyForStore() {
+        return processor.simplifyForStore(rawPath);
+    }
+
+    @Benchmark
+    public List<double[]> prepareThumbnailPath() {
+        return processor.prepareThumbnailPath(rawPath);
+    }
+
+    @Benchmark
+    public List<double[]> simplifyCoordinates() {
+        return processor.simplifyCoordinates(rawCoords, 12.0);
+    }
+}
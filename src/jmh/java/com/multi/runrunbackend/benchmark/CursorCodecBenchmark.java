@@ -0,0 +1,53 @@
+package com.multi.runrunbackend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multi.runrunbackend.domain.course.constant.CourseSortType;
+import com.multi.runrunbackend.domain.course.util.CourseCursorCodec;
+import com.multi.runrunbackend.domain.course.util.CourseCursorCodec.CursorPayload;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author : kyungsoo
+ * @description : 코스 목록 커서 인코딩/디코딩 비용 (목록 조회 요청마다 1회씩)
+ * @filename : CursorCodecBenchmark
+ * @since : 2026. 1. 27. Tuesday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CursorCodecBenchmark {
+
+    private CourseCursorCodec codec;
+    private CursorPayload payload;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        codec = new CourseCursorCodec(new ObjectMapper().findAndRegisterModules());
+        payload = new CursorPayload();
+        payload.setSortType(CourseSortType.DISTANCE);
+        payload.setCreatedAt(OffsetDateTime.of(2026, 1, 1, 7, 0, 0, 0, ZoneOffset.ofHours(9)));
+        payload.setId(12345L);
+        payload.setDistM(1523.75);
+        encoded = codec.encode(payload);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(payload);
+    }
+
+    @Benchmark
+    public CursorPayload decode() {
+        return codec.decodeOrNull(encoded);
+    }
+}
@@ -0,0 +1,50 @@
+package com.multi.runrunbackend.benchmark;
+
+import com.multi.runrunbackend.domain.rating.util.EloCalculator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author : kyungsoo
+ * @description : 배틀 정산 Elo 변동값 계산 비용 (DistanceRatingService 가 배틀 종료마다 호출)
+ * @filename : EloCalculatorBenchmark
+ * @since : 2026. 1. 27. Tuesday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EloCalculatorBenchmark {
+
+    @Param({"2", "4", "10"})
+    public int participants;
+
+    private int[] preRatings;
+    private int[] kFactors;
+    private boolean[] completed;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        preRatings = new int[participants];
+        kFactors = new int[participants];
+        completed = new boolean[participants];
+        for (int i = 0; i < participants; i++) {
+            preRatings[i] = 1000 + random.nextInt(600);
+            kFactors[i] = EloCalculator.kFactor(random.nextInt(50));
+            completed[i] = i < participants - 1;
+        }
+    }
+
+    @Benchmark
+    public int[] deltas() {
+        return EloCalculator.deltas(preRatings, kFactors, completed);
+    }
+}
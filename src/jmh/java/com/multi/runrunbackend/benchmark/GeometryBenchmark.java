@@ -0,0 +1,63 @@
+package com.multi.runrunbackend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multi.runrunbackend.benchmark.support.SyntheticRoutes;
+import com.multi.runrunbackend.domain.course.util.GeoJsonConverter;
+import com.multi.runrunbackend.domain.course.util.GeometryParser;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.locationtech.jts.geom.LineString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author : kyungsoo
+ * @description : 코스 경로 GeoJSON/WKT 파싱과 GeoJSON 변환 비용 (코스 등록/조회, 러닝 코스 경로 응답)
+ * @filename : GeometryBenchmark
+ * @since : 2026. 1. 27. Tuesday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeometryBenchmark {
+
+    @Param({"500", "2000"})
+    public int points;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GeometryParser parser;
+    private LineString path;
+    private String geoJson;
+    private String wkt;
+
+    @Setup
+    public void setUp() throws Exception {
+        parser = new GeometryParser(objectMapper);
+        List<double[]> coords = SyntheticRoutes.course(points * 10.0, 10, 42).subList(0, points);
+        path = SyntheticRoutes.lineString(coords);
+        geoJson = objectMapper.writeValueAsString(GeoJsonConverter.toGeoJson(path));
+        wkt = path.toText();
+    }
+
+    @Benchmark
+    public LineString parseGeoJson() {
+        return parser.parseLineString(geoJson);
+    }
+
+    @Benchmark
+    public LineString parseWkt() {
+        return parser.parseLineString(wkt);
+    }
+
+    @Benchmark
+    public Map<String, Object> toGeoJson() {
+        return GeoJsonConverter.toGeoJson(path);
+    }
+}
@@ -0,0 +1,48 @@
+package com.multi.runrunbackend.benchmark;
+
+import com.multi.runrunbackend.benchmark.support.SyntheticRoutes;
+import com.multi.runrunbackend.domain.running.dto.GPSDataDTO;
+import com.multi.runrunbackend.domain.running.ghost.util.GhostTrace;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author : kyungsoo
+ * @description : 고스트 트레이스 생성(러닝 종료 시 1회)과 거리별 시간 조회(고스트런 tick 마다) 비용
+ * @filename : GhostTraceBenchmark
+ * @since : 2026. 1. 27. Tuesday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GhostTraceBenchmark {
+
+    private List<GPSDataDTO> track;
+    private GhostTrace trace;
+    private double meters;
+
+    @Setup
+    public void setUp() {
+        List<double[]> course = SyntheticRoutes.course(10_000, 10, 42);
+        track = SyntheticRoutes.gpsAlong(course, 3.0, 5.0, 7);
+        trace = GhostTrace.fromGps(track, GhostTrace.DEFAULT_STEP_METERS);
+    }
+
+    @Benchmark
+    public GhostTrace fromGps() {
+        return GhostTrace.fromGps(track, GhostTrace.DEFAULT_STEP_METERS);
+    }
+
+    @Benchmark
+    public double timeAt() {
+        meters = meters >= trace.getTotalMeters() ? 0 : meters + 3.0;
+        return trace.timeAt(meters);
+    }
+}
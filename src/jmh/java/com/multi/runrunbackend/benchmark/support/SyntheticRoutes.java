@@ -0,0 +1,114 @@
+package com.multi.runrunbackend.benchmark.support;
+
+import com.multi.runrunbackend.domain.running.dto.GPSDataDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * @author : kyungsoo
+ * @description : 벤치마크용 합성 코스/GPS 생성기. 시드를 고정해 실행마다 같은 입력을 만든다.
+ * @filename : SyntheticRoutes
+ * @since : 2026. 1. 27. Tuesday
+ */
+public final class SyntheticRoutes {
+
+    public static final GeometryFactory GEOMETRY_FACTORY =
+        new GeometryFactory(new PrecisionModel(), 4326);
+
+    // 서울 시청 부근
+    private static final double ORIGIN_LAT = 37.5665;
+    private static final double ORIGIN_LNG = 126.9780;
+    private static final double METERS_PER_DEG_LAT = 110_540.0;
+    private static final double METERS_PER_DEG_LNG = 111_320.0 * Math.cos(Math.toRadians(ORIGIN_LAT));
+
+    private SyntheticRoutes() {
+    }
+
+    /**
+     * 완만하게 휘는 코스 (stepMeters 간격, 방향이 조금씩 바뀌는 랜덤 워크)
+     */
+    public static List<double[]> course(double lengthMeters, double stepMeters, long seed) {
+        Random random = new Random(seed);
+        int points = (int) Math.ceil(lengthMeters / stepMeters) + 1;
+        List<double[]> coords = new ArrayList<>(points);
+
+        double x = 0;
+        double y = 0;
+        double heading = random.nextDouble() * Math.PI * 2;
+        coords.add(toLngLat(x, y));
+        for (int i = 1; i < points; i++) {
+            heading += (random.nextDouble() - 0.5) * 0.3;
+            x += Math.cos(heading) * stepMeters;
+            y += Math.sin(heading) * stepMeters;
+            coords.add(toLngLat(x, y));
+        }
+        return coords;
+    }
+
+    public static LineString lineString(List<double[]> coords) {
+        Coordinate[] cs = new Coordinate[coords.size()];
+        for (int i = 0; i < coords.size(); i++) {
+            cs[i] = new Coordinate(coords.get(i)[0], coords.get(i)[1]);
+        }
+        return GEOMETRY_FACTORY.createLineString(cs);
+    }
+
+    /**
+     * 코스를 따라 1초 간격으로 달린 GPS 트랙 (속도 m/s, 위치 오차 noiseMeters 이내)
+     */
+    public static List<GPSDataDTO> gpsAlong(List<double[]> course, double speedMps,
+                                            double noiseMeters, long seed) {
+        Random random = new Random(seed);
+        List<GPSDataDTO> track = new ArrayList<>();
+
+        double traveled = 0;
+        int seg = 0;
+        double segOffset = 0;
+        int second = 0;
+        while (seg < course.size() - 1) {
+            double[] a = course.get(seg);
+            double[] b = course.get(seg + 1);
+            double segLen = distanceMeters(a, b);
+            if (segOffset > segLen) {
+                segOffset -= segLen;
+                seg++;
+                continue;
+            }
+            double t = segLen == 0 ? 0 : segOffset / segLen;
+            double lng = a[0] + (b[0] - a[0]) * t + (random.nextGaussian() * noiseMeters) / METERS_PER_DEG_LNG;
+            double lat = a[1] + (b[1] - a[1]) * t + (random.nextGaussian() * noiseMeters) / METERS_PER_DEG_LAT;
+
+            track.add(GPSDataDTO.builder()
+                .latitude(lat)
+                .longitude(lng)
+                .accuracy(noiseMeters)
+                .totalDistance(traveled / 1000)
+                .runningTime(second)
+                .speed(speedMps)
+                .build());
+
+            traveled += speedMps;
+            segOffset += speedMps;
+            second++;
+        }
+        return track;
+    }
+
+    public static double distanceMeters(double[] a, double[] b) {
+        double dx = (b[0] - a[0]) * METERS_PER_DEG_LNG;
+        double dy = (b[1] - a[1]) * METERS_PER_DEG_LAT;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private static double[] toLngLat(double xMeters, double yMeters) {
+        return new double[]{
+            ORIGIN_LNG + xMeters / METERS_PER_DEG_LNG,
+            ORIGIN_LAT + yMeters / METERS_PER_DEG_LAT
+        };
+    }
+}
@@ -2,10 +2,8 @@ package com.multi.runrunbackend.common.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.multi.runrunbackend.domain.chat.service.RedisSubscriber;
+import com.multi.runrunbackend.common.metrics.CountingRedisTemplate;
 import com.multi.runrunbackend.domain.notification.redis.NotificationRedisSubscriber;
-import com.multi.runrunbackend.domain.running.battle.service.BattleRedisSubscriber;
-import com.multi.runrunbackend.domain.running.service.RunningStatsSubscriber;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -16,9 +14,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -34,7 +30,7 @@ public class RedisConfig {
 
   @Bean
   public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
-    RedisTemplate<String, String> template = new RedisTemplate<>();
+    RedisTemplate<String, String> template = new CountingRedisTemplate<>();
     template.setConnectionFactory(connectionFactory);
     template.setKeySerializer(new StringRedisSerializer());
     template.setValueSerializer(new StringRedisSerializer());
@@ -48,7 +44,7 @@ public class RedisConfig {
   public RedisTemplate<String, String> gpsRedisTemplate(
       RedisConnectionFactory connectionFactory) {
 
-    RedisTemplate<String, String> template = new RedisTemplate<>();
+    RedisTemplate<String, String> template = new CountingRedisTemplate<>();
     template.setConnectionFactory(connectionFactory);
     template.setKeySerializer(RedisSerializer.string());
 
@@ -66,7 +62,7 @@ public class RedisConfig {
   public RedisTemplate<String, Object> redisPubSubTemplate(
       RedisConnectionFactory connectionFactory) {
 
-    RedisTemplate<String, Object> template = new RedisTemplate<>();
+    RedisTemplate<String, Object> template = new CountingRedisTemplate<>();
     template.setConnectionFactory(connectionFactory);
     template.setKeySerializer(RedisSerializer.string());
 
@@ -76,89 +72,23 @@ public class RedisConfig {
     return template;
   }
 
-  /**
-   * PatternTopic - Redis Pub/Sub에서 사용할 채널 패턴 정의 chat:* 패턴으로 모든 세션 채널 수신
-   */
-  @Bean
-  public PatternTopic chatTopic() {
-    return new PatternTopic("chat:*");  // 패턴 매칭
-  }
-
-  /**
-   * 크루 채팅 토픽 - crew-chat:* 패턴
-   */
-  @Bean
-  public PatternTopic crewChatTopic() {
-    return new PatternTopic("crew-chat:*");
-  }
-
-  /**
-   * GPS 통계 토픽 - running:* 패턴
-   */
-  @Bean
-  public PatternTopic runningTopic() {
-    return new PatternTopic("running:*");
-  }
-
-  /**
-   * 배틀 WebSocket 토픽 - battle:* 패턴
-   */
-  @Bean
-  public PatternTopic battleTopic() {
-    return new PatternTopic("battle:*");
-  }
-
   /**
    * Redis Pub/Sub 메시지 리스너 컨테이너 - Redis메시지를 수신하는 컨테이너
+   * <p>
+   * 채팅/런닝/배틀 채널은 StompSubscriptionRegistry 가 로컬 STOMP 구독에 맞춰 채널 단위로 붙였다 뗀다.
    */
   @Bean
   public RedisMessageListenerContainer redisMessageListenerContainer(
       RedisConnectionFactory connectionFactory,
-      RedisSubscriber redisSubscriber,  // ⭐ MessageListenerAdapter 대신 직접 사용
-      MessageListenerAdapter runningListenerAdapter,
-      MessageListenerAdapter battleListenerAdapter,
       NotificationRedisSubscriber subscriber,
-      ChannelTopic notificationTopic,
-      PatternTopic chatTopic,
-      PatternTopic crewChatTopic,
-      PatternTopic runningTopic,
-      PatternTopic battleTopic
+      ChannelTopic notificationTopic
   ) {
     RedisMessageListenerContainer container = new RedisMessageListenerContainer();
     container.setConnectionFactory(connectionFactory);
     container.addMessageListener(subscriber, notificationTopic);
-
-    // 채팅 메시지 리스너 (오프라인 채팅)
-    container.addMessageListener(redisSubscriber, chatTopic);  // ⭐ 직접 등록
-
-    // 크루 채팅 메시지 리스너
-    container.addMessageListener(redisSubscriber, crewChatTopic);  // ⭐ 직접 등록
-
-    // GPS 통계 리스너
-    container.addMessageListener(runningListenerAdapter, runningTopic);
-
-    // 배틀 WebSocket 리스너
-    container.addMessageListener(battleListenerAdapter, battleTopic);
-
     return container;
   }
 
-  /**
-   * GPS 통계 리스너 어댑터
-   */
-  @Bean
-  public MessageListenerAdapter runningListenerAdapter(RunningStatsSubscriber subscriber) {
-    return new MessageListenerAdapter(subscriber, "handleMessage");
-  }
-
-  /**
-   * 배틀 WebSocket 리스너 어댑터
-   */
-  @Bean
-  public MessageListenerAdapter battleListenerAdapter(BattleRedisSubscriber subscriber) {
-    return new MessageListenerAdapter(subscriber, "onMessage");
-  }
-
   @Bean
   public ObjectMapper objectMapper() {
     ObjectMapper mapper = new ObjectMapper();
@@ -1,11 +1,17 @@
 package com.multi.runrunbackend.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * @author : kyungsoo
- * @description : Please explain the class!!!
+ * @description : 스케줄링 설정. STOMP 브로커용 messageBrokerTaskScheduler 와 분리된 애플리케이션 스케줄러를 등록한다 (@Scheduled, SSE
+ * heartbeat, 배틀 자동 시작).
  * @filename : SchedulingConfig
  * @since : 2025. 12. 29. Monday
  */
@@ -13,4 +19,29 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableScheduling
 public class SchedulingConfig {
 
+    /**
+     * 빈 이름이 taskScheduler 라서 @Scheduled 도 이 스케줄러를 쓴다 (TaskScheduler 빈이 여러 개일 때 이름으로 찾음)
+     */
+    public static final String TASK_SCHEDULER = "taskScheduler";
+
+    @Bean(name = TASK_SCHEDULER)
+    public TaskScheduler taskScheduler(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+        @Value("${spring.task.scheduling.pool.size:4}") int poolSize
+    ) {
+        if (virtualThreads) {
+            // 작업마다 가상 스레드 (트리거 스레드 하나만 플랫폼 스레드)
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setVirtualThreads(true);
+            scheduler.setThreadNamePrefix("app-scheduling-");
+            return scheduler;
+        }
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("app-scheduling-");
+        // 끊긴 SSE 연결의 heartbeat 취소 시 큐에서 바로 제거
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
 }
@@ -0,0 +1,72 @@
+package com.multi.runrunbackend.common.config;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : changwoo
+ * @description : 가상 스레드 pinning 감시. JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 threshold 이상 캐리어 스레드를
+ * 붙잡은 경우 호출 위치(상위 프레임)와 함께 경고 로그를 남긴다. 가상 스레드 모드 검증용이라 기본은 꺼져 있다.
+ * @filename : VirtualThreadPinningMonitor
+ * @since : 2026. 1. 27. Tuesday
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "virtual-threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final int MAX_FRAMES = 8;
+
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+        @Value("${virtual-threads.pinning-monitor.threshold-ms:20}") long thresholdMs
+    ) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::report);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    private void report(RecordedEvent event) {
+        String frames = "(no stack)";
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> top = event.getStackTrace().getFrames().stream()
+                .limit(MAX_FRAMES)
+                .toList();
+            frames = top.stream()
+                .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName()
+                    + ":" + f.getLineNumber())
+                .collect(Collectors.joining("\n\tat "));
+        }
+        log.warn("가상 스레드 pinning 감지: duration={}ms, thread={}\n\tat {}",
+            event.getDuration().toMillis(),
+            event.getThread() == null ? "?" : event.getThread().getJavaName(),
+            frames);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
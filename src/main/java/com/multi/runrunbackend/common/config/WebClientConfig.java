@@ -17,6 +17,7 @@ import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
@@ -91,6 +92,34 @@ public class WebClientConfig {
                 .build();
     }
 
+    /**
+     * 토스 빌링 결제 전용 WebClient. 자동결제 엔진이 한꺼번에 요청을 몰아도 다른 외부 API 호출과 커넥션을 다투지 않도록 별도 풀을 쓰고,
+     * 풀이 가득 차면 pending-acquire-timeout 만큼만 기다린다.
+     */
+    @Bean(name = "tossBillingWebClient")
+    public WebClient tossBillingWebClient(
+            @Value("${toss.payments.base-url:https://api.tosspayments.com}") String baseUrl,
+            @Value("${toss.payments.billing.max-connections:16}") int maxConnections,
+            @Value("${toss.payments.billing.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+            @Value("${toss.payments.billing.response-timeout-ms:10000}") long responseTimeoutMs
+    ) {
+        ConnectionProvider provider = ConnectionProvider.builder("toss-billing")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxConnections * 4)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3_000)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
     @Bean
     public WebClient.Builder webClientBuilder() {
 
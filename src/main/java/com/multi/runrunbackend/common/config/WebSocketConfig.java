@@ -2,6 +2,8 @@ package com.multi.runrunbackend.common.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -20,14 +22,65 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${WS_TEST_ENABLED:false}")
     private boolean wsTestEnabled;
 
+    // simple: 서버 내장 브로커 + Redis Pub/Sub 으로 서버 간 전달, relay: 외부 STOMP 브로커(Artemis 등)로 중계
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub");  // 구독 경로
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            registry.enableStompBrokerRelay("/sub")  // 구독 경로
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode)
+                .setSystemHeartbeatSendInterval(10000)
+                .setSystemHeartbeatReceiveInterval(10000);
+        } else {
+            registry.enableSimpleBroker("/sub");  // 구독 경로
+        }
         registry.setApplicationDestinationPrefixes("/pub");  // 발행 경로
+        // 가상 스레드는 메시지마다 새 스레드라 세션 단위 순서를 따로 보장해야 함
+        registry.setPreservePublishOrder(virtualThreads);
+    }
+
+    /**
+     * 가상 스레드 모드면 inbound/outbound 채널도 가상 스레드로 처리 (JPA/Redis 블로킹 호출이 플랫폼 스레드를 붙잡지 않도록)
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-outbound-"));
+        }
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.setPreserveReceiveOrder(virtualThreads);
         registry.addEndpoint("/ws")  // WebSocket 연결 엔드포인트
             .setAllowedOriginPatterns("*")
             .withSockJS();
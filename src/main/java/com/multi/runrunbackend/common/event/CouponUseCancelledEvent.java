@@ -0,0 +1,13 @@
+package com.multi.runrunbackend.common.event;
+
+import java.time.LocalDate;
+
+/**
+ * @author : kyungsoo
+ * @description : 쿠폰 사용 취소 - 취소 시 usedAt 이 지워지므로 롤업 차감용으로 사용일을 함께 전달
+ * @filename : CouponUseCancelledEvent
+ * @since : 2026. 1. 22. Thursday
+ */
+public record CouponUseCancelledEvent(Long couponIssueId, Long couponId, LocalDate usedDate) {
+
+}
@@ -0,0 +1,12 @@
+package com.multi.runrunbackend.common.event;
+
+/**
+ * @author : BoKyung
+ * @description : 크루 상세 요약에 영향을 주는 변경(가입 승인/탈퇴/해체/크루장 변경/정보·활동 수정). 커밋 후 CrewDetailCacheListener 가
+ * 상세 캐시를 무효화한다.
+ * @filename : CrewChangedEvent
+ * @since : 2026. 1. 24. Saturday
+ */
+public record CrewChangedEvent(Long crewId) {
+
+}
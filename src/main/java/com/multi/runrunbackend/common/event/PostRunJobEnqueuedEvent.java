@@ -0,0 +1,11 @@
+package com.multi.runrunbackend.common.event;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 러닝 후처리 작업 등록 이벤트. 커밋 후 워커를 바로 깨워 폴링 주기를 기다리지 않게 한다.
+ * @filename : PostRunJobEnqueuedEvent
+ * @since : 2026. 1. 23. Friday
+ */
+public record PostRunJobEnqueuedEvent(Long runningResultId) {
+
+}
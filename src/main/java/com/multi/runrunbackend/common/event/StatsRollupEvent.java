@@ -0,0 +1,17 @@
+package com.multi.runrunbackend.common.event;
+
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
+import java.util.List;
+
+/**
+ * @author : kyungsoo
+ * @description : 통계 롤업 반영 대상 (원본 테이블 + id 목록). 커밋 후 StatsRollupListener 가 롤업 테이블에 증분 반영한다.
+ * @filename : StatsRollupEvent
+ * @since : 2026. 1. 22. Thursday
+ */
+public record StatsRollupEvent(RollupSource source, List<Long> sourceIds) {
+
+    public static StatsRollupEvent of(RollupSource source, Long sourceId) {
+        return new StatsRollupEvent(source, List.of(sourceId));
+    }
+}
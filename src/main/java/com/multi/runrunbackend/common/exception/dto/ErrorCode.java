@@ -130,6 +130,7 @@ public enum ErrorCode {
   BILLING_PAYMENT_FAILED(HttpStatus.BAD_GATEWAY, "PM008", "빌링키 결제에 실패했습니다."),
   BILLING_KEY_NOT_FOUND(HttpStatus.NOT_FOUND, "PM009", "빌링키를 찾을 수 없습니다."),
   MEMBERSHIP_STILL_ACTIVE(HttpStatus.BAD_REQUEST, "PM010", "해지 예약 상태입니다. 종료일 이후 재가입 가능합니다."),
+  BILLING_PAYMENT_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PM011", "결제 대행사 응답이 없어 빌링키 결제를 완료하지 못했습니다."),
 
   // ========== Point (포인트) ==========
   POINT_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "포인트 정보를 찾을 수 없습니다"),
@@ -172,6 +173,8 @@ public enum ErrorCode {
   FILE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "F005", "파일 삭제에 실패했습니다."),
 
   INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "F006", "이미지 파일만 업로드 가능합니다."),
+  FILE_UPLOAD_NOT_FOUND(HttpStatus.NOT_FOUND, "F007", "업로드된 파일을 찾을 수 없습니다."),
+  FILE_CHECKSUM_MISMATCH(HttpStatus.BAD_REQUEST, "F008", "업로드된 파일이 요청한 파일과 일치하지 않습니다."),
   /*===== 피드 관련=====*/
   FEED_NOT_FOUND(
       HttpStatus.NOT_FOUND,
@@ -0,0 +1,46 @@
+package com.multi.runrunbackend.common.file.controller;
+
+import com.multi.runrunbackend.common.file.dto.FilePresignReqDto;
+import com.multi.runrunbackend.common.file.dto.FilePresignResDto;
+import com.multi.runrunbackend.common.file.dto.FileUploadConfirmReqDto;
+import com.multi.runrunbackend.common.file.dto.FileUploadConfirmResDto;
+import com.multi.runrunbackend.common.file.service.FileUploadService;
+import com.multi.runrunbackend.common.response.ApiResponse;
+import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author : kyungsoo
+ * @description : 클라이언트 → S3 직접 업로드 (presigned PUT 발급 / 업로드 확인)
+ * @filename : FileUploadController
+ * @since : 2026. 1. 24. Saturday
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/files")
+public class FileUploadController {
+
+    private final FileUploadService fileUploadService;
+
+    @PostMapping("/presigned")
+    public ApiResponse<FilePresignResDto> presign(
+        @AuthenticationPrincipal CustomUser principal,
+        @Valid @RequestBody FilePresignReqDto req
+    ) {
+        return ApiResponse.success("업로드 URL 발급 성공", fileUploadService.presign(principal, req));
+    }
+
+    @PostMapping("/confirm")
+    public ApiResponse<FileUploadConfirmResDto> confirm(
+        @AuthenticationPrincipal CustomUser principal,
+        @Valid @RequestBody FileUploadConfirmReqDto req
+    ) {
+        return ApiResponse.success("업로드 확인 성공", fileUploadService.confirm(principal, req));
+    }
+}
@@ -0,0 +1,38 @@
+package com.multi.runrunbackend.common.file.dto;
+
+import com.multi.runrunbackend.common.file.FileDomainType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * @author : kyungsoo
+ * @description : 직접 업로드(presigned PUT) URL 발급 요청 - 클라이언트가 미리 계산한 크기/sha256 으로 서명한다
+ * @filename : FilePresignReqDto
+ * @since : 2026. 1. 24. Saturday
+ */
+@Data
+public class FilePresignReqDto {
+
+    @NotNull
+    private FileDomainType domainType;
+
+    private Long refId;
+
+    @NotBlank
+    private String fileName;
+
+    @NotBlank
+    private String contentType;
+
+    @NotNull
+    @Positive
+    private Long contentLength;
+
+    // 파일 전체 sha256 (hex 소문자 64자)
+    @NotBlank
+    @Pattern(regexp = "^[0-9a-f]{64}$")
+    private String sha256;
+}
@@ -0,0 +1,24 @@
+package com.multi.runrunbackend.common.file.dto;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * @author : kyungsoo
+ * @description : presigned PUT 발급 결과 - headers 는 업로드 요청에 그대로 실어야 서명이 맞는다
+ * @filename : FilePresignResDto
+ * @since : 2026. 1. 24. Saturday
+ */
+@Getter
+@Builder
+public class FilePresignResDto {
+
+    private String key;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;
+    private long expiresInSeconds;
+    private OffsetDateTime expiresAt;
+}
@@ -0,0 +1,22 @@
+package com.multi.runrunbackend.common.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * @author : kyungsoo
+ * @description : 직접 업로드 완료 확인 요청 (presign 때 받은 key + sha256)
+ * @filename : FileUploadConfirmReqDto
+ * @since : 2026. 1. 24. Saturday
+ */
+@Data
+public class FileUploadConfirmReqDto {
+
+    @NotBlank
+    private String key;
+
+    @NotBlank
+    @Pattern(regexp = "^[0-9a-f]{64}$")
+    private String sha256;
+}
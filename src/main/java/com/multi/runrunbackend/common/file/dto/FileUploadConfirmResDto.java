@@ -0,0 +1,18 @@
+package com.multi.runrunbackend.common.file.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * @author : kyungsoo
+ * @description : 직접 업로드 확인 결과 - key 는 기존 업로드 API 가 반환하던 값과 같은 형식
+ * @filename : FileUploadConfirmResDto
+ * @since : 2026. 1. 24. Saturday
+ */
+@Getter
+@Builder
+public class FileUploadConfirmResDto {
+
+    private String key;
+    private String url;
+}
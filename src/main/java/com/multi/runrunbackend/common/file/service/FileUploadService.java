@@ -0,0 +1,108 @@
+package com.multi.runrunbackend.common.file.service;
+
+import com.multi.runrunbackend.common.exception.custom.FileUploadException;
+import com.multi.runrunbackend.common.exception.custom.NotFoundException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.common.file.dto.FilePresignReqDto;
+import com.multi.runrunbackend.common.file.dto.FilePresignResDto;
+import com.multi.runrunbackend.common.file.dto.FileUploadConfirmReqDto;
+import com.multi.runrunbackend.common.file.dto.FileUploadConfirmResDto;
+import com.multi.runrunbackend.common.file.storage.FileStorage;
+import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author : kyungsoo
+ * @description : 클라이언트 직접 업로드(presigned PUT) 발급/확인. 발급 내역(요청자, 크기, sha256)은 Redis 에 잠깐 두고, 확인 때 같은
+ * 사용자가 같은 파일을 올렸는지 HEAD 로 검증한다. 서버는 파일 본문을 전혀 받지 않는다.
+ * @filename : FileUploadService
+ * @since : 2026. 1. 24. Saturday
+ */
+@Service
+@RequiredArgsConstructor
+public class FileUploadService {
+
+    private static final String PRESIGN_KEY_PREFIX = "file_presign:";
+    // 서명 만료 후에도 업로드가 끝나는 중일 수 있어 확인용 기록은 조금 더 길게 둔다
+    private static final Duration PRESIGN_RECORD_GRACE = Duration.ofMinutes(10);
+
+    private final FileStorage fileStorage;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${file.max-size-bytes}")
+    private long maxSizeBytes;
+
+    @Value("${file.allowed-content-types}")
+    private List<String> allowedContentTypes;
+
+    @Value("${file.presign.ttl-seconds:600}")
+    private long presignTtlSeconds;
+
+    public FilePresignResDto presign(CustomUser principal, FilePresignReqDto req) {
+        Long userId = requireUserId(principal);
+
+        if (req.getContentLength() > maxSizeBytes) {
+            throw new FileUploadException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+        if (!allowedContentTypes.isEmpty() && !allowedContentTypes.contains(req.getContentType())) {
+            throw new FileUploadException(ErrorCode.INVALID_FILE_TYPE);
+        }
+
+        Duration ttl = Duration.ofSeconds(presignTtlSeconds);
+        FilePresignResDto res = fileStorage.presignUpload(
+            req.getDomainType(),
+            req.getRefId(),
+            req.getFileName(),
+            req.getContentType(),
+            req.getContentLength(),
+            req.getSha256(),
+            ttl
+        );
+
+        redisTemplate.opsForValue().set(
+            PRESIGN_KEY_PREFIX + res.getKey(),
+            userId + ":" + req.getContentLength() + ":" + req.getSha256(),
+            ttl.plus(PRESIGN_RECORD_GRACE)
+        );
+        return res;
+    }
+
+    public FileUploadConfirmResDto confirm(CustomUser principal, FileUploadConfirmReqDto req) {
+        Long userId = requireUserId(principal);
+
+        String record = redisTemplate.opsForValue().get(PRESIGN_KEY_PREFIX + req.getKey());
+        if (record == null) {
+            throw new FileUploadException(ErrorCode.FILE_UPLOAD_NOT_FOUND);
+        }
+
+        // userId:contentLength:sha256
+        String[] parts = record.split(":");
+        if (!String.valueOf(userId).equals(parts[0])) {
+            // 다른 사용자가 발급받은 key - 존재 여부도 알려주지 않는다
+            throw new FileUploadException(ErrorCode.FILE_UPLOAD_NOT_FOUND);
+        }
+        if (!parts[2].equals(req.getSha256())) {
+            throw new FileUploadException(ErrorCode.FILE_CHECKSUM_MISMATCH);
+        }
+
+        fileStorage.confirmUpload(req.getKey(), Long.parseLong(parts[1]), parts[2]);
+        redisTemplate.delete(PRESIGN_KEY_PREFIX + req.getKey());
+
+        return FileUploadConfirmResDto.builder()
+            .key(req.getKey())
+            .url(fileStorage.toHttpsUrl(req.getKey()))
+            .build();
+    }
+
+    private Long requireUserId(CustomUser principal) {
+        if (principal == null || principal.getUserId() == null) {
+            throw new NotFoundException(ErrorCode.USER_NOT_FOUND);
+        }
+        return principal.getUserId();
+    }
+}
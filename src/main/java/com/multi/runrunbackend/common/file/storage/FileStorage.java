@@ -1,6 +1,8 @@
 package com.multi.runrunbackend.common.file.storage;
 
 import com.multi.runrunbackend.common.file.FileDomainType;
+import com.multi.runrunbackend.common.file.dto.FilePresignResDto;
+import java.time.Duration;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileStorage {
@@ -26,6 +28,24 @@ public interface FileStorage {
 
     String toHttpsUrl(String key);
 
+    /**
+     * 클라이언트가 스토리지로 직접 올릴 수 있는 서명된 업로드 URL 발급 (크기/sha256 가 서명에 포함됨)
+     */
+    FilePresignResDto presignUpload(
+        FileDomainType domainType,
+        Long refId,
+        String originalFilename,
+        String contentType,
+        long contentLength,
+        String sha256,
+        Duration ttl
+    );
+
+    /**
+     * 직접 업로드된 객체가 존재하고 크기/sha256 이 일치하는지 확인
+     */
+    void confirmUpload(String key, long contentLength, String sha256);
+
 
     default void delete(String fileUrl) {
     }
@@ -3,15 +3,25 @@ package com.multi.runrunbackend.common.file.storage;
 import com.multi.runrunbackend.common.exception.custom.FileUploadException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.common.file.FileDomainType;
+import com.multi.runrunbackend.common.file.dto.FilePresignResDto;
 import com.multi.runrunbackend.common.file.util.FileNameGenerator;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -21,17 +31,30 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 /**
  * @author : kyungsoo
  * @description : S3 기반 파일 업로드/삭제 구현체. - 저장 경로: uploads/{domainDir}/{refKey}/{yyyyMMdd}/{fileName} -
  * refKey: refId(Long) 또는 refId가 없으면 UUID - uploadIfChanged: existingUrl이 있으면 existingUrl의 refKey를
- * 우선 재사용(폴더 섞임 방지)
+ * 우선 재사용(폴더 섞임 방지) - 파일은 힙에 통째로 올리지 않고 스트림으로 해시/업로드, multipart-threshold 이상은 파트 단위
+ * multipart 업로드(버퍼는 파트 1개 크기로 고정) - presignUpload/confirmUpload: 클라이언트 직접 업로드(크기/sha256 서명) 후 HEAD 로
+ * 확인
  * @filename : S3FileStorage
  * @since : 2025. 12. 24. Wednesday
  */
@@ -43,7 +66,15 @@ public class S3FileStorage implements FileStorage {
     @Value("${file.hash-max-bytes}")
     private long hashMaxBytes;
 
+    // S3 multipart 최소 파트 크기는 5MB, 업로드 한 건이 잡는 버퍼 = 파트 1개
+    private static final int MULTIPART_PART_SIZE = 8 * 1024 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 8 * 1024;
+
+    @Value("${file.multipart-threshold-bytes:16777216}")
+    private long multipartThresholdBytes;
+
     private final S3Client s3;
+    private final S3Presigner presigner;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
@@ -95,7 +126,7 @@ public class S3FileStorage implements FileStorage {
                 return newKey;
             }
 
-            String newSha = sha256Hex(file.getBytes());
+            Sha256 newSha = digest(file);
 
             // 기존 객체 메타데이터 sha256 조회
             String oldSha;
@@ -106,17 +137,17 @@ public class S3FileStorage implements FileStorage {
                     .build());
                 oldSha = head.metadata() != null ? head.metadata().get("sha256") : null;
             } catch (NoSuchKeyException e) {
-                return uploadInternal(file, domainType, existingRefKey);
+                return uploadInternal(file, domainType, existingRefKey, newSha);
             } catch (S3Exception e) {
-                return uploadInternal(file, domainType, existingRefKey);
+                return uploadInternal(file, domainType, existingRefKey, newSha);
             }
 
-            if (oldSha != null && oldSha.equals(newSha)) {
+            if (oldSha != null && oldSha.equals(newSha.hex())) {
                 return existingUrl; // 변경 없음
             }
 
-            // 변경됨 → 업로드 후 기존 삭제
-            String newKey = uploadInternal(file, domainType, existingRefKey);
+            // 변경됨 → 업로드 후 기존 삭제 (해시는 위에서 계산한 것 재사용)
+            String newKey = uploadInternal(file, domainType, existingRefKey, newSha);
             safeDelete(existingKey);
             return newKey;
 
@@ -148,33 +179,47 @@ public class S3FileStorage implements FileStorage {
     }
 
     private String uploadInternal(MultipartFile file, FileDomainType domainType, String refKey) {
+        return uploadInternal(file, domainType, refKey, null);
+    }
+
+    private String uploadInternal(MultipartFile file, FileDomainType domainType, String refKey,
+        Sha256 knownSha) {
         try {
             String fileName = FileNameGenerator.generate(file.getOriginalFilename());
             String key = buildKey(domainType, refKey, fileName);
+            long size = file.getSize();
 
-            // 작은 파일은 sha256 메타데이터까지 넣어두면 uploadIfChanged에 유리
-            if (file.getSize() <= hashMaxBytes) {
-                byte[] bytes = file.getBytes();
-                String sha256 = sha256Hex(bytes);
+            if (size >= multipartThresholdBytes) {
+                // 큰 파일은 파트 단위 multipart 업로드(해시 비교 생략)
+                uploadMultipart(file, key);
+            } else if (size <= hashMaxBytes) {
+                // 작은 파일은 sha256 메타데이터까지 넣어두면 uploadIfChanged에 유리
+                // 1차로 스트림 해시 → 2차로 스트림 업로드 (S3 가 x-amz-checksum-sha256 으로 본문 검증)
+                Sha256 sha = (knownSha != null) ? knownSha : digest(file);
 
                 PutObjectRequest req = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
                     .contentType(safeContentType(file))
-                    .metadata(Map.of("sha256", sha256))
+                    .contentLength(size)
+                    .metadata(Map.of("sha256", sha.hex()))
+                    .checksumSHA256(sha.base64())
                     .build();
 
-                s3.putObject(req, RequestBody.fromBytes(bytes));
+                try (InputStream in = file.getInputStream()) {
+                    s3.putObject(req, RequestBody.fromInputStream(in, size));
+                }
             } else {
-                // 큰 파일은 스트리밍 업로드(해시 비교 생략)
+                // 중간 크기는 스트리밍 업로드(해시 비교 생략)
                 PutObjectRequest req = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
                     .contentType(safeContentType(file))
+                    .contentLength(size)
                     .build();
 
                 try (InputStream in = file.getInputStream()) {
-                    s3.putObject(req, RequestBody.fromInputStream(in, file.getSize()));
+                    s3.putObject(req, RequestBody.fromInputStream(in, size));
                 }
             }
 
@@ -192,6 +237,135 @@ public class S3FileStorage implements FileStorage {
         }
     }
 
+    /**
+     * 파트 크기 버퍼 하나를 재사용하며 순서대로 업로드, 실패하면 업로드 중단(abort)으로 조각을 남기지 않는다
+     */
+    private void uploadMultipart(MultipartFile file, String key) throws IOException {
+        String uploadId = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(safeContentType(file))
+                .build())
+            .uploadId();
+
+        try (InputStream in = file.getInputStream()) {
+            byte[] buffer = new byte[MULTIPART_PART_SIZE];
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            int read;
+
+            while ((read = readFully(in, buffer)) > 0) {
+                var res = s3.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) read)
+                        .build(),
+                    RequestBody.fromInputStream(
+                        new ByteArrayInputStream(buffer, 0, read), read));
+
+                parts.add(CompletedPart.builder()
+                    .partNumber(partNumber)
+                    .eTag(res.eTag())
+                    .build());
+                partNumber++;
+            }
+
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            } catch (S3Exception abortEx) {
+                log.warn("S3 multipart 업로드 중단 실패 key={}, uploadId={}", key, uploadId);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public FilePresignResDto presignUpload(FileDomainType domainType, Long refId,
+        String originalFilename, String contentType, long contentLength, String sha256,
+        Duration ttl) {
+        String refKey = (refId != null) ? String.valueOf(refId) : UUID.randomUUID().toString();
+        String key = buildKey(domainType, refKey, FileNameGenerator.generate(originalFilename));
+
+        // contentLength / x-amz-checksum-sha256 이 서명에 들어가므로 다른 파일은 올릴 수 없고,
+        // S3 가 본문 sha256 을 직접 검증한다
+        PutObjectRequest putReq = PutObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .contentType(contentType)
+            .contentLength(contentLength)
+            .metadata(Map.of("sha256", sha256))
+            .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256)))
+            .build();
+
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(
+            PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(putReq)
+                .build());
+
+        Map<String, String> headers = new HashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return FilePresignResDto.builder()
+            .key(key)
+            .uploadUrl(presigned.url().toString())
+            .method("PUT")
+            .headers(headers)
+            .expiresInSeconds(ttl.getSeconds())
+            .expiresAt(OffsetDateTime.ofInstant(presigned.expiration(), ZoneId.of("Asia/Seoul")))
+            .build();
+    }
+
+    @Override
+    public void confirmUpload(String key, long contentLength, String sha256) {
+        HeadObjectResponse head;
+        try {
+            head = s3.headObject(HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .checksumMode(ChecksumMode.ENABLED)
+                .build());
+        } catch (NoSuchKeyException e) {
+            throw new FileUploadException(ErrorCode.FILE_UPLOAD_NOT_FOUND);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new FileUploadException(ErrorCode.FILE_UPLOAD_NOT_FOUND);
+            }
+            throw new FileUploadException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        String expectedChecksum = Base64.getEncoder()
+            .encodeToString(HexFormat.of().parseHex(sha256));
+        String metaSha = head.metadata() != null ? head.metadata().get("sha256") : null;
+
+        boolean sizeMatches = head.contentLength() != null && head.contentLength() == contentLength;
+        boolean checksumMatches = expectedChecksum.equals(head.checksumSHA256())
+            && sha256.equals(metaSha);
+
+        if (!sizeMatches || !checksumMatches) {
+            // 서명과 다른 객체가 올라온 경우 - 남겨두지 않는다
+            safeDelete(key);
+            throw new FileUploadException(ErrorCode.FILE_CHECKSUM_MISMATCH);
+        }
+    }
+
     private String buildKey(FileDomainType domainType, String refKey, String fileName) {
 
         String date = DateTimeFormatter.ofPattern("yyyyMMdd")
@@ -296,9 +470,38 @@ public class S3FileStorage implements FileStorage {
         return s;
     }
 
-    private String sha256Hex(byte[] bytes) throws Exception {
+    /**
+     * 파일을 힙에 올리지 않고 DigestInputStream 으로 흘려보내며 sha256 계산
+     */
+    private Sha256 digest(MultipartFile file) throws IOException, NoSuchAlgorithmException {
         MessageDigest md = MessageDigest.getInstance("SHA-256");
-        md.update(bytes);
-        return HexFormat.of().formatHex(md.digest());
+        try (InputStream in = new DigestInputStream(file.getInputStream(), md)) {
+            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // 읽는 동안 md 가 갱신된다
+            }
+        }
+        byte[] hash = md.digest();
+        return new Sha256(HexFormat.of().formatHex(hash), Base64.getEncoder().encodeToString(hash));
+    }
+
+    /**
+     * buffer 가 꽉 차거나 스트림이 끝날 때까지 읽고, 읽은 바이트 수 반환 (끝이면 0)
+     */
+    private int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int n = in.read(buffer, total, buffer.length - total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    // 메타데이터(hex) / S3 체크섬 헤더(base64) 두 형식
+    private record Sha256(String hex, String base64) {
+
     }
 }
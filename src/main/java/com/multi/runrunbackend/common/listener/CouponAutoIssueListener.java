@@ -1,14 +1,10 @@
 package com.multi.runrunbackend.common.listener;
 
-import com.multi.runrunbackend.common.event.RunningResultCompletedEvent;
 import com.multi.runrunbackend.common.event.UserLoginEvent;
 import com.multi.runrunbackend.common.event.UserSignedUpEvent;
 import com.multi.runrunbackend.domain.coupon.constant.CouponTriggerEvent;
 import com.multi.runrunbackend.domain.coupon.service.CouponIssueService;
-import com.multi.runrunbackend.domain.match.constant.RunStatus;
-import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +14,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * @author : kyungsoo
- * @description : 쿠폰 자동 발급 이벤트 리스너 (회원가입, 생일, 첫 러닝, 거리 달성)
+ * @description : 쿠폰 자동 발급 이벤트 리스너 (회원가입, 생일). 첫 러닝/거리 달성은 러닝 후처리 작업(PostRunStage.COUPON)에서 발급
  * @filename : CouponAutoIssueListener
  * @since : 2025. 12. 29. Monday
  */
@@ -29,7 +25,6 @@ public class CouponAutoIssueListener {
 
     private final CouponIssueService couponIssueService;
     private final UserRepository userRepository;
-    private final RunningResultRepository runningResultRepository;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onUserSignedUp(UserSignedUpEvent event) {
@@ -64,42 +59,6 @@ public class CouponAutoIssueListener {
         }
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onRunningResultCompleted(RunningResultCompletedEvent event) {
-        try {
-            Long userId = event.userId();
-            
-            int totalDistanceMeters = event.totalDistance()
-                .multiply(java.math.BigDecimal.valueOf(1000))
-                .intValue();
-
-            long completedCount = runningResultRepository.countByUserIdAndRunStatusAndIsDeletedFalse(
-                userId, RunStatus.COMPLETED);
-            long timeoutCount = runningResultRepository.countByUserIdAndRunStatusAndIsDeletedFalse(
-                userId, RunStatus.TIME_OUT);
-            if (completedCount + timeoutCount == 1) {
-                couponIssueService.issueAuto(userId, CouponTriggerEvent.FIRST_RUNNING, null);
-                log.info(
-                    "[CouponAutoIssue] first running coupon issued. userId={}, completedCount={}, timeoutCount={}",
-                    userId, completedCount, timeoutCount);
-            }
-
-            BigDecimal accumulatedDistanceMeters = runningResultRepository.sumTotalDistanceByUserId(
-                userId);
-            int accumulatedMeters = accumulatedDistanceMeters.intValue();
-
-            // 모든 활성 거리 달성 쿠폰 조건값을 확인하여 발급
-            couponIssueService.issueAutoForAccumulatedDistance(userId, accumulatedMeters);
-            log.info(
-                "[CouponAutoIssue] distance reached check completed. userId={}, accumulatedDistance={}m",
-                userId, accumulatedMeters);
-
-        } catch (Exception e) {
-            log.warn("[CouponAutoIssue] running completed auto issue failed. userId={} msg={}",
-                event.userId(), e.getMessage(), e);
-        }
-    }
-
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onUserLogin(UserLoginEvent event) {
         log.info("[CouponAutoIssue] onUserLogin called. userId={}", event.userId());
@@ -0,0 +1,26 @@
+package com.multi.runrunbackend.common.listener;
+
+import com.multi.runrunbackend.common.event.CrewChangedEvent;
+import com.multi.runrunbackend.domain.crew.service.CrewDetailCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * @author : BoKyung
+ * @description : 크루 변경 커밋 후 크루 상세 캐시 무효화 (커밋 전에 지우면 이전 데이터로 다시 채워질 수 있음)
+ * @filename : CrewDetailCacheListener
+ * @since : 2026. 1. 24. Saturday
+ */
+@Component
+@RequiredArgsConstructor
+public class CrewDetailCacheListener {
+
+    private final CrewDetailCacheService crewDetailCacheService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCrewChanged(CrewChangedEvent event) {
+        crewDetailCacheService.evict(event.crewId());
+    }
+}
@@ -0,0 +1,26 @@
+package com.multi.runrunbackend.common.listener;
+
+import com.multi.runrunbackend.common.event.PostRunJobEnqueuedEvent;
+import com.multi.runrunbackend.domain.match.service.PostRunJobWorker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 러닝 결과 커밋 후 후처리 워커 깨우기. 롤백되면 등록된 작업도 함께 사라지므로 호출되지 않는다.
+ * @filename : PostRunJobListener
+ * @since : 2026. 1. 23. Friday
+ */
+@Component
+@RequiredArgsConstructor
+public class PostRunJobListener {
+
+    private final PostRunJobWorker postRunJobWorker;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(PostRunJobEnqueuedEvent event) {
+        postRunJobWorker.wakeUp();
+    }
+}
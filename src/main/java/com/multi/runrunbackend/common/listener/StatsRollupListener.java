@@ -0,0 +1,52 @@
+package com.multi.runrunbackend.common.listener;
+
+import com.multi.runrunbackend.common.event.CouponUseCancelledEvent;
+import com.multi.runrunbackend.common.event.StatsRollupEvent;
+import com.multi.runrunbackend.common.event.UserSignedUpEvent;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
+import com.multi.runrunbackend.domain.stats.service.StatsRollupApplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * @author : kyungsoo
+ * @description : 도메인 이벤트 → 통계 롤업 증분 반영. 실패해도 원래 요청에는 영향이 없고, 누락분은 백필로 채운다.
+ * @filename : StatsRollupListener
+ * @since : 2026. 1. 22. Thursday
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatsRollupListener {
+
+    private final StatsRollupApplier statsRollupApplier;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRollup(StatsRollupEvent event) {
+        try {
+            statsRollupApplier.apply(event.source(), event.sourceIds());
+        } catch (Exception e) {
+            log.error("[StatsRollup] 반영 실패 source={}, ids={}", event.source(),
+                event.sourceIds(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSignedUp(UserSignedUpEvent event) {
+        onRollup(StatsRollupEvent.of(RollupSource.USER, event.userId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCouponUseCancelled(CouponUseCancelledEvent event) {
+        try {
+            statsRollupApplier.revertCouponUse(event.couponIssueId(), event.couponId(),
+                event.usedDate());
+        } catch (Exception e) {
+            log.error("[StatsRollup] 쿠폰 사용 취소 반영 실패 couponIssueId={}",
+                event.couponIssueId(), e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.multi.runrunbackend.common.metrics;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * @author : changwoo
+ * @description : opsForXxx/스크립트/파이프라인이 모두 거치는 execute 에서 Redis 왕복 수를 RedisOpsCounter 에 더하는 RedisTemplate
+ * @filename : CountingRedisTemplate
+ * @since : 2026. 1. 27. Tuesday
+ */
+public class CountingRedisTemplate<K, V> extends RedisTemplate<K, V> {
+
+  @Override
+  public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+    RedisOpsCounter.increment();
+    return super.execute(action, exposeConnection, pipeline);
+  }
+}
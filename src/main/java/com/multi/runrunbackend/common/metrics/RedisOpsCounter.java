@@ -0,0 +1,43 @@
+package com.multi.runrunbackend.common.metrics;
+
+/**
+ * @author : changwoo
+ * @description : 현재 스레드의 "tick" 동안 실행된 Redis 명령 수 집계. CountingRedisTemplate 이 명령마다 increment 하고, tick 범위
+ * (begin ~ end) 밖에서는 아무것도 하지 않는다.
+ * <p>
+ * RedisConfig 의 CountingRedisTemplate 빈을 거친 명령만 센다. Redisson(RLock 등) 호출과 자동 구성된 StringRedisTemplate 을 쓰는 곳
+ * (ChatRoomStateStore, NotificationAfterCommitListener)은 집계되지 않는다.
+ * @filename : RedisOpsCounter
+ * @since : 2026. 1. 27. Tuesday
+ */
+public final class RedisOpsCounter {
+
+  private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+  private RedisOpsCounter() {
+  }
+
+  /**
+   * @return 바깥 tick 이 이미 있으면 false (중첩 tick 은 바깥 tick 에 합산)
+   */
+  static boolean begin() {
+    if (CURRENT.get() != null) {
+      return false;
+    }
+    CURRENT.set(new int[1]);
+    return true;
+  }
+
+  static int end() {
+    int[] count = CURRENT.get();
+    CURRENT.remove();
+    return count == null ? 0 : count[0];
+  }
+
+  public static void increment() {
+    int[] count = CURRENT.get();
+    if (count != null) {
+      count[0]++;
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.multi.runrunbackend.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : changwoo
+ * @description : 실시간 러닝/매칭 핫패스 도메인 메트릭. MeterRegistry 만 받으므로 테스트에서는 SimpleMeterRegistry 로 생성해 검증한다.
+ * <p>
+ * 태그 카디널리티 제한: mode 는 solo/battle, 채널/destination 은 숫자 id 를 {id} 로 바꾼 패턴만 쓴다.
+ * @filename : RunRunMetrics
+ * @since : 2026. 1. 27. Tuesday
+ */
+@Component
+public class RunRunMetrics {
+
+  private static final Pattern NUMERIC_SEGMENT = Pattern.compile("\\d+");
+
+  private final MeterRegistry registry;
+  private final Timer matchingTickTimer;
+  private final Timer matchingWaitTimer;
+  private final Timer sseSendTimer;
+
+  public RunRunMetrics(MeterRegistry registry) {
+    this.registry = registry;
+    this.matchingTickTimer = Timer.builder("runrun.matching.tick")
+        .description("매칭 스케줄러 1회 실행 시간 (전체 큐)")
+        .register(registry);
+    this.matchingWaitTimer = Timer.builder("runrun.matching.wait")
+        .description("매칭 성사까지 큐 대기 시간")
+        .publishPercentileHistogram()
+        .maximumExpectedValue(Duration.ofMinutes(30))
+        .register(registry);
+    this.sseSendTimer = Timer.builder("runrun.sse.send")
+        .description("SSE 이벤트 전송 시간")
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+  /**
+   * GPS tick 처리 시간과 tick 당 Redis 명령 수 기록
+   *
+   * @param mode solo | battle
+   */
+  public <T> T gpsTick(String mode, Supplier<T> body) {
+    boolean outer = RedisOpsCounter.begin();
+    Timer.Sample sample = Timer.start(registry);
+    try {
+      return body.get();
+    } finally {
+      sample.stop(Timer.builder("runrun.gps.tick")
+          .description("GPS tick 처리 시간")
+          .tag("mode", mode)
+          .publishPercentileHistogram()
+          .register(registry));
+      if (outer) {
+        DistributionSummary.builder("runrun.gps.tick.redis.ops")
+            .description("GPS tick 당 Redis 명령 수")
+            .tag("mode", mode)
+            .register(registry)
+            .record(RedisOpsCounter.end());
+      }
+    }
+  }
+
+  public void matchingTick(Runnable body) {
+    matchingTickTimer.record(body);
+  }
+
+  public void matchingWait(Duration waited) {
+    matchingWaitTimer.record(waited);
+  }
+
+  /**
+   * 큐 깊이 게이지 (distance x targetCount 조합 수만큼만 등록됨)
+   */
+  public <T> void queueDepth(String distance, int targetCount, T source,
+      ToDoubleFunction<T> depth) {
+    Gauge.builder("runrun.matching.queue.depth", source, depth)
+        .description("매칭 큐 대기 인원")
+        .tag("distance", distance)
+        .tag("target", String.valueOf(targetCount))
+        .register(registry);
+  }
+
+  /**
+   * Redis Pub/Sub 발행 수와 수신 인스턴스 수(fan-out)
+   *
+   * @param receivers PUBLISH 응답값 (null 이면 relay 모드 등 Redis 를 거치지 않음)
+   */
+  public void pubSubPublished(String channel, Long receivers) {
+    String pattern = patternOf(channel);
+    Counter.builder("runrun.pubsub.messages")
+        .description("채널 패턴별 Pub/Sub 발행 수")
+        .tag("pattern", pattern)
+        .register(registry)
+        .increment();
+    if (receivers != null) {
+      DistributionSummary.builder("runrun.pubsub.fanout")
+          .description("발행 1건을 받은 서버 인스턴스 수")
+          .tag("pattern", pattern)
+          .register(registry)
+          .record(receivers);
+    }
+  }
+
+  public void stompSend(String destination, Runnable send) {
+    Timer.builder("runrun.stomp.send")
+        .description("STOMP 메시지 전송 시간")
+        .tag("destination", patternOf(destination))
+        .publishPercentileHistogram()
+        .register(registry)
+        .record(send);
+  }
+
+  /**
+   * emitter.send 는 IOException 을 던지므로 시작 시각(System.nanoTime)을 받아 기록
+   */
+  public void sseSent(long startNanos) {
+    sseSendTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * battle:12:ranking → battle:{id}:ranking
+   */
+  static String patternOf(String channel) {
+    if (channel == null) {
+      return "unknown";
+    }
+    return NUMERIC_SEGMENT.matcher(channel).replaceAll("{id}");
+  }
+}
@@ -0,0 +1,147 @@
+package com.multi.runrunbackend.common.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : kyungsoo
+ * @description : 여러 서버에서 같은 @Scheduled 가 동시에 울려도 작업을 한 번만 실행시키는 러너.
+ * <p>
+ * - Redis lease 락(작업별): 이전 실행이 아직 돌고 있으면 이번 실행은 건너뜀 (skip-if-running)
+ * <p>
+ * - 실행 원장(scheduled_job_run): (작업, 예약 시각(분), 파티션) 당 1행만 들어가므로 다른 서버가 이미 끝낸 슬롯은 다시 실행하지 않음
+ * <p>
+ * - 파티션 모드: 키 범위를 N 개로 나눠 서버들이 파티션 단위로 선점해 하나의 큰 작업을 나눠 처리
+ * <p>
+ * 바깥 트랜잭션 안에서 호출하면 안 된다. 작업 본문이 직접 트랜잭션을 열고 커밋해야 원장 완료 기록과 락 해제가 커밋 뒤에 일어난다
+ * @filename : ClusterJobRunner
+ * @since : 2026. 1. 28. Wednesday
+ */
+@Slf4j
+@Component
+public class ClusterJobRunner {
+
+    private static final String LOCK_PREFIX = "lock:job:";
+
+    private final RedissonClient redissonClient;
+    private final ScheduledJobRunRepository scheduledJobRunRepository;
+    private final String instanceId;
+
+    public ClusterJobRunner(RedissonClient redissonClient,
+        ScheduledJobRunRepository scheduledJobRunRepository) {
+        this.redissonClient = redissonClient;
+        this.scheduledJobRunRepository = scheduledJobRunRepository;
+        this.instanceId = ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    /**
+     * 파티션 하나를 처리하고 처리 건수를 돌려주는 작업 본문
+     */
+    @FunctionalInterface
+    public interface PartitionJob {
+
+        int run(int partition, int partitions);
+    }
+
+    /**
+     * @param lease 최대 예상 실행 시간 (락 자동 만료)
+     * @return 이 서버에서 실행했으면 true
+     */
+    public boolean run(String jobName, Duration lease, Runnable job) {
+        return runCounting(jobName, lease, () -> {
+            job.run();
+            return -1;
+        });
+    }
+
+    /**
+     * @param job 처리 건수를 돌려주는 본문 (원장 rows_affected, 음수면 기록 안 함)
+     */
+    public boolean runCounting(String jobName, Duration lease, IntSupplier job) {
+        return execute(jobName, currentSlot(), 0, 1, lease, job);
+    }
+
+    /**
+     * 파티션 0..partitions-1 을 임의 위치부터 돌며 선점한 것만 처리. 다른 서버가 처리 중이거나 이미 끝낸 파티션은 건너뛴다.
+     *
+     * @return 이 서버에서 처리한 파티션 수
+     */
+    public int runPartitioned(String jobName, int partitions, Duration lease, PartitionJob job) {
+        LocalDateTime slot = currentSlot();
+        int offset = ThreadLocalRandom.current().nextInt(partitions);
+        int ran = 0;
+        for (int i = 0; i < partitions; i++) {
+            int partition = (offset + i) % partitions;
+            if (execute(jobName, slot, partition, partitions, lease,
+                () -> job.run(partition, partitions))) {
+                ran++;
+            }
+        }
+        return ran;
+    }
+
+    private boolean execute(String jobName, LocalDateTime slot, int partition, int partitions,
+        Duration lease, IntSupplier job) {
+        String lockKey = LOCK_PREFIX + jobName + (partitions > 1 ? ":" + partition : "");
+        RLock lock = redissonClient.getLock(lockKey);
+
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(0, lease.toMillis(), TimeUnit.MILLISECONDS);
+            if (!locked) {
+                log.info("[Job] {}#{} 다른 실행이 진행 중 - 건너뜀", jobName, partition);
+                return false;
+            }
+
+            Long runId = scheduledJobRunRepository.start(jobName, slot, partition, partitions,
+                instanceId);
+            if (runId == null) {
+                log.debug("[Job] {}#{} slot={} 이미 실행됨 - 건너뜀", jobName, partition, slot);
+                return false;
+            }
+
+            long started = System.nanoTime();
+            try {
+                int rows = job.getAsInt();
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                scheduledJobRunRepository.finish(runId, true, rows < 0 ? null : rows, durationMs,
+                    null);
+                log.info("[Job] {}#{} 완료 - rows={}, {}ms", jobName, partition, rows, durationMs);
+            } catch (Exception e) {
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                scheduledJobRunRepository.finish(runId, false, null, durationMs, e.toString());
+                log.error("[Job] {}#{} 실패 - {}ms", jobName, partition, durationMs, e);
+            }
+            return true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[Job] {} 락 획득 중 인터럽트", jobName);
+            return false;
+        } catch (Exception e) {
+            // Redis/원장 장애 시 이번 회차는 건너뜀 (다음 cron 에 다시 시도)
+            log.error("[Job] {} 실행 준비 실패", jobName, e);
+            return false;
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 서버 간 시계 오차/발화 지연을 흡수하도록 예약 시각을 분 단위로 절삭
+     */
+    private LocalDateTime currentSlot() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    }
+}
@@ -0,0 +1,63 @@
+package com.multi.runrunbackend.common.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * @author : kyungsoo
+ * @description : 스케줄 작업 실행 원장 접근 (스키마: resources/db/scheduled-job-run.sql). 작업 본문 트랜잭션과 상관없이 바로 보이도록
+ * 항상 별도 트랜잭션으로 기록한다.
+ * @filename : ScheduledJobRunRepository
+ * @since : 2026. 1. 28. Wednesday
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduledJobRunRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * @return 원장 id, 같은 (작업, 슬롯, 파티션)이 이미 기록돼 있으면 null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long start(String jobName, LocalDateTime slot, int partitionNo, int partitionCount,
+        String instanceId) {
+        List<Long> ids = jdbc.queryForList("""
+            INSERT INTO scheduled_job_run (job_name, slot, partition_no, partition_count,
+                                           instance_id, status, started_at)
+            VALUES (:jobName, :slot, :partitionNo, :partitionCount, :instanceId, 'RUNNING', now())
+            ON CONFLICT (job_name, slot, partition_no) DO NOTHING
+            RETURNING id
+            """, new MapSqlParameterSource("jobName", jobName)
+            .addValue("slot", slot)
+            .addValue("partitionNo", partitionNo)
+            .addValue("partitionCount", partitionCount)
+            .addValue("instanceId", instanceId), Long.class);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void finish(Long id, boolean succeeded, Integer rowsAffected, long durationMs,
+        String errorMessage) {
+        jdbc.update("""
+            UPDATE scheduled_job_run
+            SET status = :status,
+                rows_affected = :rowsAffected,
+                duration_ms = :durationMs,
+                error_message = :errorMessage,
+                finished_at = now()
+            WHERE id = :id
+            """, new MapSqlParameterSource("id", id)
+            .addValue("status", succeeded ? "SUCCEEDED" : "FAILED")
+            .addValue("rowsAffected", rowsAffected)
+            .addValue("durationMs", durationMs)
+            .addValue("errorMessage", errorMessage == null ? null
+                : errorMessage.substring(0, Math.min(500, errorMessage.length()))));
+    }
+}
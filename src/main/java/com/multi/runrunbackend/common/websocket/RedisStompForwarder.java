@@ -0,0 +1,39 @@
+package com.multi.runrunbackend.common.websocket;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : changwoo
+ * @description : Redis 채널로 받은 JSON 을 그대로(byte[]) 대응하는 STOMP destination 으로 전달. DTO 역직렬화/재직렬화를 하지 않는다.
+ * simple 브로커 모드에서만 쓰인다 (relay 모드는 외부 브로커가 서버 간 전달을 맡음).
+ * @filename : RedisStompForwarder
+ * @since : 2026. 1. 21. Wednesday
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class RedisStompForwarder implements MessageListener {
+
+  private final StompJsonSender stompJsonSender;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+    String destination = StompSubscriptionRegistry.destinationOf(channel);
+
+    try {
+      stompJsonSender.send(destination, message.getBody());
+
+      log.debug("Redis → STOMP 전달: channel={}, destination={}", channel, destination);
+    } catch (Exception e) {
+      log.error("❌ Redis → STOMP 전달 실패: channel={}", channel, e);
+    }
+  }
+}
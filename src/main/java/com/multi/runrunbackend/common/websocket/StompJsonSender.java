@@ -0,0 +1,34 @@
+package com.multi.runrunbackend.common.websocket;
+
+import com.multi.runrunbackend.common.metrics.RunRunMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * @author : changwoo
+ * @description : 이미 직렬화된 JSON(byte[])을 메시지 컨버터를 거치지 않고 STOMP destination 으로 보낸다. simple 모드에서는 로컬 구독자에게,
+ * relay 모드에서는 외부 브로커로 간다.
+ * @filename : StompJsonSender
+ * @since : 2026. 1. 24. Saturday
+ */
+@Component
+@RequiredArgsConstructor
+public class StompJsonSender {
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final RunRunMetrics runRunMetrics;
+
+  public void send(String destination, byte[] json) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    accessor.setLeaveMutable(true);
+
+    runRunMetrics.stompSend(destination, () -> messagingTemplate.send(destination,
+        MessageBuilder.createMessage(json, accessor.getMessageHeaders())));
+  }
+}
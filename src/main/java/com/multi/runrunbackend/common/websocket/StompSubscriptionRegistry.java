@@ -0,0 +1,148 @@
+package com.multi.runrunbackend.common.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * @author : changwoo
+ * @description : 이 서버에 붙은 STOMP 구독 현황으로 Redis 채널 구독을 관리. 로컬 구독자가 있는 destination 의 채널만 구독하고, 마지막
+ * 구독자가 빠지면 해제한다.
+ * <p>
+ * destination ↔ 채널 규칙: /sub/chat/{id} ↔ chat:{id}, /sub/crew-chat/{id} ↔ crew-chat:{id},
+ * /sub/running/{id} ↔ running:{id}, /sub/battle/{id}/{event} ↔ battle:{id}:{event}
+ * <p>
+ * relay 브로커 모드에서는 빈을 만들지 않는다 (channelOf/destinationOf 정적 규칙만 사용).
+ * @filename : StompSubscriptionRegistry
+ * @since : 2026. 1. 21. Wednesday
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class StompSubscriptionRegistry {
+
+  private static final String DESTINATION_PREFIX = "/sub/";
+
+  private static final Pattern FORWARDED_DESTINATION = Pattern.compile(
+      "^/sub/(?:(?:chat|crew-chat|running)/\\d+|battle/\\d+/[a-z-]+)$");
+
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final RedisStompForwarder redisStompForwarder;
+
+  // sessionId -> (subscriptionId -> destination)
+  private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+  // destination -> 로컬 구독 수
+  private final Map<String, Integer> destinationCounts = new HashMap<>();
+  // 락 안에서 Redis 구독 변경(블로킹)을 하므로 synchronized 대신 ReentrantLock (가상 스레드 pinning 방지)
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Redis 를 거쳐 전달하는 destination 이면 채널명, 아니면 null
+   */
+  public static String channelOf(String destination) {
+    if (destination == null) {
+      return null;
+    }
+    Matcher matcher = FORWARDED_DESTINATION.matcher(destination);
+    if (!matcher.matches()) {
+      return null;
+    }
+    return destination.substring(DESTINATION_PREFIX.length()).replace('/', ':');
+  }
+
+  public static String destinationOf(String channel) {
+    return DESTINATION_PREFIX + channel.replace(':', '/');
+  }
+
+  @EventListener
+  public void onSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    String destination = accessor.getDestination();
+    String channel = channelOf(destination);
+    if (channel == null || accessor.getSessionId() == null
+        || accessor.getSubscriptionId() == null) {
+      return;
+    }
+
+    lock.lock();
+    try {
+      String previous = sessionSubscriptions
+          .computeIfAbsent(accessor.getSessionId(), k -> new HashMap<>())
+          .put(accessor.getSubscriptionId(), destination);
+      if (previous != null) {
+        release(previous);
+      }
+      acquire(destination, channel);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @EventListener
+  public void onUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+
+    lock.lock();
+    try {
+      Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+      if (subscriptions == null) {
+        return;
+      }
+      String destination = subscriptions.remove(accessor.getSubscriptionId());
+      if (subscriptions.isEmpty()) {
+        sessionSubscriptions.remove(accessor.getSessionId());
+      }
+      if (destination != null) {
+        release(destination);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    lock.lock();
+    try {
+      Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+      if (subscriptions != null) {
+        subscriptions.values().forEach(this::release);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void acquire(String destination, String channel) {
+    int count = destinationCounts.merge(destination, 1, Integer::sum);
+    if (count == 1) {
+      redisMessageListenerContainer.addMessageListener(redisStompForwarder,
+          new ChannelTopic(channel));
+      log.debug("Redis 채널 구독: channel={}", channel);
+    }
+  }
+
+  private void release(String destination) {
+    Integer count = destinationCounts.computeIfPresent(destination,
+        (k, v) -> v > 1 ? v - 1 : null);
+    if (count == null) {
+      redisMessageListenerContainer.removeMessageListener(redisStompForwarder,
+          new ChannelTopic(channelOf(destination)));
+      log.debug("Redis 채널 구독 해제: destination={}", destination);
+    }
+  }
+}
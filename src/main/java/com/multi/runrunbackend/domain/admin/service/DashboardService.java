@@ -5,9 +5,8 @@ import com.multi.runrunbackend.domain.admin.dto.res.TopAdResDto;
 import com.multi.runrunbackend.domain.admin.dto.res.TopCouponResDto;
 import com.multi.runrunbackend.domain.advertisement.repository.AdDailyStatsRepository;
 import com.multi.runrunbackend.domain.advertisement.repository.AdPlacementRepository;
-import com.multi.runrunbackend.domain.coupon.respository.CouponIssueRepository;
-import com.multi.runrunbackend.domain.membership.repository.MembershipRepository;
-import com.multi.runrunbackend.domain.user.repository.UserRepository;
+import com.multi.runrunbackend.domain.stats.constant.StatsMetric;
+import com.multi.runrunbackend.domain.stats.repository.StatsRollupRepository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -25,9 +24,7 @@ public class DashboardService {
 
     private final AdDailyStatsRepository adDailyStatsRepository;
     private final AdPlacementRepository adPlacementRepository;
-    private final CouponIssueRepository couponIssueRepository;
-    private final MembershipRepository membershipRepository;
-    private final UserRepository userRepository;
+    private final StatsRollupRepository statsRollupRepository;
 
     private long toLong(Object obj) {
         if (obj == null) {
@@ -110,48 +107,17 @@ public class DashboardService {
         log.info("계산된 값 - activeCount: {}, totalCount: {}, activeAdPercentage: {}%", activeCount,
             totalCount, activeAdPercentage);
 
-        // 새로운 멤버십 회원 (오늘 생성된 Membership)
-        long newMembershipUsers = membershipRepository.countByCreatedAtBetween(todayStart,
-            todayEnd);
-        log.info("newMembershipUsers: {}", newMembershipUsers);
-
-        // 오늘의 쿠폰 발급 수
-        Object[] todayCouponStatsRaw = couponIssueRepository.sumTodayCouponStats(today);
-        log.info("sumTodayCouponStats 원본 결과: {}",
-            todayCouponStatsRaw != null ? Arrays.toString(todayCouponStatsRaw) : "null");
-        
-        // JPA가 배열의 배열로 반환하는 경우 처리
-        Object[] todayCouponStats;
-        if (todayCouponStatsRaw != null && todayCouponStatsRaw.length > 0
-            && todayCouponStatsRaw[0] != null && todayCouponStatsRaw[0].getClass().isArray()) {
-            // 배열의 배열인 경우: 첫 번째 요소가 실제 데이터
-            todayCouponStats = (Object[]) todayCouponStatsRaw[0];
-            log.info("  ⚠️ 배열의 배열이 감지되어 첫 번째 요소를 사용합니다.");
-        } else {
-            // 일반 배열인 경우
-            todayCouponStats = todayCouponStatsRaw;
-        }
-        
-        log.info("sumTodayCouponStats 처리된 결과: {}",
-            todayCouponStats != null ? Arrays.toString(todayCouponStats) : "null");
-        if (todayCouponStats != null) {
-            log.info("  배열 길이: {}, [0]={}, [1]={}", todayCouponStats.length, todayCouponStats[0],
-                todayCouponStats.length > 1 ? todayCouponStats[1] : "없음");
-        }
-        long todayCouponIssued =
-            todayCouponStats != null && todayCouponStats.length > 0 ? toLong(todayCouponStats[0])
-                : 0L;
-        long todayCouponUsed =
-            todayCouponStats != null && todayCouponStats.length > 1 ? toLong(todayCouponStats[1])
-                : 0L;
+        // 새로운 멤버십 회원 / 쿠폰 발급·사용 / 새로운 회원 (생성 이벤트로 증분 반영된 일별 집계)
+        long newMembershipUsers = statsRollupRepository.sumDailyMetric(
+            StatsMetric.NEW_MEMBERSHIP, today);
+        long todayCouponIssued = statsRollupRepository.sumDailyMetric(StatsMetric.COUPON_ISSUED,
+            today);
+        long todayCouponUsed = statsRollupRepository.sumDailyMetric(StatsMetric.COUPON_USED, today);
         double todayCouponUsageRate =
             todayCouponIssued > 0 ? (todayCouponUsed * 100.0) / todayCouponIssued : 0.0;
-        log.info("계산된 값 - todayCouponIssued: {}, todayCouponUsed: {}, todayCouponUsageRate: {}%",
-            todayCouponIssued, todayCouponUsed, todayCouponUsageRate);
-
-        // 새로운 회원 (오늘 생성된 User)
-        long newUsers = userRepository.countByCreatedAtBetween(todayStart, todayEnd);
-        log.info("newUsers: {}", newUsers);
+        long newUsers = statsRollupRepository.sumDailyMetric(StatsMetric.NEW_USER, today);
+        log.info("newMembershipUsers: {}, todayCouponIssued: {}, todayCouponUsed: {}, newUsers: {}",
+            newMembershipUsers, todayCouponIssued, todayCouponUsed, newUsers);
 
         // Top 5 광고 (오늘 클릭수 기준)
         List<Object[]> topAdsRaw = adDailyStatsRepository.findTop5AdsByClicks(today);
@@ -168,7 +134,7 @@ public class DashboardService {
             .toList();
 
         // Top 5 쿠폰 (오늘 발급 수 기준)
-        List<Object[]> topCouponsRaw = couponIssueRepository.findTop5CouponsByIssued(today);
+        List<Object[]> topCouponsRaw = statsRollupRepository.findTop5CouponsByIssued(today);
         log.info("findTop5CouponsByIssued 결과 개수: {}", topCouponsRaw.size());
         if (!topCouponsRaw.isEmpty()) {
             log.info("  첫 번째 쿠폰: {}", Arrays.toString(topCouponsRaw.get(0)));
@@ -1,12 +1,14 @@
 package com.multi.runrunbackend.domain.advertisement.scheduler;
 
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
 import com.multi.runrunbackend.domain.advertisement.repository.AdPlacementRepository;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author : kyungsoo
@@ -20,15 +22,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdPlacementScheduler {
 
     private final AdPlacementRepository adPlacementRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TransactionTemplate transactionTemplate;
 
     @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void disableExpiredPlacements() {
-        LocalDateTime now = LocalDateTime.now();
-        int count = adPlacementRepository.disableExpired(now);
+        clusterJobRunner.runCounting("ad-placement-expire", Duration.ofMinutes(10), () -> {
+            LocalDateTime now = LocalDateTime.now();
+            // 원장 완료 기록·락 해제 전에 커밋되도록 트랜잭션은 작업 본문 안에서 연다
+            int count = transactionTemplate.execute(
+                status -> adPlacementRepository.disableExpired(now));
 
-        if (count > 0) {
-            log.info("[AdPlacementScheduler] disabled {} expired placements", count);
-        }
+            if (count > 0) {
+                log.info("[AdPlacementScheduler] disabled {} expired placements", count);
+            }
+            return count;
+        });
     }
 }
\ No newline at end of file
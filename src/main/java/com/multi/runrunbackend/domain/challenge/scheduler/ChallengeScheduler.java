@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.challenge.scheduler;
 
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
 import com.multi.runrunbackend.domain.challenge.constant.UserChallengeStatus;
 import com.multi.runrunbackend.domain.challenge.entity.Challenge;
 import com.multi.runrunbackend.domain.challenge.entity.UserChallenge;
@@ -8,6 +9,7 @@ import com.multi.runrunbackend.domain.challenge.repository.UserChallengeReposito
 import com.multi.runrunbackend.domain.notification.constant.NotificationType;
 import com.multi.runrunbackend.domain.notification.constant.RelatedType;
 import com.multi.runrunbackend.domain.notification.service.NotificationService;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -16,7 +18,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  *
@@ -34,21 +36,27 @@ public class ChallengeScheduler {
   private final UserChallengeRepository userChallengeRepository;
   private final ChallengeRepository challengeRepository;
   private final NotificationService notificationService;
+  private final ClusterJobRunner clusterJobRunner;
+  private final TransactionTemplate transactionTemplate;
 
 
   /**
    * 매일 자정(00:00:00)에 실행 1. 시작일이 된 챌린지: JOINED -> IN_PROGRESS 변경 2. 종료된 챌린지: IN_PROGRESS -> FAILED
    * 변경 3. 종료된 챌린지 소프트 삭제
+   * <p>
+   * 트랜잭션은 작업 본문 안에서 연다. 원장 완료 기록과 락 해제가 커밋 이후에 일어나야 다른 서버가 커밋 전 데이터로 다시 돌지 않는다
    */
 
   @Scheduled(cron = "0 0 0 * * *")
-  @Transactional
   public void scheduleChallengeStatus() {
-    LocalDate today = LocalDate.now();
-
-    updateStatusToInProgress(today);
-    checkFailedChallenges(today);
-    softDeleteExpiredChallenges(today);
+    clusterJobRunner.run("challenge-status", Duration.ofMinutes(30),
+        () -> transactionTemplate.executeWithoutResult(status -> {
+          LocalDate today = LocalDate.now();
+
+          updateStatusToInProgress(today);
+          checkFailedChallenges(today);
+          softDeleteExpiredChallenges(today);
+        }));
   }
 
   private void updateStatusToInProgress(LocalDate today) {
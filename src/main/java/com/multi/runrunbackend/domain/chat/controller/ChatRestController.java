@@ -3,11 +3,12 @@ package com.multi.runrunbackend.domain.chat.controller;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.common.response.ApiResponse;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
-import com.multi.runrunbackend.domain.chat.document.OfflineChatMessage;
 import com.multi.runrunbackend.domain.chat.dto.req.StartRunningReqDto;
+import com.multi.runrunbackend.domain.chat.dto.res.ChatHistoryMessageResDto;
 import com.multi.runrunbackend.domain.chat.dto.res.ChatRoomListResDto;
 import com.multi.runrunbackend.domain.chat.dto.res.UnifiedChatRoomResDto;
 import com.multi.runrunbackend.domain.chat.service.ChatService;
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
 import com.multi.runrunbackend.domain.crew.service.CrewChatService;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -73,16 +74,19 @@ public class ChatRestController {
    * 과거 메시지 조회 GET
    */
   @GetMapping("/{sessionId}/messages")
-  public ResponseEntity<ApiResponse<List<OfflineChatMessage>>> getMessages(
+  public ResponseEntity<ApiResponse<CursorPage<ChatHistoryMessageResDto>>> getMessages(
       @PathVariable Long sessionId,
-      @RequestParam(required = false) String joinedAt) {
+      @RequestParam(required = false) String joinedAt,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
 
     LocalDateTime joinedAtTime = null;
     if (joinedAt != null && !joinedAt.isEmpty()) {
       joinedAtTime = LocalDateTime.parse(joinedAt);
     }
 
-    List<OfflineChatMessage> messages = chatService.getMessages(sessionId, joinedAtTime);
+    CursorPage<ChatHistoryMessageResDto> messages =
+        chatService.getMessages(sessionId, joinedAtTime, cursor, size);
     return ResponseEntity.ok(ApiResponse.success("메시지 조회 성공", messages));
   }
 
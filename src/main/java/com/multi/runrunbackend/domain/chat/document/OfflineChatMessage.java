@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -17,6 +18,7 @@ import org.springframework.data.mongodb.core.mapping.Field;
  * @filename : OfflineChatMessage
  * @since : 2025-12-18 목요일
  */
+@CompoundIndex(name = "idx_offline_chat_session_created_id", def = "{'session_id': 1, 'created_at': 1, '_id': 1}")
 @Document(collection = "offline_chat_message")
 @Getter
 @Setter
@@ -23,6 +23,7 @@ import lombok.Setter;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class ChatMessageDto {
 
+  private String id;
   private Long sessionId;
   private Long senderId;
   private String senderName;
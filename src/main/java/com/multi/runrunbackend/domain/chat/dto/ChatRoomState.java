@@ -0,0 +1,18 @@
+package com.multi.runrunbackend.domain.chat.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author : changwoo
+ * @description : Redis에 유지되는 채팅방 최근 메시지 + 유저별 안 읽은 수
+ * @filename : ChatRoomState
+ * @since : 2026. 10. 19. Monday
+ */
+public record ChatRoomState(
+    String lastMessageContent,
+    String lastMessageSender,
+    LocalDateTime lastMessageTime,
+    int unreadCount
+) {
+
+}
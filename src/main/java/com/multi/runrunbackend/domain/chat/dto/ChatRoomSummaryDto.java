@@ -0,0 +1,35 @@
+package com.multi.runrunbackend.domain.chat.dto;
+
+import com.multi.runrunbackend.domain.match.constant.SessionStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author : changwoo
+ * @description : 오프라인 채팅방 목록용 세션 요약 (참가자/준비 수 포함, 쿼리 1회 조회용 프로젝션)
+ * @filename : ChatRoomSummaryDto
+ * @since : 2026. 10. 19. Monday
+ */
+@Getter
+@AllArgsConstructor
+public class ChatRoomSummaryDto {
+
+  private Long sessionId;
+  private SessionStatus sessionStatus;
+  private Integer duration;
+  private Double sessionTargetDistance;
+  private LocalDateTime sessionCreatedAt;
+
+  // Recruit 정보 (없으면 null)
+  private Long recruitId;
+  private String title;
+  private String meetingPlace;
+  private LocalDateTime meetingAt;
+  private Double targetDistance;
+  private String targetPace;
+  private Integer maxParticipants;
+
+  private Long currentParticipants;
+  private Long readyCount;
+}
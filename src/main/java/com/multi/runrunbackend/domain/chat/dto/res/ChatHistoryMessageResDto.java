@@ -0,0 +1,51 @@
+package com.multi.runrunbackend.domain.chat.dto.res;
+
+import com.multi.runrunbackend.domain.chat.document.OfflineChatMessage;
+import com.multi.runrunbackend.domain.crew.document.CrewChatMessage;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author : changwoo
+ * @description : 과거 메시지 응답 DTO - 화면에 그리는 필드만 포함 (오프라인/크루 채팅 공용)
+ * @filename : ChatHistoryMessageResDto
+ * @since : 2026. 10. 19. Monday
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryMessageResDto {
+
+  private String id;
+  private Long senderId;
+  private String senderName;
+  private String content;
+  private String messageType;
+  private LocalDateTime createdAt;
+
+  public static ChatHistoryMessageResDto from(OfflineChatMessage message) {
+    return ChatHistoryMessageResDto.builder()
+        .id(message.getId())
+        .senderId(message.getSenderId())
+        .senderName(message.getSenderName())
+        .content(message.getContent())
+        .messageType(message.getMessageType())
+        .createdAt(message.getCreatedAt())
+        .build();
+  }
+
+  public static ChatHistoryMessageResDto from(CrewChatMessage message) {
+    return ChatHistoryMessageResDto.builder()
+        .id(message.getId())
+        .senderId(message.getSenderId())
+        .senderName(message.getSenderName())
+        .content(message.getContent())
+        .messageType(message.getMessageType())
+        .createdAt(message.getCreatedAt())
+        .build();
+  }
+}
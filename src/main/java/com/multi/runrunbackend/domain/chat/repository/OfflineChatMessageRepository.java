@@ -11,7 +11,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
  * @filename : OfflineChatMessageRepository
  * @since : 2025-12-18 목요일
  */
-public interface OfflineChatMessageRepository extends MongoRepository<OfflineChatMessage, String> {
+public interface OfflineChatMessageRepository extends MongoRepository<OfflineChatMessage, String>,
+    OfflineChatMessageRepositoryCustom {
 
   List<OfflineChatMessage> findBySessionIdOrderByCreatedAtAsc(Long sessionId);
 
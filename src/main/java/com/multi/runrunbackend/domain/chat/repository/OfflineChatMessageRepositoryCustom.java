@@ -0,0 +1,21 @@
+package com.multi.runrunbackend.domain.chat.repository;
+
+import com.multi.runrunbackend.domain.chat.document.OfflineChatMessage;
+import com.multi.runrunbackend.domain.chat.util.ChatMessageCursorCodec.CursorPayload;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @author : changwoo
+ * @description : 오프라인 채팅 과거 메시지 역방향 커서 조회
+ * @filename : OfflineChatMessageRepositoryCustom
+ * @since : 2026. 10. 19. Monday
+ */
+public interface OfflineChatMessageRepositoryCustom {
+
+  /**
+   * (createdAt, id) 내림차순으로 before 커서 이전 메시지를 limit 개 조회 (화면 필드만 projection)
+   */
+  List<OfflineChatMessage> findHistory(Long sessionId, LocalDateTime joinedAt,
+      CursorPayload before, int limit);
+}
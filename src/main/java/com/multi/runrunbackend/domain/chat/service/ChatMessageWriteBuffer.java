@@ -0,0 +1,455 @@
+package com.multi.runrunbackend.domain.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : changwoo
+ * @description : 채팅 메시지 비동기 배치 저장 버퍼. 발행(Redis)은 호출 스레드에서 즉시 하고, MongoDB 저장은 고정 크기 큐에 모았다가
+ * batchSize 개 또는 flushInterval 마다 insertMany 로 한 번에 쓴다. 프로세스가 떠 있는 동안은 저장에 실패한 배치를 보류해 두고 지수
+ * 백오프(상한 retryMaxBackoffMs)로 성공할 때까지 다시 쓰며, 보류 중에는 새 배치를 꺼내지 않는다. 큐가 가득 찼는데 저장이 밀려 있으면
+ * 로컬 파일(spillDir)에 넘겼다가 복구 후 다시 저장한다.
+ * <p>
+ * 종료 시에는 남은 메시지를 shutdownDrainTimeoutMs 동안 Mongo 에 동기로 다시 쓴다. 그래도 못 쓴 메시지는 spillDir 에 남기지만, spillDir
+ * 가 영구 볼륨이 아니면(k8s 배포 기본값) 파드 교체와 함께 사라지므로 종료 중 Mongo 장애가 이어지면 유실될 수 있다 - 이때는 내용을 에러
+ * 로그로도 남긴다.
+ * @filename : ChatMessageWriteBuffer
+ * @since : 2026. 10. 19. Monday
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBuffer {
+
+  private static final int DUPLICATE_KEY_CODE = 11000;
+  private static final String SPILL_FILE = "chat-write-spill.jsonl";
+  private static final String REPLAY_SUFFIX = ".replay";
+
+  private final MongoTemplate mongoTemplate;
+  private final BlockingQueue<Object> queue;
+  private final int batchSize;
+  private final long flushIntervalMs;
+  private final long offerTimeoutMs;
+  private final long retryMaxBackoffMs;
+  private final long shutdownDrainTimeoutMs;
+  private final Path spillDir;
+
+  private final Counter enqueuedCounter;
+  private final Counter flushedCounter;
+  private final Counter overflowCounter;
+  private final Counter retriedCounter;
+  private final Counter spilledCounter;
+  private final Timer flushTimer;
+  private final ReentrantLock drainLock = new ReentrantLock();
+  private final ReentrantLock spillLock = new ReentrantLock();
+
+  // 저장 실패로 보류 중인 메시지 (drainLock 안에서만 접근)
+  private final List<Object> pending = new ArrayList<>();
+  private final List<Path> replayFiles = new ArrayList<>();
+  private final AtomicInteger pendingSize = new AtomicInteger();
+  private long retryDelayMs;
+  private long nextRetryAt;
+
+  private volatile boolean running;
+  private volatile long shutdownDeadline;
+  private volatile boolean degraded;
+  private Thread flusher;
+
+  public ChatMessageWriteBuffer(
+      MongoTemplate mongoTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${chat.write-buffer.capacity:10000}") int capacity,
+      @Value("${chat.write-buffer.batch-size:200}") int batchSize,
+      @Value("${chat.write-buffer.flush-interval-ms:100}") long flushIntervalMs,
+      @Value("${chat.write-buffer.offer-timeout-ms:20}") long offerTimeoutMs,
+      @Value("${chat.write-buffer.retry-max-backoff-ms:30000}") long retryMaxBackoffMs,
+      @Value("${chat.write-buffer.shutdown-drain-timeout-ms:15000}") long shutdownDrainTimeoutMs,
+      @Value("${chat.write-buffer.spill-dir:./data/chat-spill}") String spillDir
+  ) {
+    this.mongoTemplate = mongoTemplate;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.flushIntervalMs = flushIntervalMs;
+    this.offerTimeoutMs = offerTimeoutMs;
+    this.retryMaxBackoffMs = retryMaxBackoffMs;
+    this.shutdownDrainTimeoutMs = shutdownDrainTimeoutMs;
+    this.spillDir = Paths.get(spillDir);
+
+    Gauge.builder("chat.write.buffer.size", queue, BlockingQueue::size)
+        .description("저장 대기 중인 채팅 메시지 수")
+        .register(meterRegistry);
+    Gauge.builder("chat.write.buffer.remaining", queue, BlockingQueue::remainingCapacity)
+        .description("버퍼 잔여 용량")
+        .register(meterRegistry);
+    Gauge.builder("chat.write.buffer.pending", pendingSize, AtomicInteger::get)
+        .description("저장 실패로 재시도 대기 중인 메시지 수")
+        .register(meterRegistry);
+    this.enqueuedCounter = Counter.builder("chat.write.buffer.enqueued").register(meterRegistry);
+    this.flushedCounter = Counter.builder("chat.write.buffer.flushed").register(meterRegistry);
+    this.overflowCounter = Counter.builder("chat.write.buffer.overflow")
+        .description("버퍼가 가득 차 호출 스레드에서 직접 저장한 건수")
+        .register(meterRegistry);
+    this.retriedCounter = Counter.builder("chat.write.buffer.retried")
+        .description("보류 메시지 재저장 시도 건수")
+        .register(meterRegistry);
+    this.spilledCounter = Counter.builder("chat.write.buffer.spilled")
+        .description("로컬 파일로 넘긴 건수 (복구 후 다시 저장)")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("chat.write.buffer.flush").register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    // 지난 실행에서 넘긴 메시지부터 저장
+    drainLock.lock();
+    try {
+      loadSpilled();
+    } finally {
+      drainLock.unlock();
+    }
+
+    running = true;
+    flusher = new Thread(this::runLoop, "chat-write-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  /**
+   * 종료 시 큐/보류 메시지를 기한(shutdownDrainTimeoutMs)까지 재시도하며 Mongo 에 저장하고, 그래도 못 쓴 건 로컬 파일로 넘긴 뒤 반환
+   */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    // 인터럽트하면 진행 중인 Mongo 호출이 끊기므로 poll 타임아웃으로 루프가 끝나기를 기다린다
+    shutdownDeadline = System.currentTimeMillis() + shutdownDrainTimeoutMs;
+    running = false;
+    flusher.join(shutdownDrainTimeoutMs + TimeUnit.SECONDS.toMillis(10));
+
+    // flusher 가 시간 내 끝나지 못했으면 남은 건 여기서 처리
+    drainRemaining();
+    log.info("채팅 메시지 버퍼 종료: remaining={}", queue.size());
+  }
+
+  /**
+   * 저장 요청. 큐가 가득 차 offerTimeout 안에 자리가 나지 않으면 호출 스레드에서 바로 저장하고, 저장이 밀려 있는 중이면(또는 실패하면)
+   * 로컬 파일로 넘긴다.
+   */
+  public void enqueue(Object document) {
+    boolean accepted;
+    try {
+      accepted = running && queue.offer(document, offerTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      accepted = false;
+    }
+
+    if (accepted) {
+      enqueuedCounter.increment();
+      return;
+    }
+
+    overflowCounter.increment();
+    if (degraded) {
+      // Mongo 장애 중에는 요청 스레드를 Mongo 타임아웃에 묶지 않는다
+      spill(List.of(document));
+      return;
+    }
+    log.warn("채팅 메시지 버퍼 포화, 직접 저장: size={}", queue.size());
+    List<Object> failed = flush(List.of(document));
+    if (!failed.isEmpty()) {
+      spill(failed);
+    }
+  }
+
+  private void runLoop() {
+    List<Object> batch = new ArrayList<>(batchSize);
+    while (running) {
+      try {
+        if (degraded) {
+          retryPending();
+          continue;
+        }
+        Object first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+
+        drainLock.lock();
+        try {
+          List<Object> failed = flush(batch);
+          if (!failed.isEmpty()) {
+            pending.addAll(failed);
+            scheduleRetry();
+          }
+        } finally {
+          drainLock.unlock();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } finally {
+        batch.clear();
+      }
+    }
+    drainRemaining();
+  }
+
+  /**
+   * 보류 메시지 재저장. 백오프 시간 전이면 flushInterval 만큼만 쉬고 돌아간다 (종료 신호를 놓치지 않도록)
+   */
+  private void retryPending() throws InterruptedException {
+    long waitMs = nextRetryAt - System.currentTimeMillis();
+    if (waitMs > 0) {
+      Thread.sleep(Math.min(waitMs, flushIntervalMs));
+      return;
+    }
+
+    drainLock.lock();
+    try {
+      retriedCounter.increment(pending.size());
+      List<Object> failed = flush(new ArrayList<>(pending));
+      pending.clear();
+      pending.addAll(failed);
+      if (!failed.isEmpty()) {
+        scheduleRetry();
+        return;
+      }
+
+      log.info("채팅 메시지 보류분 저장 완료 - 정상 처리로 복귀");
+      deleteReplayFiles();
+      retryDelayMs = 0;
+      // 장애 중 파일로 넘긴 메시지가 있으면 이어서 저장
+      loadSpilled();
+    } finally {
+      pendingSize.set(pending.size());
+      drainLock.unlock();
+    }
+  }
+
+  private void scheduleRetry() {
+    retryDelayMs = retryDelayMs == 0
+        ? Math.max(flushIntervalMs, 100L)
+        : Math.min(retryDelayMs * 2, retryMaxBackoffMs);
+    nextRetryAt = System.currentTimeMillis() + retryDelayMs;
+    degraded = true;
+    pendingSize.set(pending.size());
+    log.warn("채팅 메시지 저장 보류: pending={}, nextRetryInMs={}", pending.size(), retryDelayMs);
+  }
+
+  private void drainRemaining() {
+    // Mongo 쓰기를 락 안에서 하므로 synchronized 대신 ReentrantLock (가상 스레드 pinning 방지)
+    drainLock.lock();
+    try {
+      List<Object> remaining = new ArrayList<>(pending);
+      pending.clear();
+      queue.drainTo(remaining);
+      if (remaining.isEmpty()) {
+        deleteReplayFiles();
+        return;
+      }
+
+      List<Object> failed = flush(remaining);
+      // 파일 보관은 영구 볼륨이 아니면 다음 기동까지 남지 않으므로, 종료 기한까지는 Mongo 에 다시 써 본다
+      long backoffMs = Math.max(flushIntervalMs, 100L);
+      while (!failed.isEmpty() && System.currentTimeMillis() + backoffMs < shutdownDeadline) {
+        try {
+          Thread.sleep(backoffMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        retriedCounter.increment(failed.size());
+        failed = flush(failed);
+        backoffMs = Math.min(backoffMs * 2, retryMaxBackoffMs);
+      }
+      if (failed.isEmpty() || spill(failed)) {
+        deleteReplayFiles();
+      } else {
+        // 파일로도 못 넘겼으면 재적재 파일은 남겨 둔다 (다음 기동 때 다시 시도)
+        pending.addAll(failed);
+      }
+    } finally {
+      pendingSize.set(pending.size());
+      drainLock.unlock();
+    }
+  }
+
+  /**
+   * 컬렉션(document 타입)별로 묶어 unordered insertMany. id 를 미리 채워 두므로 재시도 시 이미 들어간 문서는 중복 키로만 실패하고, 이는 성공으로
+   * 본다.
+   *
+   * @return 저장하지 못한 문서 (재시도 대상)
+   */
+  private List<Object> flush(List<Object> batch) {
+    Map<Class<?>, List<Object>> byType = new LinkedHashMap<>();
+    for (Object document : batch) {
+      byType.computeIfAbsent(document.getClass(), k -> new ArrayList<>()).add(document);
+    }
+
+    List<Object> failed = new ArrayList<>();
+    byType.forEach((type, documents) -> {
+      try {
+        flushTimer.record(() -> mongoTemplate.bulkOps(BulkMode.UNORDERED, type)
+            .insert(documents)
+            .execute());
+        flushedCounter.increment(documents.size());
+      } catch (Exception e) {
+        if (e instanceof BulkOperationException bulk && isDuplicateOnly(bulk)) {
+          flushedCounter.increment(documents.size());
+          return;
+        }
+        log.warn("채팅 메시지 배치 저장 실패: type={}, size={}", type.getSimpleName(),
+            documents.size(), e);
+        failed.addAll(documents);
+      }
+    });
+    return failed;
+  }
+
+  private boolean isDuplicateOnly(BulkOperationException e) {
+    return !e.getErrors().isEmpty()
+        && e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY_CODE);
+  }
+
+  /**
+   * 로컬 파일에 한 줄씩 "{타입}\t{Mongo 확장 JSON}" 으로 추가. 파일로도 못 쓰면 마지막 수단으로 내용을 에러 로그에 남긴다.
+   *
+   * @return 파일 기록 성공 여부
+   */
+  private boolean spill(List<Object> documents) {
+    spillLock.lock();
+    try {
+      Files.createDirectories(spillDir);
+      try (BufferedWriter writer = Files.newBufferedWriter(spillDir.resolve(SPILL_FILE),
+          StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+        for (Object document : documents) {
+          writer.write(document.getClass().getName());
+          writer.write('\t');
+          writer.write(toJson(document));
+          writer.newLine();
+        }
+      }
+      spilledCounter.increment(documents.size());
+      log.warn("채팅 메시지 로컬 파일로 보관: size={}, dir={}", documents.size(), spillDir);
+      return true;
+    } catch (Exception e) {
+      log.error("채팅 메시지 로컬 보관 실패: size={}", documents.size(), e);
+      documents.forEach(document -> log.error("미저장 채팅 메시지: {}\t{}",
+          document.getClass().getName(), safeJson(document)));
+      return false;
+    } finally {
+      spillLock.unlock();
+    }
+  }
+
+  /**
+   * 보관 파일을 재적재 파일로 돌리고 그 내용을 보류 목록에 올린다 (drainLock 안에서 호출). 보류분이 모두 저장되면 재적재 파일을 지운다.
+   */
+  private void loadSpilled() {
+    if (!Files.isDirectory(spillDir)) {
+      return;
+    }
+    spillLock.lock();
+    try {
+      Path spillFile = spillDir.resolve(SPILL_FILE);
+      if (Files.exists(spillFile)) {
+        Files.move(spillFile,
+            spillDir.resolve("chat-write-spill-" + System.currentTimeMillis() + REPLAY_SUFFIX));
+      }
+    } catch (IOException e) {
+      log.error("채팅 메시지 보관 파일 이동 실패: dir={}", spillDir, e);
+    } finally {
+      spillLock.unlock();
+    }
+
+    try (Stream<Path> files = Files.list(spillDir)) {
+      List<Path> replays = files
+          .filter(path -> path.getFileName().toString().endsWith(REPLAY_SUFFIX))
+          .filter(path -> !replayFiles.contains(path))
+          .sorted()
+          .toList();
+      for (Path replay : replays) {
+        for (String line : Files.readAllLines(replay, StandardCharsets.UTF_8)) {
+          int tab = line.indexOf('\t');
+          if (tab < 0) {
+            continue;
+          }
+          try {
+            pending.add(mongoTemplate.getConverter()
+                .read(Class.forName(line.substring(0, tab)), Document.parse(line.substring(tab + 1))));
+          } catch (Exception e) {
+            log.error("채팅 메시지 보관 줄 복원 실패: file={}, line={}", replay, line, e);
+          }
+        }
+        replayFiles.add(replay);
+      }
+    } catch (IOException e) {
+      log.error("채팅 메시지 보관 파일 읽기 실패: dir={}", spillDir, e);
+    }
+
+    if (!pending.isEmpty()) {
+      log.info("채팅 메시지 보관분 재저장 예정: size={}", pending.size());
+      degraded = true;
+      nextRetryAt = 0;
+    } else {
+      deleteReplayFiles();
+    }
+    pendingSize.set(pending.size());
+  }
+
+  private void deleteReplayFiles() {
+    for (Path replay : replayFiles) {
+      try {
+        Files.deleteIfExists(replay);
+      } catch (IOException e) {
+        log.warn("채팅 메시지 재적재 파일 삭제 실패: file={}", replay, e);
+      }
+    }
+    replayFiles.clear();
+    if (pending.isEmpty()) {
+      degraded = false;
+    }
+  }
+
+  private String toJson(Object document) {
+    Document bson = new Document();
+    mongoTemplate.getConverter().write(document, bson);
+    return bson.toJson();
+  }
+
+  private String safeJson(Object document) {
+    try {
+      return toJson(document);
+    } catch (Exception e) {
+      return String.valueOf(document);
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package com.multi.runrunbackend.domain.chat.service;
+
+import com.multi.runrunbackend.domain.chat.dto.ChatRoomState;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : changwoo
+ * @description : 채팅방별 최근 메시지 / 메시지 시퀀스, (방, 유저)별 읽은 시퀀스를 Redis에 유지한다. 안 읽은 수 = 방 시퀀스 - 유저가 마지막으로
+ * 읽은 시퀀스 (메시지 전송 시 O(1) 갱신, 참여자 수와 무관)
+ * @filename : ChatRoomStateStore
+ * @since : 2026. 10. 19. Monday
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomStateStore {
+
+  public static final String SCOPE_OFFLINE = "chat";
+  public static final String SCOPE_CREW = "crew-chat";
+
+  private static final String ROOM_STATE_KEY_PREFIX = "chat_room_state:";
+  private static final String ROOM_READ_KEY_PREFIX = "chat_room_read:";
+
+  private static final String FIELD_SEQ = "seq";
+  private static final String FIELD_LAST_CONTENT = "lastContent";
+  private static final String FIELD_LAST_SENDER = "lastSender";
+  private static final String FIELD_LAST_AT = "lastAt";
+
+  private static final List<Object> STATE_FIELDS = List.of(
+      FIELD_SEQ, FIELD_LAST_CONTENT, FIELD_LAST_SENDER, FIELD_LAST_AT);
+
+  /**
+   * 메시지 1건 반영: 시퀀스 증가 + 최근 메시지 갱신 + 보낸 사람은 읽음 처리
+   */
+  private static final String RECORD_MESSAGE_SCRIPT = """
+      local stateKey = KEYS[1]
+      local readKey = KEYS[2]
+
+      local seq = redis.call('HINCRBY', stateKey, 'seq', 1)
+      redis.call('HSET', stateKey, 'lastContent', ARGV[1], 'lastSender', ARGV[2], 'lastAt', ARGV[3])
+
+      if ARGV[4] ~= '' then
+          redis.call('HSET', readKey, ARGV[4], seq)
+      end
+
+      return seq
+      """;
+
+  /**
+   * 읽음 처리: 유저의 읽은 시퀀스를 현재 방 시퀀스로 맞춘다
+   */
+  private static final String MARK_READ_SCRIPT = """
+      local stateKey = KEYS[1]
+      local readKey = KEYS[2]
+
+      local seq = redis.call('HGET', stateKey, 'seq')
+      if not seq then
+          seq = '0'
+      end
+      redis.call('HSET', readKey, ARGV[1], seq)
+
+      return tonumber(seq)
+      """;
+
+  /**
+   * 상태가 없는 방(배포 이전 방, Redis 유실)을 DB 기준 최근 메시지로 초기화
+   */
+  private static final String SEED_SCRIPT = """
+      local stateKey = KEYS[1]
+
+      if redis.call('EXISTS', stateKey) == 1 then
+          return 0
+      end
+
+      redis.call('HSET', stateKey, 'seq', 0)
+      if ARGV[3] ~= '' then
+          redis.call('HSET', stateKey, 'lastContent', ARGV[1], 'lastSender', ARGV[2], 'lastAt', ARGV[3])
+      end
+
+      return 1
+      """;
+
+  private static final DefaultRedisScript<Long> RECORD_MESSAGE =
+      new DefaultRedisScript<>(RECORD_MESSAGE_SCRIPT, Long.class);
+  private static final DefaultRedisScript<Long> MARK_READ =
+      new DefaultRedisScript<>(MARK_READ_SCRIPT, Long.class);
+  private static final DefaultRedisScript<Long> SEED =
+      new DefaultRedisScript<>(SEED_SCRIPT, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 메시지 전송 시 호출 (senderId가 null이면 SYSTEM 메시지)
+   */
+  public void recordMessage(String scope, Long roomId, Long senderId, String senderName,
+      String content, LocalDateTime createdAt) {
+    try {
+      redisTemplate.execute(
+          RECORD_MESSAGE,
+          List.of(stateKey(scope, roomId), readKey(scope, roomId)),
+          nullToEmpty(content),
+          nullToEmpty(senderName),
+          createdAt.toString(),
+          senderId != null ? senderId.toString() : ""
+      );
+    } catch (Exception e) {
+      log.warn("채팅방 상태 갱신 실패: scope={}, roomId={}", scope, roomId, e);
+    }
+  }
+
+  /**
+   * 채팅방 접속/읽음 시 호출
+   */
+  public void markRead(String scope, Long roomId, Long userId) {
+    try {
+      redisTemplate.execute(
+          MARK_READ,
+          List.of(stateKey(scope, roomId), readKey(scope, roomId)),
+          userId.toString()
+      );
+    } catch (Exception e) {
+      log.warn("채팅방 읽음 처리 실패: scope={}, roomId={}, userId={}", scope, roomId, userId, e);
+    }
+  }
+
+  public void seedIfAbsent(String scope, Long roomId, String senderName, String content,
+      LocalDateTime createdAt) {
+    try {
+      redisTemplate.execute(
+          SEED,
+          List.of(stateKey(scope, roomId)),
+          nullToEmpty(content),
+          nullToEmpty(senderName),
+          createdAt != null ? createdAt.toString() : ""
+      );
+    } catch (Exception e) {
+      log.warn("채팅방 상태 초기화 실패: scope={}, roomId={}", scope, roomId, e);
+    }
+  }
+
+  /**
+   * 채팅방 삭제/메시지 전체 삭제 시 상태 제거
+   */
+  public void clear(String scope, Long roomId) {
+    try {
+      redisTemplate.delete(List.of(stateKey(scope, roomId), readKey(scope, roomId)));
+    } catch (Exception e) {
+      log.warn("채팅방 상태 삭제 실패: scope={}, roomId={}", scope, roomId, e);
+    }
+  }
+
+  /**
+   * 여러 방의 상태 + 해당 유저의 안 읽은 수를 파이프라인 1회로 조회. 상태가 없는 방은 결과 Map에 포함되지 않는다.
+   */
+  public Map<Long, ChatRoomState> getRoomStates(String scope, Collection<Long> roomIds,
+      Long userId) {
+    Map<Long, ChatRoomState> states = new HashMap<>();
+    if (roomIds.isEmpty()) {
+      return states;
+    }
+
+    List<Long> ids = new ArrayList<>(roomIds);
+    String userField = userId.toString();
+
+    List<Object> results;
+    try {
+      results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations)
+            throws DataAccessException {
+          RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+          for (Long roomId : ids) {
+            ops.opsForHash().multiGet(stateKey(scope, roomId), STATE_FIELDS);
+            ops.opsForHash().get(readKey(scope, roomId), userField);
+          }
+          return null;
+        }
+      });
+    } catch (Exception e) {
+      log.warn("채팅방 상태 조회 실패: scope={}, rooms={}", scope, ids.size(), e);
+      return states;
+    }
+
+    for (int i = 0; i < ids.size(); i++) {
+      List<?> fields = (List<?>) results.get(i * 2);
+      Object readSeq = results.get(i * 2 + 1);
+
+      if (fields == null || fields.get(0) == null) {
+        continue; // 상태 없음 → 호출 측에서 DB 기준으로 초기화
+      }
+
+      long seq = Long.parseLong(fields.get(0).toString());
+      long read = readSeq != null ? Long.parseLong(readSeq.toString()) : 0L;
+      Object lastAt = fields.get(3);
+
+      states.put(ids.get(i), new ChatRoomState(
+          emptyToNull(fields.get(1)),
+          emptyToNull(fields.get(2)),
+          lastAt != null && !lastAt.toString().isEmpty()
+              ? LocalDateTime.parse(lastAt.toString()) : null,
+          (int) Math.max(0L, seq - read)
+      ));
+    }
+
+    return states;
+  }
+
+  private static String stateKey(String scope, Long roomId) {
+    return ROOM_STATE_KEY_PREFIX + scope + ":" + roomId;
+  }
+
+  private static String readKey(String scope, Long roomId) {
+    return ROOM_READ_KEY_PREFIX + scope + ":" + roomId;
+  }
+
+  private static String nullToEmpty(String value) {
+    return value != null ? value : "";
+  }
+
+  private static String emptyToNull(Object value) {
+    return value == null || value.toString().isEmpty() ? null : value.toString();
+  }
+}
@@ -7,10 +7,15 @@ import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
 import com.multi.runrunbackend.domain.chat.document.OfflineChatMessage;
 import com.multi.runrunbackend.domain.chat.dto.ChatMessageDto;
+import com.multi.runrunbackend.domain.chat.dto.ChatRoomState;
+import com.multi.runrunbackend.domain.chat.dto.ChatRoomSummaryDto;
 import com.multi.runrunbackend.domain.chat.dto.req.StartRunningReqDto;
+import com.multi.runrunbackend.domain.chat.dto.res.ChatHistoryMessageResDto;
 import com.multi.runrunbackend.domain.chat.dto.res.ChatRoomListResDto;
 import com.multi.runrunbackend.domain.chat.dto.res.UnifiedChatRoomResDto;
 import com.multi.runrunbackend.domain.chat.repository.OfflineChatMessageRepository;
+import com.multi.runrunbackend.domain.chat.util.ChatMessageCursorCodec;
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
 import com.multi.runrunbackend.domain.crew.service.CrewChatService;
 import com.multi.runrunbackend.domain.match.constant.SessionStatus;
 import com.multi.runrunbackend.domain.match.constant.SessionType;
@@ -28,6 +33,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,12 +42,18 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ChatService {
 
+    private static final int DEFAULT_HISTORY_SIZE = 50;
+    private static final int MAX_HISTORY_SIZE = 100;
+
     private final RedisPublisher redisPublisher;
     private final OfflineChatMessageRepository chatMessageRepository;
     private final SessionUserRepository sessionUserRepository;
     private final MatchSessionRepository matchSessionRepository;
     private final UserRepository userRepository;
     private final CrewChatService crewChatService;
+    private final ChatRoomStateStore chatRoomStateStore;
+    private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private final ChatMessageCursorCodec cursorCodec;
 
 
     private User getUserFromPrincipal(CustomUser principal) {
@@ -65,27 +77,32 @@ public class ChatService {
 
 
     public void sendMessage(ChatMessageDto messageDto) {
-        // 현재 시간 설정
+        // id / 시간은 서버에서 먼저 채번 (저장 전에 발행하므로)
         LocalDateTime now = LocalDateTime.now();
-        
-        // MongoDB에 저장
-        OfflineChatMessage chatMessage = OfflineChatMessage.builder()
+        messageDto.setId(new ObjectId().toHexString());
+        messageDto.setCreatedAt(now);
+
+        // Redis Pub/Sub 으로 먼저 발행
+        String channel = "chat:" + messageDto.getSessionId();
+        redisPublisher.publish(channel, messageDto);
+
+        // 채팅방 목록용 최근 메시지 / 안 읽은 수 갱신
+        chatRoomStateStore.recordMessage(ChatRoomStateStore.SCOPE_OFFLINE,
+            messageDto.getSessionId(), messageDto.getSenderId(), messageDto.getSenderName(),
+            messageDto.getContent(), now);
+
+        // MongoDB 저장은 버퍼에 넣어 배치로 처리
+        chatMessageWriteBuffer.enqueue(OfflineChatMessage.builder()
+            .id(messageDto.getId())
             .sessionId(messageDto.getSessionId())
             .senderId(messageDto.getSenderId())
             .senderName(messageDto.getSenderName())
             .content(messageDto.getContent())
             .messageType(messageDto.getMessageType())
             .createdAt(now)
-            .build();
-
-        chatMessageRepository.save(chatMessage);
-
-        // DTO에 시간 설정 후 Redis Pub/Sub으로 발행
-        messageDto.setCreatedAt(now);
-        String channel = "chat:" + messageDto.getSessionId();
-        redisPublisher.publish(channel, messageDto);
+            .build());
 
-        log.info("메시지 전송: sessionId={}, sender={}, createdAt={}", 
+        log.debug("메시지 전송: sessionId={}, sender={}, createdAt={}",
             messageDto.getSessionId(), messageDto.getSenderName(), now);
     }
 
@@ -111,14 +128,21 @@ public class ChatService {
         sendMessage(systemMessage);
     }
 
+    /**
+     * 과거 메시지 조회 (최신 → 과거 방향 커서 페이징, 입장 시점 이후만)
+     */
     @Transactional(readOnly = true)
-    public List<OfflineChatMessage> getMessages(Long sessionId, LocalDateTime joinedAt) {
-        if (joinedAt != null) {
-            return chatMessageRepository.findBySessionIdAndCreatedAtAfterOrderByCreatedAtAsc(
-                sessionId,
-                joinedAt);
-        }
-        return chatMessageRepository.findBySessionIdOrderByCreatedAtAsc(sessionId);
+    public CursorPage<ChatHistoryMessageResDto> getMessages(Long sessionId,
+        LocalDateTime joinedAt, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0)
+            ? DEFAULT_HISTORY_SIZE : Math.min(size, MAX_HISTORY_SIZE);
+
+        List<OfflineChatMessage> rows = chatMessageRepository.findHistory(
+            sessionId, joinedAt, cursorCodec.decodeOrNull(cursor), pageSize + 1);
+
+        return cursorCodec.toHistoryPage(rows, pageSize,
+            OfflineChatMessage::getCreatedAt, OfflineChatMessage::getId,
+            ChatHistoryMessageResDto::from);
     }
 
 
@@ -331,6 +355,7 @@ public class ChatService {
     public void updateLastReadAt(Long sessionId, CustomUser principal) {
         User user = getUserFromPrincipal(principal);
         sessionUserRepository.updateLastReadAt(sessionId, user.getId(), LocalDateTime.now());
+        chatRoomStateStore.markRead(ChatRoomStateStore.SCOPE_OFFLINE, sessionId, user.getId());
         log.info("마지막 읽은 시간 업데이트: sessionId={}, userId={}", sessionId, user.getId());
     }
 
@@ -340,28 +365,32 @@ public class ChatService {
     @Transactional
     public void deleteAllMessages(Long sessionId) {
         int deletedCount = chatMessageRepository.deleteBySessionId(sessionId);
+        chatRoomStateStore.clear(ChatRoomStateStore.SCOPE_OFFLINE, sessionId);
         log.info("⭐ 메시지 삭제 완료: sessionId={}, 삭제된 메시지 수={}", sessionId, deletedCount);
     }
 
 
     /**
-     * 로그인한 유저가 참여 중인 오프라인 채팅방 목록 조회
+     * 로그인한 유저가 참여 중인 오프라인 채팅방 목록 조회 (Postgres 1회 + Redis 파이프라인 1회)
      */
     @Transactional(readOnly = true)
     public List<ChatRoomListResDto> getMyChatRoomList(CustomUser principal) {
         User user = getUserFromPrincipal(principal);
-        log.info("=== 채팅방 목록 조회 시작: userId={} ===", user.getId());
 
-        // 1. 유저가 참여 중인 오프라인 세션 목록 조회
-        List<SessionUser> mySessionUsers = sessionUserRepository.findMyOfflineSessions(
+        // 1. 유저가 참여 중인 오프라인 세션 목록 (참가자/준비 수 포함)
+        List<ChatRoomSummaryDto> rooms = sessionUserRepository.findMyOfflineChatRooms(
             user.getId());
-        log.info("참여 중인 세션 수: {}", mySessionUsers.size());
 
-        // 2. 각 세션을 DTO로 변환
-        List<ChatRoomListResDto> result = mySessionUsers.stream()
-            .map(this::convertToChatRoomDto)
+        // 2. 최근 메시지 / 안 읽은 수는 Redis에서 한 번에 조회
+        List<Long> sessionIds = rooms.stream().map(ChatRoomSummaryDto::getSessionId).toList();
+        Map<Long, ChatRoomState> states = chatRoomStateStore.getRoomStates(
+            ChatRoomStateStore.SCOPE_OFFLINE, sessionIds, user.getId());
+
+        // 3. 각 세션을 DTO로 변환 (최근 메시지 시간 내림차순)
+        List<ChatRoomListResDto> result = rooms.stream()
+            .map(room -> convertToChatRoomDto(room,
+                states.computeIfAbsent(room.getSessionId(), this::loadRoomState)))
             .sorted((a, b) -> {
-                // lastMessageTime 기준 내림차순 정렬 (최신 메시지가 맨 위)
                 LocalDateTime timeA = a.getLastMessageTime();
                 LocalDateTime timeB = b.getLastMessageTime();
 
@@ -370,89 +399,68 @@ public class ChatService {
                     return 0;
                 }
                 if (timeA == null) {
-                    return 1;  // a를 뒤로
+                    return 1;
                 }
                 if (timeB == null) {
-                    return -1; // b를 뒤로
+                    return -1;
                 }
 
-                // 내림차순: 최신 시간이 먼저
                 return timeB.compareTo(timeA);
             })
             .toList();
 
-        log.info("=== 채팅방 목록 조회 완료: {} 개 ===", result.size());
+        log.debug("채팅방 목록 조회 완료: userId={}, rooms={}", user.getId(), result.size());
         return result;
     }
 
     /**
-     * SessionUser를 ChatRoomListResponseDto로 변환
+     * Redis에 상태가 없는 방(배포 이전 방 등)은 MongoDB 최근 메시지로 1회 초기화
      */
-    private ChatRoomListResDto convertToChatRoomDto(SessionUser sessionUser) {
-        MatchSession session = sessionUser.getMatchSession();
-        Recruit recruit = session.getRecruit();
-
-        log.info("⭐ DTO 변환 시작: sessionId={}, title={}",
-            session.getId(),
-            recruit != null ? recruit.getTitle() : "제목 없음");
-
-        // 참가자 정보 조회
-        List<SessionUser> participants = sessionUserRepository.findActiveUsersBySessionId(
-            session.getId());
-        int currentParticipants = participants.size();
-        int readyCount = (int) participants.stream()
-            .filter(SessionUser::isReady)
-            .count();
-
-        // 최근 메시지 조회
+    private ChatRoomState loadRoomState(Long sessionId) {
         OfflineChatMessage lastMessage = chatMessageRepository.findTopBySessionIdOrderByCreatedAtDesc(
-            session.getId());
-
-        log.info("⭐ 최근 메시지 조회: sessionId={}, 메시지 존재={}, createdAt={}",
-            session.getId(),
-            lastMessage != null,
-            lastMessage != null ? lastMessage.getCreatedAt() : "null");
-
-        // 읽지 않은 메시지 개수 계산
-        int unreadCount = 0;
-        if (sessionUser.getLastReadAt() != null) {
-            unreadCount = chatMessageRepository.countBySessionIdAndCreatedAtAfter(
-                session.getId(),
-                sessionUser.getLastReadAt()
-            );
-        } else {
-            // lastReadAt이 null이면 모든 메시지가 읽지 않은 것
-            unreadCount = chatMessageRepository.countBySessionId(session.getId());
-        }
+            sessionId);
+
+        chatRoomStateStore.seedIfAbsent(ChatRoomStateStore.SCOPE_OFFLINE, sessionId,
+            lastMessage != null ? lastMessage.getSenderName() : null,
+            lastMessage != null ? lastMessage.getContent() : null,
+            lastMessage != null ? lastMessage.getCreatedAt() : null);
+
+        return new ChatRoomState(
+            lastMessage != null ? lastMessage.getContent() : null,
+            lastMessage != null ? lastMessage.getSenderName() : null,
+            lastMessage != null ? lastMessage.getCreatedAt() : null,
+            0
+        );
+    }
 
-        // 소요시간 포맷팅
-        String formattedDuration = formatDuration(session.getDuration());
-
-        ChatRoomListResDto dto = ChatRoomListResDto.builder()
-            .sessionId(session.getId())
-            .title(recruit != null ? recruit.getTitle() : "제목 없음")
-            .meetingPlace(recruit != null ? recruit.getMeetingPlace() : "장소 미정")
-            .meetingAt(recruit != null ? recruit.getMeetingAt() : null)
-            .targetDistance(
-                recruit != null ? recruit.getTargetDistance() : session.getTargetDistance())
-            .targetPace(recruit != null ? recruit.getTargetPace() : null)
-            .formattedDuration(formattedDuration)
+    /**
+     * 세션 요약 + 채팅방 상태를 ChatRoomListResDto로 변환
+     */
+    private ChatRoomListResDto convertToChatRoomDto(ChatRoomSummaryDto room,
+        ChatRoomState state) {
+        int currentParticipants = room.getCurrentParticipants().intValue();
+
+        return ChatRoomListResDto.builder()
+            .sessionId(room.getSessionId())
+            .title(room.getTitle() != null ? room.getTitle() : "제목 없음")
+            .meetingPlace(room.getMeetingPlace() != null ? room.getMeetingPlace() : "장소 미정")
+            .meetingAt(room.getMeetingAt())
+            .targetDistance(room.getRecruitId() != null
+                ? room.getTargetDistance() : room.getSessionTargetDistance())
+            .targetPace(room.getTargetPace())
+            .formattedDuration(formatDuration(room.getDuration()))
             .currentParticipants(currentParticipants)
-            .maxParticipants(recruit != null ? recruit.getMaxParticipants() : currentParticipants)
-            .readyCount(readyCount)
-            .sessionStatus(session.getStatus().name())
-            .lastMessageContent(lastMessage != null ? lastMessage.getContent() : null)
-            .lastMessageSender(lastMessage != null ? lastMessage.getSenderName() : null)
-            // ⭐ 메시지가 없으면 세션 생성 시간 사용 (또는 null)
-            .lastMessageTime(
-                lastMessage != null ? lastMessage.getCreatedAt() : session.getCreatedAt())
-            .unreadCount(unreadCount)
+            .maxParticipants(room.getMaxParticipants() != null
+                ? room.getMaxParticipants() : currentParticipants)
+            .readyCount(room.getReadyCount().intValue())
+            .sessionStatus(room.getSessionStatus().name())
+            .lastMessageContent(state.lastMessageContent())
+            .lastMessageSender(state.lastMessageSender())
+            // ⭐ 메시지가 없으면 세션 생성 시간 사용
+            .lastMessageTime(state.lastMessageTime() != null
+                ? state.lastMessageTime() : room.getSessionCreatedAt())
+            .unreadCount(state.unreadCount())
             .build();
-
-        log.info("⭐ DTO 변환 완료: sessionId={}, lastMessageTime={}",
-            session.getId(), dto.getLastMessageTime());
-
-        return dto;
     }
 
     /**
@@ -2,25 +2,48 @@ package com.multi.runrunbackend.domain.chat.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.multi.runrunbackend.common.metrics.RunRunMetrics;
+import com.multi.runrunbackend.common.websocket.StompJsonSender;
+import com.multi.runrunbackend.common.websocket.StompSubscriptionRegistry;
 import com.multi.runrunbackend.domain.chat.dto.ChatMessageDto;
-import lombok.RequiredArgsConstructor;
+import java.nio.charset.StandardCharsets;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 /**
  * @author : changwoo
- * @description : RedisPublisher  ->    메시지를 Redis 채널에 발행
+ * @description : RedisPublisher  ->    메시지를 Redis 채널에 발행. relay 브로커 모드(websocket.broker.mode=relay)에서는 Redis 를 거치지 않고
+ * 채널에 대응하는 STOMP destination 으로 바로 보낸다 (서버 간 전달은 외부 브로커가 함).
  * @filename : RedisPublisher
  * @since : 2025-12-17 수요일
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisPublisher {
 
   private final RedisTemplate<String, Object> redisPubSubTemplate;
-  private final ObjectMapper objectMapper;
+  private final StompJsonSender stompJsonSender;
+  private final RunRunMetrics runRunMetrics;
+  private final boolean relayMode;
+
+  /**
+   * 구독 서버는 이 JSON 을 그대로 STOMP 로 흘려보내므로, 화면에서 바로 쓰도록 날짜는 ISO 문자열로 직렬화
+   */
+  private final ObjectWriter writer;
+
+  public RedisPublisher(RedisTemplate<String, Object> redisPubSubTemplate,
+      ObjectMapper objectMapper, StompJsonSender stompJsonSender, RunRunMetrics runRunMetrics,
+      @Value("${websocket.broker.mode:simple}") String brokerMode) {
+    this.redisPubSubTemplate = redisPubSubTemplate;
+    this.writer = objectMapper.writer().without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    this.stompJsonSender = stompJsonSender;
+    this.runRunMetrics = runRunMetrics;
+    this.relayMode = "relay".equalsIgnoreCase(brokerMode);
+  }
 
   /**
    * 채팅 메시지 발행
@@ -28,8 +51,8 @@ public class RedisPublisher {
   public void publish(String channel, ChatMessageDto message) {
     try {
       // 객체를 JSON 문자열로 변환 (@class 필드 없음)
-      String jsonMessage = objectMapper.writeValueAsString(message);
-      redisPubSubTemplate.convertAndSend(channel, jsonMessage);
+      String jsonMessage = writer.writeValueAsString(message);
+      send(channel, jsonMessage);
     } catch (JsonProcessingException e) {
       log.error("❌ JSON 직렬화 실패: {}", e.getMessage(), e);
     }
@@ -41,12 +64,34 @@ public class RedisPublisher {
   public void publishObject(String channel, Object message) {
     try {
       // 객체를 JSON 문자열로 변환 (@class 필드 없음)
-      String jsonMessage = objectMapper.writeValueAsString(message);
-      log.info("📤 Redis Pub: channel={}, message={}", channel, jsonMessage);  // INFO 레벨로 변경
-      redisPubSubTemplate.convertAndSend(channel, jsonMessage);
-      log.info("✅ Redis Pub 성공: channel={}", channel);  // 추가 로그
+      String jsonMessage = writer.writeValueAsString(message);
+      send(channel, jsonMessage);
+      log.debug("📤 Redis Pub: channel={}", channel);
     } catch (JsonProcessingException e) {
       log.error("❌ JSON 직렬화 실패: {}", e.getMessage(), e);
     }
   }
+
+  /**
+   * STOMP destination 기준 발행 (예: /sub/battle/1/ready → battle:1:ready 채널)
+   */
+  public void publishToDestination(String destination, Object message) {
+    String channel = StompSubscriptionRegistry.channelOf(destination);
+    if (channel == null) {
+      log.warn("⚠️ Redis 로 전달하지 않는 destination: {}", destination);
+      return;
+    }
+    publishObject(channel, message);
+  }
+
+  private void send(String channel, String jsonMessage) {
+    if (relayMode) {
+      stompJsonSender.send(StompSubscriptionRegistry.destinationOf(channel),
+          jsonMessage.getBytes(StandardCharsets.UTF_8));
+      runRunMetrics.pubSubPublished(channel, null);
+      return;
+    }
+    Long receivers = redisPubSubTemplate.convertAndSend(channel, jsonMessage);
+    runRunMetrics.pubSubPublished(channel, receivers);
+  }
 }
@@ -0,0 +1,94 @@
+package com.multi.runrunbackend.domain.chat.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multi.runrunbackend.domain.chat.dto.res.ChatHistoryMessageResDto;
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : changwoo
+ * @description : 채팅 과거 메시지 역방향 커서(createdAt, id) 인코딩/디코딩 - 오프라인/크루 채팅 공용
+ * @filename : ChatMessageCursorCodec
+ * @since : 2026. 10. 19. Monday
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageCursorCodec {
+
+  private final ObjectMapper objectMapper;
+
+  @Data
+  public static class CursorPayload {
+
+    private LocalDateTime createdAt;
+    private String id;
+  }
+
+  public CursorPayload decodeOrNull(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      byte[] raw = Base64.getUrlDecoder().decode(cursor);
+      String json = new String(raw, StandardCharsets.UTF_8);
+      CursorPayload payload = objectMapper.readValue(json, CursorPayload.class);
+      if (payload.getCreatedAt() == null || !ObjectId.isValid(payload.getId())) {
+        return null;
+      }
+      return payload;
+    } catch (Exception e) {
+      return null; // 커서가 깨졌으면 최신 페이지처럼 처리
+    }
+  }
+
+  public String encode(LocalDateTime createdAt, String id) {
+    try {
+      CursorPayload payload = new CursorPayload();
+      payload.setCreatedAt(createdAt);
+      payload.setId(id);
+      String json = objectMapper.writeValueAsString(payload);
+      return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    } catch (Exception e) {
+      throw new IllegalStateException("ChatMessageCursor encode failed", e);
+    }
+  }
+
+  /**
+   * (createdAt, id) 내림차순으로 size + 1 개 조회한 결과를 페이지로 변환. 화면은 오래된 → 최신 순으로 그리므로 뒤집어서 반환한다.
+   */
+  public <T> CursorPage<ChatHistoryMessageResDto> toHistoryPage(
+      List<T> rows,
+      int size,
+      Function<T, LocalDateTime> createdAtOf,
+      Function<T, String> idOf,
+      Function<T, ChatHistoryMessageResDto> mapper
+  ) {
+    boolean hasNext = rows.size() > size;
+    List<T> pageRows = new ArrayList<>(hasNext ? rows.subList(0, size) : rows);
+
+    String nextCursor = null;
+    if (hasNext && !pageRows.isEmpty()) {
+      T oldest = pageRows.get(pageRows.size() - 1);
+      nextCursor = encode(createdAtOf.apply(oldest), idOf.apply(oldest));
+    }
+
+    Collections.reverse(pageRows);
+
+    return CursorPage.<ChatHistoryMessageResDto>builder()
+        .items(pageRows.stream().map(mapper).toList())
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+}
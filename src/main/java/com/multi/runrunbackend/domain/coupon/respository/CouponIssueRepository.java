@@ -174,4 +174,18 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssue, Long>,
         @Param("triggerEvent") String triggerEvent,
         @Param("year") int year
     );
+
+    // 1회성 트리거(첫 러닝 등) 쿠폰 발급 여부 - 쿠폰/역할이 바뀌었거나 삭제됐어도 한 번 받았으면 true
+    // @SQLRestriction 때문에 native query 사용 (status와 무관하게 모든 레코드 확인)
+    @Query(value = """
+        SELECT COUNT(*) > 0
+        FROM coupon_issue ci
+        JOIN coupon_role cr ON ci.coupon_id = cr.coupon_id
+        WHERE ci.user_id = :userId
+          AND cr.trigger_event = :triggerEvent
+        """, nativeQuery = true)
+    boolean existsByUserIdAndTriggerEvent(
+        @Param("userId") Long userId,
+        @Param("triggerEvent") String triggerEvent
+    );
 }
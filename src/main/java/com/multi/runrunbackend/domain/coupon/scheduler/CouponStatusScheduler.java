@@ -1,6 +1,8 @@
 package com.multi.runrunbackend.domain.coupon.scheduler;
 
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
 import com.multi.runrunbackend.domain.coupon.service.CouponStatusService;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,17 +20,21 @@ import org.springframework.stereotype.Component;
 public class CouponStatusScheduler {
 
     private final CouponStatusService couponStatusService;
+    private final ClusterJobRunner clusterJobRunner;
 
 
     @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Seoul")
     public void syncCouponStatus() {
-        int expired = couponStatusService.expire();
-        int soldOut = couponStatusService.soldOut();
-        int activated = couponStatusService.activate();
-        int expiredIssues = couponStatusService.expireCouponIssues();
-        if (expired + soldOut + activated > 0) {
-            log.info("[CouponStatusScheduler] status synced: expired={}, soldOut={}, activated={}",
-                expired, soldOut, activated);
-        }
+        clusterJobRunner.runCounting("coupon-status-sync", Duration.ofMinutes(10), () -> {
+            int expired = couponStatusService.expire();
+            int soldOut = couponStatusService.soldOut();
+            int activated = couponStatusService.activate();
+            int expiredIssues = couponStatusService.expireCouponIssues();
+            if (expired + soldOut + activated > 0) {
+                log.info("[CouponStatusScheduler] status synced: expired={}, soldOut={}, activated={}",
+                    expired, soldOut, activated);
+            }
+            return expired + soldOut + activated + expiredIssues;
+        });
     }
 }
@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.coupon.scheduler;
 
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
 import com.multi.runrunbackend.domain.membership.constant.MembershipStatus;
 import com.multi.runrunbackend.domain.membership.entity.Membership;
 import com.multi.runrunbackend.domain.membership.repository.MembershipRepository;
@@ -8,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -23,6 +25,7 @@ import java.util.List;
 public class ExperienceExpiryScheduler {
 
     private final MembershipRepository membershipRepository;
+    private final ClusterJobRunner clusterJobRunner;
     // TODO 알림 서비스
 
     /**
@@ -30,6 +33,11 @@ public class ExperienceExpiryScheduler {
      */
     @Scheduled(cron = "0 9 0 * * *") // 매일 오전 9시
     public void notifyExpiringMemberships() {
+        clusterJobRunner.runCounting("experience-expiry-notify", Duration.ofMinutes(10),
+                this::logExpiringMemberships);
+    }
+
+    private int logExpiringMemberships() {
         LocalDateTime threeDaysLater = LocalDateTime.now().plusDays(3);
 
         List<Membership> expiring = membershipRepository
@@ -42,5 +50,6 @@ public class ExperienceExpiryScheduler {
         for (Membership membership : expiring) {
             log.info("체험권 만료 예정 알림 - userId: {}", membership.getUser().getId());
         }
+        return expiring.size();
     }
 }
@@ -1,5 +1,7 @@
 package com.multi.runrunbackend.domain.coupon.service;
 
+import com.multi.runrunbackend.common.event.CouponUseCancelledEvent;
+import com.multi.runrunbackend.common.event.StatsRollupEvent;
 import com.multi.runrunbackend.common.exception.custom.BusinessException;
 import com.multi.runrunbackend.common.exception.custom.ForbiddenException;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
@@ -20,12 +22,15 @@ import com.multi.runrunbackend.domain.coupon.respository.CouponRepository;
 import com.multi.runrunbackend.domain.coupon.respository.CouponRoleRepository;
 import com.multi.runrunbackend.domain.coupon.util.CouponCodeGenerator;
 import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
 import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -47,6 +52,7 @@ public class CouponIssueService {
     private final CouponRoleRepository couponRoleRepository;
     private final CouponRepository couponRepository;
     private final CouponCodeGenerator couponCodeGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional(readOnly = true)
@@ -80,6 +86,13 @@ public class CouponIssueService {
             }
         }
 
+        // 첫 러닝 쿠폰 중복 발급 방지: 러닝 후처리 단계가 재시도되거나 lease 를 잃어 다시 실행돼도 한 번만
+        if (event == CouponTriggerEvent.FIRST_RUNNING
+            && couponIssueRepository.existsByUserIdAndTriggerEvent(userId, event.name())) {
+            log.info("[CouponAuto] already issued first running coupon. userId={}", userId);
+            return;
+        }
+
         // 생일 쿠폰 중복 발급 방지: 올해 이미 발급받았는지 확인
         if (event == CouponTriggerEvent.BIRTHDAY) {
             int currentYear = LocalDateTime.now().getYear();
@@ -206,7 +219,10 @@ public class CouponIssueService {
             }
 
             String issueCode = couponCodeGenerator.generate(16);
-            couponIssueRepository.save(CouponIssue.createAuto(coupon, user, issueCode));
+            CouponIssue issued = couponIssueRepository.save(
+                CouponIssue.createAuto(coupon, user, issueCode));
+            eventPublisher.publishEvent(
+                StatsRollupEvent.of(RollupSource.COUPON_ISSUE, issued.getId()));
 
             int updated = couponRepository.increaseIssuedCountAndMaybeSoldOut(couponId);
             if (updated == 0) {
@@ -266,7 +282,10 @@ public class CouponIssueService {
 
         try {
             String issueCode = couponCodeGenerator.generate(16);
-            couponIssueRepository.save(CouponIssue.create(coupon, user, issueCode));
+            CouponIssue issued = couponIssueRepository.save(
+                CouponIssue.create(coupon, user, issueCode));
+            eventPublisher.publishEvent(
+                StatsRollupEvent.of(RollupSource.COUPON_ISSUE, issued.getId()));
 
             int updated = couponRepository.increaseIssuedCount(coupon.getId());
             if (updated == 0) {
@@ -385,6 +404,7 @@ public class CouponIssueService {
         }
 
         couponIssue.use();
+        eventPublisher.publishEvent(StatsRollupEvent.of(RollupSource.COUPON_USE, couponIssueId));
         log.info("쿠폰 사용 처리 완료 - couponIssueId: {}", couponIssueId);
     }
 
@@ -402,7 +422,13 @@ public class CouponIssueService {
             return;
         }
 
+        LocalDate usedDate = couponIssue.getUsedAt() == null ? null
+            : couponIssue.getUsedAt().toLocalDate();
         couponIssue.cancelUse();
+        if (usedDate != null) {
+            eventPublisher.publishEvent(new CouponUseCancelledEvent(couponIssueId,
+                couponIssue.getCoupon().getId(), usedDate));
+        }
         log.info("쿠폰 사용 취소 완료 - couponIssueId: {}", couponIssueId);
     }
 }
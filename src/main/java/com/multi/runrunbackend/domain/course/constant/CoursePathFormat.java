@@ -0,0 +1,69 @@
+package com.multi.runrunbackend.domain.course.constant;
+
+import com.multi.runrunbackend.common.exception.custom.BadRequestException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import java.util.List;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * @author : kyungsoo
+ * @description : 코스 경로 응답 형식. 기본은 GeoJSON 좌표 배열이고, format 파라미터 또는 Accept 헤더
+ * (application/vnd.runrun.polyline5+json / polyline6+json) 로 Encoded Polyline 을 요청할 수 있다.
+ * @filename : CoursePathFormat
+ * @since : 2026. 1. 31. Saturday
+ */
+public enum CoursePathFormat {
+    GEOJSON(null, 0),
+    POLYLINE5("application/vnd.runrun.polyline5+json", 5),
+    POLYLINE6("application/vnd.runrun.polyline6+json", 6);
+
+    private final MediaType mediaType;
+    private final int precision;
+
+    CoursePathFormat(String mediaType, int precision) {
+        this.mediaType = mediaType == null ? null : MediaType.parseMediaType(mediaType);
+        this.precision = precision;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public boolean isPolyline() {
+        return precision > 0;
+    }
+
+    /**
+     * format 파라미터가 있으면 우선, 없으면 Accept 헤더의 vendor 타입, 둘 다 없으면 GeoJSON
+     */
+    public static CoursePathFormat resolve(String format, String accept) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return valueOf(format.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(ErrorCode.INVALID_REQUEST);
+            }
+        }
+        if (accept == null || accept.isBlank()) {
+            return GEOJSON;
+        }
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return GEOJSON;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            for (CoursePathFormat candidate : values()) {
+                if (candidate.mediaType != null && candidate.mediaType.equalsTypeAndSubtype(type)) {
+                    return candidate;
+                }
+            }
+        }
+        return GEOJSON;
+    }
+}
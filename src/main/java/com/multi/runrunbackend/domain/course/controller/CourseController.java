@@ -2,6 +2,7 @@ package com.multi.runrunbackend.domain.course.controller;
 
 import com.multi.runrunbackend.common.response.ApiResponse;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import com.multi.runrunbackend.domain.course.constant.CoursePathFormat;
 import com.multi.runrunbackend.domain.course.constant.CourseRegisterType;
 import com.multi.runrunbackend.domain.course.constant.CourseSortType;
 import com.multi.runrunbackend.domain.course.dto.req.CourseCreateReqDto;
@@ -24,6 +25,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -33,6 +35,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -53,14 +56,28 @@ public class CourseController {
 
     private final CourseService courseService;
 
+    /**
+     * format (geojson / polyline5 / polyline6) 또는 Accept 헤더로 경로 형식 선택 - 아래 경로 응답 공통. 같은 URL 이 Accept 에 따라
+     * 달라지므로 캐시가 섞지 않도록 Vary: Accept 를 붙인다
+     */
     @PostMapping("/oneway")
-    public RouteResDto oneWay(@RequestBody RouteRequestDto req) {
-        return courseService.oneWay(req);
+    public ResponseEntity<RouteResDto> oneWay(
+        @RequestBody RouteRequestDto req,
+        @RequestParam(required = false) String format,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        return varyOnAccept(courseService.oneWay(req)
+            .applyPathFormat(CoursePathFormat.resolve(format, accept)));
     }
 
     @PostMapping("/round")
-    public RouteResDto roundTrip(@RequestBody RouteRequestDto req) {
-        return courseService.roundTrip(req);
+    public ResponseEntity<RouteResDto> roundTrip(
+        @RequestBody RouteRequestDto req,
+        @RequestParam(required = false) String format,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        return varyOnAccept(courseService.roundTrip(req)
+            .applyPathFormat(CoursePathFormat.resolve(format, accept)));
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -119,19 +136,25 @@ public class CourseController {
     @GetMapping("/{course_id}")
     public ResponseEntity<ApiResponse<CourseDetailResDto>> getCourse(
         @AuthenticationPrincipal CustomUser principal,
-        @PathVariable(name = "course_id") Long courseId
+        @PathVariable(name = "course_id") Long courseId,
+        @RequestParam(required = false) String format,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        return ResponseEntity.ok(
-            ApiResponse.success("코스 상세 조회 성공", courseService.getCourse(principal, courseId)));
+        return varyOnAccept(
+            ApiResponse.success("코스 상세 조회 성공", courseService.getCourse(principal, courseId,
+                CoursePathFormat.resolve(format, accept))));
     }
 
     @GetMapping("/{course_id}/path")
     public ResponseEntity<ApiResponse<CoursePathResDto>> getCoursePath(
         @AuthenticationPrincipal CustomUser principal,
-        @PathVariable(name = "course_id") Long courseId
+        @PathVariable(name = "course_id") Long courseId,
+        @RequestParam(required = false) String format,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        return ResponseEntity.ok(
-            ApiResponse.success("코스 경로 조회 성공", courseService.getCoursePath(principal, courseId)));
+        return varyOnAccept(
+            ApiResponse.success("코스 경로 조회 성공", courseService.getCoursePath(principal, courseId,
+                CoursePathFormat.resolve(format, accept))));
     }
 
     @PutMapping(
@@ -222,6 +245,9 @@ public class CourseController {
 
     }
 
+    private static <T> ResponseEntity<T> varyOnAccept(T body) {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+            .body(body);
+    }
 }
-
-
@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.course.dto.res;
 
+import com.multi.runrunbackend.domain.course.constant.CoursePathFormat;
 import com.multi.runrunbackend.domain.course.constant.CourseRegisterType;
 import com.multi.runrunbackend.domain.course.entity.Course;
 import com.multi.runrunbackend.domain.course.util.GeoJsonConverter;
@@ -44,6 +45,11 @@ public class CourseDetailResDto {
 
     public static CourseDetailResDto fromEntity(Course course, User user, Boolean isLiked,
         Boolean isFavorited) {
+        return fromEntity(course, user, isLiked, isFavorited, CoursePathFormat.GEOJSON);
+    }
+
+    public static CourseDetailResDto fromEntity(Course course, User user, Boolean isLiked,
+        Boolean isFavorited, CoursePathFormat pathFormat) {
         if (course == null) {
             return null;
         }
@@ -53,7 +59,7 @@ public class CourseDetailResDto {
         return CourseDetailResDto.builder()
             .title(course.getTitle())
             .description(course.getDescription())
-            .path(GeoJsonConverter.toGeoJson(course.getPath()))
+            .path(GeoJsonConverter.toPath(course.getPath(), pathFormat))
             .distanceM(course.getDistanceM())
             .startLat(course.getStartLat())
             .startLng(course.getStartLng())
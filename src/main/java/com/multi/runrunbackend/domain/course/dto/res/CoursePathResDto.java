@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.course.dto.res;
 
+import com.multi.runrunbackend.domain.course.constant.CoursePathFormat;
 import com.multi.runrunbackend.domain.course.entity.Course;
 import com.multi.runrunbackend.domain.course.util.GeoJsonConverter;
 import java.util.Map;
@@ -21,15 +22,19 @@ import lombok.NoArgsConstructor;
 public class CoursePathResDto {
 
     private Long courseId;
-    private Map<String, Object> path; // GeoJSON 형식
+    private Map<String, Object> path; // GeoJSON 또는 Encoded Polyline
     private Double startLat;
     private Double startLng;
     private Integer distanceM;
 
     public static CoursePathResDto from(Course course) {
+        return from(course, CoursePathFormat.GEOJSON);
+    }
+
+    public static CoursePathResDto from(Course course, CoursePathFormat pathFormat) {
         return CoursePathResDto.builder()
             .courseId(course.getId())
-            .path(GeoJsonConverter.toGeoJson(course.getPath()))
+            .path(GeoJsonConverter.toPath(course.getPath(), pathFormat))
             .startLat(course.getStartLat())
             .startLng(course.getStartLng())
             .distanceM(course.getDistanceM())
@@ -1,5 +1,8 @@
 package com.multi.runrunbackend.domain.course.dto.res;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.multi.runrunbackend.domain.course.constant.CoursePathFormat;
+import com.multi.runrunbackend.domain.course.util.PolylineCodec;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -18,9 +21,29 @@ public class RouteResDto {
     private double totalDistance; // meters
     private double totalTime;     // seconds
 
-    // [[lng, lat], [lng, lat], ...]
+    // [[lng, lat], [lng, lat], ...] - Polyline 형식 요청 시 null
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<double[]> lineString;
 
+    // Encoded Polyline (lat, lng 순서) - Polyline 형식 요청 시에만
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String polyline;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer polylinePrecision;
+
     // 카카오 static map url (간이 썸네일)
     private String thumbnailUrl;
+
+    /**
+     * Polyline 형식이면 좌표 배열을 인코딩 문자열로 바꾼다
+     */
+    public RouteResDto applyPathFormat(CoursePathFormat format) {
+        if (format != null && format.isPolyline() && lineString != null) {
+            polyline = PolylineCodec.encode(lineString, format.getPrecision());
+            polylinePrecision = format.getPrecision();
+            lineString = null;
+        }
+        return this;
+    }
 }
@@ -9,6 +9,7 @@ import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.common.file.FileDomainType;
 import com.multi.runrunbackend.common.file.storage.FileStorage;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import com.multi.runrunbackend.domain.course.constant.CoursePathFormat;
 import com.multi.runrunbackend.domain.course.constant.CourseStatus;
 import com.multi.runrunbackend.domain.course.dto.req.CourseCreateReqDto;
 import com.multi.runrunbackend.domain.course.dto.req.CourseListReqDto;
@@ -170,7 +171,8 @@ public class CourseService {
   }
 
   @Transactional(readOnly = true)
-  public CourseDetailResDto getCourse(CustomUser principal, Long courseId) {
+  public CourseDetailResDto getCourse(CustomUser principal, Long courseId,
+      CoursePathFormat pathFormat) {
     User user = getUserOrThrow(principal);
 
     Course course = courseRepository.findById(courseId)
@@ -183,19 +185,20 @@ public class CourseService {
     course.resolveUrl(s3FileStorage.toHttpsUrl(course.getImageUrl()),
         s3FileStorage.toHttpsUrl(course.getThumbnailUrl()));
 
-    return CourseDetailResDto.fromEntity(course, user, isLiked, isFavorited);
+    return CourseDetailResDto.fromEntity(course, user, isLiked, isFavorited, pathFormat);
   }
 
 
   @Transactional(readOnly = true)
-  public CoursePathResDto getCoursePath(CustomUser principal, Long courseId) {
+  public CoursePathResDto getCoursePath(CustomUser principal, Long courseId,
+      CoursePathFormat pathFormat) {
 
     getUserOrThrow(principal);
 
     Course course = courseRepository.findById(courseId)
         .orElseThrow(() -> new NotFoundException(ErrorCode.COURSE_NOT_FOUND));
 
-    return CoursePathResDto.from(course);
+    return CoursePathResDto.from(course, pathFormat);
   }
 
   @Transactional(readOnly = true)
@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.course.util;
 
+import com.multi.runrunbackend.domain.course.constant.CoursePathFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -30,4 +31,19 @@ public final class GeoJsonConverter {
         geoJson.put("coordinates", coordinates);
         return geoJson;
     }
+
+    /**
+     * 요청 형식에 맞는 경로 표현. Polyline 이면 {"type": "Polyline", "precision": 5|6, "encoded": "..."}
+     */
+    public static Map<String, Object> toPath(LineString lineString, CoursePathFormat format) {
+        if (lineString == null || format == null || !format.isPolyline()) {
+            return toGeoJson(lineString);
+        }
+
+        Map<String, Object> polyline = new HashMap<>();
+        polyline.put("type", "Polyline");
+        polyline.put("precision", format.getPrecision());
+        polyline.put("encoded", PolylineCodec.encode(lineString, format.getPrecision()));
+        return polyline;
+    }
 }
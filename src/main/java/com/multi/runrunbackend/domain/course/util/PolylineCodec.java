@@ -0,0 +1,143 @@
+package com.multi.runrunbackend.domain.course.util;
+
+import com.multi.runrunbackend.common.exception.custom.BadRequestException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * @author : kyungsoo
+ * @description : Encoded Polyline 인코더 / 디코더 (Google Polyline Algorithm). 좌표를 10^precision 배 정수로 바꿔 이전 점과의 차이만
+ * 5비트 단위 ASCII 로 적는다. 순서는 표준대로 (lat, lng) 이고, precision 5 는 약 1.1m, 6 은 약 0.11m 해상도다.
+ * @filename : PolylineCodec
+ * @since : 2026. 1. 31. Saturday
+ */
+public final class PolylineCodec {
+
+    private static final GeometryFactory GEOMETRY_FACTORY =
+        new GeometryFactory(new PrecisionModel(), 4326);
+
+    private PolylineCodec() {
+    }
+
+    /**
+     * LineString (x = lng, y = lat) 인코딩
+     */
+    public static String encode(LineString lineString, int precision) {
+        if (lineString == null) {
+            return null;
+        }
+        double factor = factor(precision);
+        StringBuilder sb = new StringBuilder(lineString.getNumPoints() * 8);
+
+        long prevLat = 0;
+        long prevLng = 0;
+        for (int i = 0; i < lineString.getNumPoints(); i++) {
+            Coordinate c = lineString.getCoordinateN(i);
+            long lat = Math.round(c.y * factor);
+            long lng = Math.round(c.x * factor);
+            writeValue(sb, lat - prevLat);
+            writeValue(sb, lng - prevLng);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * [[lng, lat], ...] 좌표 목록 인코딩 (경로 추천 결과용). 좌표가 null 이거나 2개 미만인 점이 있으면 INVALID_ROUTE_PATH
+     */
+    public static String encode(List<double[]> lngLats, int precision) {
+        if (lngLats == null) {
+            return null;
+        }
+        double factor = factor(precision);
+        StringBuilder sb = new StringBuilder(lngLats.size() * 8);
+
+        long prevLat = 0;
+        long prevLng = 0;
+        for (double[] point : lngLats) {
+            if (point == null || point.length < 2) {
+                throw new BadRequestException(ErrorCode.INVALID_ROUTE_PATH);
+            }
+            long lat = Math.round(point[1] * factor);
+            long lng = Math.round(point[0] * factor);
+            writeValue(sb, lat - prevLat);
+            writeValue(sb, lng - prevLng);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 좌표 배열로 디코딩 (x = lng, y = lat). 형식이 잘못되면 INVALID_ROUTE_PATH
+     */
+    public static Coordinate[] decode(String encoded, int precision) {
+        if (encoded == null) {
+            throw new BadRequestException(ErrorCode.INVALID_ROUTE_PATH);
+        }
+        double factor = factor(precision);
+        List<Coordinate> coords = new ArrayList<>(encoded.length() / 4);
+
+        int[] index = {0};
+        long lat = 0;
+        long lng = 0;
+        while (index[0] < encoded.length()) {
+            lat += readValue(encoded, index);
+            lng += readValue(encoded, index);
+            coords.add(new Coordinate(lng / factor, lat / factor));
+        }
+        return coords.toArray(new Coordinate[0]);
+    }
+
+    /**
+     * LineString(SRID 4326) 으로 디코딩. 점이 2개 미만이면 INVALID_ROUTE_PATH
+     */
+    public static LineString decodeLineString(String encoded, int precision) {
+        Coordinate[] coords = decode(encoded, precision);
+        if (coords.length < 2) {
+            throw new BadRequestException(ErrorCode.INVALID_ROUTE_PATH);
+        }
+        return GEOMETRY_FACTORY.createLineString(coords);
+    }
+
+    private static void writeValue(StringBuilder sb, long delta) {
+        // zigzag: 부호를 최하위 비트로 옮긴다
+        long value = delta < 0 ? ~(delta << 1) : delta << 1;
+        while (value >= 0x20) {
+            sb.append((char) ((0x20 | (value & 0x1f)) + 63));
+            value >>= 5;
+        }
+        sb.append((char) (value + 63));
+    }
+
+    private static long readValue(String encoded, int[] index) {
+        long result = 0;
+        int shift = 0;
+        int chunk;
+        do {
+            if (index[0] >= encoded.length() || shift > 60) {
+                throw new BadRequestException(ErrorCode.INVALID_ROUTE_PATH);
+            }
+            chunk = encoded.charAt(index[0]++) - 63;
+            if (chunk < 0 || chunk > 0x3f) {
+                throw new BadRequestException(ErrorCode.INVALID_ROUTE_PATH);
+            }
+            result |= (long) (chunk & 0x1f) << shift;
+            shift += 5;
+        } while (chunk >= 0x20);
+        return (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+    }
+
+    private static double factor(int precision) {
+        if (precision < 1 || precision > 7) {
+            throw new IllegalArgumentException("polyline precision must be 1..7: " + precision);
+        }
+        return Math.pow(10, precision);
+    }
+}
@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.crew;
 
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
 import com.multi.runrunbackend.domain.crew.entity.Crew;
 import com.multi.runrunbackend.domain.crew.repository.CrewRepository;
 import com.multi.runrunbackend.domain.crew.service.CrewService;
@@ -7,8 +8,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -20,17 +21,22 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class CrewScheduler {
 
     private final CrewService crewService;
     private final CrewRepository crewRepository;
+    private final ClusterJobRunner clusterJobRunner;
 
     /**
      * @description : 위임 기한 만료 크루 해체
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void processExpiredDelegations() {
+        clusterJobRunner.runCounting("crew-delegation-expire", Duration.ofMinutes(30),
+                this::disbandExpiredDelegations);
+    }
+
+    private int disbandExpiredDelegations() {
 
         log.info("=== 크루장 위임 기한 만료 처리 스케줄러 시작 ===");
 
@@ -42,7 +48,7 @@ public class CrewScheduler {
 
         if (expiredCrews.isEmpty()) {
             log.info("위임 기한 만료 크루 없음");
-            return;
+            return 0;
         }
 
         int disbandedCount = 0;
@@ -61,5 +67,6 @@ public class CrewScheduler {
         }
 
         log.info("=== 총 {}건의 크루 해체 완료 (위임 기한 만료) ===", disbandedCount);
+        return disbandedCount;
     }
 }
@@ -3,7 +3,8 @@ package com.multi.runrunbackend.domain.crew.controller;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.common.response.ApiResponse;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
-import com.multi.runrunbackend.domain.crew.document.CrewChatMessage;
+import com.multi.runrunbackend.domain.chat.dto.res.ChatHistoryMessageResDto;
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
 import com.multi.runrunbackend.domain.crew.dto.req.CrewChatNoticeReqDto;
 import com.multi.runrunbackend.domain.crew.dto.res.CrewChatNoticeResDto;
 import com.multi.runrunbackend.domain.crew.dto.res.CrewChatRoomListResDto;
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -71,22 +73,42 @@ public class CrewChatRestController {
   }
 
   /**
-   * 과거 메시지 조회 (가입 시점 이후 메시지만 조회)
+   * 과거 메시지 조회 (가입 시점 이후 메시지만, cursor 가 있으면 그 이전 페이지)
    */
   @GetMapping("/{roomId}/messages")
-  public ResponseEntity<ApiResponse<List<CrewChatMessage>>> getMessages(
+  public ResponseEntity<ApiResponse<CursorPage<ChatHistoryMessageResDto>>> getMessages(
       @PathVariable Long roomId,
-      @AuthenticationPrincipal CustomUser principal) {
+      @AuthenticationPrincipal CustomUser principal,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
 
     if (principal == null) {
       return ResponseEntity.status(401)
           .body(ApiResponse.error(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다."));
     }
 
-    List<CrewChatMessage> messages = crewChatService.getMessages(roomId, principal);
+    CursorPage<ChatHistoryMessageResDto> messages =
+        crewChatService.getMessages(roomId, principal, cursor, size);
     return ResponseEntity.ok(ApiResponse.success("메시지 조회 성공", messages));
   }
 
+  /**
+   * 채팅방 접속 시 읽음 처리 (안 읽은 메시지 수 초기화)
+   */
+  @PostMapping("/rooms/{roomId}/read")
+  public ResponseEntity<ApiResponse<Void>> updateLastReadAt(
+      @PathVariable Long roomId,
+      @AuthenticationPrincipal CustomUser principal) {
+
+    if (principal == null) {
+      return ResponseEntity.status(401)
+          .body(ApiResponse.error(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다."));
+    }
+
+    crewChatService.updateLastReadAt(roomId, principal);
+    return ResponseEntity.ok(ApiResponse.success("읽음 처리 완료", null));
+  }
+
   /**
    * 채팅방 참여자 목록 조회
    */
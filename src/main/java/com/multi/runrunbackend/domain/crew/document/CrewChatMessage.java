@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -17,6 +18,7 @@ import org.springframework.data.mongodb.core.mapping.Field;
  * @filename : CrewChatMessage
  * @since : 2026-01-04
  */
+@CompoundIndex(name = "idx_crew_chat_room_created_id", def = "{'room_id': 1, 'created_at': 1, '_id': 1}")
 @Document(collection = "crew_chat_message")
 @Getter
 @Setter
@@ -0,0 +1,23 @@
+package com.multi.runrunbackend.domain.crew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author : changwoo
+ * @description : 크루 채팅방 목록용 방/크루 요약 (참여자 수 포함, 쿼리 1회 조회용 프로젝션)
+ * @filename : CrewChatRoomSummaryDto
+ * @since : 2026. 10. 19. Monday
+ */
+@Getter
+@AllArgsConstructor
+public class CrewChatRoomSummaryDto {
+
+  private Long roomId;
+  private String roomName;
+  private Long crewId;
+  private String crewName;
+  private String crewDescription;
+  private String crewImageUrl;
+  private Long currentMembers;
+}
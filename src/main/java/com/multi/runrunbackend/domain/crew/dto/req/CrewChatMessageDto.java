@@ -22,6 +22,7 @@ import lombok.Setter;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class CrewChatMessageDto {
 
+  private String id;
   private Long roomId;
   private Long senderId;
   private String senderName;
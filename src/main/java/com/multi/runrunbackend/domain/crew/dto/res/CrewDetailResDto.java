@@ -64,14 +64,12 @@ public class CrewDetailResDto {
     private List<CrewActivityResDto> recentActivities;
 
     /**
-     * @param crew             크루 엔티티
-     * @param memberCount      크루원 수
+     * @param crew             크루 엔티티 (크루원 수는 crew.memberCount)
      * @param recentActivities 최근 활동 내역
      * @description : formEntity : Entity → DTO 변환
      */
     public static CrewDetailResDto fromEntity(
             Crew crew,
-            Long memberCount,
             List<CrewActivityResDto> recentActivities,
             String httpsImageUrl
     ) {
@@ -80,7 +78,7 @@ public class CrewDetailResDto {
                 .crewName(crew.getCrewName())
                 .leaderNm(crew.getUser() != null ? crew.getUser().getName() : null)
                 .region(crew.getRegion())
-                .memberCount(memberCount)
+                .memberCount(crew.getMemberCount() != null ? crew.getMemberCount().longValue() : 0L)
                 .crewDescription(crew.getCrewDescription())
                 .regularMeetingTime(crew.getActivityTime())
                 .crewRecruitStatus(crew.getCrewRecruitStatus())
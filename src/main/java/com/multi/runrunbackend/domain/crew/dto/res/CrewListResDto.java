@@ -50,17 +50,16 @@ public class CrewListResDto {
     private String averagePace;
 
     /**
-     * @param crew        크루 엔티티
-     * @param memberCount 크루원 수
+     * @param crew 크루 엔티티 (크루원 수는 crew.memberCount)
      * @description : fromEntity : Entity → DTO 변환
      */
-    public static CrewListResDto fromEntity(Crew crew, Long memberCount, String httpsImageUrl) {
+    public static CrewListResDto fromEntity(Crew crew, String httpsImageUrl) {
         return CrewListResDto.builder()
                 .crewId(crew.getId())
                 .crewName(crew.getCrewName())
                 .crewImageUrl(httpsImageUrl)
                 .region(crew.getRegion())
-                .memberCount(memberCount)
+                .memberCount(crew.getMemberCount() != null ? crew.getMemberCount().longValue() : 0L)
                 .crewRecruitStatus(crew.getCrewRecruitStatus())
                 .crewStatus(crew.getCrewStatus())
                 .distance(crew.getDistance())
@@ -70,6 +70,10 @@ public class Crew extends BaseEntity {
     @Column(name = "delegation_deadline")
     private LocalDateTime delegationDeadline;  // 위임 기간
 
+    // 크루원 수 (비정규화) - 증감은 CrewRepository 원자적 UPDATE 로만 한다
+    @Column(name = "member_count", insertable = false, updatable = false)
+    private Integer memberCount;
+
     /**
      * @param user   크루장 (User 엔티티)
      * @param reqDto 크루 생성 요청 DTO
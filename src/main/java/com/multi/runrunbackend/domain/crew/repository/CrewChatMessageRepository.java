@@ -11,7 +11,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
  * @filename : CrewChatMessageRepository
  * @since : 2026-01-04
  */
-public interface CrewChatMessageRepository extends MongoRepository<CrewChatMessage, String> {
+public interface CrewChatMessageRepository extends MongoRepository<CrewChatMessage, String>,
+    CrewChatMessageRepositoryCustom {
 
 
   /**
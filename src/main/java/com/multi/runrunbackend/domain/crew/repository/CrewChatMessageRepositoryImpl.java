@@ -0,0 +1,54 @@
+package com.multi.runrunbackend.domain.crew.repository;
+
+import com.multi.runrunbackend.domain.chat.util.ChatMessageCursorCodec.CursorPayload;
+import com.multi.runrunbackend.domain.crew.document.CrewChatMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * @author : changwoo
+ * @description : 크루 채팅 과거 메시지 역방향 커서 조회 구현체 - (room_id, created_at) 인덱스 사용
+ * @filename : CrewChatMessageRepositoryImpl
+ * @since : 2026. 10. 19. Monday
+ */
+@RequiredArgsConstructor
+public class CrewChatMessageRepositoryImpl implements CrewChatMessageRepositoryCustom {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public List<CrewChatMessage> findHistory(Long roomId, LocalDateTime joinedAt,
+      CursorPayload before, int limit) {
+
+    Criteria criteria = Criteria.where("roomId").is(roomId);
+
+    if (joinedAt != null) {
+      criteria = criteria.and("createdAt").gt(joinedAt);
+    }
+
+    if (before != null) {
+      criteria = criteria.orOperator(
+          Criteria.where("createdAt").lt(before.getCreatedAt()),
+          new Criteria().andOperator(
+              Criteria.where("createdAt").is(before.getCreatedAt()),
+              Criteria.where("id").lt(new ObjectId(before.getId()))
+          )
+      );
+    }
+
+    Query query = Query.query(criteria)
+        .with(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+        .limit(limit);
+
+    query.fields()
+        .include("senderId", "senderName", "content", "messageType", "createdAt");
+
+    return mongoTemplate.find(query, CrewChatMessage.class);
+  }
+}
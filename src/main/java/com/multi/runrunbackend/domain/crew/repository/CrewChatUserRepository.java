@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.crew.repository;
 
+import com.multi.runrunbackend.domain.crew.dto.CrewChatRoomSummaryDto;
 import com.multi.runrunbackend.domain.crew.entity.CrewChatUser;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -54,6 +55,19 @@ public interface CrewChatUserRepository extends JpaRepository<CrewChatUser, Long
             "ORDER BY cu.createdAt DESC")
     List<CrewChatUser> findMyCrewChatRooms(@Param("userId") Long userId);
 
+    /**
+     * 유저가 참여 중인 크루 채팅방 목록 (참여자 수 포함, 쿼리 1회)
+     */
+    @Query("SELECT new com.multi.runrunbackend.domain.crew.dto.CrewChatRoomSummaryDto(" +
+            "r.id, r.crewRoomName, c.id, c.crewName, c.crewDescription, c.crewImageUrl, " +
+            "(SELECT COUNT(m) FROM CrewChatUser m WHERE m.room = r AND m.isDeleted = false)) " +
+            "FROM CrewChatUser cu " +
+            "JOIN cu.room r " +
+            "JOIN r.crew c " +
+            "WHERE cu.user.id = :userId " +
+            "AND cu.isDeleted = false")
+    List<CrewChatRoomSummaryDto> findMyCrewChatRoomSummaries(@Param("userId") Long userId);
+
     @Modifying
     @Query("DELETE FROM CrewChatUser cu WHERE cu.room.id = :roomId")
     void deleteByRoomId(@Param("roomId") Long roomId);
@@ -5,6 +5,7 @@ import com.multi.runrunbackend.domain.crew.constant.CrewStatus;
 import com.multi.runrunbackend.domain.crew.entity.Crew;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -78,4 +79,29 @@ public interface CrewRepository extends JpaRepository<Crew, Long> {
      */
     List<Crew> findAllByRequiresDelegationTrueAndDelegationDeadlineBefore(LocalDateTime deadline);
 
+    /**
+     * @param crewId 크루 ID
+     * @description : 크루원 수 +1 (크루장 등록, 가입 승인)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c SET c.memberCount = c.memberCount + 1 WHERE c.id = :crewId")
+    int increaseMemberCount(@Param("crewId") Long crewId);
+
+    /**
+     * @param crewId 크루 ID
+     * @description : 크루원 수 -1 (탈퇴, 강퇴) - 0 아래로 내려가지 않음
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c SET c.memberCount = c.memberCount - 1 " +
+            "WHERE c.id = :crewId AND c.memberCount > 0")
+    int decreaseMemberCount(@Param("crewId") Long crewId);
+
+    /**
+     * @param crewId 크루 ID
+     * @description : 크루원 수 초기화 (해체)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c SET c.memberCount = 0 WHERE c.id = :crewId")
+    int resetMemberCount(@Param("crewId") Long crewId);
+
 }
@@ -4,9 +4,16 @@ import com.multi.runrunbackend.common.exception.custom.BusinessException;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import com.multi.runrunbackend.domain.chat.dto.ChatRoomState;
+import com.multi.runrunbackend.domain.chat.dto.res.ChatHistoryMessageResDto;
+import com.multi.runrunbackend.domain.chat.service.ChatMessageWriteBuffer;
+import com.multi.runrunbackend.domain.chat.service.ChatRoomStateStore;
 import com.multi.runrunbackend.domain.chat.service.RedisPublisher;
+import com.multi.runrunbackend.domain.chat.util.ChatMessageCursorCodec;
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
 import com.multi.runrunbackend.domain.crew.constant.CrewRole;
 import com.multi.runrunbackend.domain.crew.document.CrewChatMessage;
+import com.multi.runrunbackend.domain.crew.dto.CrewChatRoomSummaryDto;
 import com.multi.runrunbackend.domain.crew.dto.req.CrewChatMessageDto;
 import com.multi.runrunbackend.domain.crew.dto.req.CrewChatNoticeReqDto;
 import com.multi.runrunbackend.domain.crew.dto.res.CrewChatNoticeResDto;
@@ -22,6 +29,7 @@ import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,6 +55,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class CrewChatService {
 
+  private static final int DEFAULT_HISTORY_SIZE = 50;
+  private static final int MAX_HISTORY_SIZE = 100;
+
   private final RedisPublisher redisPublisher;
   private final CrewChatMessageRepository chatMessageRepository;
   private final CrewChatRoomRepository chatRoomRepository;
@@ -56,6 +67,9 @@ public class CrewChatService {
   private final com.multi.runrunbackend.domain.crew.repository.CrewChatNoticeRepository chatNoticeRepository;
   private final NotificationService notificationService;
   private final com.multi.runrunbackend.common.file.storage.FileStorage s3FileStorage;  // ✅ S3 파일 스토리지 추가
+  private final ChatRoomStateStore chatRoomStateStore;
+  private final ChatMessageCursorCodec cursorCodec;
+  private final ChatMessageWriteBuffer chatMessageWriteBuffer;
 
 
   /**
@@ -83,30 +97,34 @@ public class CrewChatService {
   }
 
   /**
-   * 메시지 전송 (MongoDB 저장 + Redis Pub/Sub 발행)
+   * 메시지 전송 (Redis Pub/Sub 발행 후 MongoDB 배치 저장 버퍼에 적재)
    */
   public void sendMessage(CrewChatMessageDto messageDto) {
-    // 현재 시간 설정
+    // id / 시간은 서버에서 먼저 채번 (저장 전에 발행하므로)
     LocalDateTime now = LocalDateTime.now();
-    
-    // MongoDB에 저장
-    CrewChatMessage chatMessage = CrewChatMessage.builder()
+    messageDto.setId(new ObjectId().toHexString());
+    messageDto.setCreatedAt(now);
+
+    // Redis Pub/Sub 으로 먼저 발행
+    String channel = "crew-chat:" + messageDto.getRoomId();
+    redisPublisher.publishObject(channel, messageDto);
+
+    // 채팅방 목록용 최근 메시지 / 안 읽은 수 갱신
+    chatRoomStateStore.recordMessage(ChatRoomStateStore.SCOPE_CREW, messageDto.getRoomId(),
+        messageDto.getSenderId(), messageDto.getSenderName(), messageDto.getContent(), now);
+
+    // MongoDB 저장은 버퍼에 넣어 배치로 처리
+    chatMessageWriteBuffer.enqueue(CrewChatMessage.builder()
+        .id(messageDto.getId())
         .roomId(messageDto.getRoomId())
         .senderId(messageDto.getSenderId())
         .senderName(messageDto.getSenderName())
         .content(messageDto.getContent())
         .messageType(messageDto.getMessageType())
         .createdAt(now)
-        .build();
+        .build());
 
-    chatMessageRepository.save(chatMessage);
-
-    // DTO에 시간 설정 후 Redis Pub/Sub으로 발행
-    messageDto.setCreatedAt(now);
-    String channel = "crew-chat:" + messageDto.getRoomId();
-    redisPublisher.publishObject(channel, messageDto);
-
-    log.info("크루 메시지 전송: roomId={}, sender={}, createdAt={}", 
+    log.debug("크루 메시지 전송: roomId={}, sender={}, createdAt={}",
         messageDto.getRoomId(), messageDto.getSenderName(), now);
   }
 
@@ -169,10 +187,11 @@ public class CrewChatService {
   }
 
   /**
-   * 과거 메시지 조회 (가입 시점 이후 메시지만 조회)
+   * 과거 메시지 조회 (가입 시점 이후 메시지만, 최신 → 과거 방향 커서 페이징)
    */
   @Transactional(readOnly = true)
-  public List<CrewChatMessage> getMessages(Long roomId, CustomUser principal) {
+  public CursorPage<ChatHistoryMessageResDto> getMessages(Long roomId, CustomUser principal,
+      String cursor, Integer size) {
     User user = getUserFromPrincipal(principal);
 
     // 사용자의 채팅방 가입 시점 조회
@@ -184,8 +203,16 @@ public class CrewChatService {
     log.info("크루 메시지 조회: roomId={}, userId={}, joinedAt={}",
         roomId, user.getId(), joinedAt);
 
+    int pageSize = (size == null || size <= 0)
+        ? DEFAULT_HISTORY_SIZE : Math.min(size, MAX_HISTORY_SIZE);
+
     // 가입 시점 이후 메시지만 조회
-    return chatMessageRepository.findByRoomIdAndCreatedAtAfterOrderByCreatedAtAsc(roomId, joinedAt);
+    List<CrewChatMessage> rows = chatMessageRepository.findHistory(
+        roomId, joinedAt, cursorCodec.decodeOrNull(cursor), pageSize + 1);
+
+    return cursorCodec.toHistoryPage(rows, pageSize,
+        CrewChatMessage::getCreatedAt, CrewChatMessage::getId,
+        ChatHistoryMessageResDto::from);
   }
 
   /**
@@ -242,22 +269,26 @@ public class CrewChatService {
   }
 
   /**
-   * 유저가 참여 중인 크루 채팅방 목록 조회
+   * 유저가 참여 중인 크루 채팅방 목록 조회 (Postgres 1회 + Redis 파이프라인 1회)
    */
   @Transactional(readOnly = true)
   public List<CrewChatRoomListResDto> getMyChatRoomList(CustomUser principal) {
     User user = getUserFromPrincipal(principal);
-    log.info("=== 크루 채팅방 목록 조회 시작: userId={} ===", user.getId());
 
-    // 1. 유저가 참여 중인 크루 채팅방 목록 조회
-    List<CrewChatUser> myCrewChatUsers = chatUserRepository.findMyCrewChatRooms(user.getId());
-    log.info("참여 중인 크루 채팅방 수: {}", myCrewChatUsers.size());
+    // 1. 유저가 참여 중인 크루 채팅방 목록 (참여자 수 포함)
+    List<CrewChatRoomSummaryDto> rooms = chatUserRepository.findMyCrewChatRoomSummaries(
+        user.getId());
+
+    // 2. 최근 메시지 / 안 읽은 수는 Redis에서 한 번에 조회
+    List<Long> roomIds = rooms.stream().map(CrewChatRoomSummaryDto::getRoomId).toList();
+    Map<Long, ChatRoomState> states = chatRoomStateStore.getRoomStates(
+        ChatRoomStateStore.SCOPE_CREW, roomIds, user.getId());
 
-    // 2. 각 채팅방을 DTO로 변환
-    List<CrewChatRoomListResDto> result = myCrewChatUsers.stream()
-        .map(this::convertToCrewChatRoomDto)
+    // 3. 각 채팅방을 DTO로 변환 (최근 메시지 시간 내림차순)
+    List<CrewChatRoomListResDto> result = rooms.stream()
+        .map(room -> convertToCrewChatRoomDto(room,
+            states.computeIfAbsent(room.getRoomId(), this::loadRoomState)))
         .sorted((a, b) -> {
-          // lastMessageTime 기준 내림차순 정렬 (최신 메시지가 맨 위)
           LocalDateTime timeA = a.getLastMessageTime();
           LocalDateTime timeB = b.getLastMessageTime();
 
@@ -275,52 +306,65 @@ public class CrewChatService {
         })
         .toList();
 
-    log.info("=== 크루 채팅방 목록 조회 완료: {} 개 ===", result.size());
+    log.debug("크루 채팅방 목록 조회 완료: userId={}, rooms={}", user.getId(), result.size());
     return result;
   }
 
   /**
-   * CrewChatUser를 CrewChatRoomListResDto로 변환
+   * Redis에 상태가 없는 방(배포 이전 방 등)은 MongoDB 최근 메시지로 1회 초기화
    */
-  private CrewChatRoomListResDto convertToCrewChatRoomDto(CrewChatUser chatUser) {
-    CrewChatRoom room = chatUser.getRoom();
-    Crew crew = room.getCrew();
+  private ChatRoomState loadRoomState(Long roomId) {
+    CrewChatMessage lastMessage = chatMessageRepository.findTopByRoomIdOrderByCreatedAtDesc(roomId);
+
+    chatRoomStateStore.seedIfAbsent(ChatRoomStateStore.SCOPE_CREW, roomId,
+        lastMessage != null ? lastMessage.getSenderName() : null,
+        lastMessage != null ? lastMessage.getContent() : null,
+        lastMessage != null ? lastMessage.getCreatedAt() : null);
+
+    return new ChatRoomState(
+        lastMessage != null ? lastMessage.getContent() : null,
+        lastMessage != null ? lastMessage.getSenderName() : null,
+        lastMessage != null ? lastMessage.getCreatedAt() : null,
+        0
+    );
+  }
 
+  /**
+   * 채팅방 요약 + 채팅방 상태를 CrewChatRoomListResDto로 변환
+   */
+  private CrewChatRoomListResDto convertToCrewChatRoomDto(CrewChatRoomSummaryDto room,
+      ChatRoomState state) {
     // ✅ S3 키 → HTTPS URL 변환
-    String httpsImageUrl = (crew.getCrewImageUrl() != null && !crew.getCrewImageUrl().isEmpty())
-        ? s3FileStorage.toHttpsUrl(crew.getCrewImageUrl())
+    String httpsImageUrl = (room.getCrewImageUrl() != null && !room.getCrewImageUrl().isEmpty())
+        ? s3FileStorage.toHttpsUrl(room.getCrewImageUrl())
         : "";
 
-    log.info("✅ 크루 채팅방 DTO 변환: crewId={}, crewName={}, S3키={}, HTTPS URL={}",
-        crew.getId(), crew.getCrewName(), crew.getCrewImageUrl(), httpsImageUrl);
-
-    // 참가자 수 조회
-    Long currentMembers = chatUserRepository.countActiveUsersByRoomId(room.getId());
-
-    // 최근 메시지 조회
-    CrewChatMessage lastMessage = chatMessageRepository.findTopByRoomIdOrderByCreatedAtDesc(
-        room.getId());
-
-    // 읽지 않은 메시지 개수 계산 (TODO: lastReadAt 필드 추가 후 구현)
-    int unreadCount = 0;
-
-    CrewChatRoomListResDto dto = CrewChatRoomListResDto.builder()
-        .roomId(room.getId())
-        .roomName(room.getCrewRoomName())
-        .crewId(crew.getId())
-        .crewName(crew.getCrewName())
-        .crewDescription(crew.getCrewDescription())
+    return CrewChatRoomListResDto.builder()
+        .roomId(room.getRoomId())
+        .roomName(room.getRoomName())
+        .crewId(room.getCrewId())
+        .crewName(room.getCrewName())
+        .crewDescription(room.getCrewDescription())
         .crewImageUrl(httpsImageUrl)  // ✅ HTTPS URL 사용
-        .currentMembers(currentMembers.intValue())
-        .lastMessageContent(lastMessage != null ? lastMessage.getContent() : null)
-        .lastMessageSender(lastMessage != null ? lastMessage.getSenderName() : null)
-        .lastMessageTime(lastMessage != null ? lastMessage.getCreatedAt() : null)
-        .unreadCount(unreadCount)
+        .currentMembers(room.getCurrentMembers().intValue())
+        .lastMessageContent(state.lastMessageContent())
+        .lastMessageSender(state.lastMessageSender())
+        .lastMessageTime(state.lastMessageTime())
+        .unreadCount(state.unreadCount())
         .build();
+  }
 
-    log.info("✅ DTO 변환 완료: roomId={}, crewImageUrl={}", dto.getRoomId(), dto.getCrewImageUrl());
+  /**
+   * 채팅방 접속 시 읽음 처리 (안 읽은 수 초기화)
+   */
+  @Transactional(readOnly = true)
+  public void updateLastReadAt(Long roomId, CustomUser principal) {
+    User user = getUserFromPrincipal(principal);
 
-    return dto;
+    chatUserRepository.findByRoomIdAndUserId(roomId, user.getId())
+        .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_CREW_USER));
+
+    chatRoomStateStore.markRead(ChatRoomStateStore.SCOPE_CREW, roomId, user.getId());
   }
 
   // ============================================
@@ -345,6 +389,7 @@ public class CrewChatService {
         .user(leader)
         .build();
     chatUserRepository.save(chatUser);
+    chatRoomStateStore.markRead(ChatRoomStateStore.SCOPE_CREW, chatRoom.getId(), leader.getId());
 
     log.info("크루 채팅방 생성 완료: crewId={}, roomId={}, leaderId={}",
         crew.getId(), chatRoom.getId(), leader.getId());
@@ -376,6 +421,8 @@ public class CrewChatService {
                   .user(user)
                   .build();
               chatUserRepository.save(chatUser);
+              chatRoomStateStore.markRead(ChatRoomStateStore.SCOPE_CREW, chatRoom.getId(),
+                  user.getId());
 
               log.info("채팅방 참여자 추가 완료: roomId={}, userId={}",
                   chatRoom.getId(), user.getId());
@@ -423,6 +470,7 @@ public class CrewChatService {
 
       // 1. MongoDB 채팅 메시지 삭제
       chatMessageRepository.deleteByRoomId(roomId);
+      chatRoomStateStore.clear(ChatRoomStateStore.SCOPE_CREW, roomId);
       log.info("채팅 메시지 삭제 완료: roomId={}", roomId);
 
             // 2. 모든 참여자 제거
@@ -613,14 +661,18 @@ public class CrewChatService {
     log.info("📤 공지사항 실시간 알림 발송: channel={}, action={}", channel, action);
 
     // MongoDB에도 저장 (⭐ CrewChatMessage로 저장)
+    LocalDateTime now = LocalDateTime.now();
     CrewChatMessage noticeMsg = CrewChatMessage.builder()
+        .id(new ObjectId().toHexString())
         .roomId(roomId)
         .senderName("SYSTEM")
         .content(message)
         .messageType("NOTICE")
-        .createdAt(LocalDateTime.now())
+        .createdAt(now)
         .build();
-    chatMessageRepository.save(noticeMsg);
+    chatMessageWriteBuffer.enqueue(noticeMsg);
+    chatRoomStateStore.recordMessage(ChatRoomStateStore.SCOPE_CREW, roomId, null, "SYSTEM",
+        message, now);
   }
 
 }
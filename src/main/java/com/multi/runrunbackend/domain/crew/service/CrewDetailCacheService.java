@@ -0,0 +1,60 @@
+package com.multi.runrunbackend.domain.crew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multi.runrunbackend.domain.crew.dto.res.CrewDetailResDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * @author : BoKyung
+ * @description : 크루 상세 요약(크루 정보 + 크루원 수 + 최근 활동 5개) 캐시. 변경 시 CrewChangedEvent 로 커밋 후 무효화된다.
+ * @filename : CrewDetailCacheService
+ * @since : 2026. 1. 24. Saturday
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewDetailCacheService {
+
+    private static final String DETAIL_KEY_PREFIX = "crew_detail:";
+    private static final Duration DETAIL_TTL = Duration.ofMinutes(5);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 캐시에 없거나 Redis 오류면 null (호출 측에서 DB 조회)
+     */
+    public CrewDetailResDto get(Long crewId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + crewId);
+            if (cached != null) {
+                return objectMapper.readValue(cached, CrewDetailResDto.class);
+            }
+        } catch (Exception e) {
+            log.warn("크루 상세 캐시 조회 실패 - DB 조회로 대체. crewId={}", crewId, e);
+        }
+        return null;
+    }
+
+    public void put(Long crewId, CrewDetailResDto detail) {
+        try {
+            redisTemplate.opsForValue()
+                    .set(DETAIL_KEY_PREFIX + crewId, objectMapper.writeValueAsString(detail), DETAIL_TTL);
+        } catch (Exception e) {
+            log.warn("크루 상세 캐시 저장 실패. crewId={}", crewId, e);
+        }
+    }
+
+    public void evict(Long crewId) {
+        try {
+            redisTemplate.delete(DETAIL_KEY_PREFIX + crewId);
+        } catch (Exception e) {
+            log.warn("크루 상세 캐시 무효화 실패. crewId={}", crewId, e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.crew.service;
 
+import com.multi.runrunbackend.common.event.CrewChangedEvent;
 import com.multi.runrunbackend.common.exception.custom.BusinessException;
 import com.multi.runrunbackend.common.exception.custom.ForbiddenException;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
@@ -29,11 +30,14 @@ import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -58,6 +62,7 @@ public class CrewJoinService {
     private final FileStorage fileStorage;
     private final MembershipRepository membershipRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int CREW_JOIN_POINT = 100;
 
@@ -242,6 +247,8 @@ public class CrewJoinService {
         // 크루원으로 추가
         CrewUser crewUser = CrewUser.create(crew, joinRequest.getUser(), CrewRole.MEMBER);
         crewUserRepository.save(crewUser);
+        crewRepository.increaseMemberCount(crewId);
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
 
         // 채팅방 참여자 추가
         crewChatService.addUserToChatRoom(crewId, joinRequest.getUser());
@@ -398,6 +405,8 @@ public class CrewJoinService {
 
         // CrewUser soft delete 처리
         crewUser.delete();
+        crewRepository.decreaseMemberCount(crewId);
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
 
         // 승인된 가입 신청도 함께 처리 (APPROVED 상태의 가입 신청을 찾아서 soft delete)
         crewJoinRequestRepository.findByCrewAndUserAndJoinStatus(crew, user, JoinStatus.APPROVED)
@@ -429,6 +438,17 @@ public class CrewJoinService {
         List<Object[]> results = crewUserRepository
                 .findAllWithParticipationCountAndLastActivity(crewId);
 
+        // 멤버십 보유 여부는 크루원 전체를 한 번에 조회
+        List<Long> memberUserIds = results.stream()
+                .map(result -> ((CrewUser) result[0]).getUser().getId())
+                .toList();
+        Set<Long> membershipUserIds = memberUserIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(membershipRepository.findUserIdsByUserIdInAndMembershipStatusIn(
+                        memberUserIds,
+                        List.of(MembershipStatus.ACTIVE, MembershipStatus.CANCELED)
+                ));
+
         // DTO 변환 + S3 URL 변환 + 멤버십 정보 추가
         return results.stream()
                 .map(result -> {
@@ -437,11 +457,7 @@ public class CrewJoinService {
                     LocalDateTime lastActivityDate = (LocalDateTime) result[2];
 
                     // 멤버십 확인
-                    boolean hasMembership = membershipRepository
-                            .existsByUser_IdAndMembershipStatusIn(
-                                    crewUser.getUser().getId(),
-                                    List.of(MembershipStatus.ACTIVE, MembershipStatus.CANCELED)
-                            );
+                    boolean hasMembership = membershipUserIds.contains(crewUser.getUser().getId());
 
                     // S3 URL 변환
                     String profileImageUrl = crewUser.getUser().getProfileImageUrl();
@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.crew.service;
 
+import com.multi.runrunbackend.common.event.CrewChangedEvent;
 import com.multi.runrunbackend.common.exception.custom.BusinessException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.common.file.FileDomainType;
@@ -19,6 +20,7 @@ import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -51,6 +53,8 @@ public class CrewService {
     private final CrewChatService crewChatService;
     private final NotificationService notificationService;
     private final CrewActivityUserRepository crewActivityUserRepository;
+    private final CrewDetailCacheService crewDetailCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * @param reqDto 크루 생성 요청 DTO
@@ -85,6 +89,7 @@ public class CrewService {
         // 크루장 자동 등록
         CrewUser crewLeader = CrewUser.create(crew, user, CrewRole.LEADER);
         crewUserRepository.save(crewLeader);
+        crewRepository.increaseMemberCount(crew.getId());
 
         // 크루장 등록 검증 - 실제로 저장되었는지 확인
         boolean isLeaderSaved = crewUserRepository
@@ -138,6 +143,8 @@ public class CrewService {
                 reqDto.getAveragePace(),
                 reqDto.getActivityTime()
         );
+
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
     }
 
     /**
@@ -186,6 +193,9 @@ public class CrewService {
                     crewId, e);
         }
 
+        // 크루원 수 초기화 (soft delete 전에 해야 @SQLRestriction 에 걸리지 않음)
+        crewRepository.resetMemberCount(crewId);
+
         // 크루 해체 (soft delete)
         crew.softDelete();
 
@@ -193,6 +203,8 @@ public class CrewService {
         List<CrewUser> crewUsers = crewUserRepository.findAllByCrewIdAndIsDeletedFalse(crewId);
         crewUsers.forEach(CrewUser::delete);
 
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
+
         // 채팅방 삭제
         crewChatService.deleteChatRoom(crewId);
     }
@@ -227,15 +239,15 @@ public class CrewService {
             crews = crewRepository.findAllByIdLessThanOrderByIdDesc(cursor, CrewStatus.ACTIVE, pageable);
         }
 
+        // 크루원 수는 crew.member_count 를 그대로 사용 (크루마다 COUNT 쿼리 X)
         List<CrewListResDto> crewListResDtos = crews.stream()
                 .map(crew -> {
-                    Long memberCount = crewUserRepository.countByCrewIdAndIsDeletedFalse(crew.getId());
                     // 이미지 url이 있을 때만 S3 key를 HTTPS로 변환
                     String httpsImageUrl =
                             (crew.getCrewImageUrl() != null && !crew.getCrewImageUrl().isEmpty())
                                     ? s3FileStorage.toHttpsUrl(crew.getCrewImageUrl())
                                     : "";
-                    return CrewListResDto.fromEntity(crew, memberCount, httpsImageUrl);
+                    return CrewListResDto.fromEntity(crew, httpsImageUrl);
                 })
                 .collect(Collectors.toList());
 
@@ -244,15 +256,17 @@ public class CrewService {
 
     /**
      * @param crewId 크루 ID
-     * @description : 크루 상세 조회
+     * @description : 크루 상세 조회 (캐시 우선, 변경 시 CrewChangedEvent 로 무효화)
      */
     public CrewDetailResDto getCrewDetail(Long crewId) {
+        CrewDetailResDto cached = crewDetailCacheService.get(crewId);
+        if (cached != null) {
+            return cached;
+        }
+
         // 크루 조회
         Crew crew = findCrewById(crewId);
 
-        // 크루원 수 조회
-        Long memberCount = crewUserRepository.countByCrewIdAndIsDeletedFalse(crewId);
-
         // 최근 활동 내역 조회 (최대 5개)
         Pageable pageable = PageRequest.of(0, 5);
         List<CrewActivity> recentActivities = crewActivityRepository
@@ -267,7 +281,9 @@ public class CrewService {
                 ? s3FileStorage.toHttpsUrl(crew.getCrewImageUrl())
                 : "";
 
-        return CrewDetailResDto.fromEntity(crew, memberCount, activityResDtos, httpsImageUrl);
+        CrewDetailResDto detail = CrewDetailResDto.fromEntity(crew, activityResDtos, httpsImageUrl);
+        crewDetailCacheService.put(crewId, detail);
+        return detail;
     }
 
     /**
@@ -289,6 +305,8 @@ public class CrewService {
 
         // 모집 상태 변경 (해체 여부 검증 포함)
         crew.updateRecruitStatus(reqDto.getRecruitStatus());
+
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
     }
 
 /**
@@ -481,9 +499,14 @@ public class CrewService {
             member.delete();
         }
 
+        // 크루원 수 초기화 (soft delete 전에 해야 @SQLRestriction 에 걸리지 않음)
+        crewRepository.resetMemberCount(crewId);
+
         // 크루 soft delete
         crew.softDelete();
 
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
+
         log.info("크루 해체 완료 - crewId: {}, 멤버 수: {}",
                 crewId, allMembers.size());
     }
@@ -507,6 +530,7 @@ public class CrewService {
         // 크루 모집 자동 중단
         if (crew.getCrewRecruitStatus() == CrewRecruitStatus.RECRUITING) {
             crew.updateRecruitStatus(CrewRecruitStatus.CLOSED);
+            eventPublisher.publishEvent(new CrewChangedEvent(crewId));
         }
 
         log.info("크루장 멤버십 만료 - 3일 유예 시작. crewId: {}, leaderId: {}, 기한: {}",
@@ -579,6 +603,8 @@ public class CrewService {
 
         crew.changeLeader(newLeader.getUser());
 
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
+
         log.info("크루장 권한 위임 완료 - crewId: {}, 이전: {}, 새: {}",
                 crewId, currentLeaderId, newLeaderId);
     }
@@ -627,6 +653,8 @@ public class CrewService {
             }
         }
 
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
+
         log.info("크루 활동 생성 완료 - crewId: {}, activityId: {}, region: {}, distance: {}km, participants: {}명",
                 crewId, savedActivity.getId(), reqDto.getRegion(), reqDto.getDistance(), participationCnt);
 
@@ -680,6 +708,8 @@ public class CrewService {
             }
         }
 
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
+
         log.info("크루 활동 수정 완료 - activityId: {}, region: {}, distance: {}km, participants: {}명",
                 activityId, reqDto.getRegion(), reqDto.getDistance(), participationCnt);
     }
@@ -713,6 +743,8 @@ public class CrewService {
         // Soft Delete
         activity.delete();
 
+        eventPublisher.publishEvent(new CrewChangedEvent(crewId));
+
         log.info("크루 활동 삭제 완료 - activityId: {}", activityId);
     }
 
@@ -2,8 +2,10 @@ package com.multi.runrunbackend.domain.feed.controller;
 
 import com.multi.runrunbackend.common.response.ApiResponse;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
 import com.multi.runrunbackend.domain.feed.dto.req.FeedPostCreateReqDto;
 import com.multi.runrunbackend.domain.feed.dto.req.FeedPostUpdateReqDto;
+import com.multi.runrunbackend.domain.feed.dto.req.FeedTimelineReqDto;
 import com.multi.runrunbackend.domain.feed.dto.res.FeedPostResDto;
 import com.multi.runrunbackend.domain.feed.service.FeedPostService;
 import jakarta.validation.Valid;
@@ -114,6 +116,22 @@ public class FeedPostController {
         );
     }
 
+    /**
+     * 피드 타임라인 조회 (커서 기반 무한 스크롤)
+     */
+    @GetMapping("/timeline")
+    public ResponseEntity<ApiResponse<CursorPage<FeedPostResDto>>> getFeedTimeline(
+            @AuthenticationPrincipal CustomUser principal,
+            @ModelAttribute FeedTimelineReqDto req
+    ) {
+        CursorPage<FeedPostResDto> feeds =
+                feedPostService.getFeedTimeline(req, principal);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("피드 타임라인 조회 성공", feeds)
+        );
+    }
+
     /**
      * 내가 작성한 피드 조회 (마이페이지)
      */
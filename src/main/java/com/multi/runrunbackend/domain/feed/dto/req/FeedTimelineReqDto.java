@@ -0,0 +1,17 @@
+package com.multi.runrunbackend.domain.feed.dto.req;
+
+import lombok.Data;
+
+/**
+ *
+ * @author : kimyongwon
+ * @description : 피드 타임라인(커서 기반) 조회 요청 DTO
+ * @filename : FeedTimelineReqDto
+ * @since : 2026. 10. 19. Monday
+ */
+@Data
+public class FeedTimelineReqDto {
+
+    private Integer size;
+    private String cursor;
+}
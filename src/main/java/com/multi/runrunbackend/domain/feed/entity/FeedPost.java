@@ -47,6 +47,14 @@ public class FeedPost extends BaseEntity {
     @Column(name = "image_url", columnDefinition = "TEXT")
     private String imageUrl;
 
+    // 목록 조회 시 서브쿼리 집계를 피하기 위한 비정규화 카운터 - 증감은 FeedPostRepository 원자적 UPDATE 로만 한다
+    // (엔티티 저장이 메모리의 옛 값으로 덮어쓰지 않도록 insert/update 에서 제외, 컬럼 정의는 db/feed-post-counters.sql)
+    @Column(name = "like_count", insertable = false, updatable = false)
+    private Long likeCount = 0L;
+
+    @Column(name = "comment_count", insertable = false, updatable = false)
+    private Long commentCount = 0L;
+
 
     public static FeedPost create(User user, RunningResult runningResult, String content, String imageUrl) {
         FeedPost post = new FeedPost();
@@ -6,6 +6,7 @@ import com.multi.runrunbackend.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,7 +20,8 @@ import java.util.Set;
  * @filename : FeedPostRepository
  * @since : 26. 1. 3. 오후 9:53 토요일
  */
-public interface FeedPostRepository extends JpaRepository<FeedPost, Long> {
+public interface FeedPostRepository extends JpaRepository<FeedPost, Long>,
+        FeedPostRepositoryCustom {
 
 
     Page<FeedPost> findByUserIdAndIsDeletedFalse(
@@ -62,4 +64,36 @@ public interface FeedPostRepository extends JpaRepository<FeedPost, Long> {
             @Param("user") User user,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("""
+                UPDATE FeedPost fp
+                SET fp.likeCount = fp.likeCount + 1
+                WHERE fp.id = :feedPostId
+            """)
+    int increaseLikeCount(@Param("feedPostId") Long feedPostId);
+
+    @Modifying
+    @Query("""
+                UPDATE FeedPost fp
+                SET fp.likeCount = fp.likeCount - 1
+                WHERE fp.id = :feedPostId AND fp.likeCount > 0
+            """)
+    int decreaseLikeCount(@Param("feedPostId") Long feedPostId);
+
+    @Modifying
+    @Query("""
+                UPDATE FeedPost fp
+                SET fp.commentCount = fp.commentCount + 1
+                WHERE fp.id = :feedPostId
+            """)
+    int increaseCommentCount(@Param("feedPostId") Long feedPostId);
+
+    @Modifying
+    @Query("""
+                UPDATE FeedPost fp
+                SET fp.commentCount = fp.commentCount - 1
+                WHERE fp.id = :feedPostId AND fp.commentCount > 0
+            """)
+    int decreaseCommentCount(@Param("feedPostId") Long feedPostId);
+}
@@ -0,0 +1,23 @@
+package com.multi.runrunbackend.domain.feed.repository;
+
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
+import com.multi.runrunbackend.domain.feed.dto.req.FeedTimelineReqDto;
+import com.multi.runrunbackend.domain.feed.dto.res.FeedPostResDto;
+
+import java.util.Set;
+
+/**
+ *
+ * @author : kimyongwon
+ * @description : 피드 타임라인(커서 기반) 조회 Repository
+ * @filename : FeedPostRepositoryCustom
+ * @since : 2026. 10. 19. Monday
+ */
+public interface FeedPostRepositoryCustom {
+
+    CursorPage<FeedPostResDto> searchTimeline(
+            Long userId,
+            Set<Long> excludedUserIds,
+            FeedTimelineReqDto req
+    );
+}
@@ -0,0 +1,216 @@
+package com.multi.runrunbackend.domain.feed.repository;
+
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
+import com.multi.runrunbackend.domain.feed.dto.req.FeedTimelineReqDto;
+import com.multi.runrunbackend.domain.feed.dto.res.FeedPostResDto;
+import com.multi.runrunbackend.domain.feed.util.FeedCursorCodec;
+import com.multi.runrunbackend.domain.feed.util.FeedCursorCodec.CursorPayload;
+import com.multi.runrunbackend.domain.match.constant.RunningType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * @author : kimyongwon
+ * @description : 피드 타임라인 Repository 구현체 - (created_at, id) 키셋 페이징, 전체 COUNT 없음
+ * @filename : FeedPostRepositoryImpl
+ * @since : 2026. 10. 19. Monday
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedPostRepositoryImpl implements FeedPostRepositoryCustom {
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final FeedCursorCodec cursorCodec;
+
+    @Override
+    public CursorPage<FeedPostResDto> searchTimeline(
+            Long userId,
+            Set<Long> excludedUserIds,
+            FeedTimelineReqDto req
+    ) {
+        int size = (req.getSize() == null || req.getSize() <= 0) ? 5 : Math.min(req.getSize(), 50);
+
+        CursorPayload cursor = cursorCodec.decodeOrNull(req.getCursor());
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("limit", size + 1);
+
+        StringBuilder sql = new StringBuilder();
+        sql.append("""
+                SELECT
+                    fp.id                AS feed_id,
+                    fp.content           AS content,
+                    fp.image_url         AS image_url,
+                    fp.created_at        AS created_at,
+                    fp.like_count        AS like_count,
+                    fp.comment_count     AS comment_count,
+                    u.id                 AS user_id,
+                    u.login_id           AS login_id,
+                    u.profile_image_url  AS profile_image_url,
+                    rr.id                AS running_result_id,
+                    rr.total_distance    AS total_distance,
+                    rr.total_time        AS total_time,
+                    rr.avg_pace          AS avg_pace,
+                    rr.started_at        AS started_at,
+                    rr.running_type      AS running_type,
+                    c.address            AS course_address
+                FROM feed_post fp
+                JOIN users u ON u.id = fp.user_id
+                JOIN running_result rr ON rr.id = fp.running_result_id
+                LEFT JOIN course c ON c.id = rr.course_id
+                WHERE fp.is_deleted = false
+                """);
+
+        if (excludedUserIds != null && !excludedUserIds.isEmpty()) {
+            sql.append(" AND fp.user_id NOT IN (:excludedUserIds) ");
+            params.put("excludedUserIds", excludedUserIds);
+        }
+
+        if (cursor != null && cursor.getCreatedAt() != null && cursor.getFeedId() != null) {
+            sql.append("""
+                     AND (fp.created_at < :cursorCreatedAt
+                          OR (fp.created_at = :cursorCreatedAt AND fp.id < :cursorFeedId))
+                    """);
+            params.put("cursorCreatedAt", Timestamp.valueOf(cursor.getCreatedAt()));
+            params.put("cursorFeedId", cursor.getFeedId());
+        }
+
+        sql.append(" ORDER BY fp.created_at DESC, fp.id DESC ");
+        sql.append(" LIMIT :limit ");
+
+        List<Row> rows = jdbc.query(sql.toString(), params, (rs, rowNum) -> mapRow(rs));
+
+        boolean hasNext = rows.size() > size;
+        List<Row> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        // 현재 페이지의 피드 id에 대해서만 "내가 좋아요 했는지" 한 번에 조회
+        Set<Long> likedFeedIds = findLikedFeedIds(
+                userId,
+                pageRows.stream().map(r -> r.feedId).toList()
+        );
+
+        List<FeedPostResDto> items = pageRows.stream()
+                .map(r -> r.toDto(likedFeedIds.contains(r.feedId)))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext && !pageRows.isEmpty()) {
+            Row last = pageRows.get(pageRows.size() - 1);
+
+            CursorPayload next = new CursorPayload();
+            next.setCreatedAt(last.createdAt);
+            next.setFeedId(last.feedId);
+            nextCursor = cursorCodec.encode(next);
+        }
+
+        return CursorPage.<FeedPostResDto>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private Set<Long> findLikedFeedIds(Long userId, List<Long> feedIds) {
+        if (userId == null || feedIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", userId);
+        params.put("feedIds", feedIds);
+
+        List<Long> liked = jdbc.queryForList("""
+                SELECT fl.feed_post_id
+                FROM feed_like fl
+                WHERE fl.user_id = :userId
+                  AND fl.is_deleted = false
+                  AND fl.feed_post_id IN (:feedIds)
+                """, params, Long.class);
+
+        return new HashSet<>(liked);
+    }
+
+    private Row mapRow(ResultSet rs) throws SQLException {
+        String type = rs.getString("running_type");
+
+        return new Row(
+                rs.getLong("feed_id"),
+                rs.getString("content"),
+                rs.getString("image_url"),
+                tsToLdt(rs.getTimestamp("created_at")),
+                rs.getLong("like_count"),
+                rs.getLong("comment_count"),
+                rs.getLong("user_id"),
+                rs.getString("login_id"),
+                rs.getString("profile_image_url"),
+                rs.getLong("running_result_id"),
+                rs.getBigDecimal("total_distance"),
+                (Integer) rs.getObject("total_time"),
+                rs.getBigDecimal("avg_pace"),
+                tsToLdt(rs.getTimestamp("started_at")),
+                type == null ? null : RunningType.valueOf(type),
+                rs.getString("course_address")
+        );
+    }
+
+    private static LocalDateTime tsToLdt(Timestamp ts) {
+        return ts == null ? null : ts.toLocalDateTime();
+    }
+
+    private record Row(
+            Long feedId,
+            String content,
+            String imageUrl,
+            LocalDateTime createdAt,
+            long likeCount,
+            long commentCount,
+            Long userId,
+            String loginId,
+            String profileImageUrl,
+            Long runningResultId,
+            BigDecimal totalDistance,
+            Integer totalTime,
+            BigDecimal avgPace,
+            LocalDateTime startedAt,
+            RunningType runningType,
+            String courseAddress
+    ) {
+
+        FeedPostResDto toDto(boolean isLiked) {
+            return FeedPostResDto.builder()
+                    .feedId(feedId)
+                    .content(content)
+                    .createdAt(createdAt)
+                    .startedAt(startedAt)
+                    .userId(userId)
+                    .userLoginId(loginId)
+                    .profileImageUrl(profileImageUrl)
+                    .runningResultId(runningResultId)
+                    .totalDistance(totalDistance)
+                    .totalTime(totalTime)
+                    .avgPace(avgPace)
+                    .runningType(runningType)
+                    .runningTypeDescription(runningType != null ? runningType.getDescription() : null)
+                    .courseTitle(courseAddress)
+                    .likeCount(likeCount)
+                    .isLiked(isLiked)
+                    .commentCount(commentCount)
+                    .imageUrl(imageUrl)
+                    .build();
+        }
+    }
+}
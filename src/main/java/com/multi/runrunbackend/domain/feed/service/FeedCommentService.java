@@ -62,6 +62,7 @@ public class FeedCommentService {
                 FeedComment.create(feedPost, user, req.getContent());
 
         feedCommentRepository.save(comment);
+        feedPostRepository.increaseCommentCount(feedPost.getId());
 
         // ✅ 댓글 작성 시 알림 발송 - 피드 게시자 + 댓글 단 사람들 (자신 제외)
         try {
@@ -169,6 +170,7 @@ public class FeedCommentService {
         }
 
         comment.delete();
+        feedPostRepository.decreaseCommentCount(feedId);
     }
 
     /**
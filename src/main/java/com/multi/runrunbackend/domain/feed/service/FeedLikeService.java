@@ -55,12 +55,14 @@ public class FeedLikeService {
             }
 
             like.restore();
+            feedPostRepository.increaseLikeCount(feedPost.getId());
             return;
         }
 
         // 최초 좋아요
         FeedLike newLike = FeedLike.create(feedPost, user);
         feedLikeRepository.save(newLike);
+        feedPostRepository.increaseLikeCount(feedPost.getId());
     }
 
     /**
@@ -78,6 +80,7 @@ public class FeedLikeService {
                 .orElseThrow(() -> new InvalidRequestException(ErrorCode.FEED_NOT_LIKED));
 
         feedLike.delete(); // isDeleted = true
+        feedPostRepository.decreaseLikeCount(feedPost.getId());
     }
 
 
@@ -5,9 +5,11 @@ import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.common.file.FileDomainType;
 import com.multi.runrunbackend.common.file.storage.FileStorage;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
 import com.multi.runrunbackend.domain.feed.dto.FeedPostWithCountsDto;
 import com.multi.runrunbackend.domain.feed.dto.req.FeedPostCreateReqDto;
 import com.multi.runrunbackend.domain.feed.dto.req.FeedPostUpdateReqDto;
+import com.multi.runrunbackend.domain.feed.dto.req.FeedTimelineReqDto;
 import com.multi.runrunbackend.domain.feed.dto.res.FeedPostResDto;
 import com.multi.runrunbackend.domain.feed.entity.FeedPost;
 import com.multi.runrunbackend.domain.feed.repository.FeedCommentRepository;
@@ -17,8 +19,8 @@ import com.multi.runrunbackend.domain.match.constant.RunStatus;
 import com.multi.runrunbackend.domain.match.entity.RunningResult;
 import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
 import com.multi.runrunbackend.domain.user.entity.User;
-import com.multi.runrunbackend.domain.user.repository.UserBlockRepository;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
+import com.multi.runrunbackend.domain.user.service.UserBlockCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,7 +29,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  *
@@ -46,7 +47,7 @@ public class FeedPostService {
     private final RunningResultRepository runningResultRepository;
     private final FeedPostRepository feedPostRepository;
     private final FeedLikeRepository feedLikeRepository;
-    private final UserBlockRepository userBlockRepository;
+    private final UserBlockCacheService userBlockCacheService;
     private final FeedCommentRepository feedCommentRepository;
     private final FileStorage fileStorage;
 
@@ -185,17 +186,7 @@ public class FeedPostService {
     ) {
         User me = getUserByPrincipal(principal);
 
-        Set<Long> excludedUserIds = userBlockRepository
-                .findAllByBlockerId(me.getId())
-                .stream()
-                .map(ub -> ub.getBlockedUser().getId())
-                .collect(Collectors.toSet());
-
-        userBlockRepository
-                .findAllByBlockedUserId(me.getId())
-                .stream()
-                .map(ub -> ub.getBlocker().getId())
-                .forEach(excludedUserIds::add);
+        Set<Long> excludedUserIds = userBlockCacheService.getExcludedUserIds(me.getId());
 
         Page<FeedPostWithCountsDto> feedPosts;
 
@@ -213,6 +204,21 @@ public class FeedPostService {
         ));
     }
 
+    /**
+     * 피드 타임라인 조회 (커서 기반, 전체 COUNT 없음)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<FeedPostResDto> getFeedTimeline(
+            FeedTimelineReqDto req,
+            CustomUser principal
+    ) {
+        User me = getUserByPrincipal(principal);
+
+        Set<Long> excludedUserIds = userBlockCacheService.getExcludedUserIds(me.getId());
+
+        return feedPostRepository.searchTimeline(me.getId(), excludedUserIds, req);
+    }
+
     /**
      * 내가 작성한 피드 조회
      */
@@ -0,0 +1,54 @@
+package com.multi.runrunbackend.domain.feed.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ *
+ * @author : kimyongwon
+ * @description : 피드 타임라인 커서(created_at, id) 인코딩/디코딩
+ * @filename : FeedCursorCodec
+ * @since : 2026. 10. 19. Monday
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedCursorCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @Data
+    public static class CursorPayload {
+
+        private LocalDateTime createdAt;
+        private Long feedId;
+    }
+
+    public CursorPayload decodeOrNull(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] raw = Base64.getUrlDecoder().decode(cursor);
+            String json = new String(raw, StandardCharsets.UTF_8);
+            return objectMapper.readValue(json, CursorPayload.class);
+        } catch (Exception e) {
+            return null; // 커서가 깨졌으면 첫 페이지처럼 처리
+        }
+    }
+
+    public String encode(CursorPayload payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalStateException("FeedCursor encode failed", e);
+        }
+    }
+}
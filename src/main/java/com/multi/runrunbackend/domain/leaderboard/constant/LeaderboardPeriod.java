@@ -0,0 +1,68 @@
+package com.multi.runrunbackend.domain.leaderboard.constant;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * @author : kyungsoo
+ * @description : 리더보드 집계 기간. 주간은 ISO 주(월요일 시작), 월간은 달력 월 기준
+ * @filename : LeaderboardPeriod
+ * @since : 2026. 1. 30. Friday
+ */
+public enum LeaderboardPeriod {
+    WEEKLY("W"),
+    MONTHLY("M");
+
+    /**
+     * 기간이 끝난 뒤에도 지난 기간 순위를 보여줄 수 있도록 Redis 에 남겨 두는 기간
+     */
+    private static final Duration RETENTION_AFTER_END = Duration.ofDays(35);
+
+    private final String code;
+
+    LeaderboardPeriod(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 예: WEEKLY → 2026-W05, MONTHLY → 2026-01
+     */
+    public String keyOf(LocalDate date) {
+        return switch (this) {
+            case WEEKLY -> String.format("%d-W%02d",
+                date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTHLY -> String.format("%d-%02d", date.getYear(), date.getMonthValue());
+        };
+    }
+
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate endExclusiveOf(LocalDate date) {
+        return switch (this) {
+            case WEEKLY -> startOf(date).plusWeeks(1);
+            case MONTHLY -> startOf(date).plusMonths(1);
+        };
+    }
+
+    /**
+     * date 가 속한 기간 보드의 남은 보관 시간
+     */
+    public Duration ttlOf(LocalDate date) {
+        Duration ttl = Duration.between(LocalDateTime.now(),
+            endExclusiveOf(date).atStartOfDay().plus(RETENTION_AFTER_END));
+        return ttl.isNegative() || ttl.isZero() ? Duration.ofDays(1) : ttl;
+    }
+}
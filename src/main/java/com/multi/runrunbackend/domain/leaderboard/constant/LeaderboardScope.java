@@ -0,0 +1,17 @@
+package com.multi.runrunbackend.domain.leaderboard.constant;
+
+/**
+ * @author : kyungsoo
+ * @description : 리더보드 범위. ref 는 GLOBAL 이면 all, CREW 면 크루 id, TIER 면 거리 구간(DistanceType 이름)
+ * <p>
+ * 거리 구간은 기록 1건의 거리로 정한다 (10km 이상 KM_10, 5km 이상 KM_5, 3km 이상 KM_3, 그 미만은 구간 보드에 반영하지 않음)
+ * @filename : LeaderboardScope
+ * @since : 2026. 1. 30. Friday
+ */
+public enum LeaderboardScope {
+    GLOBAL,
+    CREW,
+    TIER;
+
+    public static final String GLOBAL_REF = "all";
+}
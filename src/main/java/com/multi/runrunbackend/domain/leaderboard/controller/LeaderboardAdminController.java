@@ -0,0 +1,54 @@
+package com.multi.runrunbackend.domain.leaderboard.controller;
+
+import com.multi.runrunbackend.common.response.ApiResponse;
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardPeriod;
+import com.multi.runrunbackend.domain.leaderboard.service.LeaderboardSnapshotService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author : kyungsoo
+ * @description : 리더보드 관리 (running_result 기준 재구축 / 스냅샷 즉시 저장)
+ * @filename : LeaderboardAdminController
+ * @since : 2026. 1. 30. Friday
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/leaderboards")
+@PreAuthorize("hasRole('ADMIN')")
+public class LeaderboardAdminController {
+
+    private final LeaderboardSnapshotService leaderboardSnapshotService;
+
+    /**
+     * @return 반영한 러닝 기록 수
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuild(
+        @RequestParam LeaderboardPeriod period,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        return ResponseEntity.ok(
+            ApiResponse.success("리더보드 재구축 완료", leaderboardSnapshotService.rebuild(period, date))
+        );
+    }
+
+    /**
+     * @return 저장한 보드 수
+     */
+    @PostMapping("/snapshot")
+    public ResponseEntity<ApiResponse<Integer>> snapshot(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        return ResponseEntity.ok(
+            ApiResponse.success("리더보드 스냅샷 저장 완료", leaderboardSnapshotService.snapshot(date))
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.multi.runrunbackend.domain.leaderboard.controller;
+
+import com.multi.runrunbackend.common.response.ApiResponse;
+import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardPeriod;
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardScope;
+import com.multi.runrunbackend.domain.leaderboard.dto.res.LeaderboardResDto;
+import com.multi.runrunbackend.domain.leaderboard.service.LeaderboardService;
+import com.multi.runrunbackend.domain.leaderboard.service.LeaderboardSnapshotService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author : kyungsoo
+ * @description : 거리 리더보드 조회 (전체 / 크루 / 거리 구간, 주간 / 월간). date 를 생략하면 오늘이 속한 기간
+ * @filename : LeaderboardController
+ * @since : 2026. 1. 30. Friday
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/leaderboards")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+    private final LeaderboardSnapshotService leaderboardSnapshotService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<LeaderboardResDto>> getTop(
+        @RequestParam(defaultValue = "GLOBAL") LeaderboardScope scope,
+        @RequestParam(required = false) String ref,
+        @RequestParam(defaultValue = "WEEKLY") LeaderboardPeriod period,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(defaultValue = "0") int offset,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        LeaderboardResDto res = leaderboardService.getTop(scope, ref, period,
+            date == null ? LocalDate.now() : date, offset, limit);
+        return ResponseEntity.ok(ApiResponse.success("리더보드 조회 성공", res));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<LeaderboardResDto>> getAroundMe(
+        @AuthenticationPrincipal CustomUser principal,
+        @RequestParam(defaultValue = "GLOBAL") LeaderboardScope scope,
+        @RequestParam(required = false) String ref,
+        @RequestParam(defaultValue = "WEEKLY") LeaderboardPeriod period,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(defaultValue = "5") int window
+    ) {
+        LeaderboardResDto res = leaderboardService.getAroundMe(scope, ref, period,
+            date == null ? LocalDate.now() : date, principal.getUserId(), window);
+        return ResponseEntity.ok(ApiResponse.success("내 순위 조회 성공", res));
+    }
+
+    /**
+     * 지난 기간 순위 - periodKey 예) 2026-W05, 2026-01
+     */
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<LeaderboardResDto>> getHistory(
+        @RequestParam(defaultValue = "GLOBAL") LeaderboardScope scope,
+        @RequestParam(required = false) String ref,
+        @RequestParam(defaultValue = "WEEKLY") LeaderboardPeriod period,
+        @RequestParam String periodKey,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        LeaderboardResDto res = leaderboardSnapshotService.getHistory(scope, ref, period,
+            periodKey, limit);
+        return ResponseEntity.ok(ApiResponse.success("지난 리더보드 조회 성공", res));
+    }
+}
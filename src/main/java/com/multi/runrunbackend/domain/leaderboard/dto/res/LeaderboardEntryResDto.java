@@ -0,0 +1,25 @@
+package com.multi.runrunbackend.domain.leaderboard.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author : kyungsoo
+ * @description : 리더보드 한 줄 (순위는 1부터, 거리 km)
+ * @filename : LeaderboardEntryResDto
+ * @since : 2026. 1. 30. Friday
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryResDto {
+
+    private int rank;
+    private Long userId;
+    private String name;
+    private String profileImageUrl;
+    private double distance;
+}
@@ -0,0 +1,30 @@
+package com.multi.runrunbackend.domain.leaderboard.dto.res;
+
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardPeriod;
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardScope;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author : kyungsoo
+ * @description : 리더보드 조회 결과. myRank 는 내 주변 조회일 때만 채운다 (순위 밖이면 null)
+ * @filename : LeaderboardResDto
+ * @since : 2026. 1. 30. Friday
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardResDto {
+
+    private LeaderboardScope scope;
+    private String ref;
+    private LeaderboardPeriod period;
+    private String periodKey;
+    private long participants;
+    private Integer myRank;
+    private List<LeaderboardEntryResDto> entries;
+}
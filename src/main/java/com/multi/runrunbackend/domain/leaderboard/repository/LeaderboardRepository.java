@@ -0,0 +1,138 @@
+package com.multi.runrunbackend.domain.leaderboard.repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author : kyungsoo
+ * @description : 리더보드 재구축 원본 조회 / 스냅샷 저장 (스키마: resources/db/leaderboard-snapshot.sql)
+ * @filename : LeaderboardRepository
+ * @since : 2026. 1. 30. Friday
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaderboardRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * 재구축용 원본 기록 1건 (크루는 현재 소속 기준)
+     */
+    public record RunRow(long runningResultId, long userId, BigDecimal distance, Long crewId) {
+
+    }
+
+    public record SnapshotRow(
+        String boardKey,
+        String scope,
+        String scopeRef,
+        String period,
+        String periodKey,
+        long userId,
+        int rank,
+        double distance,
+        int participants
+    ) {
+
+    }
+
+    public record HistoryRow(int rank, long userId, BigDecimal distance, int participants) {
+
+    }
+
+    /**
+     * 기간 내 리더보드 반영 대상 기록 (완주/타임아웃, 삭제 제외) - 후처리 단계(PostRunStage.stagesFor)와 같은 기준
+     */
+    public List<RunRow> findRunsBetween(LocalDate from, LocalDate toExclusive) {
+        return jdbc.query("""
+            SELECT rr.id, rr.user_id, rr.total_distance, cu.crew_id
+            FROM running_result rr
+            LEFT JOIN crew_user cu ON cu.user_id = rr.user_id AND cu.is_deleted = false
+            WHERE rr.run_status IN ('COMPLETED', 'TIME_OUT')
+              AND rr.is_deleted = false
+              AND rr.started_at >= :from
+              AND rr.started_at < :to
+            """, new MapSqlParameterSource("from", Timestamp.valueOf(from.atStartOfDay()))
+            .addValue("to", Timestamp.valueOf(toExclusive.atStartOfDay())),
+            (rs, i) -> new RunRow(
+                rs.getLong(1),
+                rs.getLong(2),
+                rs.getBigDecimal(3),
+                rs.getObject(4) == null ? null : rs.getLong(4)));
+    }
+
+    public void saveSnapshot(LocalDate snapshotDate, List<SnapshotRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = rows.stream()
+            .map(row -> new MapSqlParameterSource("boardKey", row.boardKey())
+                .addValue("snapshotDate", snapshotDate)
+                .addValue("scope", row.scope())
+                .addValue("scopeRef", row.scopeRef())
+                .addValue("period", row.period())
+                .addValue("periodKey", row.periodKey())
+                .addValue("userId", row.userId())
+                .addValue("rank", row.rank())
+                .addValue("distance", row.distance())
+                .addValue("participants", row.participants()))
+            .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate("""
+            INSERT INTO leaderboard_snapshot (board_key, snapshot_date, scope, scope_ref, period,
+                                              period_key, user_id, rank, distance, participants)
+            VALUES (:boardKey, :snapshotDate, :scope, :scopeRef, :period,
+                    :periodKey, :userId, :rank, :distance, :participants)
+            ON CONFLICT (board_key, snapshot_date, user_id) DO UPDATE
+            SET rank = EXCLUDED.rank,
+                distance = EXCLUDED.distance,
+                participants = EXCLUDED.participants,
+                created_at = now()
+            """, batch);
+    }
+
+    /**
+     * 보드의 같은 날 스냅샷 중 이번에 순위 밖으로 밀린 행 정리
+     */
+    public void deleteSnapshotOutside(String boardKey, LocalDate snapshotDate, int maxRank) {
+        jdbc.update("""
+            DELETE FROM leaderboard_snapshot
+            WHERE board_key = :boardKey AND snapshot_date = :snapshotDate AND rank > :maxRank
+            """, new MapSqlParameterSource("boardKey", boardKey)
+            .addValue("snapshotDate", snapshotDate)
+            .addValue("maxRank", maxRank));
+    }
+
+    /**
+     * 지난 기간 순위 - 그 보드의 가장 최근 스냅샷
+     */
+    public List<HistoryRow> findLatestSnapshot(String scope, String scopeRef, String period,
+        String periodKey, int limit) {
+        return jdbc.query("""
+            SELECT rank, user_id, distance, participants
+            FROM leaderboard_snapshot
+            WHERE scope = :scope AND scope_ref = :scopeRef
+              AND period = :period AND period_key = :periodKey
+              AND snapshot_date = (
+                  SELECT MAX(snapshot_date)
+                  FROM leaderboard_snapshot
+                  WHERE scope = :scope AND scope_ref = :scopeRef
+                    AND period = :period AND period_key = :periodKey
+              )
+            ORDER BY rank
+            LIMIT :limit
+            """, new MapSqlParameterSource("scope", scope)
+            .addValue("scopeRef", scopeRef)
+            .addValue("period", period)
+            .addValue("periodKey", periodKey)
+            .addValue("limit", limit),
+            (rs, i) -> new HistoryRow(rs.getInt(1), rs.getLong(2), rs.getBigDecimal(3),
+                rs.getInt(4)));
+    }
+}
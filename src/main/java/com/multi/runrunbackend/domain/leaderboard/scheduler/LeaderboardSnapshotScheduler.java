@@ -0,0 +1,29 @@
+package com.multi.runrunbackend.domain.leaderboard.scheduler;
+
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
+import com.multi.runrunbackend.domain.leaderboard.service.LeaderboardSnapshotService;
+import java.time.Duration;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : kyungsoo
+ * @description : 리더보드 일일 스냅샷 - 전날이 속한 주간 / 월간 보드 상위 N명을 DB 에 남긴다 (기간 마지막 날 다음 실행분이 확정 순위)
+ * @filename : LeaderboardSnapshotScheduler
+ * @since : 2026. 1. 30. Friday
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderboardSnapshotScheduler {
+
+    private final LeaderboardSnapshotService leaderboardSnapshotService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Scheduled(cron = "0 15 0 * * *", zone = "Asia/Seoul")
+    public void snapshot() {
+        clusterJobRunner.runCounting("leaderboard-snapshot", Duration.ofMinutes(30),
+            () -> leaderboardSnapshotService.snapshot(LocalDate.now().minusDays(1)));
+    }
+}
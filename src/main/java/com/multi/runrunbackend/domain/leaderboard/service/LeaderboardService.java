@@ -0,0 +1,305 @@
+package com.multi.runrunbackend.domain.leaderboard.service;
+
+import com.multi.runrunbackend.common.constant.DistanceType;
+import com.multi.runrunbackend.common.exception.custom.BadRequestException;
+import com.multi.runrunbackend.common.exception.custom.NotFoundException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.domain.crew.repository.CrewUserRepository;
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardPeriod;
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardScope;
+import com.multi.runrunbackend.domain.leaderboard.dto.res.LeaderboardEntryResDto;
+import com.multi.runrunbackend.domain.leaderboard.dto.res.LeaderboardResDto;
+import com.multi.runrunbackend.domain.match.constant.RunStatus;
+import com.multi.runrunbackend.domain.match.entity.RunningResult;
+import com.multi.runrunbackend.domain.user.entity.User;
+import com.multi.runrunbackend.domain.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author : kyungsoo
+ * @description : 거리 리더보드 (Redis ZSET, member = userId, score = 기간 누적 거리 km). 러닝 후처리 단계에서 기록 1건마다 해당
+ * 기간의 전체 / 크루 / 거리 구간 보드에 증분 반영한다.
+ * <p>
+ * 반영은 기간별 적용 집합(lb-applied:{W|M}:{기간키})에 기록 id 를 먼저 넣은 경우에만 더하므로, 후처리 재시도나 재구축과 겹쳐도 한 기록이
+ * 두 번 더해지지 않는다.
+ * @filename : LeaderboardService
+ * @since : 2026. 1. 30. Friday
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    static final String BOARD_KEY_PREFIX = "lb:";
+    static final String APPLIED_KEY_PREFIX = "lb-applied:";
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_WINDOW = 50;
+
+    /**
+     * KEYS[1] = 적용 집합, KEYS[2..] = 보드 / ARGV = 기록 id, 거리, userId, TTL(초)
+     */
+    private static final String APPLY_SCRIPT = """
+        if redis.call('SADD', KEYS[1], ARGV[1]) == 0 then
+            return 0
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[4])
+
+        for i = 2, #KEYS do
+            redis.call('ZINCRBY', KEYS[i], ARGV[2], ARGV[3])
+            redis.call('EXPIRE', KEYS[i], ARGV[4])
+        end
+
+        return 1
+        """;
+
+    /**
+     * 내 주변 순위: {참여자 수} 또는 {참여자 수, 시작 순위(0부터), member, score, member, score, ...}
+     */
+    private static final String AROUND_SCRIPT = """
+        local total = redis.call('ZCARD', KEYS[1])
+        local rank = redis.call('ZREVRANK', KEYS[1], ARGV[1])
+        if not rank then
+            return {total}
+        end
+
+        local window = tonumber(ARGV[2])
+        local start = math.max(0, rank - window)
+        local entries = redis.call('ZREVRANGE', KEYS[1], start, rank + window, 'WITHSCORES')
+
+        local result = {total, start}
+        for i = 1, #entries do
+            result[#result + 1] = entries[i]
+        end
+        return result
+        """;
+
+    private static final DefaultRedisScript<Long> APPLY =
+        new DefaultRedisScript<>(APPLY_SCRIPT, Long.class);
+    private static final DefaultRedisScript<List> AROUND =
+        new DefaultRedisScript<>(AROUND_SCRIPT, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CrewUserRepository crewUserRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 러닝 결과 1건 반영 (PostRunStage.LEADERBOARD). 기록이 시작된 날짜가 속한 기간에 더한다.
+     */
+    public void applyRunningResult(RunningResult result) {
+        if (result.getRunStatus() != RunStatus.COMPLETED
+            && result.getRunStatus() != RunStatus.TIME_OUT) {
+            return;
+        }
+        Long userId = result.getUser().getId();
+        Long crewId = crewUserRepository.findByUserIdAndIsDeletedFalse(userId)
+            .map(crewUser -> crewUser.getCrew().getId())
+            .orElse(null);
+        LocalDate date = result.getStartedAt().toLocalDate();
+
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            apply(period, date, result.getId(), userId, crewId, result.getTotalDistance());
+        }
+    }
+
+    void apply(LeaderboardPeriod period, LocalDate date, long runningResultId, long userId,
+        Long crewId, BigDecimal distance) {
+        String periodKey = period.keyOf(date);
+        List<String> keys = new ArrayList<>(4);
+        keys.add(appliedKey(period, periodKey));
+        keys.addAll(boardsFor(period, periodKey, crewId, distance));
+
+        Long applied = redisTemplate.execute(APPLY, keys,
+            String.valueOf(runningResultId),
+            distance.toPlainString(),
+            String.valueOf(userId),
+            String.valueOf(period.ttlOf(date).toSeconds()));
+        if (applied != null && applied == 0L) {
+            log.debug("[Leaderboard] 이미 반영된 기록: runningResultId={}, period={}",
+                runningResultId, periodKey);
+        }
+    }
+
+    /**
+     * 상위 순위 (offset 부터 limit 명)
+     */
+    public LeaderboardResDto getTop(LeaderboardScope scope, String ref, LeaderboardPeriod period,
+        LocalDate date, int offset, int limit) {
+        String resolvedRef = requireRef(scope, ref);
+        String periodKey = period.keyOf(date);
+        String key = boardKey(scope, resolvedRef, period, periodKey);
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        int start = Math.max(offset, 0);
+
+        List<String> flat = new ArrayList<>();
+        Set<TypedTuple<String>> tuples =
+            redisTemplate.opsForZSet().reverseRangeWithScores(key, start, start + size - 1);
+        if (tuples != null) {
+            tuples.forEach(t -> {
+                flat.add(t.getValue());
+                flat.add(String.valueOf(t.getScore()));
+            });
+        }
+        Long total = redisTemplate.opsForZSet().zCard(key);
+
+        return LeaderboardResDto.builder()
+            .scope(scope)
+            .ref(resolvedRef)
+            .period(period)
+            .periodKey(periodKey)
+            .participants(total == null ? 0 : total)
+            .entries(toEntries(start, flat))
+            .build();
+    }
+
+    /**
+     * 내 순위 앞뒤 window 명 (Redis 1회). CREW 범위에서 ref 를 생략하면 내 크루
+     */
+    public LeaderboardResDto getAroundMe(LeaderboardScope scope, String ref,
+        LeaderboardPeriod period, LocalDate date, Long userId, int window) {
+        String resolvedRef = scope == LeaderboardScope.CREW && (ref == null || ref.isBlank())
+            ? crewUserRepository.findByUserIdAndIsDeletedFalse(userId)
+            .map(crewUser -> String.valueOf(crewUser.getCrew().getId()))
+            .orElseThrow(() -> new NotFoundException(ErrorCode.CREW_NOT_FOUND))
+            : requireRef(scope, ref);
+        String periodKey = period.keyOf(date);
+        int size = Math.min(Math.max(window, 0), MAX_WINDOW);
+
+        List<?> result = redisTemplate.execute(AROUND,
+            List.of(boardKey(scope, resolvedRef, period, periodKey)),
+            String.valueOf(userId), String.valueOf(size));
+
+        LeaderboardResDto.LeaderboardResDtoBuilder builder = LeaderboardResDto.builder()
+            .scope(scope)
+            .ref(resolvedRef)
+            .period(period)
+            .periodKey(periodKey)
+            .participants(result == null || result.isEmpty() ? 0 : toLong(result.get(0)))
+            .entries(List.of());
+        if (result == null || result.size() < 2) {
+            return builder.build();
+        }
+
+        int start = (int) toLong(result.get(1));
+        List<String> flat = result.subList(2, result.size()).stream()
+            .map(String::valueOf)
+            .toList();
+        List<LeaderboardEntryResDto> entries = toEntries(start, flat);
+        Integer myRank = entries.stream()
+            .filter(e -> e.getUserId().equals(userId))
+            .map(LeaderboardEntryResDto::getRank)
+            .findFirst()
+            .orElse(null);
+        return builder.myRank(myRank).entries(entries).build();
+    }
+
+    /**
+     * ZREVRANGE WITHSCORES 결과(member, score 반복)를 사용자 정보와 합친다
+     */
+    List<LeaderboardEntryResDto> toEntries(int start, List<String> flat) {
+        List<Long> userIds = new ArrayList<>(flat.size() / 2);
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            userIds.add(Long.valueOf(flat.get(i)));
+        }
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<LeaderboardEntryResDto> entries = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            User user = users.get(userIds.get(i));
+            entries.add(LeaderboardEntryResDto.builder()
+                .rank(start + i + 1)
+                .userId(userIds.get(i))
+                .name(user == null ? null : user.getName())
+                .profileImageUrl(user == null ? null : user.getProfileImageUrl())
+                .distance(round2(Double.parseDouble(flat.get(i * 2 + 1))))
+                .build());
+        }
+        return entries;
+    }
+
+    /**
+     * 기록 1건이 반영되는 보드 키 목록
+     */
+    static List<String> boardsFor(LeaderboardPeriod period, String periodKey, Long crewId,
+        BigDecimal distance) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(boardKey(LeaderboardScope.GLOBAL, LeaderboardScope.GLOBAL_REF, period, periodKey));
+        if (crewId != null) {
+            keys.add(boardKey(LeaderboardScope.CREW, String.valueOf(crewId), period, periodKey));
+        }
+        DistanceType tier = distanceTierOf(distance);
+        if (tier != null) {
+            keys.add(boardKey(LeaderboardScope.TIER, tier.name(), period, periodKey));
+        }
+        return keys;
+    }
+
+    static DistanceType distanceTierOf(BigDecimal distance) {
+        if (distance == null) {
+            return null;
+        }
+        if (distance.compareTo(BigDecimal.TEN) >= 0) {
+            return DistanceType.KM_10;
+        }
+        if (distance.compareTo(BigDecimal.valueOf(5)) >= 0) {
+            return DistanceType.KM_5;
+        }
+        if (distance.compareTo(BigDecimal.valueOf(3)) >= 0) {
+            return DistanceType.KM_3;
+        }
+        return null;
+    }
+
+    static String boardKey(LeaderboardScope scope, String ref, LeaderboardPeriod period,
+        String periodKey) {
+        return BOARD_KEY_PREFIX + scope.name() + ":" + ref + ":" + period.getCode() + ":" + periodKey;
+    }
+
+    static String appliedKey(LeaderboardPeriod period, String periodKey) {
+        return APPLIED_KEY_PREFIX + period.getCode() + ":" + periodKey;
+    }
+
+    /**
+     * 범위별 ref 검증 - GLOBAL 은 무시하고 all, CREW 는 크루 id, TIER 는 DistanceType 이름
+     */
+    static String requireRef(LeaderboardScope scope, String ref) {
+        return switch (scope) {
+            case GLOBAL -> LeaderboardScope.GLOBAL_REF;
+            case CREW -> {
+                if (ref == null || !ref.matches("\\d+")) {
+                    throw new BadRequestException(ErrorCode.INVALID_REQUEST);
+                }
+                yield ref;
+            }
+            case TIER -> {
+                try {
+                    yield DistanceType.valueOf(ref).name();
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    throw new BadRequestException(ErrorCode.INVALID_REQUEST);
+                }
+            }
+        };
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number n ? n.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
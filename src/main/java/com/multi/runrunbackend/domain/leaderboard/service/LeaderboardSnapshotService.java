@@ -0,0 +1,200 @@
+package com.multi.runrunbackend.domain.leaderboard.service;
+
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardPeriod;
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardScope;
+import com.multi.runrunbackend.domain.leaderboard.dto.res.LeaderboardEntryResDto;
+import com.multi.runrunbackend.domain.leaderboard.dto.res.LeaderboardResDto;
+import com.multi.runrunbackend.domain.leaderboard.repository.LeaderboardRepository;
+import com.multi.runrunbackend.domain.leaderboard.repository.LeaderboardRepository.HistoryRow;
+import com.multi.runrunbackend.domain.leaderboard.repository.LeaderboardRepository.RunRow;
+import com.multi.runrunbackend.domain.leaderboard.repository.LeaderboardRepository.SnapshotRow;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * @author : kyungsoo
+ * @description : 리더보드 스냅샷(Redis → leaderboard_snapshot) / 러닝 결과 기준 재구축
+ * @filename : LeaderboardSnapshotService
+ * @since : 2026. 1. 30. Friday
+ */
+@Slf4j
+@Service
+public class LeaderboardSnapshotService {
+
+    private static final int APPLIED_CHUNK = 1_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LeaderboardRepository leaderboardRepository;
+    private final LeaderboardService leaderboardService;
+    private final int topN;
+
+    public LeaderboardSnapshotService(
+        RedisTemplate<String, String> redisTemplate,
+        LeaderboardRepository leaderboardRepository,
+        LeaderboardService leaderboardService,
+        @Value("${leaderboard.snapshot.top-n:100}") int topN
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.leaderboardRepository = leaderboardRepository;
+        this.leaderboardService = leaderboardService;
+        this.topN = topN;
+    }
+
+    /**
+     * date 가 속한 주간 / 월간 기간의 모든 보드 상위 N명을 오늘 날짜 스냅샷으로 저장
+     *
+     * @return 저장한 보드 수
+     */
+    @Transactional
+    public int snapshot(LocalDate date) {
+        LocalDate snapshotDate = LocalDate.now();
+        int boards = 0;
+
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            String periodKey = period.keyOf(date);
+            for (String boardKey : scanBoards(period, periodKey)) {
+                // lb:{scope}:{ref}:{W|M}:{기간키}
+                String[] parts = boardKey.split(":");
+                Set<TypedTuple<String>> top = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(boardKey, 0, topN - 1);
+                if (top == null || top.isEmpty()) {
+                    continue;
+                }
+
+                Long boardSize = redisTemplate.opsForZSet().zCard(boardKey);
+                int participants = boardSize == null ? top.size() : boardSize.intValue();
+
+                List<SnapshotRow> rows = new ArrayList<>(top.size());
+                int rank = 0;
+                for (TypedTuple<String> tuple : top) {
+                    rows.add(new SnapshotRow(boardKey, parts[1], parts[2], period.name(),
+                        periodKey, Long.parseLong(tuple.getValue()), ++rank,
+                        tuple.getScore() == null ? 0 : tuple.getScore(), participants));
+                }
+                leaderboardRepository.saveSnapshot(snapshotDate, rows);
+                leaderboardRepository.deleteSnapshotOutside(boardKey, snapshotDate, rows.size());
+                boards++;
+            }
+        }
+
+        log.info("[Leaderboard] 스냅샷 저장: date={}, boards={}", snapshotDate, boards);
+        return boards;
+    }
+
+    /**
+     * 지난 기간 순위 (가장 최근 스냅샷 기준). participants 는 스냅샷 시점의 보드 전체 인원이다
+     */
+    @Transactional(readOnly = true)
+    public LeaderboardResDto getHistory(LeaderboardScope scope, String ref,
+        LeaderboardPeriod period, String periodKey, int limit) {
+        String resolvedRef = LeaderboardService.requireRef(scope, ref);
+        List<HistoryRow> rows = leaderboardRepository.findLatestSnapshot(scope.name(),
+            resolvedRef, period.name(), periodKey, Math.min(Math.max(limit, 1), topN));
+
+        List<String> flat = new ArrayList<>(rows.size() * 2);
+        rows.forEach(row -> {
+            flat.add(String.valueOf(row.userId()));
+            flat.add(row.distance().toPlainString());
+        });
+        List<LeaderboardEntryResDto> entries = leaderboardService.toEntries(0, flat);
+
+        return LeaderboardResDto.builder()
+            .scope(scope)
+            .ref(resolvedRef)
+            .period(period)
+            .periodKey(periodKey)
+            .participants(rows.isEmpty() ? 0 : rows.get(0).participants())
+            .entries(entries)
+            .build();
+    }
+
+    /**
+     * date 가 속한 기간의 보드를 running_result 기준으로 다시 만든다 (기존 보드·적용 집합 삭제 후 파이프라인 적재). 크루 보드는 현재 소속
+     * 기준이고, 재구축 도중 저장된 기록은 반영되지 않을 수 있으므로 사용이 적은 시간에 실행한다.
+     *
+     * @return 반영한 기록 수
+     */
+    public int rebuild(LeaderboardPeriod period, LocalDate date) {
+        String periodKey = period.keyOf(date);
+        List<RunRow> runs = leaderboardRepository.findRunsBetween(period.startOf(date),
+            period.endExclusiveOf(date));
+
+        Map<String, Map<String, BigDecimal>> boards = new HashMap<>();
+        for (RunRow run : runs) {
+            for (String boardKey : LeaderboardService.boardsFor(period, periodKey, run.crewId(),
+                run.distance())) {
+                boards.computeIfAbsent(boardKey, k -> new HashMap<>())
+                    .merge(String.valueOf(run.userId()), run.distance(), BigDecimal::add);
+            }
+        }
+
+        List<String> stale = new ArrayList<>(scanBoards(period, periodKey));
+        String appliedKey = LeaderboardService.appliedKey(period, periodKey);
+        stale.add(appliedKey);
+        long ttlSeconds = period.ttlOf(date).toSeconds();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations)
+                throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.delete(stale);
+
+                boards.forEach((boardKey, scores) -> {
+                    Set<TypedTuple<String>> tuples = new HashSet<>();
+                    scores.forEach((userId, distance) ->
+                        tuples.add(new DefaultTypedTuple<>(userId, distance.doubleValue())));
+                    ops.opsForZSet().add(boardKey, tuples);
+                    ops.expire(boardKey, Duration.ofSeconds(ttlSeconds));
+                });
+
+                for (int i = 0; i < runs.size(); i += APPLIED_CHUNK) {
+                    String[] ids = runs.subList(i, Math.min(i + APPLIED_CHUNK, runs.size())).stream()
+                        .map(run -> String.valueOf(run.runningResultId()))
+                        .toArray(String[]::new);
+                    ops.opsForSet().add(appliedKey, ids);
+                }
+                if (!runs.isEmpty()) {
+                    ops.expire(appliedKey, Duration.ofSeconds(ttlSeconds));
+                }
+                return null;
+            }
+        });
+
+        log.info("[Leaderboard] 재구축 완료: period={}, key={}, runs={}, boards={}",
+            period, periodKey, runs.size(), boards.size());
+        return runs.size();
+    }
+
+    private Set<String> scanBoards(LeaderboardPeriod period, String periodKey) {
+        Set<String> keys = new HashSet<>();
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(LeaderboardService.BOARD_KEY_PREFIX + "*:" + period.getCode() + ":" + periodKey)
+            .count(1000)
+            .build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,28 @@
+package com.multi.runrunbackend.domain.match.constant;
+
+import com.multi.runrunbackend.domain.match.entity.RunningResult;
+import java.util.List;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 러닝 결과 저장 후 비동기로 처리하는 후처리 단계
+ * @filename : PostRunStage
+ * @since : 2026. 1. 23. Friday
+ */
+public enum PostRunStage {
+    CHALLENGE,      // 챌린지 진행도
+    POINT,          // 완주 포인트 적립
+    COUPON,         // 첫 러닝 / 누적 거리 쿠폰 자동 발급
+    LEADERBOARD;    // 리더보드 거리 반영
+
+    /**
+     * 결과 상태에 따라 등록할 단계. 포기/취소 등 완주가 아닌 결과는 후처리 없음
+     */
+    public static List<PostRunStage> stagesFor(RunningResult result) {
+        if (result.getRunStatus() == RunStatus.COMPLETED
+            || result.getRunStatus() == RunStatus.TIME_OUT) {
+            return List.of(values());
+        }
+        return List.of();
+    }
+}
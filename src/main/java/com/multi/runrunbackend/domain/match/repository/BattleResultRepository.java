@@ -12,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -26,6 +27,19 @@ public interface BattleResultRepository extends JpaRepository<BattleResult, Long
 
     long countByUserAndDistanceType(User user, DistanceType distanceType);
 
+    /**
+     * 사용자별 거리 타입 배틀 판수 [userId, count] (K-factor 일괄 계산용, 판수 0 인 사용자는 행 없음)
+     */
+    @Query("""
+        SELECT b.user.id, COUNT(b)
+        FROM BattleResult b
+        WHERE b.user.id IN :userIds
+          AND b.distanceType = :distanceType
+        GROUP BY b.user.id
+        """)
+    List<Object[]> countByUserIdsAndDistanceType(@Param("userIds") Collection<Long> userIds,
+        @Param("distanceType") DistanceType distanceType);
+
     boolean existsBySession_IdAndUser_Id(Long sessionId, Long userId);
 
     @Query("""
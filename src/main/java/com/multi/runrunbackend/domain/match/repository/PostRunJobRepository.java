@@ -0,0 +1,124 @@
+package com.multi.runrunbackend.domain.match.repository;
+
+import com.multi.runrunbackend.domain.match.constant.PostRunStage;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 러닝 후처리 작업(outbox) 테이블 접근 (스키마: resources/db/post-run-job.sql)
+ * <p>
+ * 작업 키는 (running_result_id, stage). 선점 시 attempts 를 올리고, 완료/재시도 갱신은 선점 당시 attempts 가 그대로일 때만
+ * 반영되므로 lease 가 만료돼 다른 워커가 다시 가져간 작업을 이전 워커가 덮어쓰지 못한다.
+ * @filename : PostRunJobRepository
+ * @since : 2026. 1. 23. Friday
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostRunJobRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record ClaimedJob(Long runningResultId, PostRunStage stage, int attempts,
+                             LocalDateTime createdAt) {
+
+    }
+
+    /**
+     * 결과 저장과 같은 트랜잭션에서 호출. 이미 등록된 단계는 무시
+     */
+    public void enqueue(Long runningResultId, Collection<PostRunStage> stages) {
+        SqlParameterSource[] batch = stages.stream()
+            .map(stage -> new MapSqlParameterSource("runningResultId", runningResultId)
+                .addValue("stage", stage.name()))
+            .toArray(SqlParameterSource[]::new);
+
+        jdbc.batchUpdate("""
+            INSERT INTO post_run_job (running_result_id, stage, status, attempts,
+                                      next_attempt_at, created_at, updated_at)
+            VALUES (:runningResultId, :stage, 'PENDING', 0, now(), now(), now())
+            ON CONFLICT (running_result_id, stage) DO NOTHING
+            """, batch);
+    }
+
+    /**
+     * 실행 가능한 작업(대기 중이면서 재시도 시각이 지났거나, 실행 중인데 lease 가 만료된 것)을 최대 limit 개 선점
+     */
+    public List<ClaimedJob> claim(int limit, int leaseSeconds) {
+        return jdbc.query("""
+            UPDATE post_run_job j
+            SET status = 'RUNNING',
+                attempts = j.attempts + 1,
+                locked_until = now() + make_interval(secs => :leaseSeconds),
+                updated_at = now()
+            FROM (
+                SELECT running_result_id, stage
+                FROM post_run_job
+                WHERE (status = 'PENDING' AND next_attempt_at <= now())
+                   OR (status = 'RUNNING' AND locked_until < now())
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ) c
+            WHERE j.running_result_id = c.running_result_id
+              AND j.stage = c.stage
+            RETURNING j.running_result_id, j.stage, j.attempts, j.created_at
+            """, new MapSqlParameterSource("limit", limit).addValue("leaseSeconds", leaseSeconds),
+            (rs, i) -> new ClaimedJob(
+                rs.getLong("running_result_id"),
+                PostRunStage.valueOf(rs.getString("stage")),
+                rs.getInt("attempts"),
+                rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+
+    /**
+     * 단계 처리와 같은 트랜잭션에서 호출. 0 이면 선점을 잃은 것
+     */
+    public int markDone(ClaimedJob job) {
+        return jdbc.update("""
+            UPDATE post_run_job
+            SET status = 'DONE', locked_until = NULL, last_error = NULL, updated_at = now()
+            WHERE running_result_id = :runningResultId
+              AND stage = :stage
+              AND status = 'RUNNING'
+              AND attempts = :attempts
+            """, keyOf(job));
+    }
+
+    /**
+     * 실패 기록. attempts 가 maxAttempts 에 도달했으면 FAILED 로 멈추고, 아니면 backoff 후 재시도. 선점을 잃었으면 아무것도 하지 않음
+     *
+     * @return 최종 실패(FAILED) 처리됐으면 true
+     */
+    public boolean markRetry(ClaimedJob job, int maxAttempts, long backoffSeconds, String error) {
+        List<Boolean> failed = jdbc.query("""
+            UPDATE post_run_job
+            SET status = CASE WHEN attempts >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END,
+                next_attempt_at = now() + make_interval(secs => :backoffSeconds),
+                locked_until = NULL,
+                last_error = left(:error, 500),
+                updated_at = now()
+            WHERE running_result_id = :runningResultId
+              AND stage = :stage
+              AND status = 'RUNNING'
+              AND attempts = :attempts
+            RETURNING status = 'FAILED'
+            """, keyOf(job)
+            .addValue("maxAttempts", maxAttempts)
+            .addValue("backoffSeconds", backoffSeconds)
+            .addValue("error", error == null ? "" : error), (rs, i) -> rs.getBoolean(1));
+        return !failed.isEmpty() && failed.get(0);
+    }
+
+    private MapSqlParameterSource keyOf(ClaimedJob job) {
+        return new MapSqlParameterSource("runningResultId", job.runningResultId())
+            .addValue("stage", job.stage().name())
+            .addValue("attempts", job.attempts());
+    }
+}
@@ -55,43 +55,6 @@ public interface RunningResultRepository extends JpaRepository<RunningResult, Lo
         Pageable pageable
     );
 
-    /* ===================== SUMMARY ===================== */
-
-    @Query("""
-            SELECT
-                COALESCE(SUM(r.totalDistance), 0),
-                COALESCE(SUM(r.totalTime), 0)
-            FROM RunningResult r
-            WHERE r.user.id = :userId
-              AND r.runStatus IN :statuses
-              AND r.startedAt >= :start
-              AND r.startedAt < :end
-        """)
-    List<Object[]> findTodaySummary(
-        @Param("userId") Long userId,
-        @Param("statuses") List<RunStatus> statuses,
-        @Param("start") LocalDateTime start,
-        @Param("end") LocalDateTime end
-    );
-
-    @Query("""
-            SELECT
-                FUNCTION('date_part', 'dow', r.startedAt),
-                SUM(r.totalDistance),
-                SUM(r.totalTime)
-            FROM RunningResult r
-            WHERE r.user.id = :userId
-              AND r.runStatus IN :statuses
-              AND r.startedAt BETWEEN :start AND :end
-            GROUP BY FUNCTION('date_part', 'dow', r.startedAt)
-        """)
-    List<Object[]> findWeeklySummary(
-        @Param("userId") Long userId,
-        @Param("statuses") List<RunStatus> statuses,
-        @Param("start") LocalDateTime start,
-        @Param("end") LocalDateTime end
-    );
-
     /* ===================== FEED ===================== */
 
     @Query("""
@@ -113,16 +76,6 @@ public interface RunningResultRepository extends JpaRepository<RunningResult, Lo
     );
 
 
-    @Query("""
-            SELECT r FROM RunningResult r
-            WHERE r.user.id = :userId
-              AND r.runStatus = 'COMPLETED'
-              AND r.avgPace IS NOT NULL
-              AND r.isDeleted = false
-            ORDER BY r.createdAt DESC
-        """)
-    List<RunningResult> findTop5ByUserIdForAverage(@Param("userId") Long userId, Pageable pageable);
-
     Optional<RunningResult> findByUserIdAndRunningTypeAndStartedAt(Long id, RunningType runningType,
         LocalDateTime createdAt);
 
@@ -134,6 +87,20 @@ public interface RunningResultRepository extends JpaRepository<RunningResult, Lo
      */
     long countByUserIdAndRunStatusAndIsDeletedFalse(Long userId, RunStatus runStatus);
 
+    /**
+     * 해당 결과까지(id 이하)의 완주/타임아웃 기록 수 (후처리가 늦게 돌아도 첫 러닝 판정이 흔들리지 않도록)
+     */
+    @Query("""
+        SELECT COUNT(r)
+        FROM RunningResult r
+        WHERE r.user.id = :userId
+          AND r.runStatus IN ('COMPLETED', 'TIME_OUT')
+          AND r.isDeleted = false
+          AND r.id <= :runningResultId
+        """)
+    long countCompletedUpTo(@Param("userId") Long userId,
+        @Param("runningResultId") Long runningResultId);
+
     /**
      * 사용자의 누적 거리 조회 (거리 달성 쿠폰 발급용) - COMPLETED, TIME_OUT 상태의 모든 러닝 결과 거리 합계 (미터 단위)
      */
@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.match.repository;
 
+import com.multi.runrunbackend.domain.chat.dto.ChatRoomSummaryDto;
 import com.multi.runrunbackend.domain.match.entity.SessionUser;
 import java.util.List;
 import java.util.Optional;
@@ -73,6 +74,24 @@ public interface SessionUserRepository extends JpaRepository<SessionUser, Long>
       "ORDER BY COALESCE(r.meetingAt, ms.createdAt) ASC")
   List<SessionUser> findMyOfflineSessions(@Param("userId") Long userId);
 
+  /**
+   * 유저가 참여 중인 오프라인 채팅방 목록 (참가자 수/준비 수 포함, 쿼리 1회)
+   */
+  @Query("SELECT new com.multi.runrunbackend.domain.chat.dto.ChatRoomSummaryDto(" +
+      "ms.id, ms.status, ms.duration, ms.targetDistance, ms.createdAt, " +
+      "r.id, r.title, r.meetingPlace, r.meetingAt, r.targetDistance, r.targetPace, r.maxParticipants, " +
+      "(SELECT COUNT(p) FROM SessionUser p " +
+      "   WHERE p.matchSession = ms AND p.isDeleted = false), " +
+      "(SELECT COUNT(p) FROM SessionUser p " +
+      "   WHERE p.matchSession = ms AND p.isDeleted = false AND p.isReady = true)) " +
+      "FROM SessionUser su " +
+      "JOIN su.matchSession ms " +
+      "LEFT JOIN ms.recruit r " +
+      "WHERE su.user.id = :userId " +
+      "AND su.isDeleted = false " +
+      "AND ms.type = 'OFFLINE'")
+  List<ChatRoomSummaryDto> findMyOfflineChatRooms(@Param("userId") Long userId);
+
   @Query("SELECT su FROM SessionUser su " +
       "JOIN FETCH su.matchSession ms " +
       "WHERE su.user.id = :userId " +
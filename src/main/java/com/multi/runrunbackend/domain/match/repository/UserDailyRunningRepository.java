@@ -0,0 +1,107 @@
+package com.multi.runrunbackend.domain.match.repository;
+
+import com.multi.runrunbackend.domain.match.entity.RunningResult;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author : kimyongwon
+ * @description : 사용자별 일 러닝 집계 (스키마/백필: resources/db/user-daily-running.sql). 완주/타임아웃 기록만 startedAt 날짜로 더한다.
+ * @filename : UserDailyRunningRepository
+ * @since : 2026. 1. 23. Friday
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserDailyRunningRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record DailyRunning(
+            LocalDate runDate,
+            BigDecimal totalDistance,
+            long totalTime,
+            int runCount,
+            BigDecimal bestPace
+    ) {
+
+    }
+
+    /**
+     * 결과 저장과 같은 트랜잭션에서 호출
+     */
+    public void add(RunningResult result) {
+        jdbc.update("""
+                INSERT INTO user_daily_running (user_id, run_date, total_distance, total_time,
+                                                run_count, best_pace, updated_at)
+                VALUES (:userId, :runDate, :distance, :time, 1, :pace, now())
+                ON CONFLICT (user_id, run_date) DO UPDATE
+                SET total_distance = user_daily_running.total_distance + EXCLUDED.total_distance,
+                    total_time = user_daily_running.total_time + EXCLUDED.total_time,
+                    run_count = user_daily_running.run_count + 1,
+                    best_pace = CASE
+                        WHEN user_daily_running.best_pace IS NULL THEN EXCLUDED.best_pace
+                        WHEN EXCLUDED.best_pace IS NULL THEN user_daily_running.best_pace
+                        ELSE LEAST(user_daily_running.best_pace, EXCLUDED.best_pace)
+                    END,
+                    updated_at = now()
+                """, new MapSqlParameterSource("userId", result.getUser().getId())
+                .addValue("runDate", Date.valueOf(result.getStartedAt().toLocalDate()))
+                .addValue("distance", result.getTotalDistance() != null
+                        ? result.getTotalDistance() : BigDecimal.ZERO)
+                .addValue("time", result.getTotalTime() != null ? result.getTotalTime() : 0)
+                .addValue("pace", positiveOrNull(result.getAvgPace())));
+    }
+
+    /**
+     * 하루치를 원본에서 다시 계산 (기록 삭제 시 - 최고 페이스는 증분으로 되돌릴 수 없음)
+     */
+    public void rebuildDay(Long userId, LocalDate runDate) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId)
+                .addValue("runDate", Date.valueOf(runDate));
+
+        jdbc.update("""
+                DELETE FROM user_daily_running
+                WHERE user_id = :userId AND run_date = :runDate
+                """, params);
+        jdbc.update("""
+                INSERT INTO user_daily_running (user_id, run_date, total_distance, total_time,
+                                                run_count, best_pace, updated_at)
+                SELECT user_id, CAST(started_at AS date), SUM(total_distance), SUM(total_time),
+                       COUNT(*), MIN(avg_pace) FILTER (WHERE avg_pace > 0), now()
+                FROM running_result
+                WHERE user_id = :userId
+                  AND started_at >= :runDate
+                  AND started_at < CAST(:runDate AS date) + 1
+                  AND run_status IN ('COMPLETED', 'TIME_OUT')
+                  AND is_deleted = false
+                GROUP BY user_id, CAST(started_at AS date)
+                """, params);
+    }
+
+    public List<DailyRunning> findRange(Long userId, LocalDate from, LocalDate to) {
+        return jdbc.query("""
+                SELECT run_date, total_distance, total_time, run_count, best_pace
+                FROM user_daily_running
+                WHERE user_id = :userId
+                  AND run_date BETWEEN :from AND :to
+                ORDER BY run_date
+                """, new MapSqlParameterSource("userId", userId)
+                .addValue("from", Date.valueOf(from))
+                .addValue("to", Date.valueOf(to)), (rs, i) -> new DailyRunning(
+                rs.getDate("run_date").toLocalDate(),
+                rs.getBigDecimal("total_distance"),
+                rs.getLong("total_time"),
+                rs.getInt("run_count"),
+                rs.getBigDecimal("best_pace")));
+    }
+
+    private static BigDecimal positiveOrNull(BigDecimal pace) {
+        return pace != null && pace.signum() > 0 ? pace : null;
+    }
+}
@@ -1,9 +1,11 @@
 package com.multi.runrunbackend.domain.match.scheduler;
 
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
 import com.multi.runrunbackend.domain.match.service.MatchSessionService;
 import com.multi.runrunbackend.domain.recruit.constant.RecruitStatus;
 import com.multi.runrunbackend.domain.recruit.entity.Recruit;
 import com.multi.runrunbackend.domain.recruit.repository.RecruitRepository;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -25,10 +27,16 @@ public class MatchSessionScheduler {
 
   private final RecruitRepository recruitRepository;
   private final MatchSessionService matchSessionService;
+  private final ClusterJobRunner clusterJobRunner;
 
   @Scheduled(cron = "0 * * * * *")
   public void autoCreateMatchSession() {
+    // 1분 주기라 이전 실행이 길어지면 다음 회차는 건너뜀
+    clusterJobRunner.runCounting("match-session-auto-create", Duration.ofSeconds(55),
+        this::createSessionsForUpcomingRecruits);
+  }
 
+  private int createSessionsForUpcomingRecruits() {
     LocalDateTime targetTime = LocalDateTime.now().plusHours(1);
     List<Recruit> pendingRecruits = recruitRepository.findAllByStatusAndMeetingAtBefore(
         RecruitStatus.RECRUITING,
@@ -36,16 +44,19 @@ public class MatchSessionScheduler {
     );
 
     if (pendingRecruits.isEmpty()) {
-      return;
+      return 0;
     }
 
+    int created = 0;
     for (Recruit recruit : pendingRecruits) {
       try {
         matchSessionService.createOfflineSessionBySystem(recruit.getId());
+        created++;
       } catch (Exception e) {
         log.error("자동 생성 실패 id={}", recruit.getId(), e);
       }
     }
+    return created;
   }
 
 }
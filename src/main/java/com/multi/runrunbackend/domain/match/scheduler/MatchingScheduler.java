@@ -1,6 +1,7 @@
 package com.multi.runrunbackend.domain.match.scheduler;
 
 import com.multi.runrunbackend.common.constant.DistanceType;
+import com.multi.runrunbackend.common.metrics.RunRunMetrics;
 import com.multi.runrunbackend.domain.match.entity.SessionUser;
 import com.multi.runrunbackend.domain.match.repository.SessionUserRepository;
 import com.multi.runrunbackend.domain.match.service.MatchSessionService;
@@ -8,10 +9,15 @@ import com.multi.runrunbackend.domain.match.service.MatchingQueueService;
 import com.multi.runrunbackend.domain.notification.constant.NotificationType;
 import com.multi.runrunbackend.domain.notification.constant.RelatedType;
 import com.multi.runrunbackend.domain.notification.service.NotificationService;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +45,10 @@ public class MatchingScheduler {
   private final MatchingQueueService matchingQueueService;
   private final NotificationService notificationService;
   private final SessionUserRepository sessionUserRepository;
+  private final RunRunMetrics runRunMetrics;
+
+  // 큐별 마지막 tick 시점 대기 인원 (게이지가 스크레이프마다 Redis 를 호출하지 않도록)
+  private final Map<String, AtomicLong> queueDepths = new ConcurrentHashMap<>();
 
   private static final int[] TARGET_COUNTS = {2, 3, 4};
   private static final int MAX_GAP = 200;
@@ -117,13 +127,36 @@ public class MatchingScheduler {
         return nil
       """;
 
-  @Scheduled(fixedDelay = FIXED_DELAY_MS)
-  public void runMatching() {
+  @PostConstruct
+  void registerQueueDepthGauges() {
     for (DistanceType distance : DistanceType.values()) {
       for (int targetCount : TARGET_COUNTS) {
-        String queueKey = makeQueueKey(distance, targetCount);
-        tryMatch(queueKey, distance, targetCount);
+        AtomicLong depth = queueDepths.computeIfAbsent(makeQueueKey(distance, targetCount),
+            k -> new AtomicLong());
+        runRunMetrics.queueDepth(distance.name(), targetCount, depth, AtomicLong::get);
+      }
+    }
+  }
+
+  @Scheduled(fixedDelay = FIXED_DELAY_MS)
+  public void runMatching() {
+    runRunMetrics.matchingTick(() -> {
+      for (DistanceType distance : DistanceType.values()) {
+        for (int targetCount : TARGET_COUNTS) {
+          String queueKey = makeQueueKey(distance, targetCount);
+          tryMatch(queueKey, distance, targetCount);
+          recordQueueDepth(queueKey);
+        }
       }
+    });
+  }
+
+  private void recordQueueDepth(String queueKey) {
+    try {
+      Long size = redisTemplate.opsForZSet().zCard(queueKey);
+      queueDepths.get(queueKey).set(size == null ? 0 : size);
+    } catch (Exception e) {
+      log.warn("매칭 큐 크기 조회 실패 - Queue: {}", queueKey, e);
     }
   }
 
@@ -267,6 +300,7 @@ public class MatchingScheduler {
       try {
         long start = Long.parseLong(ts);
         long waitedMs = Math.max(0L, now - start);
+        runRunMetrics.matchingWait(Duration.ofMillis(waitedMs));
         sumSeconds += TimeUnit.MILLISECONDS.toSeconds(waitedMs);
         counted++;
       } catch (NumberFormatException ignore) {
@@ -0,0 +1,24 @@
+package com.multi.runrunbackend.domain.match.scheduler;
+
+import com.multi.runrunbackend.domain.match.service.PostRunJobWorker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 러닝 후처리 작업 폴링 (재시도 대기, lease 만료, 깨우기를 놓친 작업 처리)
+ * @filename : PostRunJobScheduler
+ * @since : 2026. 1. 23. Friday
+ */
+@Component
+@RequiredArgsConstructor
+public class PostRunJobScheduler {
+
+  private final PostRunJobWorker postRunJobWorker;
+
+  @Scheduled(fixedDelayString = "${post-run.worker.poll-interval-ms:2000}")
+  public void poll() {
+    postRunJobWorker.dispatch();
+  }
+}
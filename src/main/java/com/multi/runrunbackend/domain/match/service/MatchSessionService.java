@@ -1,6 +1,5 @@
 package com.multi.runrunbackend.domain.match.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.multi.runrunbackend.common.constant.DistanceType;
 import com.multi.runrunbackend.common.exception.custom.ForbiddenException;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
@@ -8,6 +7,7 @@ import com.multi.runrunbackend.common.exception.custom.ValidationException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
 import com.multi.runrunbackend.domain.chat.repository.OfflineChatMessageRepository;
+import com.multi.runrunbackend.domain.chat.service.RedisPublisher;
 import com.multi.runrunbackend.domain.course.entity.Course;
 import com.multi.runrunbackend.domain.course.repository.CourseRepository;
 import com.multi.runrunbackend.domain.match.constant.SessionStatus;
@@ -74,9 +74,8 @@ public class MatchSessionService {
   private final CourseRepository courseRepository;
   private final OfflineChatMessageRepository chatMessageRepository;  // ⭐ 추가
   private final SimpMessagingTemplate messagingTemplate;
-  private final RedisTemplate<String, Object> redisPubSubTemplate;  // ✅ Redis Pub/Sub 추가
+  private final RedisPublisher redisPublisher;
   private final RedisTemplate<String, String> redisTemplate;  // ✅ Redis Ticket 삭제용
-  private final ObjectMapper objectMapper;  // ✅ JSON 변환용
   private final DistanceRatingRepository distanceRatingRepository;
   private final MatchingQueueService matchingQueueService;  // ✅ 매칭 큐 서비스
   private final NotificationService notificationService;
@@ -705,25 +704,7 @@ public class MatchSessionService {
    * ✅ Redis Pub/Sub을 통한 메시지 발행 (다중 서버 환경 지원)
    */
   private void publishToRedis(String destination, Object message) {
-    try {
-      Map<String, Object> redisMessage = new HashMap<>();
-      redisMessage.put("destination", destination);
-      redisMessage.put("message", message);
-
-      // ✅ 간단한 채널명 사용 (hashCode 대신 sessionId 직접 사용)
-      String channel = "battle:session";
-      String payload = objectMapper.writeValueAsString(redisMessage);
-
-      log.info("📤 [Redis Pub] 발행 시도 - channel: {}, destination: {}", channel, destination);
-
-      redisPubSubTemplate.convertAndSend(channel, payload);
-
-      log.info("✅ [Redis Pub] 발행 성공 - channel: {}, payload length: {}", channel, payload.length());
-
-    } catch (Exception e) {
-      log.error("❌ Redis Pub 실패: destination={}", destination, e);
-      log.error("❌ 에러 상세: {}", e.getMessage());
-    }
+    redisPublisher.publishToDestination(destination, message);
   }
 
 
@@ -0,0 +1,183 @@
+package com.multi.runrunbackend.domain.match.service;
+
+import com.multi.runrunbackend.domain.match.repository.PostRunJobRepository;
+import com.multi.runrunbackend.domain.match.repository.PostRunJobRepository.ClaimedJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 러닝 후처리 작업 워커. 실행 가능한 작업을 빈 슬롯 수만큼만 선점(SKIP LOCKED)해 고정 크기 풀에서 병렬 실행한다. 실패는
+ * 지수 backoff 로 재시도하고 maxAttempts 를 넘으면 FAILED 로 남긴다. 여러 인스턴스가 동시에 돌아도 같은 작업을 나눠 갖지 않는다.
+ * @filename : PostRunJobWorker
+ * @since : 2026. 1. 23. Friday
+ */
+@Slf4j
+@Component
+public class PostRunJobWorker {
+
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    private final PostRunJobRepository postRunJobRepository;
+    private final PostRunStageExecutor postRunStageExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final int leaseSeconds;
+
+    private final ExecutorService workers;
+    private final ExecutorService dispatcher;
+    private final Semaphore slots;
+    private final AtomicBoolean dispatching = new AtomicBoolean(false);
+
+    public PostRunJobWorker(
+        PostRunJobRepository postRunJobRepository,
+        PostRunStageExecutor postRunStageExecutor,
+        MeterRegistry meterRegistry,
+        @Value("${post-run.worker.pool-size:8}") int poolSize,
+        @Value("${post-run.worker.max-attempts:8}") int maxAttempts,
+        @Value("${post-run.worker.lease-seconds:60}") int leaseSeconds,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.postRunJobRepository = postRunJobRepository;
+        this.postRunStageExecutor = postRunStageExecutor;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.leaseSeconds = leaseSeconds;
+        this.slots = new Semaphore(poolSize);
+
+        if (virtualThreads) {
+            // 동시 실행 수는 slots 세마포어가 제한하므로 작업마다 가상 스레드를 띄워도 된다
+            this.workers = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("post-run-worker-", 1).factory());
+            this.dispatcher = Executors.newSingleThreadExecutor(
+                Thread.ofVirtual().name("post-run-dispatcher").factory());
+            return;
+        }
+
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(poolSize, r -> {
+            Thread t = new Thread(r, "post-run-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.dispatcher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "post-run-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 등록 직후 호출 - 요청 스레드를 붙잡지 않도록 디스패처 스레드에서 선점
+     */
+    public void wakeUp() {
+        try {
+            dispatcher.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            log.debug("post-run dispatcher 종료 중, 다음 폴링에서 처리");
+        }
+    }
+
+    /**
+     * 빈 슬롯이 없거나 실행 가능한 작업이 없을 때까지 선점 → 실행 제출
+     */
+    public void dispatch() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (true) {
+                int free = slots.availablePermits();
+                if (free == 0) {
+                    return;
+                }
+                List<ClaimedJob> jobs = postRunJobRepository.claim(free, leaseSeconds);
+                for (ClaimedJob job : jobs) {
+                    slots.acquireUninterruptibly();
+                    workers.execute(() -> run(job));
+                }
+                if (jobs.size() < free) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[PostRun] 작업 선점 실패", e);
+        } finally {
+            dispatching.set(false);
+        }
+    }
+
+    private void run(ClaimedJob job) {
+        String stage = job.stage().name();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            postRunStageExecutor.execute(job);
+            sample.stop(stageTimer(stage, "success"));
+            Timer.builder("post_run.stage.lag")
+                .description("결과 저장부터 단계 완료까지 걸린 시간")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(Duration.between(job.createdAt(), LocalDateTime.now()));
+        } catch (Exception e) {
+            boolean failed = markRetry(job, e);
+            sample.stop(stageTimer(stage, failed ? "failed" : "retry"));
+            if (failed) {
+                Counter.builder("post_run.job.failed").tag("stage", stage)
+                    .register(meterRegistry).increment();
+                log.error("[PostRun] 최종 실패 runningResultId={}, stage={}, attempts={}",
+                    job.runningResultId(), stage, job.attempts(), e);
+            } else {
+                log.warn("[PostRun] 실패, 재시도 예정 runningResultId={}, stage={}, attempts={}",
+                    job.runningResultId(), stage, job.attempts(), e);
+            }
+        } finally {
+            slots.release();
+        }
+    }
+
+    private boolean markRetry(ClaimedJob job, Exception cause) {
+        long backoffSeconds = Math.min(5L << Math.min(job.attempts() - 1, 10),
+            MAX_BACKOFF_SECONDS);
+        try {
+            return postRunJobRepository.markRetry(job, maxAttempts, backoffSeconds,
+                cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        } catch (Exception e) {
+            // 기록 실패 시 lease 만료 후 다시 선점된다
+            log.error("[PostRun] 재시도 기록 실패 runningResultId={}, stage={}",
+                job.runningResultId(), job.stage(), e);
+            return false;
+        }
+    }
+
+    private Timer stageTimer(String stage, String outcome) {
+        return Timer.builder("post_run.stage")
+            .tag("stage", stage)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        dispatcher.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            // 끝나지 못한 작업은 lease 만료 후 다른 인스턴스가 다시 가져간다
+            workers.shutdownNow();
+        }
+    }
+}
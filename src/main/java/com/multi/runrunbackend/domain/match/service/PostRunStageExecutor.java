@@ -0,0 +1,75 @@
+package com.multi.runrunbackend.domain.match.service;
+
+import com.multi.runrunbackend.common.exception.custom.NotFoundException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.domain.challenge.service.ChallengeProgressService;
+import com.multi.runrunbackend.domain.coupon.constant.CouponTriggerEvent;
+import com.multi.runrunbackend.domain.coupon.service.CouponIssueService;
+import com.multi.runrunbackend.domain.leaderboard.service.LeaderboardService;
+import com.multi.runrunbackend.domain.match.entity.RunningResult;
+import com.multi.runrunbackend.domain.match.repository.PostRunJobRepository;
+import com.multi.runrunbackend.domain.match.repository.PostRunJobRepository.ClaimedJob;
+import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
+import com.multi.runrunbackend.domain.point.service.PointService;
+import java.math.BigDecimal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 러닝 후처리 단계 1건 실행. 단계의 DB 변경과 작업 완료 표시를 한 트랜잭션에서 커밋하므로 같은 (결과, 단계)가 두 번 반영되지 않는다.
+ * @filename : PostRunStageExecutor
+ * @since : 2026. 1. 23. Friday
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRunStageExecutor {
+
+    private final PostRunJobRepository postRunJobRepository;
+    private final RunningResultRepository runningResultRepository;
+    private final ChallengeProgressService challengeProgressService;
+    private final PointService pointService;
+    private final CouponIssueService couponIssueService;
+    private final LeaderboardService leaderboardService;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void execute(ClaimedJob job) {
+        RunningResult result = runningResultRepository.findById(job.runningResultId())
+            .orElseThrow(() -> new NotFoundException(ErrorCode.RUNNING_RESULT_NOT_FOUND));
+        Long userId = result.getUser().getId();
+
+        switch (job.stage()) {
+            case CHALLENGE -> challengeProgressService.applyRunningResult(result);
+            case POINT -> pointService.earnPointsForRunningComplete(userId,
+                result.getTotalDistance().doubleValue() * 1000);
+            case COUPON -> issueRunningCoupons(userId, result.getId());
+            case LEADERBOARD -> leaderboardService.applyRunningResult(result);
+        }
+
+        if (postRunJobRepository.markDone(job) == 0) {
+            // lease 가 만료돼 다른 워커가 가져간 작업 → 이번 반영은 롤백
+            throw new IllegalStateException("post-run job lease lost: " + job);
+        }
+    }
+
+    /**
+     * 첫 러닝 / 누적 거리 달성 쿠폰. 발급은 쿠폰 서비스의 별도 트랜잭션이라 이 단계가 롤백·재시도돼도 취소되지 않으므로, 쿠폰 서비스가 (사용자,
+     * FIRST_RUNNING) / (사용자, 거리 조건값) 발급 이력을 먼저 확인해 다시 실행돼도 한 번만 발급한다.
+     */
+    private void issueRunningCoupons(Long userId, Long runningResultId) {
+        if (runningResultRepository.countCompletedUpTo(userId, runningResultId) == 1) {
+            couponIssueService.issueAuto(userId, CouponTriggerEvent.FIRST_RUNNING, null);
+            log.info("[CouponAutoIssue] first running coupon issued. userId={}, runningResultId={}",
+                userId, runningResultId);
+        }
+
+        BigDecimal accumulatedDistanceMeters = runningResultRepository.sumTotalDistanceByUserId(
+            userId);
+        couponIssueService.issueAutoForAccumulatedDistance(userId,
+            accumulatedDistanceMeters.intValue());
+    }
+}
@@ -6,20 +6,16 @@ import com.multi.runrunbackend.common.exception.custom.TokenException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.common.file.storage.FileStorage;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
-import com.multi.runrunbackend.domain.friend.entity.Friend;
-import com.multi.runrunbackend.domain.friend.repository.FriendRepository;
 import com.multi.runrunbackend.domain.match.constant.RunStatus;
 import com.multi.runrunbackend.domain.match.constant.RunningType;
 import com.multi.runrunbackend.domain.match.dto.res.ProfileRunningHistoryResDto;
 import com.multi.runrunbackend.domain.match.entity.RunningResult;
 import com.multi.runrunbackend.domain.match.repository.BattleResultRepository;
 import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
-import com.multi.runrunbackend.domain.user.constant.ProfileVisibility;
+import com.multi.runrunbackend.domain.match.repository.UserDailyRunningRepository;
 import com.multi.runrunbackend.domain.user.entity.User;
-import com.multi.runrunbackend.domain.user.entity.UserSetting;
-import com.multi.runrunbackend.domain.user.repository.UserBlockRepository;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
-import com.multi.runrunbackend.domain.user.repository.UserSettingRepository;
+import com.multi.runrunbackend.domain.user.service.ProfileAccessService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -46,10 +42,9 @@ import java.util.stream.Collectors;
 public class ProfileRunningHistoryService {
 
     private final RunningResultRepository runningResultRepository;
+    private final UserDailyRunningRepository userDailyRunningRepository;
     private final UserRepository userRepository;
-    private final UserBlockRepository userBlockRepository;
-    private final UserSettingRepository userSettingRepository;
-    private final FriendRepository friendRepository;
+    private final ProfileAccessService profileAccessService;
     private final FileStorage fileStorage;
     private final BattleResultRepository battleResultRepository;
 
@@ -106,7 +101,7 @@ public class ProfileRunningHistoryService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
 
 
-        validateProfileAccess(me, target);
+        profileAccessService.validateProfileAccess(me, target);
 
         java.time.LocalDateTime start = (startDate != null) ? startDate.atStartOfDay() : null;
         java.time.LocalDateTime end = (endDate != null) ? endDate.atTime(java.time.LocalTime.MAX) : null;
@@ -203,49 +198,10 @@ public class ProfileRunningHistoryService {
         }
 
         result.delete(); // soft delete
-    }
-
-    /**
-     * 프로필 접근 권한 검증
-     */
-    private void validateProfileAccess(User me, User target) {
-
-        if (me.getId().equals(target.getId())) {
-            return;
-        }
-
-
-        if (userBlockRepository.existsByBlockerAndBlockedUser(me, target)
-                || userBlockRepository.existsByBlockerAndBlockedUser(target, me)) {
-            throw new ForbiddenException(ErrorCode.USER_BLOCKED);
-        }
-
-        UserSetting setting =
-                userSettingRepository.findByUserId(target.getId())
-                        .orElse(UserSetting.createDefault(target));
+        runningResultRepository.flush();
 
-        ProfileVisibility visibility = setting.getProfileVisibility();
-
-        switch (visibility) {
-            case PUBLIC -> {
-
-            }
-
-            case FRIENDS_ONLY -> {
-                boolean isFriend =
-                        friendRepository.findBetweenUsers(me, target)
-                                .filter(Friend::isAccepted)
-                                .isPresent();
-
-                if (!isFriend) {
-                    throw new ForbiddenException(ErrorCode.PROFILE_FRIENDS_ONLY);
-                }
-            }
-
-            case PRIVATE -> {
-                throw new ForbiddenException(ErrorCode.PROFILE_PRIVATE);
-            }
-        }
+        // 삭제된 기록이 빠지도록 해당 날짜 일 집계 재계산
+        userDailyRunningRepository.rebuildDay(user.getId(), result.getStartedAt().toLocalDate());
     }
 
     private User getUserByPrincipal(CustomUser principal) {
@@ -1,15 +1,21 @@
 package com.multi.runrunbackend.domain.match.service;
 
-import com.multi.runrunbackend.common.event.RunningResultCompletedEvent;
+import com.multi.runrunbackend.common.event.PostRunJobEnqueuedEvent;
+import com.multi.runrunbackend.common.event.StatsRollupEvent;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import com.multi.runrunbackend.domain.match.constant.PostRunStage;
 import com.multi.runrunbackend.domain.match.constant.RunStatus;
 import com.multi.runrunbackend.domain.match.constant.RunningResultFilterType;
 import com.multi.runrunbackend.domain.match.dto.res.RunningRecordResDto;
 import com.multi.runrunbackend.domain.match.entity.RunningResult;
+import com.multi.runrunbackend.domain.match.repository.PostRunJobRepository;
 import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
+import com.multi.runrunbackend.domain.match.repository.UserDailyRunningRepository;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
 import com.multi.runrunbackend.domain.user.entity.User;
+import com.multi.runrunbackend.domain.user.repository.UserPaceRingRepository;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -20,7 +26,6 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -38,7 +43,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class RunningResultService {
 
+  private static final int AVERAGE_PACE_WINDOW = 5;
+
   private final RunningResultRepository runningResultRepository;
+  private final PostRunJobRepository postRunJobRepository;
+  private final UserDailyRunningRepository userDailyRunningRepository;
+  private final UserPaceRingRepository userPaceRingRepository;
   private final UserRepository userRepository;
   private final ApplicationEventPublisher eventPublisher;
 
@@ -105,14 +115,14 @@ public class RunningResultService {
   }
 
   /**
-   * RunningResult 저장 및 평균 페이스 업데이트 - 모든 런닝 모드에서 RunningResult 저장 시 이 메서드를 사용 - 저장 후 자동으로 사용자의 평균
-   * 페이스를 업데이트
+   * RunningResult 저장 및 후처리 작업 등록 - 모든 런닝 모드에서 RunningResult 저장 시 이 메서드를 사용 - 평균 페이스는 바로 갱신하고,
+   * 챌린지, 포인트, 쿠폰은 같은 트랜잭션에 post_run_job 으로만 등록하고 커밋 후 PostRunJobWorker 가 비동기로 처리
    *
    * @param runningResult 저장할 RunningResult
    * @return 저장된 RunningResult
    */
   @Transactional
-  public RunningResult saveAndUpdateAverage(RunningResult runningResult) {
+  public RunningResult saveAndEnqueuePostRun(RunningResult runningResult) {
     // 1. RunningResult 저장 (먼저!)
     RunningResult saved = runningResultRepository.save(runningResult);
 
@@ -122,51 +132,45 @@ public class RunningResultService {
         saved.getAvgPace(),
         saved.getRunningType());
 
-    // 2. 평균 페이스 업데이트 (저장 후!)
-    updateUserAveragePace(saved.getUser().getId());
+    // 2. 평균 페이스 업데이트 (완주 + 페이스가 있는 기록만)
+    if (saved.getRunStatus() == RunStatus.COMPLETED && saved.getAvgPace() != null) {
+      updateUserAveragePace(saved);
+    }
 
+    // 3. 사용자 일 집계 (홈/프로필 요약용)
     if (saved.getRunStatus() == RunStatus.COMPLETED
         || saved.getRunStatus() == RunStatus.TIME_OUT) {
-      eventPublisher.publishEvent(
-          new RunningResultCompletedEvent(saved.getUser().getId(), saved.getTotalDistance())
-      );
+      userDailyRunningRepository.add(saved);
     }
 
+    // 4. 후처리 작업 등록 (결과와 함께 커밋)
+    List<PostRunStage> stages = PostRunStage.stagesFor(saved);
+    if (!stages.isEmpty()) {
+      postRunJobRepository.enqueue(saved.getId(), stages);
+      eventPublisher.publishEvent(new PostRunJobEnqueuedEvent(saved.getId()));
+    }
+
+    eventPublisher.publishEvent(StatsRollupEvent.of(RollupSource.RUNNING_RESULT, saved.getId()));
+
     return saved;
   }
 
   /**
-   * 사용자의 평균 페이스 업데이트 - 최근 5개 완주 기록의 avgPace 평균 계산 - 기록이 없으면 null로 설정
+   * 사용자의 평균 페이스 업데이트 - 최근 5개 완주 페이스 링에 이번 페이스를 넣고 링 평균으로 갱신 (최근 기록 재조회 없음)
    *
-   * @param userId 사용자 ID
+   * @param saved 저장된 완주 RunningResult
    */
-  @Transactional
-  public void updateUserAveragePace(Long userId) {
-    // 1. 최근 5개 완주 기록 조회
-    List<RunningResult> recentResults = runningResultRepository
-        .findTop5ByUserIdForAverage(userId, PageRequest.of(0, 5));
-
-    // 2. User 엔티티 조회
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
-
-    // 3. 기록이 없으면 평균 페이스를 null로 설정
-    if (recentResults.isEmpty()) {
-      user.updateAveragePace(null);
-      log.info("ℹ️ 평균 페이스 초기화 (기록 없음): userId={}", userId);
-      return;
-    }
+  private void updateUserAveragePace(RunningResult saved) {
+    List<BigDecimal> recentPaces = userPaceRingRepository.push(
+        saved.getUser().getId(), saved.getAvgPace(), AVERAGE_PACE_WINDOW);
 
-    // 4. 평균 페이스 계산 (avgPace의 평균)
-    BigDecimal averagePace = recentResults.stream()
-        .map(RunningResult::getAvgPace)
+    BigDecimal averagePace = recentPaces.stream()
         .reduce(BigDecimal.ZERO, BigDecimal::add)
-        .divide(BigDecimal.valueOf(recentResults.size()), 2, RoundingMode.HALF_UP);
+        .divide(BigDecimal.valueOf(recentPaces.size()), 2, RoundingMode.HALF_UP);
 
-    // 5. User 엔티티 업데이트
-    user.updateAveragePace(averagePace);
+    saved.getUser().updateAveragePace(averagePace);
 
     log.info("✅ 평균 페이스 업데이트: userId={}, averagePace={}분/km, 기록={}개",
-        userId, averagePace, recentResults.size());
+        saved.getUser().getId(), averagePace, recentPaces.size());
   }
 }
@@ -11,12 +11,10 @@ import com.multi.runrunbackend.domain.match.dto.res.RunningTypeBreakdownDto;
 import com.multi.runrunbackend.domain.match.dto.res.TierPaceDto;
 import com.multi.runrunbackend.domain.match.dto.res.TierStatsDto;
 import com.multi.runrunbackend.domain.match.dto.res.WeeklyTrendDto;
-import com.multi.runrunbackend.domain.match.repository.MatchSessionRepository;
-import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
-import com.multi.runrunbackend.domain.match.repository.RunningStatsRepository;
-import com.multi.runrunbackend.domain.match.repository.SessionUserRepository;
-import com.multi.runrunbackend.domain.user.repository.UserRepository;
+import com.multi.runrunbackend.domain.stats.constant.StatsMetric;
+import com.multi.runrunbackend.domain.stats.repository.StatsRollupRepository;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
@@ -40,11 +38,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class RunningStatsService {
 
-    private final RunningStatsRepository runningStatsRepository;
-    private final RunningResultRepository runningResultRepository;
-    private final MatchSessionRepository matchSessionRepository;
-    private final SessionUserRepository sessionUserRepository;
-    private final UserRepository userRepository;
+    private final StatsRollupRepository statsRollupRepository;
 
     private long toLong(Object obj) {
         if (obj == null) return 0L;
@@ -82,9 +76,8 @@ public class RunningStatsService {
     }
 
     public RunningStatsResDto getRunningStats() {
-        // 1. 기본 통계
-        List<Object[]> ratesList = runningStatsRepository.calculateMatchRates();
-        Object[] rates = ratesList.isEmpty() ? new Object[]{0L, 0L, 0L, 0L} : ratesList.get(0);
+        // 1. 기본 통계 (러닝 결과 저장 시 증분 반영된 집계 테이블 기준)
+        Object[] rates = statsRollupRepository.sumMatchRates();
         long successCount = toLong(rates[0]);
         long cancelCount = toLong(rates[1]);
         long dropoutCount = toLong(rates[2]);
@@ -94,30 +87,31 @@ public class RunningStatsService {
         double cancelRate = calculatePercentage(cancelCount, totalCount);
         double dropoutRate = calculatePercentage(dropoutCount, totalCount);
 
-        // 매칭 평균 시간
-        Double avgDuration = matchSessionRepository.calculateAvgMatchDuration();
-        double avgMatchDuration = avgDuration != null ? avgDuration : 0.0;
+        // 매칭 평균 시간 (주기 스냅샷)
+        long durationSum = statsRollupRepository.findLatestSnapshot(StatsMetric.MATCH_DURATION_SUM);
+        long durationCount = statsRollupRepository.findLatestSnapshot(
+            StatsMetric.MATCH_DURATION_COUNT);
+        double avgMatchDuration = durationCount > 0 ? (double) durationSum / durationCount : 0.0;
 
-        // 러닝 평균 거리
-        BigDecimal avgDistance = runningStatsRepository.calculateAvgRunningDistance();
-        BigDecimal avgRunningDistance = avgDistance != null ? avgDistance : BigDecimal.ZERO;
-
-        // 총 뛴 거리 수
-        BigDecimal totalDistance = runningStatsRepository.calculateTotalRunningDistance();
+        // 완주 기준 총 횟수 / 총 거리 / 총 시간
+        Object[] totals = statsRollupRepository.sumCompletedTotals();
+        long totalRunningCount = toLong(totals[0]);
+        BigDecimal totalDistance = toBigDecimal(totals[1]);
+        long totalRunningTime = toLong(totals[2]);
 
-        // 총 러닝 횟수
-        long totalRunningCount = runningStatsRepository.countTotalRunning();
-
-        // 총 시간
-        long totalRunningTime = runningStatsRepository.calculateTotalRunningTime();
+        // 러닝 평균 거리
+        BigDecimal avgRunningDistance = totalRunningCount > 0
+            ? totalDistance.divide(BigDecimal.valueOf(totalRunningCount), 2, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO;
 
         // 연속 러닝일
-        Long maxConsecutiveDays = runningStatsRepository.findMaxConsecutiveDays();
+        Long maxConsecutiveDays = statsRollupRepository.findMaxConsecutiveDays();
         long consecutiveDays = maxConsecutiveDays != null ? maxConsecutiveDays : 0L;
 
-        // 매칭 참여 비율
-        long participantCount = sessionUserRepository.countDistinctParticipants();
-        long totalUsers = userRepository.count();
+        // 매칭 참여 비율 (참여자 수는 주기 스냅샷)
+        long participantCount = statsRollupRepository.findLatestSnapshot(
+            StatsMetric.MATCH_PARTICIPANTS);
+        long totalUsers = statsRollupRepository.sumDailyMetricAll(StatsMetric.NEW_USER);
         double participationRate = calculatePercentage(participantCount, totalUsers);
 
         // 2. 티어별 통계
@@ -167,7 +161,7 @@ public class RunningStatsService {
     }
 
     private List<TierStatsDto> calculateTierStats() {
-        List<Object[]> results = runningStatsRepository.sumByTier();
+        List<Object[]> results = statsRollupRepository.sumByTier();
         return results.stream()
             .map(row -> {
                 String tierName = (String) row[0];
@@ -196,7 +190,7 @@ public class RunningStatsService {
     }
 
     private List<RunningTypeBreakdownDto> calculateTypeBreakdown(long totalCount) {
-        List<Object[]> results = runningStatsRepository.countByRunningType();
+        List<Object[]> results = statsRollupRepository.countByRunningType();
         long total = results.stream().mapToLong(row -> toLong(row[1])).sum();
         final long finalTotal = total == 0 ? 1 : total; // 0으로 나누기 방지, effectively final로 만들기
 
@@ -216,7 +210,7 @@ public class RunningStatsService {
     }
 
     private List<HourlyStatsDto> calculateHourlyStats() {
-        List<Object[]> results = runningStatsRepository.sumByHour();
+        List<Object[]> results = statsRollupRepository.sumByHour();
         
         // 0-23시 모두 포함하도록 (없는 시간대는 0으로 채움)
         Map<Integer, Object[]> resultMap = results.stream()
@@ -246,7 +240,7 @@ public class RunningStatsService {
     }
 
     private List<TierPaceDto> calculateTierPace() {
-        List<Object[]> results = runningStatsRepository.avgPaceByTier();
+        List<Object[]> results = statsRollupRepository.avgPaceByTier();
         return results.stream()
             .map(row -> {
                 String tierName = (String) row[0];
@@ -263,7 +257,7 @@ public class RunningStatsService {
     }
 
     private List<WeeklyTrendDto> calculateWeeklyTrend() {
-        List<Object[]> results = runningStatsRepository.sumWeeklyTrend();
+        List<Object[]> results = statsRollupRepository.sumWeeklyTrend();
         return results.stream()
             .map(row -> {
                 LocalDate weekStart;
@@ -290,7 +284,7 @@ public class RunningStatsService {
     }
 
     private List<MonthlyTrendDto> calculateMonthlyTrend() {
-        List<Object[]> results = runningStatsRepository.sumMonthlyTrend();
+        List<Object[]> results = statsRollupRepository.sumMonthlyTrend();
         return results.stream()
             .map(row -> {
                 LocalDate monthDate;
@@ -318,7 +312,7 @@ public class RunningStatsService {
     }
 
     private List<PaceDistributionDto> calculatePaceDistribution() {
-        List<Object[]> results = runningStatsRepository.distributionByPace();
+        List<Object[]> results = statsRollupRepository.distributionByPace();
         return results.stream()
             .map(row -> {
                 String paceRange = (String) row[0];
@@ -332,7 +326,7 @@ public class RunningStatsService {
     }
 
     private List<CourseStatsDto> calculateCourseStats() {
-        List<Object[]> results = runningStatsRepository.sumByCourse();
+        List<Object[]> results = statsRollupRepository.sumByCourse();
         long totalCount = results.stream().mapToLong(row -> toLong(row[2])).sum();
         final long finalTotalCount = totalCount == 0 ? 1 : totalCount; // 0으로 나누기 방지, effectively final로 만들기
 
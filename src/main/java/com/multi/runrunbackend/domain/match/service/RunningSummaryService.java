@@ -1,20 +1,14 @@
 package com.multi.runrunbackend.domain.match.service;
 
-import com.multi.runrunbackend.common.exception.custom.ForbiddenException;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.custom.TokenException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
-import com.multi.runrunbackend.domain.friend.entity.Friend;
-import com.multi.runrunbackend.domain.friend.repository.FriendRepository;
-import com.multi.runrunbackend.domain.match.constant.RunStatus;
-import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
-import com.multi.runrunbackend.domain.user.constant.ProfileVisibility;
+import com.multi.runrunbackend.domain.match.repository.UserDailyRunningRepository;
+import com.multi.runrunbackend.domain.match.repository.UserDailyRunningRepository.DailyRunning;
 import com.multi.runrunbackend.domain.user.entity.User;
-import com.multi.runrunbackend.domain.user.entity.UserSetting;
-import com.multi.runrunbackend.domain.user.repository.UserBlockRepository;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
-import com.multi.runrunbackend.domain.user.repository.UserSettingRepository;
+import com.multi.runrunbackend.domain.user.service.ProfileAccessService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -30,7 +23,7 @@ import java.util.List;
 /**
  *
  * @author : kimyongwon
- * @description : 러닝 요약 서비스 - 오늘 / 주간 러닝 요약 정보 제공
+ * @description : 러닝 요약 서비스 - 오늘 / 주간 러닝 요약 정보 제공 (사용자별 일 집계 user_daily_running 범위 조회)
  * @filename : RunningSummaryService
  * @since : 26. 1. 4. 오후 5:15 일요일
  */
@@ -39,12 +32,8 @@ import java.util.List;
 public class RunningSummaryService {
 
     private final UserRepository userRepository;
-    private final RunningResultRepository runningResultRepository;
-    private final UserBlockRepository userBlockRepository;
-    private final FriendRepository friendRepository;
-    private final UserSettingRepository userSettingRepository;
-
-    private static final List<RunStatus> VISIBLE_STATUSES = List.of(RunStatus.COMPLETED, RunStatus.TIME_OUT);
+    private final ProfileAccessService profileAccessService;
+    private final UserDailyRunningRepository userDailyRunningRepository;
 
     /**
      * 오늘 러닝 요약
@@ -54,21 +43,17 @@ public class RunningSummaryService {
         User user = getUserByPrincipal(principal);
 
         LocalDate today = LocalDate.now();
-        LocalDateTime start = today.atStartOfDay();
-        LocalDateTime end = today.plusDays(1).atStartOfDay();
 
-        List<Object[]> rows =
-                runningResultRepository.findTodaySummary(
-                        user.getId(), VISIBLE_STATUSES, start, end
-                );
+        List<DailyRunning> rows =
+                userDailyRunningRepository.findRange(user.getId(), today, today);
 
         BigDecimal distance = BigDecimal.ZERO;
         Integer time = 0;
 
         if (!rows.isEmpty()) {
-            Object[] row = rows.get(0);
-            distance = (BigDecimal) row[0];
-            time = ((Number) row[1]).intValue();
+            DailyRunning row = rows.get(0);
+            distance = row.totalDistance();
+            time = (int) row.totalTime();
         }
 
         int calories = calculateCalories(distance, user.getWeightKg());
@@ -102,7 +87,7 @@ public class RunningSummaryService {
         User target = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
 
-        validateProfileAccess(me, target);
+        profileAccessService.validateProfileAccess(me, target);
 
 
         return getWeeklySummaryInternal(target, weekOffset);
@@ -120,15 +105,11 @@ public class RunningSummaryService {
                         .with(DayOfWeek.MONDAY)
                         .plusWeeks(weekOffset);
 
-        LocalDateTime start = monday.atStartOfDay();
-        LocalDateTime end = monday.plusDays(6).atTime(23, 59, 59);
-
-        List<Object[]> rows =
-                runningResultRepository.findWeeklySummary(
+        List<DailyRunning> rows =
+                userDailyRunningRepository.findRange(
                         user.getId(),
-                        VISIBLE_STATUSES,
-                        start,
-                        end
+                        monday,
+                        monday.plusDays(6)
                 );
 
         List<BigDecimal> dailyDistances =
@@ -137,16 +118,12 @@ public class RunningSummaryService {
         BigDecimal totalDistance = BigDecimal.ZERO;
         int totalTime = 0;
 
-        for (Object[] row : rows) {
-            int dayOfWeek = ((Number) row[0]).intValue(); // 0=일
-            BigDecimal dist = (BigDecimal) row[1];
-            int time = ((Number) row[2]).intValue();
+        for (DailyRunning row : rows) {
+            int index = row.runDate().getDayOfWeek().getValue() - 1; // 월=0
+            dailyDistances.set(index, row.totalDistance());
 
-            int index = (dayOfWeek + 6) % 7; // 월=0
-            dailyDistances.set(index, dist);
-
-            totalDistance = totalDistance.add(dist);
-            totalTime += time;
+            totalDistance = totalDistance.add(row.totalDistance());
+            totalTime += (int) row.totalTime();
         }
 
         return new WeeklySummaryResult(
@@ -183,49 +160,6 @@ public class RunningSummaryService {
 
     }
 
-    /**
-     * 프로필 접근 권한 검증
-     */
-    private void validateProfileAccess(User me, User target) {
-
-        if (me.getId().equals(target.getId())) {
-            return;
-        }
-
-
-        if (userBlockRepository.existsByBlockerAndBlockedUser(me, target)
-                || userBlockRepository.existsByBlockerAndBlockedUser(target, me)) {
-            throw new ForbiddenException(ErrorCode.USER_BLOCKED);
-        }
-
-        UserSetting setting =
-                userSettingRepository.findByUserId(target.getId())
-                        .orElse(UserSetting.createDefault(target));
-
-        ProfileVisibility visibility = setting.getProfileVisibility();
-
-        switch (visibility) {
-            case PUBLIC -> {
-
-            }
-
-            case FRIENDS_ONLY -> {
-                boolean isFriend =
-                        friendRepository.findBetweenUsers(me, target)
-                                .filter(Friend::isAccepted)
-                                .isPresent();
-
-                if (!isFriend) {
-                    throw new ForbiddenException(ErrorCode.PROFILE_FRIENDS_ONLY);
-                }
-            }
-
-            case PRIVATE -> {
-                throw new ForbiddenException(ErrorCode.PROFILE_PRIVATE);
-            }
-        }
-    }
-
     private User getUserByPrincipal(CustomUser principal) {
         if (principal == null) {
             throw new TokenException(ErrorCode.UNAUTHORIZED);
@@ -1,11 +1,12 @@
 package com.multi.runrunbackend.domain.membership;
 
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
 import com.multi.runrunbackend.domain.membership.service.MembershipService;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author : BoKyung
@@ -15,22 +16,23 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class MembershipScheduler {
 
     private final MembershipService membershipService;
+    private final ClusterJobRunner clusterJobRunner;
 
     /**
      * @description : 멤버십 만료 처리 (스케줄러-> 매일 자정)
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void processExpiredMemberships() {
+        clusterJobRunner.run("membership-expire", Duration.ofMinutes(30), () -> {
+            log.info("=== 멤버십 만료 처리 스케줄러 시작 ===");
 
-        log.info("=== 멤버십 만료 처리 스케줄러 시작 ===");
+            membershipService.processExpiredMemberships();
 
-        membershipService.processExpiredMemberships();
-
-        log.info("=== 멤버십 만료 처리 스케줄러 종료 ===");
+            log.info("=== 멤버십 만료 처리 스케줄러 종료 ===");
+        });
     }
 
     /**
@@ -38,9 +40,11 @@ public class MembershipScheduler {
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void sendMembershipExpiryNotifications() {
-        log.info("=== 멤버십 만료 전 알림 스케줄러 시작 ===");
-        membershipService.sendMembershipExpiryNotifications();
-        log.info("=== 멤버십 만료 전 알림 스케줄러 종료 ===");
+        clusterJobRunner.run("membership-expiry-notify", Duration.ofMinutes(30), () -> {
+            log.info("=== 멤버십 만료 전 알림 스케줄러 시작 ===");
+            membershipService.sendMembershipExpiryNotifications();
+            log.info("=== 멤버십 만료 전 알림 스케줄러 종료 ===");
+        });
     }
 
 }
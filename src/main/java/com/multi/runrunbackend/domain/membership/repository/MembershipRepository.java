@@ -4,9 +4,13 @@ import com.multi.runrunbackend.domain.membership.constant.MembershipStatus;
 import com.multi.runrunbackend.domain.membership.entity.Membership;
 import com.multi.runrunbackend.domain.user.entity.User;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -27,6 +31,14 @@ public interface MembershipRepository extends JpaRepository<Membership, Long> {
     // ACTIVE 또는 CANCELED 확인
     boolean existsByUser_IdAndMembershipStatusIn(Long userId, List<MembershipStatus> statuses);
 
+    // 여러 사용자 중 해당 상태의 멤버십을 가진 사용자 id (크루원 목록 등 일괄 확인용)
+    @Query("SELECT DISTINCT m.user.id FROM Membership m "
+            + "WHERE m.user.id IN :userIds AND m.membershipStatus IN :statuses")
+    List<Long> findUserIdsByUserIdInAndMembershipStatusIn(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("statuses") List<MembershipStatus> statuses
+    );
+
     // 해지 신청 상태 + 만료일이 지난 멤버십 찾기 (자동 처리용)
     List<Membership> findByMembershipStatusAndEndDateBefore(
             MembershipStatus status,
@@ -42,6 +54,22 @@ public interface MembershipRepository extends JpaRepository<Membership, Long> {
             LocalDateTime end
     );
 
+    /**
+     * @description : 자동결제 엔진용 - 결제일 구간의 대상 멤버십을 id 순으로 afterId 다음부터 한 페이지씩 (키셋 페이지네이션)
+     */
+    @Query("SELECT m FROM Membership m JOIN FETCH m.user "
+            + "WHERE m.membershipStatus = :status "
+            + "AND m.nextBillingDate >= :start AND m.nextBillingDate < :end "
+            + "AND m.id > :afterId "
+            + "ORDER BY m.id")
+    List<Membership> findDueForBillingAfter(
+            @Param("status") MembershipStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
     /**
      * @description : 해지 신청 상태 + 만료일이 하루 후인 멤버십 찾기 (만료 전 알림용)
      */
@@ -1,6 +1,7 @@
 package com.multi.runrunbackend.domain.membership.service;
 
 
+import com.multi.runrunbackend.common.event.StatsRollupEvent;
 import com.multi.runrunbackend.common.exception.custom.BusinessException;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
@@ -19,8 +20,10 @@ import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import com.multi.runrunbackend.domain.notification.service.NotificationService;
 import com.multi.runrunbackend.domain.notification.constant.NotificationType;
 import com.multi.runrunbackend.domain.notification.constant.RelatedType;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +48,7 @@ public class MembershipService {
     private final CrewUserRepository crewUserRepository;
     private final CrewService crewService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * @description : 멤버십 메인 조회
@@ -119,6 +123,8 @@ public class MembershipService {
             // 멤버십 없으면 → 프리미엄 멤버십 생성
             Membership membership = Membership.create(user);
             membershipRepository.save(membership);
+            eventPublisher.publishEvent(
+                    StatsRollupEvent.of(RollupSource.MEMBERSHIP, membership.getId()));
             log.info("프리미엄 멤버십 생성 완료 - 사용자 ID: {}", user.getId());
 
         } else {
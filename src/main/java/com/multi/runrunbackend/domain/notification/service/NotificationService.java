@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.notification.service;
 
+import com.multi.runrunbackend.common.config.SchedulingConfig;
 import com.multi.runrunbackend.common.exception.custom.ForbiddenException;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
@@ -14,15 +15,16 @@ import com.multi.runrunbackend.domain.notification.sse.SseEmitterRepository;
 import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -35,14 +37,28 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
 
   private final NotificationRepository notificationRepository;
   private final ApplicationEventPublisher publisher;
   private final SseEmitterRepository sseEmitterRepository;
   private final UserRepository userRepository;
-
+  // 연결마다 스레드 풀을 만들지 않고 애플리케이션 스케줄러 사용 (STOMP 브로커 스케줄러와 분리, SchedulingConfig)
+  private final TaskScheduler taskScheduler;
+
+  public NotificationService(
+      NotificationRepository notificationRepository,
+      ApplicationEventPublisher publisher,
+      SseEmitterRepository sseEmitterRepository,
+      UserRepository userRepository,
+      @Qualifier(SchedulingConfig.TASK_SCHEDULER) TaskScheduler taskScheduler
+  ) {
+    this.notificationRepository = notificationRepository;
+    this.publisher = publisher;
+    this.sseEmitterRepository = sseEmitterRepository;
+    this.userRepository = userRepository;
+    this.taskScheduler = taskScheduler;
+  }
 
   @Transactional
   public Long create(
@@ -107,16 +123,16 @@ public class NotificationService {
    * SSE 연결에 대해 주기적으로 heartbeat를 전송하여 연결을 유지합니다. 프록시나 브라우저가 연결을 끊지 않도록 합니다.
    */
   private void scheduleHeartbeat(Long receiverId, SseEmitter emitter) {
-    ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    AtomicReference<ScheduledFuture<?>> heartbeat = new AtomicReference<>();
 
-    scheduler.scheduleAtFixedRate(() -> {
+    heartbeat.set(taskScheduler.scheduleAtFixedRate(() -> {
       try {
         // emitter가 여전히 유효한지 확인
         SseEmitter currentEmitter = sseEmitterRepository.get(receiverId);
         if (currentEmitter == null || currentEmitter != emitter) {
           log.debug("[SSE Heartbeat] receiverId={}, emitter changed or removed, stopping heartbeat",
               receiverId);
-          scheduler.shutdown();
+          cancel(heartbeat);
           return;
         }
 
@@ -130,15 +146,22 @@ public class NotificationService {
         log.debug("[SSE Heartbeat FAILED] receiverId={}, removing emitter, error={}",
             receiverId, e.getClass().getSimpleName());
         sseEmitterRepository.remove(receiverId, emitter);
-        scheduler.shutdown();
+        cancel(heartbeat);
       } catch (RuntimeException e) {
         // IllegalStateException, AsyncRequestNotUsableException 등 모든 RuntimeException 처리
         log.debug("[SSE Heartbeat FAILED] receiverId={}, removing emitter, error={}",
             receiverId, e.getClass().getSimpleName());
         sseEmitterRepository.remove(receiverId, emitter);
-        scheduler.shutdown();
+        cancel(heartbeat);
       }
-    }, 20, 20, TimeUnit.SECONDS); // 20초마다 전송
+    }, Instant.now().plusSeconds(20), Duration.ofSeconds(20))); // 20초마다 전송
+  }
+
+  private void cancel(AtomicReference<ScheduledFuture<?>> heartbeat) {
+    ScheduledFuture<?> future = heartbeat.get();
+    if (future != null) {
+      future.cancel(false);
+    }
   }
 
 
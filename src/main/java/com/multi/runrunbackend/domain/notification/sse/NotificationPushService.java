@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.notification.sse;
 
+import com.multi.runrunbackend.common.metrics.RunRunMetrics;
 import java.io.IOException;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationPushService {
 
   private final SseEmitterRepository repo;
+  private final RunRunMetrics runRunMetrics;
 
   public void sendToUser(Long receiverId, Object payload) {
     SseEmitter emitter = repo.get(receiverId);
@@ -30,11 +32,13 @@ public class NotificationPushService {
 
     String eventId = "evt-" + Instant.now().toEpochMilli();
 
+    long start = System.nanoTime();
     try {
       emitter.send(SseEmitter.event()
           .id(eventId)
           .name("notification")
           .data(payload));
+      runRunMetrics.sseSent(start);
       log.info("[Notification Push SUCCESS] receiverId={}, eventId={}", receiverId, eventId);
     } catch (IOException e) {
       log.debug("[Notification Push FAILED] receiverId={}, error={}, removing emitter",
@@ -1,19 +1,19 @@
 package com.multi.runrunbackend.domain.payment;
 
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
 import com.multi.runrunbackend.domain.coupon.service.CouponIssueService;
-import com.multi.runrunbackend.domain.membership.constant.MembershipStatus;
-import com.multi.runrunbackend.domain.membership.entity.Membership;
-import com.multi.runrunbackend.domain.membership.repository.MembershipRepository;
 import com.multi.runrunbackend.domain.payment.constant.PaymentStatus;
 import com.multi.runrunbackend.domain.payment.entity.Payment;
 import com.multi.runrunbackend.domain.payment.repository.PaymentRepository;
-import com.multi.runrunbackend.domain.payment.service.PaymentService;
+import com.multi.runrunbackend.domain.payment.service.AutoPayBillingEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -26,58 +26,37 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class PaymentScheduler {
 
-    private final MembershipRepository membershipRepository;
-    private final PaymentService paymentService;
+    private final AutoPayBillingEngine autoPayBillingEngine;
     private final PaymentRepository paymentRepository;
     private final CouponIssueService couponIssueService;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * @description : 자동결제 처리
+     * @description : 자동결제 처리. 체크포인트가 있어 중간에 끊겨도 다음 실행에서 이어서 처리하므로, 매시 정각에 돌려 재시도·이어받기 기회를
+     * 준다 (이미 끝난 결제일은 바로 반환).
      * @author : BoKyung
      * @since : 2026. 1. 1.
      */
-    @Scheduled(cron = "0 0 0 * * *")
+    @Scheduled(cron = "0 0 * * * *")
     public void processAutoPayments() {
-        log.info("=== 자동결제 스케줄러 시작 ===");
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime tomorrow = now.plusDays(1).withHour(0).withMinute(0).withSecond(0);
-
-        // 오늘이 결제일인 활성 멤버십 조회
-        List<Membership> memberships = membershipRepository
-                .findByMembershipStatusAndNextBillingDateBetween(
-                        MembershipStatus.ACTIVE,
-                        now,
-                        tomorrow
-                );
-
-        log.info("자동결제 대상: {}건", memberships.size());
-
-        int successCount = 0;
-        int failCount = 0;
-
-        for (Membership membership : memberships) {
-            try {
-                paymentService.processAutoPayment(membership.getUser(), membership);
-                successCount++;
-            } catch (Exception e) {
-                failCount++;
-                log.error("자동결제 실패 - membershipId: {}", membership.getId(), e);
-            }
-        }
-
-        log.info("=== 자동결제 완료 - 성공: {}건, 실패: {}건 ===", successCount, failCount);
+        // 두 서버가 같이 돌면 이중 결제가 되므로 반드시 한 번만. 페이지마다 따로 커밋하므로 바깥 트랜잭션은 두지 않는다
+        clusterJobRunner.runCounting("payment-autopay", Duration.ofHours(1),
+                () -> autoPayBillingEngine.runDue(LocalDate.now()));
     }
 
     /**
-     * @description : 오래된 READY 상태 결제 자동 정리
+     * @description : 오래된 READY 상태 결제 자동 정리. 원장 완료 기록·락 해제 전에 커밋되도록 트랜잭션은 작업 본문 안에서 연다
      */
     @Scheduled(cron = "0 */30 * * * *")
-    @Transactional
     public void cleanupOldReadyPayments() {
+        clusterJobRunner.runCounting("payment-ready-cleanup", Duration.ofMinutes(25),
+                () -> transactionTemplate.execute(status -> failOldReadyPayments()));
+    }
+
+    private int failOldReadyPayments() {
         log.info("=== READY 상태 결제 정리 시작 ===");
 
         // 30분 전 시간
@@ -91,7 +70,7 @@ public class PaymentScheduler {
 
         if (oldPayments.isEmpty()) {
             log.info("정리할 READY 상태 결제 없음");
-            return;
+            return 0;
         }
 
         log.info("정리 대상 READY 상태 결제: {}건", oldPayments.size());
@@ -124,6 +103,6 @@ public class PaymentScheduler {
 
         log.info("=== READY 상태 결제 정리 완료 - 정리: {}건, 쿠폰 복구: {}건 ===",
                 cleanedCount, couponRecoveredCount);
-
+        return cleanedCount;
     }
 }
@@ -8,16 +8,20 @@ import com.multi.runrunbackend.domain.payment.dto.req.TossBillingPaymentReqDto;
 import com.multi.runrunbackend.domain.payment.dto.res.TossBillingKeyResDto;
 import com.multi.runrunbackend.domain.payment.dto.res.TossPaymentResDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Base64;
+import java.util.Optional;
 
 /**
  * @author : BoKyung
@@ -29,15 +33,23 @@ import java.util.Base64;
 @Slf4j
 public class TossPaymentClient {
 
+    private static final Duration BILLING_BLOCK_TIMEOUT = Duration.ofSeconds(12);
+
     private final WebClient webClient;
+    private final WebClient billingWebClient;
 
     @Value("${toss.payments.secret-key}")
     private String secretKey;
 
-    public TossPaymentClient(WebClient.Builder webClientBuilder) {
+    public TossPaymentClient(
+            WebClient.Builder webClientBuilder,
+            @Qualifier("tossBillingWebClient") WebClient billingWebClient,
+            @Value("${toss.payments.base-url:https://api.tosspayments.com}") String baseUrl
+    ) {
         this.webClient = webClientBuilder
-                .baseUrl("https://api.tosspayments.com")
+                .baseUrl(baseUrl)
                 .build();
+        this.billingWebClient = billingWebClient;
     }
 
     /**
@@ -150,6 +162,75 @@ public class TossPaymentClient {
         }
     }
 
+    /**
+     * @description : 자동결제 엔진용 빌링키 결제. 전용 커넥션 풀을 쓰고 Idempotency-Key 를 실어 보내므로 같은 키로 다시 호출해도 토스에서
+     * 중복 승인되지 않는다. 카드 거절 등 4xx 는 BILLING_PAYMENT_FAILED, 5xx·429·타임아웃·연결 실패처럼 재시도하면 될 수 있는 경우는
+     * BILLING_PAYMENT_UNAVAILABLE 로 구분해 던진다.
+     */
+    public TossPaymentResDto payWithBillingKey(String billingKey, TossBillingPaymentReqDto req,
+            String idempotencyKey) {
+        try {
+            TossPaymentResDto response = billingWebClient
+                    .post()
+                    .uri("/v1/billing/{billingKey}", billingKey)
+                    .header(HttpHeaders.AUTHORIZATION, createAuthHeader())
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .bodyValue(req)
+                    .retrieve()
+                    .bodyToMono(TossPaymentResDto.class)
+                    .block(BILLING_BLOCK_TIMEOUT);
+
+            if (response == null) {
+                throw new ExternalApiException(ErrorCode.BILLING_PAYMENT_UNAVAILABLE);
+            }
+            return response;
+
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == 429) {
+                log.warn("빌링키 결제 일시 실패 - orderId: {}, status: {}", req.getOrderId(), e.getStatusCode());
+                throw new ExternalApiException(ErrorCode.BILLING_PAYMENT_UNAVAILABLE);
+            }
+            log.error("빌링키 결제 거절 - orderId: {}, 응답: {}", req.getOrderId(), e.getResponseBodyAsString());
+            throw new ExternalApiException(ErrorCode.BILLING_PAYMENT_FAILED);
+        } catch (WebClientRequestException | IllegalStateException e) {
+            // 연결 실패, 커넥션 풀 대기 초과, block 타임아웃
+            log.warn("빌링키 결제 응답 없음 - orderId: {}, error: {}", req.getOrderId(), e.getMessage());
+            throw new ExternalApiException(ErrorCode.BILLING_PAYMENT_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * @description : 주문 ID 로 결제 조회. 자동결제에서 재시도를 다 써도 응답을 받지 못한 건이 실제로 승인됐는지 확인하는 데 쓴다.
+     * 결제가 없으면(404) 빈 값, 5xx·429·타임아웃·연결 실패로 확인하지 못하면 BILLING_PAYMENT_UNAVAILABLE 을 던진다.
+     */
+    public Optional<TossPaymentResDto> findPaymentByOrderId(String orderId) {
+        try {
+            TossPaymentResDto response = billingWebClient
+                    .get()
+                    .uri("/v1/payments/orders/{orderId}", orderId)
+                    .header(HttpHeaders.AUTHORIZATION, createAuthHeader())
+                    .retrieve()
+                    .bodyToMono(TossPaymentResDto.class)
+                    .block(BILLING_BLOCK_TIMEOUT);
+
+            if (response == null) {
+                throw new ExternalApiException(ErrorCode.BILLING_PAYMENT_UNAVAILABLE);
+            }
+            return Optional.of(response);
+
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().value() == 404) {
+                return Optional.empty();
+            }
+            log.warn("결제 조회 실패 - orderId: {}, status: {}", orderId, e.getStatusCode());
+            throw new ExternalApiException(ErrorCode.BILLING_PAYMENT_UNAVAILABLE);
+        } catch (WebClientRequestException | IllegalStateException e) {
+            log.warn("결제 조회 응답 없음 - orderId: {}, error: {}", orderId, e.getMessage());
+            throw new ExternalApiException(ErrorCode.BILLING_PAYMENT_UNAVAILABLE);
+        }
+    }
+
     private String createAuthHeader() {
         String credentials = secretKey + ":";
         String encodedCredentials = Base64.getEncoder()
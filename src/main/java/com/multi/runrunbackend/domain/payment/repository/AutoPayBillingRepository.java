@@ -0,0 +1,194 @@
+package com.multi.runrunbackend.domain.payment.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author : BoKyung
+ * @description : 자동결제 체크포인트 / 건별 결과 원장 접근 (스키마: resources/db/autopay-billing.sql)
+ * @filename : AutoPayBillingRepository
+ * @since : 2026. 1. 29. Thursday
+ */
+@Repository
+@RequiredArgsConstructor
+public class AutoPayBillingRepository {
+
+    public static final String RUN_RUNNING = "RUNNING";
+    public static final String RUN_PARTIAL = "PARTIAL";
+    public static final String RUN_DONE = "DONE";
+
+    public static final String CHARGE_SUCCEEDED = "SUCCEEDED";
+    public static final String CHARGE_DECLINED = "DECLINED";
+    public static final String CHARGE_ERROR = "ERROR";
+    // 빌링키가 없어 호출하지 않은 건 - 멤버십은 건드리지 않는다
+    public static final String CHARGE_SKIPPED = "SKIPPED";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record Checkpoint(String status, long lastMembershipId) {
+
+        public boolean done() {
+            return RUN_DONE.equals(status);
+        }
+    }
+
+    public record PreviousCharge(String status, int attempts) {
+
+        public boolean settled() {
+            return !CHARGE_ERROR.equals(status);
+        }
+    }
+
+    public record ChargeRow(
+        long membershipId,
+        long userId,
+        String idempotencyKey,
+        String status,
+        int attempts,
+        String paymentKey,
+        String errorCode
+    ) {
+
+    }
+
+    /**
+     * 결제일 실행 행을 만들고(이미 있으면 그대로) 현재 체크포인트를 돌려준다. 이전 실행이 PARTIAL 로 끝났으면 재시도 대상을 다시 훑도록
+     * 체크포인트를 처음으로 되돌린다 (이미 확정된 건은 원장으로 걸러짐).
+     */
+    public Checkpoint open(LocalDate billingDate) {
+        MapSqlParameterSource params = new MapSqlParameterSource("billingDate", billingDate);
+        jdbc.update("""
+            INSERT INTO autopay_billing_run (billing_date)
+            VALUES (:billingDate)
+            ON CONFLICT (billing_date) DO NOTHING
+            """, params);
+        jdbc.update("""
+            UPDATE autopay_billing_run
+            SET status = 'RUNNING', last_membership_id = 0, updated_at = now()
+            WHERE billing_date = :billingDate AND status = 'PARTIAL'
+            """, params);
+        return jdbc.queryForObject("""
+            SELECT status, last_membership_id
+            FROM autopay_billing_run
+            WHERE billing_date = :billingDate
+            """, params, (rs, i) -> new Checkpoint(rs.getString(1), rs.getLong(2)));
+    }
+
+    /**
+     * 끝나지 않은 이전 결제일 (서버 재시작 등으로 중단된 실행 이어받기용)
+     */
+    public List<LocalDate> findUnfinishedBefore(LocalDate billingDate, LocalDate since) {
+        return jdbc.queryForList("""
+            SELECT billing_date
+            FROM autopay_billing_run
+            WHERE billing_date < :billingDate AND billing_date >= :since AND status <> 'DONE'
+            ORDER BY billing_date
+            """, new MapSqlParameterSource("billingDate", billingDate)
+            .addValue("since", since), LocalDate.class);
+    }
+
+    public Map<Long, PreviousCharge> findCharges(LocalDate billingDate,
+        Collection<Long> membershipIds) {
+        Map<Long, PreviousCharge> charges = new HashMap<>();
+        if (membershipIds.isEmpty()) {
+            return charges;
+        }
+        jdbc.query("""
+                SELECT membership_id, status, attempts
+                FROM autopay_charge
+                WHERE billing_date = :billingDate AND membership_id IN (:ids)
+                """, new MapSqlParameterSource("billingDate", billingDate)
+                .addValue("ids", membershipIds),
+            rs -> {
+                charges.put(rs.getLong(1), new PreviousCharge(rs.getString(2), rs.getInt(3)));
+            });
+        return charges;
+    }
+
+    /**
+     * 사용자별 가장 최근 빌링키
+     */
+    public Map<Long, String> findLatestBillingKeys(Collection<Long> userIds) {
+        Map<Long, String> keys = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return keys;
+        }
+        jdbc.query("""
+                SELECT DISTINCT ON (user_id) user_id, billing_key
+                FROM payment
+                WHERE user_id IN (:userIds) AND billing_key IS NOT NULL
+                ORDER BY user_id, created_at DESC
+                """, new MapSqlParameterSource("userIds", userIds),
+            rs -> {
+                keys.put(rs.getLong(1), rs.getString(2));
+            });
+        return keys;
+    }
+
+    /**
+     * 페이지 결과 일괄 기록. ERROR 는 시도 횟수를 누적하고, 확정(SUCCEEDED/DECLINED)은 덮어쓴다.
+     */
+    public void saveCharges(LocalDate billingDate, List<ChargeRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = rows.stream()
+            .map(row -> new MapSqlParameterSource("billingDate", billingDate)
+                .addValue("membershipId", row.membershipId())
+                .addValue("userId", row.userId())
+                .addValue("idempotencyKey", row.idempotencyKey())
+                .addValue("status", row.status())
+                .addValue("attempts", row.attempts())
+                .addValue("paymentKey", row.paymentKey())
+                .addValue("errorCode", row.errorCode()))
+            .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate("""
+            INSERT INTO autopay_charge (membership_id, billing_date, user_id, idempotency_key, status,
+                                        attempts, payment_key, error_code)
+            VALUES (:membershipId, :billingDate, :userId, :idempotencyKey, :status,
+                    :attempts, :paymentKey, :errorCode)
+            ON CONFLICT (membership_id, billing_date) DO UPDATE
+            SET status = EXCLUDED.status,
+                attempts = autopay_charge.attempts + EXCLUDED.attempts,
+                payment_key = EXCLUDED.payment_key,
+                error_code = EXCLUDED.error_code,
+                updated_at = now()
+            """, batch);
+    }
+
+    public void advance(LocalDate billingDate, long lastMembershipId, int succeeded, int failed) {
+        jdbc.update("""
+            UPDATE autopay_billing_run
+            SET last_membership_id = :lastMembershipId,
+                succeeded_count = succeeded_count + :succeeded,
+                failed_count = failed_count + :failed,
+                updated_at = now()
+            WHERE billing_date = :billingDate
+            """, new MapSqlParameterSource("billingDate", billingDate)
+            .addValue("lastMembershipId", lastMembershipId)
+            .addValue("succeeded", succeeded)
+            .addValue("failed", failed));
+    }
+
+    /**
+     * @param pendingRetry 재시도 대상(ERROR)이 남았으면 PARTIAL 로 두어 다음 실행에서 다시 훑게 한다
+     */
+    public void finish(LocalDate billingDate, boolean pendingRetry) {
+        jdbc.update("""
+            UPDATE autopay_billing_run
+            SET status = :status,
+                updated_at = now(),
+                finished_at = CASE WHEN :status = 'DONE' THEN now() END
+            WHERE billing_date = :billingDate
+            """, new MapSqlParameterSource("billingDate", billingDate)
+            .addValue("status", pendingRetry ? RUN_PARTIAL : RUN_DONE));
+    }
+}
@@ -0,0 +1,450 @@
+package com.multi.runrunbackend.domain.payment.service;
+
+import com.multi.runrunbackend.common.exception.custom.ExternalApiException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.domain.membership.constant.MembershipStatus;
+import com.multi.runrunbackend.domain.membership.entity.Membership;
+import com.multi.runrunbackend.domain.membership.repository.MembershipRepository;
+import com.multi.runrunbackend.domain.notification.constant.NotificationType;
+import com.multi.runrunbackend.domain.notification.constant.RelatedType;
+import com.multi.runrunbackend.domain.notification.service.NotificationService;
+import com.multi.runrunbackend.domain.payment.client.TossPaymentClient;
+import com.multi.runrunbackend.domain.payment.dto.req.TossBillingPaymentReqDto;
+import com.multi.runrunbackend.domain.payment.dto.res.TossPaymentResDto;
+import com.multi.runrunbackend.domain.payment.entity.Payment;
+import com.multi.runrunbackend.domain.payment.repository.AutoPayBillingRepository;
+import com.multi.runrunbackend.domain.payment.repository.AutoPayBillingRepository.ChargeRow;
+import com.multi.runrunbackend.domain.payment.repository.AutoPayBillingRepository.Checkpoint;
+import com.multi.runrunbackend.domain.payment.repository.AutoPayBillingRepository.PreviousCharge;
+import com.multi.runrunbackend.domain.payment.repository.PaymentRepository;
+import com.multi.runrunbackend.domain.user.entity.User;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * @author : BoKyung
+ * @description : 멤버십 자동결제 엔진. 결제일 대상 멤버십을 id 순 페이지로 읽어 세마포어로 동시 요청 수를 제한한 채 토스 빌링 결제를 병렬
+ * 호출하고, 페이지 결과(Payment, 멤버십 갱신/만료, 결과 원장, 체크포인트)를 한 트랜잭션으로 일괄 기록한다.
+ * <p>
+ * 주문 ID 겸 Idempotency-Key 는 (멤버십, 결제일)로 정해지므로 재시도·재시작으로 같은 건을 다시 호출해도 토스에서 이중 승인되지 않는다.
+ * 타임아웃·5xx 는 backoff 재시도 후에도 실패하면 ERROR 로 남겨 다음 실행에서 다시 시도하고, 누적 시도가 max-total-attempts 를 넘으면
+ * 토스에 주문 ID 로 결제를 조회해 승인됐으면 성공, 없거나 취소됐으면 실패로 확정한다 (조회도 안 되면 ERROR 로 남긴다).
+ * 빌링키가 없는 멤버십은 호출 없이 SKIPPED 로 기록만 하고 멤버십은 그대로 둔다. 중간에 서버가 죽으면 마지막으로 기록된 페이지 다음부터
+ * 이어서 처리한다.
+ * @filename : AutoPayBillingEngine
+ * @since : 2026. 1. 29. Thursday
+ */
+@Slf4j
+@Service
+public class AutoPayBillingEngine {
+
+    private static final DateTimeFormatter KEY_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int CATCH_UP_DAYS = 3;
+    private static final long MAX_BACKOFF_MS = 8_000;
+    private static final Set<String> FAILED_PAYMENT_STATUSES = Set.of("ABORTED", "EXPIRED",
+        "CANCELED");
+
+    private final MembershipRepository membershipRepository;
+    private final PaymentRepository paymentRepository;
+    private final AutoPayBillingRepository billingRepository;
+    private final TossPaymentClient tossPaymentClient;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+    private final int maxAttempts;
+    private final int maxTotalAttempts;
+    private final long retryBackoffMs;
+
+    private final ExecutorService workers;
+    private final Semaphore inFlight;
+
+    public AutoPayBillingEngine(
+        MembershipRepository membershipRepository,
+        PaymentRepository paymentRepository,
+        AutoPayBillingRepository billingRepository,
+        TossPaymentClient tossPaymentClient,
+        NotificationService notificationService,
+        TransactionTemplate transactionTemplate,
+        @Value("${payment.autopay.page-size:200}") int pageSize,
+        @Value("${payment.autopay.concurrency:8}") int concurrency,
+        @Value("${payment.autopay.max-attempts:3}") int maxAttempts,
+        @Value("${payment.autopay.max-total-attempts:9}") int maxTotalAttempts,
+        @Value("${payment.autopay.retry-backoff-ms:500}") long retryBackoffMs,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.membershipRepository = membershipRepository;
+        this.paymentRepository = paymentRepository;
+        this.billingRepository = billingRepository;
+        this.tossPaymentClient = tossPaymentClient;
+        this.notificationService = notificationService;
+        this.transactionTemplate = transactionTemplate;
+        this.pageSize = pageSize;
+        this.maxAttempts = maxAttempts;
+        this.maxTotalAttempts = maxTotalAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.inFlight = new Semaphore(concurrency);
+
+        if (virtualThreads) {
+            // 동시 호출 수는 inFlight 세마포어가 제한하므로 건마다 가상 스레드를 띄워도 된다
+            this.workers = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("autopay-worker-", 1).factory());
+            return;
+        }
+
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread t = new Thread(r, "autopay-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private record ChargeTarget(
+        long membershipId,
+        long userId,
+        String email,
+        String name,
+        String billingKey,
+        String idempotencyKey,
+        int priorAttempts
+    ) {
+
+    }
+
+    private record Outcome(
+        ChargeTarget target,
+        String status,
+        int attempts,
+        TossPaymentResDto response,
+        String errorCode
+    ) {
+
+        boolean succeeded() {
+            return AutoPayBillingRepository.CHARGE_SUCCEEDED.equals(status);
+        }
+
+        boolean settled() {
+            return !AutoPayBillingRepository.CHARGE_ERROR.equals(status);
+        }
+
+        boolean skipped() {
+            return AutoPayBillingRepository.CHARGE_SKIPPED.equals(status);
+        }
+    }
+
+    /**
+     * 오늘 결제일 실행. 최근 며칠 사이 중단된 결제일이 있으면 먼저 이어서 처리한다.
+     *
+     * @return 결제 성공 건수
+     */
+    public int runDue(LocalDate today) {
+        int succeeded = 0;
+        for (LocalDate unfinished : billingRepository.findUnfinishedBefore(today,
+            today.minusDays(CATCH_UP_DAYS))) {
+            succeeded += run(unfinished);
+        }
+        return succeeded + run(today);
+    }
+
+    /**
+     * @return 결제 성공 건수
+     */
+    public int run(LocalDate billingDate) {
+        Checkpoint checkpoint = billingRepository.open(billingDate);
+        if (checkpoint.done()) {
+            log.debug("자동결제 이미 완료 - 결제일: {}", billingDate);
+            return 0;
+        }
+
+        LocalDateTime start = billingDate.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+        long afterId = checkpoint.lastMembershipId();
+        int succeeded = 0;
+        int failed = 0;
+        int pending = 0;
+        int skipped = 0;
+
+        log.info("=== 자동결제 시작 - 결제일: {}, 체크포인트: {} ===", billingDate, afterId);
+
+        while (true) {
+            List<Membership> page = membershipRepository.findDueForBillingAfter(
+                MembershipStatus.ACTIVE, start, end, afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<Outcome> outcomes = chargePage(billingDate, page);
+            long lastId = page.get(page.size() - 1).getId();
+            transactionTemplate.executeWithoutResult(status -> record(billingDate, outcomes, lastId));
+            notifyRenewed(page, outcomes);
+
+            for (Outcome outcome : outcomes) {
+                if (outcome.succeeded()) {
+                    succeeded++;
+                } else if (outcome.skipped()) {
+                    skipped++;
+                } else if (outcome.settled()) {
+                    failed++;
+                } else {
+                    pending++;
+                }
+            }
+            afterId = lastId;
+
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        billingRepository.finish(billingDate, pending > 0);
+        log.info("=== 자동결제 완료 - 결제일: {}, 성공: {}건, 실패: {}건, 재시도 대기: {}건, 빌링키 없음: {}건 ===",
+            billingDate, succeeded, failed, pending, skipped);
+        return succeeded;
+    }
+
+    private List<Outcome> chargePage(LocalDate billingDate, List<Membership> page) {
+        Map<Long, PreviousCharge> previous = billingRepository.findCharges(billingDate,
+            page.stream().map(Membership::getId).toList());
+        Map<Long, String> billingKeys = billingRepository.findLatestBillingKeys(
+            page.stream().map(m -> m.getUser().getId()).distinct().toList());
+
+        List<CompletableFuture<Outcome>> futures = new ArrayList<>(page.size());
+        for (Membership membership : page) {
+            PreviousCharge prev = previous.get(membership.getId());
+            if (prev != null && prev.settled()) {
+                continue;
+            }
+            User user = membership.getUser();
+            ChargeTarget target = new ChargeTarget(
+                membership.getId(),
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                billingKeys.get(user.getId()),
+                idempotencyKey(membership.getId(), billingDate),
+                prev == null ? 0 : prev.attempts());
+
+            if (target.billingKey() == null) {
+                futures.add(CompletableFuture.completedFuture(new Outcome(target,
+                    AutoPayBillingRepository.CHARGE_SKIPPED, 0, null,
+                    ErrorCode.BILLING_KEY_NOT_FOUND.getCode())));
+                continue;
+            }
+
+            inFlight.acquireUninterruptibly();
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> charge(target), workers)
+                    .whenComplete((r, e) -> inFlight.release()));
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private Outcome charge(ChargeTarget target) {
+        TossBillingPaymentReqDto req = TossBillingPaymentReqDto.builder()
+            .customerKey(String.valueOf(target.userId()))
+            .amount(PaymentService.PREMIUM_MONTHLY_PRICE)
+            .orderId(target.idempotencyKey())
+            .orderName(PaymentService.PREMIUM_PLAN_NAME + " (자동결제)")
+            .customerEmail(target.email())
+            .customerName(target.name())
+            .build();
+
+        long backoffMs = retryBackoffMs;
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            String errorCode;
+            try {
+                TossPaymentResDto response = tossPaymentClient.payWithBillingKey(
+                    target.billingKey(), req, target.idempotencyKey());
+                if ("DONE".equals(response.getStatus())) {
+                    return new Outcome(target, AutoPayBillingRepository.CHARGE_SUCCEEDED, attempts,
+                        response, null);
+                }
+                return new Outcome(target, AutoPayBillingRepository.CHARGE_DECLINED, attempts, null,
+                    response.getStatus());
+            } catch (ExternalApiException e) {
+                if (e.getErrorCode() != ErrorCode.BILLING_PAYMENT_UNAVAILABLE) {
+                    return new Outcome(target, AutoPayBillingRepository.CHARGE_DECLINED, attempts,
+                        null, e.getErrorCode().getCode());
+                }
+                errorCode = e.getErrorCode().getCode();
+            } catch (RuntimeException e) {
+                // 응답 해석 실패 등 - 승인 여부를 알 수 없으므로 같은 키로 다시 시도
+                log.warn("자동결제 호출 오류 - membershipId: {}", target.membershipId(), e);
+                errorCode = ErrorCode.BILLING_PAYMENT_UNAVAILABLE.getCode();
+            }
+
+            if (attempts >= maxAttempts) {
+                if (target.priorAttempts() + attempts >= maxTotalAttempts) {
+                    return settleUnknown(target, attempts, errorCode);
+                }
+                return new Outcome(target, AutoPayBillingRepository.CHARGE_ERROR, attempts, null,
+                    errorCode);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Outcome(target, AutoPayBillingRepository.CHARGE_ERROR, attempts, null,
+                    errorCode);
+            }
+            backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    /**
+     * 재시도를 다 쓰고도 응답을 받지 못한 건. 타임아웃 뒤에 토스가 승인했을 수 있으므로 주문 ID 로 조회해 실제 결과로 확정한다.
+     * 진행 중이거나 조회도 실패하면 확정하지 않고 ERROR 로 남겨 다음 실행에서 다시 확인한다.
+     */
+    private Outcome settleUnknown(ChargeTarget target, int attempts, String errorCode) {
+        Optional<TossPaymentResDto> payment;
+        try {
+            payment = tossPaymentClient.findPaymentByOrderId(target.idempotencyKey());
+        } catch (RuntimeException e) {
+            log.warn("자동결제 결과 조회 실패 - membershipId: {}", target.membershipId(), e);
+            return new Outcome(target, AutoPayBillingRepository.CHARGE_ERROR, attempts, null,
+                errorCode);
+        }
+
+        if (payment.isEmpty()) {
+            return new Outcome(target, AutoPayBillingRepository.CHARGE_DECLINED, attempts, null,
+                errorCode);
+        }
+        TossPaymentResDto response = payment.get();
+        if ("DONE".equals(response.getStatus())) {
+            log.info("응답 없던 자동결제가 승인된 것으로 확인 - membershipId: {}", target.membershipId());
+            return new Outcome(target, AutoPayBillingRepository.CHARGE_SUCCEEDED, attempts, response,
+                null);
+        }
+        if (FAILED_PAYMENT_STATUSES.contains(response.getStatus())) {
+            return new Outcome(target, AutoPayBillingRepository.CHARGE_DECLINED, attempts, null,
+                response.getStatus());
+        }
+        return new Outcome(target, AutoPayBillingRepository.CHARGE_ERROR, attempts, null,
+            errorCode);
+    }
+
+    /**
+     * 페이지 결과 일괄 기록 - 확정 건의 Payment 저장·멤버십 갱신/만료, 결과 원장, 체크포인트를 한 트랜잭션으로
+     */
+    private void record(LocalDate billingDate, List<Outcome> outcomes, long lastMembershipId) {
+        Map<Long, Membership> memberships = membershipRepository.findAllById(outcomes.stream()
+                .filter(o -> o.settled() && !o.skipped())
+                .map(o -> o.target().membershipId())
+                .toList())
+            .stream()
+            .collect(Collectors.toMap(Membership::getId, Function.identity()));
+
+        List<Payment> payments = new ArrayList<>();
+        List<ChargeRow> rows = new ArrayList<>(outcomes.size());
+        int succeeded = 0;
+        int failed = 0;
+
+        for (Outcome outcome : outcomes) {
+            ChargeTarget target = outcome.target();
+            Membership membership = memberships.get(target.membershipId());
+
+            if (outcome.skipped()) {
+                log.warn("빌링키가 없어 자동결제를 건너뜀 - membershipId: {}", target.membershipId());
+            } else if (outcome.settled() && membership != null) {
+                Payment payment = Payment.createForAutoPayment(membership.getUser(),
+                    PaymentService.PREMIUM_MONTHLY_PRICE, 0, target.idempotencyKey(),
+                    target.billingKey());
+                if (outcome.succeeded()) {
+                    TossPaymentResDto response = outcome.response();
+                    payment.complete(response.getPaymentKey(),
+                        PaymentService.mapPaymentMethod(response.getMethod()),
+                        target.billingKey(),
+                        response.getCard() == null ? null : response.getCard().getNumber());
+                } else {
+                    payment.fail();
+                }
+                payments.add(payment);
+
+                if (outcome.succeeded()) {
+                    membership.renew();
+                    succeeded++;
+                } else {
+                    membership.expire();
+                    failed++;
+                    log.warn("자동결제 실패로 멤버십 만료 - membershipId: {}, error: {}",
+                        target.membershipId(), outcome.errorCode());
+                }
+            }
+
+            rows.add(new ChargeRow(
+                target.membershipId(),
+                target.userId(),
+                target.idempotencyKey(),
+                outcome.status(),
+                outcome.attempts(),
+                outcome.response() == null ? null : outcome.response().getPaymentKey(),
+                outcome.errorCode()));
+        }
+
+        paymentRepository.saveAll(payments);
+        billingRepository.saveCharges(billingDate, rows);
+        billingRepository.advance(billingDate, lastMembershipId, succeeded, failed);
+    }
+
+    private void notifyRenewed(List<Membership> page, List<Outcome> outcomes) {
+        Map<Long, User> users = page.stream()
+            .collect(Collectors.toMap(Membership::getId, Membership::getUser));
+        for (Outcome outcome : outcomes) {
+            if (!outcome.succeeded()) {
+                continue;
+            }
+            ChargeTarget target = outcome.target();
+            try {
+                notificationService.create(
+                    users.get(target.membershipId()),
+                    "멤버십 자동결제 완료",
+                    "멤버십 자동결제가 완료되었습니다.",
+                    NotificationType.MEMBERSHIP,
+                    RelatedType.MEMBERSHIP,
+                    target.membershipId()
+                );
+            } catch (Exception e) {
+                log.error("자동결제 성공 알림 발송 실패 - userId: {}, membershipId: {}",
+                    target.userId(), target.membershipId(), e);
+            }
+        }
+    }
+
+    /**
+     * 토스 주문 ID 겸 Idempotency-Key (영문·숫자·_ 6~64자)
+     */
+    static String idempotencyKey(long membershipId, LocalDate billingDate) {
+        return "AUTO_" + membershipId + "_" + billingDate.format(KEY_DATE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -1,5 +1,6 @@
 package com.multi.runrunbackend.domain.payment.service;
 
+import com.multi.runrunbackend.common.event.StatsRollupEvent;
 import com.multi.runrunbackend.common.exception.custom.*;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
@@ -10,9 +11,6 @@ import com.multi.runrunbackend.domain.coupon.service.CouponIssueService;
 import com.multi.runrunbackend.domain.membership.constant.MembershipStatus;
 import com.multi.runrunbackend.domain.membership.entity.Membership;
 import com.multi.runrunbackend.domain.membership.repository.MembershipRepository;
-import com.multi.runrunbackend.domain.notification.constant.NotificationType;
-import com.multi.runrunbackend.domain.notification.constant.RelatedType;
-import com.multi.runrunbackend.domain.notification.service.NotificationService;
 import com.multi.runrunbackend.domain.payment.client.TossPaymentClient;
 import com.multi.runrunbackend.domain.payment.constant.PaymentMethod;
 import com.multi.runrunbackend.domain.payment.constant.PaymentStatus;
@@ -20,10 +18,12 @@ import com.multi.runrunbackend.domain.payment.dto.req.*;
 import com.multi.runrunbackend.domain.payment.dto.res.*;
 import com.multi.runrunbackend.domain.payment.entity.Payment;
 import com.multi.runrunbackend.domain.payment.repository.PaymentRepository;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
 import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -44,15 +44,15 @@ import java.util.UUID;
 @Slf4j
 public class PaymentService {
 
-    private static final Integer PREMIUM_MONTHLY_PRICE = 9900;
-    private static final String PREMIUM_PLAN_NAME = "프리미엄 플랜";
+    static final Integer PREMIUM_MONTHLY_PRICE = 9900;
+    static final String PREMIUM_PLAN_NAME = "프리미엄 플랜";
 
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
     private final MembershipRepository membershipRepository;
     private final TossPaymentClient tossPaymentClient;
     private final CouponIssueService couponIssueService;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * @description : 결제 요청 생성
@@ -235,7 +235,7 @@ public class PaymentService {
 
             // Membership 활성화
             Membership membership = membershipRepository.findByUser(user)
-                    .orElseGet(() -> membershipRepository.save(Membership.create(user)));
+                    .orElseGet(() -> createMembership(user));
 
             activateMembershipWithCoupon(membership, payment);
 
@@ -300,7 +300,7 @@ public class PaymentService {
     /**
      * @description : 토스 결제수단
      */
-    private PaymentMethod mapPaymentMethod(String tossMethod) {
+    static PaymentMethod mapPaymentMethod(String tossMethod) {
         if (tossMethod == null) {
             return PaymentMethod.CARD;
         }
@@ -331,97 +331,6 @@ public class PaymentService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
     }
 
-    /**
-     * @description : 빌링키로 자동결제 (스케줄러에서 호출)
-     */
-    @Transactional
-    public void processAutoPayment(User user, Membership membership) {
-        log.info("자동결제 시작 - 사용자: {}", user.getLoginId());
-
-        // 빌링키 조회
-        Payment lastPayment = paymentRepository
-                .findFirstByUserAndBillingKeyIsNotNullOrderByCreatedAtDesc(user)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.BILLING_KEY_NOT_FOUND));
-
-        String billingKey = lastPayment.getBillingKey();
-
-        // 주문 ID 생성
-        String orderId = "AUTO_" + UUID.randomUUID().toString();
-
-        // Payment 엔티티 생성 (자동결제용)
-        Integer originalAmount = PREMIUM_MONTHLY_PRICE;
-        Payment payment = Payment.createForAutoPayment(
-                user,
-                originalAmount,
-                0,
-                orderId,
-                billingKey
-        );
-        paymentRepository.save(payment);
-
-        try {
-            // 토스 빌링키 결제 API 호출
-            TossBillingPaymentReqDto req = TossBillingPaymentReqDto.builder()
-                    .customerKey(user.getId().toString())
-                    .amount(originalAmount)
-                    .orderId(orderId)
-                    .orderName(PREMIUM_PLAN_NAME + " (자동결제)")
-                    .customerEmail(user.getEmail())
-                    .customerName(user.getName())
-                    .build();
-
-            TossPaymentResDto tossResponse = tossPaymentClient.payWithBillingKey(billingKey, req);
-
-            if (!"DONE".equals(tossResponse.getStatus())) {
-                payment.fail();
-                log.error("자동결제 실패 - userId: {}", user.getId());
-                throw new ExternalApiException(ErrorCode.BILLING_PAYMENT_FAILED);
-            }
-
-            // 결제수단 매핑
-            PaymentMethod paymentMethod = mapPaymentMethod(tossResponse.getMethod());
-
-            // 카드번호 추출
-            String cardNumber = null;
-            if (tossResponse.getCard() != null && tossResponse.getCard().getNumber() != null) {
-                cardNumber = tossResponse.getCard().getNumber();
-            }
-
-            // Payment 완료 처리
-            payment.complete(tossResponse.getPaymentKey(), paymentMethod, billingKey, cardNumber);
-
-            // Membership 갱신
-            membership.renew();
-
-            log.info("자동결제 성공 - userId: {}, amount: {}원", user.getId(), originalAmount);
-
-            try {
-                notificationService.create(
-                        user,
-                        "멤버십 자동결제 완료",
-                        "멤버십 자동결제가 완료되었습니다.",
-                        NotificationType.MEMBERSHIP,
-                        RelatedType.MEMBERSHIP,
-                        membership.getId()
-                );
-                log.info("자동결제 성공 알림 발송 완료 - userId: {}, membershipId: {}",
-                        user.getId(), membership.getId());
-            } catch (Exception notifyEx) {
-                log.error("자동결제 성공 알림 발송 실패 - userId: {}, membershipId: {}",
-                        user.getId(), membership.getId(), notifyEx);
-            }
-
-        } catch (Exception e) {
-            payment.fail();
-
-            // 멤버십 만료 처리
-            membership.expire();
-
-            log.error("자동결제 실패로 멤버십 만료 - userId: {}", user.getId(), e);
-            throw new BusinessException(ErrorCode.BILLING_PAYMENT_FAILED);
-        }
-    }
-
     /**
      * @description : 무료 결제 승인 (0원 결제 - 쿠폰 적용)
      */
@@ -459,7 +368,7 @@ public class PaymentService {
 
         // Membership 활성화
         Membership membership = membershipRepository.findByUser(user)
-                .orElseGet(() -> membershipRepository.save(Membership.create(user)));
+                .orElseGet(() -> createMembership(user));
 
         activateMembershipWithCoupon(membership, payment);
 
@@ -567,7 +476,7 @@ public class PaymentService {
 
             // 멤버십 생성/활성화 (없으면 생성)
             Membership membership = membershipRepository.findByUser(user)
-                    .orElseGet(() -> membershipRepository.save(Membership.create(user)));
+                    .orElseGet(() -> createMembership(user));
 
             activateMembershipWithCoupon(membership, payment);
 
@@ -607,6 +516,16 @@ public class PaymentService {
         }
     }
 
+    /**
+     * 첫 결제 시 멤버십 생성 (신규 멤버십 통계 반영)
+     */
+    private Membership createMembership(User user) {
+        Membership membership = membershipRepository.save(Membership.create(user));
+        eventPublisher.publishEvent(
+                StatsRollupEvent.of(RollupSource.MEMBERSHIP, membership.getId()));
+        return membership;
+    }
+
     /**
      * 쿠폰에 따른 멤버십 활성화 처리
      */
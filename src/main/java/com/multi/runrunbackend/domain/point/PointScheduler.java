@@ -1,6 +1,8 @@
 package com.multi.runrunbackend.domain.point;
 
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
 import com.multi.runrunbackend.domain.point.service.PointService;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -16,7 +18,10 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class PointScheduler {
 
+    private static final int EXPIRE_PARTITIONS = 8;
+
     private final PointService pointService;
+    private final ClusterJobRunner clusterJobRunner;
 
     /**
      * @description : 포인트 만료 처리
@@ -26,9 +31,11 @@ public class PointScheduler {
 
         log.info("=== 포인트 만료 처리 스케줄러 시작 ===");
 
-        pointService.expirePoints();
+        // 사용자 id 기준 파티션 단위로 서버들이 나눠 처리
+        int ran = clusterJobRunner.runPartitioned("point-expire", EXPIRE_PARTITIONS,
+                Duration.ofMinutes(30), pointService::expirePoints);
 
-        log.info("=== 포인트 만료 처리 스케줄러 종료 ===");
+        log.info("=== 포인트 만료 처리 스케줄러 종료 (처리 파티션 {}개) ===", ran);
     }
 
     /**
@@ -36,8 +43,10 @@ public class PointScheduler {
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void sendPointExpiryNotifications() {
-        log.info("=== 포인트 만료 전 알림 스케줄러 시작 ===");
-        pointService.sendPointExpiryNotifications();
-        log.info("=== 포인트 만료 전 알림 스케줄러 종료 ===");
+        clusterJobRunner.run("point-expiry-notify", Duration.ofMinutes(30), () -> {
+            log.info("=== 포인트 만료 전 알림 스케줄러 시작 ===");
+            pointService.sendPointExpiryNotifications();
+            log.info("=== 포인트 만료 전 알림 스케줄러 종료 ===");
+        });
     }
 }
@@ -32,6 +32,15 @@ public interface PointExpirationRepository extends JpaRepository<PointExpiration
             "AND pe.expiresAt <= :now")
     List<PointExpiration> findExpiredPoints(@Param("now") LocalDateTime now);
 
+    // 만료 처리할 포인트 조회 - 사용자 id 파티션 (여러 서버가 나눠 처리)
+    @Query("SELECT pe FROM PointExpiration pe " +
+            "WHERE pe.expirationStatus = 'ACTIVE' " +
+            "AND pe.expiresAt <= :now " +
+            "AND MOD(pe.user.id, :partitions) = :partition")
+    List<PointExpiration> findExpiredPointsInPartition(@Param("now") LocalDateTime now,
+                                                       @Param("partition") int partition,
+                                                       @Param("partitions") int partitions);
+
     /**
      * @description : 만료일이 하루 후인 활성 포인트 조회 (만료 전 알림용)
      */
@@ -535,13 +535,17 @@ public class PointService {
     }
 
     /**
-     * 포인트 만료 처리 (스케줄러 처리)
+     * 포인트 만료 처리 (스케줄러 처리) - 사용자 id % partitions == partition 인 것만
+     *
+     * @return 만료 처리한 건수
      */
     @Transactional
-    public void expirePoints() {
+    public int expirePoints(int partition, int partitions) {
         LocalDateTime now = LocalDateTime.now();
-        List<PointExpiration> expiredPoints = pointExpirationRepository.findExpiredPoints(now);
+        List<PointExpiration> expiredPoints = pointExpirationRepository
+            .findExpiredPointsInPartition(now, partition, partitions);
 
+        int expired = 0;
         for (PointExpiration expiration : expiredPoints) {
             if (expiration.getRemainingPoint() > 0) {
                 UserPoint userPoint = userPointRepository.findByUserIdWithLock(
@@ -550,8 +554,10 @@ public class PointService {
 
                 userPoint.subtractPoint(expiration.getRemainingPoint());
                 expiration.expire();
+                expired++;
             }
         }
+        return expired;
     }
 
     /**
@@ -2,6 +2,8 @@ package com.multi.runrunbackend.domain.rating.repository;
 
 import com.multi.runrunbackend.common.constant.DistanceType;
 import com.multi.runrunbackend.domain.rating.entity.DistanceRating;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -14,4 +16,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface DistanceRatingRepository extends JpaRepository<DistanceRating, Long> {
 
   Optional<DistanceRating> findByUserIdAndDistanceType(Long userId, DistanceType distanceType);
+
+  List<DistanceRating> findByUserIdInAndDistanceType(Collection<Long> userIds,
+      DistanceType distanceType);
 }
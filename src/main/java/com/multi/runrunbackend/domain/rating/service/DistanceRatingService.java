@@ -1,6 +1,7 @@
 package com.multi.runrunbackend.domain.rating.service;
 
 import com.multi.runrunbackend.common.constant.DistanceType;
+import com.multi.runrunbackend.common.event.StatsRollupEvent;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
@@ -13,13 +14,17 @@ import com.multi.runrunbackend.domain.match.repository.MatchSessionRepository;
 import com.multi.runrunbackend.domain.rating.dto.res.DistanceRatingResDto;
 import com.multi.runrunbackend.domain.rating.entity.DistanceRating;
 import com.multi.runrunbackend.domain.rating.repository.DistanceRatingRepository;
+import com.multi.runrunbackend.domain.rating.util.EloCalculator;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
 import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,253 +40,170 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class DistanceRatingService {
 
+  private static final int GIVE_UP_PENALTY = 10;
+
   private final DistanceRatingRepository distanceRatingRepository;
   private final BattleResultRepository battleResultRepository;
   private final MatchSessionRepository matchSessionRepository;
   private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 대결 종료 후 점수 정산 (2~4인 가변 대응) - 기대승률(Elo 확장) 기반
+   * <p>
+   * 레이팅과 판수(K-factor)를 참가자 id IN 조회 한 번씩으로 가져오고, 변동값은 EloCalculator 로 원시 배열에서 계산한 뒤 레이팅/배틀
+   * 결과를 saveAll 로 한 번에 저장한다. 포기자(GIVE_UP)는 ranking 0, 패널티 max(10, K/4) 로 함께 정산한다.
+   *
+   * @param results 등수 순으로 정렬된 참가자 결과 (포기자 포함)
    */
   @Transactional
   public void processBattleResults(Long sessionId, List<RunningResult> results,
       DistanceType distanceType) {
 
-    log.info("processBattleResults 시작: sessionId={}, 전달받은 results={}명",
-        sessionId, results.size());
-    for (RunningResult r : results) {
-      log.info("  - userId={}, runStatus={}, distance={}km",
-          r.getUser().getId(), r.getRunStatus(), r.getTotalDistance());
-    }
-
     MatchSession session = matchSessionRepository.findById(sessionId)
         .orElseThrow(() -> new NotFoundException(ErrorCode.SESSION_NOT_FOUND));
 
     // ✅ GIVE_UP만 제외 (COMPLETED + TIME_OUT 포함)
-    List<RunningResult> rankedResults = results.stream()
-        .filter(r -> r.getRunStatus()
-            != RunStatus.GIVE_UP)
-        .collect(java.util.stream.Collectors.toList());
+    List<RunningResult> rankedResults = new ArrayList<>(results.size());
+    List<RunningResult> giveUpResults = new ArrayList<>();
+    for (RunningResult r : results) {
+      (r.getRunStatus() == RunStatus.GIVE_UP ? giveUpResults : rankedResults).add(r);
+    }
 
     int n = rankedResults.size();
-    log.info("필터링 후 rankedResults: {}명", n);
-    for (RunningResult r : rankedResults) {
-      log.info("  - userId={}, runStatus={}", r.getUser().getId(), r.getRunStatus());
-    }
+    log.info("processBattleResults 시작: sessionId={}, 레이팅 대상={}명, 포기자={}명",
+        sessionId, n, giveUpResults.size());
 
-    if (n == 0) {
+    if (results.isEmpty()) {
       log.warn("레이팅 계산 대상 없음: sessionId={}", sessionId);
       return;
     }
 
-    if (n < 2) {
-      if (n == 1) {
-        RunningResult rr = rankedResults.get(0);
-        User user = rr.getUser();
-        DistanceRating rating = distanceRatingRepository
-            .findByUserIdAndDistanceType(user.getId(), distanceType)
-            .orElseGet(() -> createNewRating(user, distanceType));
-
-        int previousRating = rating.getCurrentRating();
-
-        // 완주 보너스 점수 (K-factor 기반, 일반 1등과 동일)
-        int bonusPoints = calculateCompletionBonus(rating, distanceType);
-        rating.updateRating(bonusPoints, 1);
-        distanceRatingRepository.save(rating);
-
-        BattleResult battleResult = BattleResult.builder()
-            .session(session)
-            .user(user)
-            .runningResult(rr)
-            .distanceType(distanceType)
-            .ranking(1)  // 혼자만 있으므로 1등
-            .previousRating(previousRating)
-            .currentRating(rating.getCurrentRating())
-            .build();
-
-        battleResultRepository.save(battleResult);
-
-        log.info(
-            "1명 완주 - BattleResult 저장 (완주 보너스 +{}점): sessionId={}, userId={}, rating: {} -> {}",
-            bonusPoints, sessionId, user.getId(), previousRating, rating.getCurrentRating());
-      } else {
-        log.warn("예상치 못한 상황: n={} (0보다 크고 2보다 작음)", n);
-      }
-      return;
+    // 1. 레이팅 / 판수 일괄 조회
+    List<Long> userIds = results.stream().map(r -> r.getUser().getId()).toList();
+    Map<Long, DistanceRating> ratingByUserId = new HashMap<>();
+    for (DistanceRating rating : distanceRatingRepository.findByUserIdInAndDistanceType(userIds,
+        distanceType)) {
+      ratingByUserId.put(rating.getUser().getId(), rating);
     }
+    Map<Long, Long> gamesByUserId = countGames(userIds, distanceType);
 
-    List<RunningResult> resultsToProcess = rankedResults;
+    List<DistanceRating> ratings = new ArrayList<>(results.size());
+    List<BattleResult> battleResultList = new ArrayList<>(results.size());
 
-    List<DistanceRating> ratings = new ArrayList<>(n);
+    // 2. 완주/타임아웃 정산
+    if (n == 1) {
+      RunningResult rr = rankedResults.get(0);
+      DistanceRating rating = ratingOf(rr.getUser(), distanceType, ratingByUserId);
+      int previousRating = rating.getCurrentRating();
 
-    for (RunningResult rr : resultsToProcess) {
-      User user = rr.getUser();
-      DistanceRating rating = distanceRatingRepository
-          .findByUserIdAndDistanceType(user.getId(), distanceType)
-          .orElseGet(() -> createNewRating(user, distanceType));
+      // 완주 보너스 점수 (K-factor 기반, 일반 1등과 동일)
+      int bonusPoints = EloCalculator.completionBonus(
+          EloCalculator.kFactor(gamesByUserId.getOrDefault(rr.getUser().getId(), 0L)));
+      rating.updateRating(bonusPoints, 1);
 
       ratings.add(rating);
-    }
+      battleResultList.add(toBattleResult(session, rr, distanceType, 1, previousRating, rating));
+      log.info("1명 완주 (완주 보너스 +{}점): sessionId={}, userId={}, rating: {} -> {}",
+          bonusPoints, sessionId, rr.getUser().getId(), previousRating, rating.getCurrentRating());
+
+    } else if (n > 1) {
+      int[] preRatings = new int[n];
+      int[] kFactors = new int[n];
+      boolean[] completed = new boolean[n];
+      DistanceRating[] rankedRatings = new DistanceRating[n];
+
+      for (int i = 0; i < n; i++) {
+        RunningResult rr = rankedResults.get(i);
+        rankedRatings[i] = ratingOf(rr.getUser(), distanceType, ratingByUserId);
+        preRatings[i] = rankedRatings[i].getCurrentRating();
+        kFactors[i] = EloCalculator.kFactor(
+            gamesByUserId.getOrDefault(rr.getUser().getId(), 0L));
+        completed[i] = rr.getRunStatus() == RunStatus.COMPLETED;
+      }
 
-    List<Integer> preRatings = new ArrayList<>(n);
-    for (DistanceRating r : ratings) {
-      preRatings.add(r.getCurrentRating());
-    }
+      int[] deltas = EloCalculator.deltas(preRatings, kFactors, completed);
 
-    List<Integer> deltas = new ArrayList<>(Collections.nCopies(n, 0));
-    for (int i = 0; i < n; i++) {
-      int rank = i + 1;
-      RunningResult rr = resultsToProcess.get(i);
-      boolean isCompleted =
-          rr.getRunStatus() == RunStatus.COMPLETED;
-
-      int delta = calculateEloDelta(
-          ratings.get(i),
-          preRatings,
-          i,
-          rank,
-          n,
-          isCompleted
-      );
-      deltas.set(i, delta);
+      for (int i = 0; i < n; i++) {
+        int rank = i + 1;
+        rankedRatings[i].updateRating(deltas[i], rank);
+        ratings.add(rankedRatings[i]);
+        battleResultList.add(toBattleResult(session, rankedResults.get(i), distanceType, rank,
+            preRatings[i], rankedRatings[i]));
+      }
     }
 
-    List<BattleResult> battleResultList = new ArrayList<>(n);
-
-    for (int i = 0; i < n; i++) {
-      RunningResult rr = resultsToProcess.get(i);
-      DistanceRating myRating = ratings.get(i);
-      int rank = i + 1;
-
-      int previousRating = myRating.getCurrentRating();
-      int delta = deltas.get(i);
+    // 3. 포기자 패널티
+    for (RunningResult rr : giveUpResults) {
+      DistanceRating rating = ratingOf(rr.getUser(), distanceType, ratingByUserId);
+      int previousRating = rating.getCurrentRating();
 
-      myRating.updateRating(delta, rank);
-      distanceRatingRepository.save(myRating);
+      int penalty = giveUpPenalty(
+          EloCalculator.kFactor(gamesByUserId.getOrDefault(rr.getUser().getId(), 0L)));
+      rating.updateRating(-penalty, 0);  // 음수로 점수 감소
 
-      BattleResult battleResult = BattleResult.builder()
-          .session(session)
-          .user(rr.getUser())
-          .runningResult(rr)
-          .distanceType(distanceType)
-          .ranking(rank)
-          .previousRating(previousRating)
-          .currentRating(myRating.getCurrentRating())
-          .build();
-
-      battleResultList.add(battleResult);
+      ratings.add(rating);
+      battleResultList.add(toBattleResult(session, rr, distanceType, 0, previousRating, rating));
+      log.info(" 포기자 패널티 -{}점: userId={}, rating: {} -> {}",
+          penalty, rr.getUser().getId(), previousRating, rating.getCurrentRating());
     }
 
+    // 4. 일괄 저장
+    distanceRatingRepository.saveAll(ratings);
     battleResultRepository.saveAll(battleResultList);
+    eventPublisher.publishEvent(new StatsRollupEvent(RollupSource.BATTLE_RESULT,
+        battleResultList.stream().map(BattleResult::getId).toList()));
 
-    log.info("Elo 정산 완료 - SessionID: {}, 레이팅 계산 대상: {}명 (COMPLETED + TIME_OUT)", sessionId, n);
+    log.info("Elo 정산 완료 - SessionID: {}, 레이팅 계산 대상: {}명 (COMPLETED + TIME_OUT), 포기자: {}명",
+        sessionId, n, giveUpResults.size());
   }
 
   /**
-   * 멀티플레이 Elo 확장: - actual: 등수 기반 0~1 점수 - expected: 상대들과의 pairwise 기대승률 평균 - delta = K * (actual -
-   * expected)
+   * 판수 기반 K-factor (원하면 거리/티어별로 다르게 가능)
    */
-  private int calculateEloDelta(
-      DistanceRating me,
-      List<Integer> preRatings,
-      int myIndex,
-      int rank,
-      int totalParticipants,
-      boolean isCompleted
-  ) {
-    if (totalParticipants <= 1) {
-      return 5;
-    }
-
-    int myRating = preRatings.get(myIndex);
-
-    double actual = actualScore(rank, totalParticipants);
-
-    double expected = 0.0;
-    int oppCount = 0;
-
-    for (int j = 0; j < totalParticipants; j++) {
-      if (j == myIndex) {
-        continue;
-      }
-      int oppRating = preRatings.get(j);
-      expected += expectedWinProb(myRating, oppRating);
-      oppCount++;
-    }
-    expected = expected / Math.max(1, oppCount);
-
-    int k = kFactor(me.getUser(), me.getDistanceType());
-
-    int delta = (int) Math.round(k * (actual - expected));
-
-    delta = clamp(delta, -50, 50);
-
-    //  완주자 최소 보너스: 완주자는 최소 +5점 보장
-    if (isCompleted && delta < 5) {
-      delta = 5;
-    }
-
-    //  완주자 보호: 완주자는 포기자 패널티(-10점)보다 항상 유리
-    if (isCompleted) {
-      int giveUpPenalty = 10;
-      if (delta < -giveUpPenalty + 1) {
-        delta = -giveUpPenalty + 1;
-      }
-    }
-
-    if (!isCompleted) {
-      int giveUpPenalty = 10;
-      if (delta < -giveUpPenalty + 1) {
-        delta = -giveUpPenalty + 1;  // 포기자보다 1점이라도 유리 (최소 -9점)
-      }
-    }
-
-    if (rank == 1 && delta <= 0) {
-      delta = 1;
-    }
-    if (rank == totalParticipants && delta >= 0) {
-      delta = -1;
-    }
-
-    return delta;
+  public int kFactor(User user, DistanceType distanceType) {
+    return EloCalculator.kFactor(
+        battleResultRepository.countByUserAndDistanceType(user, distanceType));
   }
 
-  private double actualScore(int rank, int totalParticipants) {
-    return 1.0 - (double) (rank - 1) / (double) (totalParticipants - 1);
+  private Map<Long, Long> countGames(List<Long> userIds, DistanceType distanceType) {
+    Map<Long, Long> gamesByUserId = new HashMap<>();
+    for (Object[] row : battleResultRepository.countByUserIdsAndDistanceType(userIds,
+        distanceType)) {
+      gamesByUserId.put((Long) row[0], ((Number) row[1]).longValue());
+    }
+    return gamesByUserId;
   }
 
   /**
-   * Elo 기대승률: 1 / (1 + 10^((opp-my)/400))
+   * 레이팅이 없으면 기본값(1000)으로 만들어 두고 saveAll 에서 함께 저장
    */
-  private double expectedWinProb(int myRating, int oppRating) {
-    return 1.0 / (1.0 + Math.pow(10.0, (oppRating - myRating) / 400.0));
+  private DistanceRating ratingOf(User user, DistanceType distanceType,
+      Map<Long, DistanceRating> ratingByUserId) {
+    return ratingByUserId.computeIfAbsent(user.getId(), id -> DistanceRating.builder()
+        .user(user)
+        .distanceType(distanceType)
+        .build());
   }
 
   /**
-   * 판수 기반 K-factor (원하면 거리/티어별로 다르게 가능)
+   * 포기자 패널티 (최소 10점)
    */
-  public int kFactor(User user, DistanceType distanceType) {
-    long games = battleResultRepository.countByUserAndDistanceType(user, distanceType);
-    if (games < 10) {
-      return 40;
-    }
-    if (games < 30) {
-      return 32;
-    }
-    return 24;
+  private int giveUpPenalty(int kFactor) {
+    return Math.max(GIVE_UP_PENALTY, (int) Math.round(kFactor * 0.25));
   }
 
-  private int clamp(int value, int min, int max) {
-    return Math.max(min, Math.min(max, value));
-  }
-
-  /**
-   * 완주 보너스 점수 계산 (1명만 완주한 경우)
-   */
-  private int calculateCompletionBonus(DistanceRating rating, DistanceType distanceType) {
-    int k = kFactor(rating.getUser(), distanceType);
-
-    return (int) Math.round(k * 0.5);
+  private BattleResult toBattleResult(MatchSession session, RunningResult rr,
+      DistanceType distanceType, int rank, int previousRating, DistanceRating rating) {
+    return BattleResult.builder()
+        .session(session)
+        .user(rr.getUser())
+        .runningResult(rr)
+        .distanceType(distanceType)
+        .ranking(rank)
+        .previousRating(previousRating)
+        .currentRating(rating.getCurrentRating())
+        .build();
   }
 
   @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -0,0 +1,104 @@
+package com.multi.runrunbackend.domain.rating.util;
+
+import java.util.Arrays;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 멀티플레이 Elo 변동값 계산 (DB/엔티티 없이 원시 배열만 사용)
+ * <p>
+ * - actual: 등수 기반 0~1 점수 - expected: 상대들과의 pairwise 기대승률 평균 - delta = K * (actual - expected) 후
+ * 완주/등수 보정. 인덱스 순서가 곧 등수(0 = 1등)다.
+ * @filename : EloCalculator
+ * @since : 2026. 1. 23. Friday
+ */
+public final class EloCalculator {
+
+  public static final int COMPLETION_FLOOR = 5;
+  private static final int MAX_DELTA = 50;
+  private static final int GIVE_UP_PENALTY = 10;
+
+  private EloCalculator() {
+  }
+
+  /**
+   * @param preRatings 정산 전 레이팅 (등수 순)
+   * @param kFactors   참가자별 K-factor
+   * @param completed  완주 여부 (false 면 타임아웃)
+   * @return 참가자별 변동값
+   */
+  public static int[] deltas(int[] preRatings, int[] kFactors, boolean[] completed) {
+    int n = preRatings.length;
+    int[] deltas = new int[n];
+    if (n <= 1) {
+      Arrays.fill(deltas, COMPLETION_FLOOR);
+      return deltas;
+    }
+
+    for (int i = 0; i < n; i++) {
+      int myRating = preRatings[i];
+      int rank = i + 1;
+
+      double actual = 1.0 - (double) (rank - 1) / (double) (n - 1);
+
+      // j 오름차순 누적 (기존 계산과 부동소수 합산 순서를 맞춘다)
+      double expected = 0.0;
+      for (int j = 0; j < n; j++) {
+        if (j == i) {
+          continue;
+        }
+        expected += expectedWinProb(myRating, preRatings[j]);
+      }
+      expected = expected / (n - 1);
+
+      int delta = (int) Math.round(kFactors[i] * (actual - expected));
+      delta = Math.max(-MAX_DELTA, Math.min(MAX_DELTA, delta));
+
+      // 완주자 최소 보너스
+      if (completed[i] && delta < COMPLETION_FLOOR) {
+        delta = COMPLETION_FLOOR;
+      }
+
+      // 완주자/타임아웃 모두 포기자 패널티(-10점)보다 1점이라도 유리 (최소 -9점)
+      if (delta < -GIVE_UP_PENALTY + 1) {
+        delta = -GIVE_UP_PENALTY + 1;
+      }
+
+      if (rank == 1 && delta <= 0) {
+        delta = 1;
+      }
+      if (rank == n && delta >= 0) {
+        delta = -1;
+      }
+
+      deltas[i] = delta;
+    }
+    return deltas;
+  }
+
+  /**
+   * 1명만 정산 대상일 때 완주 보너스
+   */
+  public static int completionBonus(int kFactor) {
+    return (int) Math.round(kFactor * 0.5);
+  }
+
+  /**
+   * 판수 기반 K-factor
+   */
+  public static int kFactor(long games) {
+    if (games < 10) {
+      return 40;
+    }
+    if (games < 30) {
+      return 32;
+    }
+    return 24;
+  }
+
+  /**
+   * Elo 기대승률: 1 / (1 + 10^((opp-my)/400))
+   */
+  private static double expectedWinProb(int myRating, int oppRating) {
+    return 1.0 / (1.0 + Math.pow(10.0, (oppRating - myRating) / 400.0));
+  }
+}
@@ -6,7 +6,9 @@ import com.multi.runrunbackend.common.response.ApiResponse;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
 import com.multi.runrunbackend.domain.recruit.dto.req.RecruitCreateReqDto;
 import com.multi.runrunbackend.domain.recruit.dto.req.RecruitListReqDto;
+import com.multi.runrunbackend.domain.recruit.dto.req.RecruitNearbyReqDto;
 import com.multi.runrunbackend.domain.recruit.dto.req.RecruitUpdateReqDto;
+import com.multi.runrunbackend.domain.recruit.sevice.RecruitNearbyService;
 import com.multi.runrunbackend.domain.recruit.sevice.RecruitService;
 import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
@@ -40,6 +42,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class RecruitController {
 
   private final RecruitService recruitService;
+  private final RecruitNearbyService recruitNearbyService;
   private final UserRepository userRepository;
 
   @PostMapping
@@ -65,6 +68,16 @@ public class RecruitController {
   }
 
 
+  @GetMapping("/nearby")
+  public ResponseEntity<ApiResponse> getNearbyRecruits(
+      @AuthenticationPrincipal CustomUser principal,
+      @Valid @ModelAttribute RecruitNearbyReqDto request
+  ) {
+    return ResponseEntity.ok(
+        ApiResponse.success("근처 모집글 조회 성공",
+            recruitNearbyService.getNearbyRecruits(request, principal)));
+  }
+
   @GetMapping("/{recruitId}")
   public ResponseEntity<ApiResponse> getRecruitDetail(
       @AuthenticationPrincipal CustomUser principal,
@@ -0,0 +1,34 @@
+package com.multi.runrunbackend.domain.recruit.dto.req;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 근처 모집글(지도) 조회 요청 dto - 가까운 순, 커서(거리, id) 페이징
+ * @filename : RecruitNearbyReqDto
+ * @since : 2026. 1. 24. Saturday
+ */
+@Data
+public class RecruitNearbyReqDto {
+
+  @NotNull
+  @DecimalMin("-90.0")
+  @DecimalMax("90.0")
+  private Double latitude;
+
+  @NotNull
+  @DecimalMin("-180.0")
+  @DecimalMax("180.0")
+  private Double longitude;
+
+  @DecimalMin(value = "0.0", inclusive = false)
+  @DecimalMax("10.0")
+  private Double radiusKm;
+
+  private String cursor;
+
+  private Integer size;
+}
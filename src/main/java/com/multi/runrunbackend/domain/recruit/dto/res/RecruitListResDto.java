@@ -1,6 +1,7 @@
 package com.multi.runrunbackend.domain.recruit.dto.res;
 
 import com.multi.runrunbackend.domain.recruit.entity.Recruit;
+import com.multi.runrunbackend.domain.recruit.repository.RecruitRepositoryCustom.NearbyRecruitRow;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -54,4 +55,25 @@ public class RecruitListResDto {
         .isAuthor(isAuthor)
         .build();
   }
+
+  public static RecruitListResDto from(NearbyRecruitRow row, Long currentUserId) {
+    return RecruitListResDto.builder()
+        .recruitId(row.recruitId())
+        .title(row.title())
+        .meetingPlace(row.meetingPlace())
+        .meetingAt(row.meetingAt())
+        .targetDistance(row.targetDistance())
+        .targetPace(row.targetPace())
+        .maxParticipants(row.maxParticipants())
+        .currentParticipants(row.currentParticipants())
+        .authorName(row.authorName())
+        .genderLimit(row.genderLimit())
+        .distanceKm(Math.round(row.distM() / 10) / 100.0)
+        .ageMin(row.ageMin())
+        .ageMax(row.ageMax())
+        .latitude(row.latitude())
+        .longitude(row.longitude())
+        .isAuthor(currentUserId != null && row.authorId().equals(currentUserId))
+        .build();
+  }
 }
@@ -23,6 +23,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * @author : KIMGWANGHO
@@ -36,6 +37,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(name = "recruit")
+@DynamicUpdate  // current_participants 는 RecruitRepository.reserveSeat/releaseSeat 로만 변경 (엔티티 수정 시 덮어쓰지 않도록)
 public class Recruit extends BaseTimeEntity {
 
   @Id
@@ -96,16 +98,6 @@ public class Recruit extends BaseTimeEntity {
   @Builder.Default
   private RecruitStatus status = RecruitStatus.RECRUITING;
 
-  public void increaseParticipants() {
-    this.currentParticipants++;
-  }
-
-  public void decreaseParticipants() {
-    if (this.currentParticipants > 0) {
-      this.currentParticipants--;
-    }
-  }
-
   public void update(RecruitUpdateReqDto req) {
     this.title = req.getTitle();
     this.content = req.getContent();
@@ -8,6 +8,7 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,12 +21,12 @@ import org.springframework.stereotype.Repository;
  */
 
 @Repository
-public interface RecruitRepository extends JpaRepository<Recruit, Long> {
+public interface RecruitRepository extends JpaRepository<Recruit, Long>, RecruitRepositoryCustom {
 
   @Query(value = """
       SELECT *,
-             ST_Distance(  
-                 ST_SetSRID(ST_MakePoint(r.longitude, r.latitude), 4326)::geography, 
+             ST_Distance(
+                 r.location,
                  ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography
              ) / 1000 AS distance
       FROM recruit r
@@ -35,8 +36,8 @@ public interface RecruitRepository extends JpaRepository<Recruit, Long> {
            r.meeting_place ILIKE CONCAT('%', :keyword, '%'))
       AND (:radius IS NULL OR 
           ST_DWithin(
-              ST_SetSRID(ST_MakePoint(r.longitude, r.latitude), 4326)::geography, 
-              ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, 
+              r.location,
+              ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography,
               :radius * 1000
           )
       )
@@ -83,4 +84,29 @@ public interface RecruitRepository extends JpaRepository<Recruit, Long> {
       @Param("endOfDay") LocalDateTime endOfDay,
       @Param("statuses") List<RecruitStatus> statuses
   );
-}
\ No newline at end of file
+
+  /**
+   * 좌석 선점 - 종료되지 않았고 자리가 남아 있을 때만 +1 (조건부 UPDATE 한 번). 갱신 후 정원이 찼으면 true, 이미 마감이면 null
+   * <p>
+   * @Modifying 을 붙이지 않는다. @Modifying 은 executeUpdate 로 실행돼 갱신 건수(int)만 돌려주므로 RETURNING 값을 받을 수 없다. 결과 행이 있는
+   * 조회로 실행해 값을 받고, 호출 측(RecruitService.reserveJoin)은 쓰기 트랜잭션 안에서 마지막 문장으로 호출한다. 영속성 컨텍스트의 Recruit 는
+   * 갱신되지 않으므로 이후 current_participants 를 읽으려면 다시 조회해야 한다
+   */
+  @Query(value = "UPDATE recruit SET current_participants = current_participants + 1 " +
+      "WHERE id = :recruitId " +
+      "AND status <> :completed " +
+      "AND current_participants < max_participants " +
+      "RETURNING current_participants = max_participants", nativeQuery = true)
+  Boolean reserveSeat(
+      @Param("recruitId") Long recruitId,
+      @Param("completed") String completed
+  );
+
+  /**
+   * 좌석 반납 (0 미만으로 내려가지 않음)
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Recruit r SET r.currentParticipants = r.currentParticipants - 1 " +
+      "WHERE r.id = :recruitId AND r.currentParticipants > 0")
+  int releaseSeat(@Param("recruitId") Long recruitId);
+}
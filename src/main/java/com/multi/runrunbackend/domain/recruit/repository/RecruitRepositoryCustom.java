@@ -0,0 +1,43 @@
+package com.multi.runrunbackend.domain.recruit.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 모집글 공간 조회 (recruit.location GiST 인덱스, 스키마: resources/db/recruit-geography.sql)
+ * @filename : RecruitRepositoryCustom
+ * @since : 2026. 1. 24. Saturday
+ */
+public interface RecruitRepositoryCustom {
+
+  /**
+   * 모집 중이고 아직 시작 전인 모집글을 가까운 순(KNN)으로 조회. cursorDistM/cursorId 가 있으면 그 다음부터 (keyset)
+   */
+  List<NearbyRecruitRow> findNearbyOpen(double latitude, double longitude, double radiusM,
+      Double cursorDistM, Long cursorId, int limit);
+
+  /**
+   * 근처 모집 목록/지도 한 줄 (Redis 캐시에 그대로 저장)
+   */
+  record NearbyRecruitRow(
+      Long recruitId,
+      String title,
+      String meetingPlace,
+      LocalDateTime meetingAt,
+      Double targetDistance,
+      String targetPace,
+      Integer maxParticipants,
+      Integer currentParticipants,
+      Long authorId,
+      String authorName,
+      String genderLimit,
+      Integer ageMin,
+      Integer ageMax,
+      Double latitude,
+      Double longitude,
+      double distM
+  ) {
+
+  }
+}
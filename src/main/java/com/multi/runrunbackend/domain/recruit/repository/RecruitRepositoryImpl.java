@@ -0,0 +1,73 @@
+package com.multi.runrunbackend.domain.recruit.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 모집글 공간 조회 구현 - ST_DWithin 으로 인덱스 필터, <-> 로 인덱스 KNN 정렬, (거리, id) keyset 페이징
+ * @filename : RecruitRepositoryImpl
+ * @since : 2026. 1. 24. Saturday
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecruitRepositoryImpl implements RecruitRepositoryCustom {
+
+  private static final String CENTER = "ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography";
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  @Override
+  public List<NearbyRecruitRow> findNearbyOpen(double latitude, double longitude, double radiusM,
+      Double cursorDistM, Long cursorId, int limit) {
+
+    MapSqlParameterSource params = new MapSqlParameterSource("lat", latitude)
+        .addValue("lng", longitude)
+        .addValue("radiusM", radiusM)
+        .addValue("limit", limit);
+
+    StringBuilder sql = new StringBuilder("""
+        SELECT r.id, r.title, r.meeting_place, r.meeting_at, r.target_distance, r.target_pace,
+               r.max_participants, r.current_participants, r.user_id, u.name AS author_name,
+               r.gender_limit, r.age_min, r.age_max, r.latitude, r.longitude,
+               r.location <-> %1$s AS dist_m
+        FROM recruit r
+        JOIN users u ON u.id = r.user_id
+        WHERE r.status = 'RECRUITING'
+          AND r.meeting_at > now()
+          AND ST_DWithin(r.location, %1$s, :radiusM)
+        """.formatted(CENTER));
+
+    if (cursorDistM != null && cursorId != null) {
+      sql.append("""
+            AND (r.location <-> %1$s > :cursorDistM
+                 OR (r.location <-> %1$s = :cursorDistM AND r.id > :cursorId))
+          """.formatted(CENTER));
+      params.addValue("cursorDistM", cursorDistM).addValue("cursorId", cursorId);
+    }
+
+    sql.append(" ORDER BY r.location <-> ").append(CENTER).append(", r.id LIMIT :limit");
+
+    return jdbc.query(sql.toString(), params, (rs, i) -> new NearbyRecruitRow(
+        rs.getLong("id"),
+        rs.getString("title"),
+        rs.getString("meeting_place"),
+        rs.getTimestamp("meeting_at").toLocalDateTime(),
+        rs.getObject("target_distance", Double.class),
+        rs.getString("target_pace"),
+        rs.getInt("max_participants"),
+        rs.getInt("current_participants"),
+        rs.getLong("user_id"),
+        rs.getString("author_name"),
+        rs.getString("gender_limit"),
+        rs.getInt("age_min"),
+        rs.getInt("age_max"),
+        rs.getDouble("latitude"),
+        rs.getDouble("longitude"),
+        rs.getDouble("dist_m")
+    ));
+  }
+}
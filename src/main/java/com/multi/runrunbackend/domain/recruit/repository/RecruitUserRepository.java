@@ -5,6 +5,7 @@ import com.multi.runrunbackend.domain.recruit.entity.Recruit;
 import com.multi.runrunbackend.domain.recruit.entity.RecruitUser;
 import com.multi.runrunbackend.domain.user.entity.User;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -41,6 +42,36 @@ public interface RecruitUserRepository extends JpaRepository<RecruitUser, Long>
       @Param("date") LocalDate date,
       @Param("statuses") List<RecruitStatus> statuses
   );
-}
-
 
+  /**
+   * 참가 가능 여부를 한 번에 확인
+   *
+   * @return 0: 참가 가능, 1: 이미 참가한 모집글, 2: 같은 날 방장/참가 중인 모집글이 있음 (statuses 상태만)
+   */
+  @Query(value = """
+      SELECT CASE
+               WHEN EXISTS (SELECT 1 FROM recruit_users ru
+                            WHERE ru.recruit_id = :recruitId
+                              AND ru.user_id = :userId
+                              AND ru.is_deleted = false) THEN 1
+               WHEN EXISTS (SELECT 1 FROM recruit r
+                            WHERE r.user_id = :userId
+                              AND r.meeting_at >= :startOfDay AND r.meeting_at < :nextDay
+                              AND r.status IN (:statuses))
+                 OR EXISTS (SELECT 1 FROM recruit_users ru
+                            JOIN recruit r ON r.id = ru.recruit_id
+                            WHERE ru.user_id = :userId
+                              AND ru.is_deleted = false
+                              AND r.meeting_at >= :startOfDay AND r.meeting_at < :nextDay
+                              AND r.status IN (:statuses)) THEN 2
+               ELSE 0
+             END
+      """, nativeQuery = true)
+  int checkJoinConflict(
+      @Param("recruitId") Long recruitId,
+      @Param("userId") Long userId,
+      @Param("startOfDay") LocalDateTime startOfDay,
+      @Param("nextDay") LocalDateTime nextDay,
+      @Param("statuses") List<String> statuses
+  );
+}
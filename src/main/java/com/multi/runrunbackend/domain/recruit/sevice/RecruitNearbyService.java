@@ -0,0 +1,164 @@
+package com.multi.runrunbackend.domain.recruit.sevice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import com.multi.runrunbackend.domain.course.dto.req.CursorPage;
+import com.multi.runrunbackend.domain.recruit.dto.req.RecruitNearbyReqDto;
+import com.multi.runrunbackend.domain.recruit.dto.res.RecruitListResDto;
+import com.multi.runrunbackend.domain.recruit.repository.RecruitRepository;
+import com.multi.runrunbackend.domain.recruit.repository.RecruitRepositoryCustom.NearbyRecruitRow;
+import com.multi.runrunbackend.domain.recruit.util.GeoHash;
+import com.multi.runrunbackend.domain.recruit.util.RecruitCursorCodec;
+import com.multi.runrunbackend.domain.recruit.util.RecruitCursorCodec.CursorPayload;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 근처 모집글(지도) 조회. 같은 geohash 셀(정밀도 6, 약 1.2km x 0.6km)에 있는 사용자들은 셀 중심 기준 후보 목록을 Redis 에서
+ * 공유하고(짧은 TTL), 거리 계산/반경 필터/커서 페이징만 요청마다 한다. 후보가 너무 많은 셀은 DB KNN 조회로 바로 간다.
+ * @filename : RecruitNearbyService
+ * @since : 2026. 1. 24. Saturday
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecruitNearbyService {
+
+  private static final String BUCKET_KEY_PREFIX = "recruit_nearby:";
+  private static final Duration BUCKET_TTL = Duration.ofSeconds(30);
+  private static final int BUCKET_PRECISION = 6;
+  private static final int BUCKET_CANDIDATE_LIMIT = 300;
+
+  private static final double DEFAULT_RADIUS_KM = 3.0;
+  private static final int DEFAULT_SIZE = 20;
+  private static final int MAX_SIZE = 50;
+
+  private static final Comparator<NearbyRecruitRow> BY_DISTANCE =
+      Comparator.comparingDouble(NearbyRecruitRow::distM).thenComparing(NearbyRecruitRow::recruitId);
+
+  private final RecruitRepository recruitRepository;
+  private final RecruitCursorCodec cursorCodec;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 셀 후보 스냅샷 (truncated 면 후보가 너무 많아 캐시로 답하지 않음)
+   */
+  record BucketSnapshot(boolean truncated, List<NearbyRecruitRow> rows) {
+
+  }
+
+  public CursorPage<RecruitListResDto> getNearbyRecruits(RecruitNearbyReqDto req,
+      CustomUser principal) {
+
+    int size = (req.getSize() == null || req.getSize() <= 0) ? DEFAULT_SIZE
+        : Math.min(req.getSize(), MAX_SIZE);
+    // 캐시 키가 흩어지지 않도록 반경은 0.5km 단위로 올림 (필터는 요청 반경 그대로)
+    double radiusKm = req.getRadiusKm() == null ? DEFAULT_RADIUS_KM : req.getRadiusKm();
+    double bucketRadiusKm = Math.ceil(radiusKm * 2) / 2;
+    double radiusM = radiusKm * 1000;
+    double lat = req.getLatitude();
+    double lon = req.getLongitude();
+
+    CursorPayload cursor = cursorCodec.decodeOrNull(req.getCursor());
+    Double cursorDistM = cursor == null ? null : cursor.getDistM();
+    Long cursorId = cursor == null ? null : cursor.getId();
+
+    BucketSnapshot snapshot = loadBucket(lat, lon, bucketRadiusKm);
+
+    List<NearbyRecruitRow> rows;
+    if (snapshot.truncated()) {
+      rows = recruitRepository.findNearbyOpen(lat, lon, radiusM, cursorDistM, cursorId, size + 1);
+    } else {
+      rows = pageFromBucket(snapshot.rows(), lat, lon, radiusM, cursorDistM, cursorId, size + 1);
+    }
+
+    boolean hasNext = rows.size() > size;
+    if (hasNext) {
+      rows = rows.subList(0, size);
+    }
+
+    String nextCursor = null;
+    if (hasNext) {
+      NearbyRecruitRow last = rows.get(rows.size() - 1);
+      CursorPayload payload = new CursorPayload();
+      payload.setDistM(last.distM());
+      payload.setId(last.recruitId());
+      nextCursor = cursorCodec.encode(payload);
+    }
+
+    Long userId = principal.getUserId();
+    return CursorPage.<RecruitListResDto>builder()
+        .items(rows.stream().map(row -> RecruitListResDto.from(row, userId)).toList())
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  /**
+   * 요청 위치 기준으로 거리 재계산 → 반경/커서 필터 → (거리, id) 정렬 → limit
+   */
+  private List<NearbyRecruitRow> pageFromBucket(List<NearbyRecruitRow> candidates, double lat,
+      double lon, double radiusM, Double cursorDistM, Long cursorId, int limit) {
+
+    List<NearbyRecruitRow> rows = new ArrayList<>(candidates.size());
+    for (NearbyRecruitRow c : candidates) {
+      double distM = GeoHash.distanceMeters(lat, lon, c.latitude(), c.longitude());
+      if (distM > radiusM) {
+        continue;
+      }
+      if (cursorDistM != null && cursorId != null
+          && (distM < cursorDistM || (distM == cursorDistM && c.recruitId() <= cursorId))) {
+        continue;
+      }
+      rows.add(new NearbyRecruitRow(c.recruitId(), c.title(), c.meetingPlace(), c.meetingAt(),
+          c.targetDistance(), c.targetPace(), c.maxParticipants(), c.currentParticipants(),
+          c.authorId(), c.authorName(), c.genderLimit(), c.ageMin(), c.ageMax(), c.latitude(),
+          c.longitude(), distM));
+    }
+    rows.sort(BY_DISTANCE);
+    return rows.size() > limit ? rows.subList(0, limit) : rows;
+  }
+
+  /**
+   * 셀 중심에서 (반경 + 셀 반대각선) 안의 모집글 = 셀 안 어느 위치에서 조회해도 필요한 후보 전부
+   */
+  private BucketSnapshot loadBucket(double lat, double lon, double bucketRadiusKm) {
+    String hash = GeoHash.encode(lat, lon, BUCKET_PRECISION);
+    String key = BUCKET_KEY_PREFIX + hash + ":" + bucketRadiusKm;
+
+    try {
+      String cached = redisTemplate.opsForValue().get(key);
+      if (cached != null) {
+        return objectMapper.readValue(cached, BucketSnapshot.class);
+      }
+    } catch (Exception e) {
+      log.warn("근처 모집 캐시 조회 실패 - DB 조회로 대체. key={}", key, e);
+    }
+
+    double[] bounds = GeoHash.bounds(hash);
+    double centerLat = (bounds[0] + bounds[2]) / 2;
+    double centerLon = (bounds[1] + bounds[3]) / 2;
+    double halfDiagonalM = GeoHash.distanceMeters(centerLat, centerLon, bounds[2], bounds[3]);
+
+    List<NearbyRecruitRow> rows = recruitRepository.findNearbyOpen(centerLat, centerLon,
+        bucketRadiusKm * 1000 + halfDiagonalM, null, null, BUCKET_CANDIDATE_LIMIT + 1);
+    BucketSnapshot snapshot = rows.size() > BUCKET_CANDIDATE_LIMIT
+        ? new BucketSnapshot(true, List.of())
+        : new BucketSnapshot(false, rows);
+
+    try {
+      redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(snapshot), BUCKET_TTL);
+    } catch (Exception e) {
+      log.warn("근처 모집 캐시 저장 실패. key={}", key, e);
+    }
+    return snapshot;
+  }
+}
@@ -37,7 +37,9 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author : KIMGWANGHO
@@ -57,6 +59,7 @@ public class RecruitService {
   private final MatchSessionService matchSessionService;
   private final CourseRepository courseRepository;
   private final NotificationService notificationService;
+  private final TransactionTemplate transactionTemplate;
 
 
   @Transactional
@@ -232,33 +235,43 @@ public class RecruitService {
     recruitRepository.delete(recruit);
   }
 
-  @Transactional
+  /**
+   * 참가 트랜잭션은 좌석 UPDATE 를 마지막 문장으로 커밋하고, 정원을 채운 요청만 커밋 뒤 별도 트랜잭션에서 세션을 만든다 (세션 생성 동안 모집글 행 잠금을 잡지
+   * 않음). 세션 생성이 실패해도 참가는 유지되며 MatchSessionScheduler 가 모임 1시간 전에 다시 생성한다.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public Long joinRecruit(Long recruitId, CustomUser principal) {
-    User user = getUser(principal);
-    Recruit recruit = getActiveRecruitOrThrow(recruitId);
-
-    if (recruitUserRepository.existsByRecruitAndUser(recruit, user)) {
-      throw new ValidationException(ErrorCode.ALREADY_PARTICIPATED);
+    Boolean filled = transactionTemplate.execute(status -> reserveJoin(recruitId, principal));
+    if (!Boolean.TRUE.equals(filled)) {
+      return null;
     }
 
-    LocalDate meetingDate = recruit.getMeetingAt().toLocalDate();
+    try {
+      return matchSessionService.createOfflineSessionBySystem(recruitId);
+    } catch (Exception e) {
+      log.error("정원 마감 후 세션 생성 실패 - recruitId: {}", recruitId, e);
+      return null;
+    }
+  }
 
-    boolean hasHostedRecruitThatDay =
-        recruitRepository.existsByUserAndMeetingAtBetween(
-            user,
-            meetingDate.atStartOfDay(),
-            meetingDate.atTime(23, 59, 59),
-            List.of(RecruitStatus.RECRUITING, RecruitStatus.MATCHED)
-        );
+  private boolean reserveJoin(Long recruitId, CustomUser principal) {
+    User user = getUser(principal);
+    Recruit recruit = getActiveRecruitOrThrow(recruitId);
 
-    boolean hasJoinedRecruitThatDay =
-        recruitUserRepository.existsByUserAndMeetingDate(
-            user,
-            meetingDate,
-            List.of(RecruitStatus.RECRUITING, RecruitStatus.MATCHED)
-        );
+    LocalDate meetingDate = recruit.getMeetingAt().toLocalDate();
 
-    if (hasHostedRecruitThatDay || hasJoinedRecruitThatDay) {
+    // 중복 참가 / 같은 날 다른 모집 여부를 쿼리 한 번으로 확인
+    int conflict = recruitUserRepository.checkJoinConflict(
+        recruit.getId(),
+        user.getId(),
+        meetingDate.atStartOfDay(),
+        meetingDate.plusDays(1).atStartOfDay(),
+        List.of(RecruitStatus.RECRUITING.name(), RecruitStatus.MATCHED.name())
+    );
+    if (conflict == 1) {
+      throw new ValidationException(ErrorCode.ALREADY_PARTICIPATED);
+    }
+    if (conflict == 2) {
       throw new ValidationException(ErrorCode.ALREADY_PARTICIPATED_SAME_DAY);
     }
 
@@ -286,16 +299,16 @@ public class RecruitService {
         .recruit(recruit)
         .user(user)
         .build();
-    recruitUserRepository.save(recruitUser);
-
-    recruit.increaseParticipants();
+    recruitUserRepository.saveAndFlush(recruitUser);
 
-    if (recruit.getCurrentParticipants().equals(recruit.getMaxParticipants())) {
-      Long sessionId = matchSessionService.createOfflineSessionBySystem(recruit.getId());
-      return sessionId;
+    // 좌석 선점은 마지막에 조건부 UPDATE 로 (행 잠금은 커밋까지 잠깐만 잡힌다). 실패하면 참가 기록도 롤백
+    Boolean filled = recruitRepository.reserveSeat(recruitId, RecruitStatus.COMPLETED.name());
+    if (filled == null) {
+      throw new ValidationException(ErrorCode.RECRUIT_FULL);
     }
 
-    return null;
+    // 마지막 좌석을 잡은 요청만 true 를 받으므로 세션 생성은 한 번만 일어난다
+    return filled;
   }
 
   @Transactional
@@ -337,7 +350,7 @@ public class RecruitService {
         .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_PARTICIPATED));
 
     recruitUserRepository.delete(recruitUser);
-    recruit.decreaseParticipants();
+    recruitRepository.releaseSeat(recruitId);
 
   }
 
@@ -0,0 +1,116 @@
+package com.multi.runrunbackend.domain.recruit.util;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 근처 모집 캐시 버킷용 geohash 인코딩 / 셀 중심·크기 계산
+ * @filename : GeoHash
+ * @since : 2026. 1. 24. Saturday
+ */
+public final class GeoHash {
+
+  private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+  // PostGIS geography <-> / ST_Distance(use_spheroid=false) 와 같은 구 반지름
+  private static final double EARTH_RADIUS_M = 6_371_008.8;
+
+  private GeoHash() {
+  }
+
+  public static String encode(double latitude, double longitude, int precision) {
+    double minLat = -90;
+    double maxLat = 90;
+    double minLon = -180;
+    double maxLon = 180;
+
+    StringBuilder hash = new StringBuilder(precision);
+    boolean evenBit = true;
+    int bit = 0;
+    int index = 0;
+
+    while (hash.length() < precision) {
+      if (evenBit) {
+        double mid = (minLon + maxLon) / 2;
+        if (longitude >= mid) {
+          index = (index << 1) | 1;
+          minLon = mid;
+        } else {
+          index <<= 1;
+          maxLon = mid;
+        }
+      } else {
+        double mid = (minLat + maxLat) / 2;
+        if (latitude >= mid) {
+          index = (index << 1) | 1;
+          minLat = mid;
+        } else {
+          index <<= 1;
+          maxLat = mid;
+        }
+      }
+      evenBit = !evenBit;
+
+      if (++bit == 5) {
+        hash.append(BASE32[index]);
+        bit = 0;
+        index = 0;
+      }
+    }
+    return hash.toString();
+  }
+
+  /**
+   * 셀 경계 [minLat, minLon, maxLat, maxLon]
+   */
+  public static double[] bounds(String hash) {
+    double minLat = -90;
+    double maxLat = 90;
+    double minLon = -180;
+    double maxLon = 180;
+    boolean evenBit = true;
+
+    for (int i = 0; i < hash.length(); i++) {
+      int value = indexOf(hash.charAt(i));
+      for (int shift = 4; shift >= 0; shift--) {
+        boolean on = ((value >> shift) & 1) == 1;
+        if (evenBit) {
+          double mid = (minLon + maxLon) / 2;
+          if (on) {
+            minLon = mid;
+          } else {
+            maxLon = mid;
+          }
+        } else {
+          double mid = (minLat + maxLat) / 2;
+          if (on) {
+            minLat = mid;
+          } else {
+            maxLat = mid;
+          }
+        }
+        evenBit = !evenBit;
+      }
+    }
+    return new double[]{minLat, minLon, maxLat, maxLon};
+  }
+
+  /**
+   * 두 지점 사이 구면 거리 (m)
+   */
+  public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLon = Math.toRadians(lon2 - lon1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+        * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+    return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  private static int indexOf(char c) {
+    for (int i = 0; i < BASE32.length; i++) {
+      if (BASE32[i] == c) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("잘못된 geohash 문자: " + c);
+  }
+}
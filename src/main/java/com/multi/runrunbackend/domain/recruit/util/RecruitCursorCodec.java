@@ -0,0 +1,51 @@
+package com.multi.runrunbackend.domain.recruit.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 근처 모집글 커서(거리, id) 인코딩/디코딩
+ * @filename : RecruitCursorCodec
+ * @since : 2026. 1. 24. Saturday
+ */
+@Component
+@RequiredArgsConstructor
+public class RecruitCursorCodec {
+
+  private final ObjectMapper objectMapper;
+
+  @Data
+  public static class CursorPayload {
+
+    private Double distM;
+    private Long id;
+  }
+
+  public CursorPayload decodeOrNull(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      byte[] raw = Base64.getUrlDecoder().decode(cursor);
+      String json = new String(raw, StandardCharsets.UTF_8);
+      return objectMapper.readValue(json, CursorPayload.class);
+    } catch (Exception e) {
+      return null; // 커서가 깨졌으면 첫 페이지처럼 처리
+    }
+  }
+
+  public String encode(CursorPayload payload) {
+    try {
+      String json = objectMapper.writeValueAsString(payload);
+      return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    } catch (Exception e) {
+      throw new IllegalStateException("RecruitCursor encode failed", e);
+    }
+  }
+}
@@ -1,15 +1,19 @@
 package com.multi.runrunbackend.domain.running.battle.controller;
 
+import com.multi.runrunbackend.common.config.SchedulingConfig;
 import com.multi.runrunbackend.common.exception.custom.CustomException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.common.metrics.RunRunMetrics;
 import com.multi.runrunbackend.domain.running.battle.dto.req.BattleGpsReqDto;
 import com.multi.runrunbackend.domain.running.battle.dto.req.BattleReadyReqDto;
 import com.multi.runrunbackend.domain.running.battle.dto.res.BattleRankingResDto;
 import com.multi.runrunbackend.domain.running.battle.service.BattleService;
+import java.time.Instant;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Controller;
 
 /**
@@ -19,13 +23,24 @@ import org.springframework.stereotype.Controller;
  * @since : 2025-12-29
  */
 @Controller
-@RequiredArgsConstructor
 @Slf4j
 public class BattleWebSocketController {
 
   private final BattleService battleService;
+  private final TaskScheduler taskScheduler;
+  private final RunRunMetrics runRunMetrics;
   // SimpMessagingTemplate 제거 - Redis Pub/Sub 사용
 
+  public BattleWebSocketController(
+      BattleService battleService,
+      @Qualifier(SchedulingConfig.TASK_SCHEDULER) TaskScheduler taskScheduler,
+      RunRunMetrics runRunMetrics
+  ) {
+    this.battleService = battleService;
+    this.taskScheduler = taskScheduler;
+    this.runRunMetrics = runRunMetrics;
+  }
+
   @MessageMapping("/battle/ready")
   public void handleReady(BattleReadyReqDto request) {
     log.info("🎯 Ready 상태 변경 요청: sessionId={}, userId={}, isReady={}",
@@ -53,28 +68,11 @@ public class BattleWebSocketController {
       if (allReady) {
         log.info("🎉 모두 Ready! 자동 시작: sessionId={}", request.getSessionId());
 
-        // 1초 대기 (UI 업데이트 시간)
-        Thread.sleep(1000);
-
-        // 배틀 시작 (Service에서 Redis Pub/Sub 메시지 전송)
-        battleService.startBattle(request.getSessionId());
-
-        log.info("🚩 배틀 시작 브로드캐스트: sessionId={}", request.getSessionId());
-
-        // 초기 순위 전송 (0m로 초기화된 상태)
-        List<BattleRankingResDto> initialRankings = battleService.getRankings(
-            request.getSessionId());
-        
-        battleService.sendRankingMessage(request.getSessionId(), initialRankings);
-
-        log.info("📊 초기 순위 전송: sessionId={}, 참가자={}명",
-            request.getSessionId(), initialRankings.size());
+        // 1초 뒤 시작 (UI 업데이트 시간) - 인바운드 채널 스레드를 sleep 으로 붙잡지 않도록 스케줄러에 위임
+        taskScheduler.schedule(() -> startBattle(request.getSessionId()),
+            Instant.now().plusSeconds(1));
       }
 
-    } catch (InterruptedException e) {
-      log.error("❌ Thread sleep 실패: sessionId={}", request.getSessionId(), e);
-      Thread.currentThread().interrupt();
-
     } catch (CustomException e) {
       // ValidationException, NotFoundException 등 모든 커스텀 Exception 처리
       log.error("❌ Ready 처리 실패 - {}: sessionId={}", 
@@ -87,6 +85,29 @@ public class BattleWebSocketController {
     }
   }
 
+  private void startBattle(Long sessionId) {
+    try {
+      // 배틀 시작 (Service에서 Redis Pub/Sub 메시지 전송)
+      battleService.startBattle(sessionId);
+
+      log.info("🚩 배틀 시작 브로드캐스트: sessionId={}", sessionId);
+
+      // 초기 순위 전송 (0m로 초기화된 상태)
+      List<BattleRankingResDto> initialRankings = battleService.getRankings(sessionId);
+
+      battleService.sendRankingMessage(sessionId, initialRankings);
+
+      log.info("📊 초기 순위 전송: sessionId={}, 참가자={}명", sessionId, initialRankings.size());
+
+    } catch (CustomException e) {
+      log.error("❌ 배틀 시작 실패 - {}: sessionId={}", e.getErrorCode().getMessage(), sessionId);
+      battleService.sendErrorMessage(sessionId, e.getErrorCode());
+
+    } catch (Exception e) {
+      log.error("❌ 배틀 시작 실패: sessionId={}", sessionId, e);
+      battleService.sendErrorMessage(sessionId, ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
 
   @MessageMapping("/battle/gps")
   public void handleGps(BattleGpsReqDto request) {
@@ -97,17 +118,20 @@ public class BattleWebSocketController {
       log.info("📍 GPS 수신: sessionId={}, userId={}, distance={}m",
           request.getSessionId(), userId, totalDistance);
 
-      battleService.updateGpsData(
-          request.getSessionId(),
-          userId,
-          request.getGps(),
-          totalDistance
-      );
+      List<BattleRankingResDto> rankings = runRunMetrics.gpsTick("battle", () -> {
+        battleService.updateGpsData(
+            request.getSessionId(),
+            userId,
+            request.getGps(),
+            totalDistance
+        );
 
-      List<BattleRankingResDto> rankings = battleService.getRankings(request.getSessionId());
+        List<BattleRankingResDto> ranked = battleService.getRankings(request.getSessionId());
 
-      // Redis Pub/Sub으로 순위 메시지 전송
-      battleService.sendRankingMessage(request.getSessionId(), rankings);
+        // Redis Pub/Sub으로 순위 메시지 전송
+        battleService.sendRankingMessage(request.getSessionId(), ranked);
+        return ranked;
+      });
 
       log.info("📡 순위 브로드캐스트: sessionId={}, 참가자={}명",
           request.getSessionId(), rankings.size());
@@ -0,0 +1,55 @@
+package com.multi.runrunbackend.domain.running.battle.scheduler;
+
+import com.multi.runrunbackend.common.exception.custom.NotFoundException;
+import com.multi.runrunbackend.domain.running.battle.service.BattleService;
+import com.multi.runrunbackend.domain.running.battle.service.BattleTimeoutQueue;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : chang
+ * @description : 서버마다 도는 타임아웃 큐 폴러. 만료된 배틀만 꺼내 종료 처리하고, 기다리는 동안 스레드를 잡고 있지 않는다.
+ * @filename : BattleTimeoutScheduler
+ * @since : 2026. 1. 24. Saturday
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BattleTimeoutScheduler {
+
+  private static final long POLL_DELAY_MS = 500;
+  private static final int CLAIM_LIMIT = 20;
+  // 처리 중 서버가 죽으면 이 시간 뒤 다른 서버가 다시 꺼낸다 (종료 처리는 IN_PROGRESS 확인으로 멱등)
+  private static final long LEASE_MS = 60_000;
+
+  private final BattleTimeoutQueue battleTimeoutQueue;
+  private final BattleService battleService;
+
+  @Scheduled(fixedDelay = POLL_DELAY_MS)
+  public void pollDueTimeouts() {
+    List<Long> sessionIds;
+    try {
+      sessionIds = battleTimeoutQueue.claimDue(System.currentTimeMillis(), CLAIM_LIMIT, LEASE_MS);
+    } catch (Exception e) {
+      log.warn("⚠️ 타임아웃 큐 조회 실패", e);
+      return;
+    }
+
+    for (Long sessionId : sessionIds) {
+      try {
+        log.info("⏰ 타임아웃 만료! 배틀 자동 종료: sessionId={}", sessionId);
+        battleService.executeTimeoutFinish(sessionId);
+        battleTimeoutQueue.remove(sessionId);
+      } catch (NotFoundException e) {
+        log.warn("⚠️ 타임아웃 대상 세션 없음 - 큐에서 제거: sessionId={}", sessionId);
+        battleTimeoutQueue.remove(sessionId);
+      } catch (Exception e) {
+        // lease 가 지나면 다시 시도
+        log.error("❌ 타임아웃 종료 실패 - {}ms 후 재시도: sessionId={}", LEASE_MS, sessionId, e);
+      }
+    }
+  }
+}
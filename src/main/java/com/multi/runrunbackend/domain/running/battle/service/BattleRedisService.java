@@ -6,6 +6,7 @@ import com.multi.runrunbackend.domain.running.battle.dto.BattleUserDto;
 import com.multi.runrunbackend.domain.running.battle.dto.TimeoutDto;
 import com.multi.runrunbackend.domain.running.battle.dto.req.BattleGpsReqDto.GpsData;
 import com.multi.runrunbackend.domain.running.battle.dto.res.BattleRankingResDto;
+import com.multi.runrunbackend.domain.running.battle.util.BattleRankingSorter;
 import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import java.time.Duration;
@@ -287,73 +288,10 @@ public class BattleRedisService {
     log.info("🔥🔥🔥 데이터 수집 완료: 전체={}명, 조회성공={}명, NULL={}명",
         rankingSet.size(), rankings.size(), nullJsonCount);
 
-    // ✅ 2단계: 상태별로 분류 및 정렬
-    // 완주자: FINISHED 상태, 완주 시각순 정렬
-    List<BattleRankingResDto> finishedRankings = rankings.stream()
-        .filter(r -> "FINISHED".equals(r.getStatus()))
-        .sorted((a, b) -> {
-          // ✅ 실제 완주 시각으로 비교 (빠른 시각이 1등)
-          if (a.getFinishTimeActual() == null && b.getFinishTimeActual() == null) {
-            return 0;
-          }
-          if (a.getFinishTimeActual() == null) {
-            return 1;  // null은 뒤로
-          }
-          if (b.getFinishTimeActual() == null) {
-            return -1;
-          }
-          return a.getFinishTimeActual().compareTo(b.getFinishTimeActual());  // 오름차순
-        })
-        .collect(java.util.stream.Collectors.toList());
-
-    // ✅ 타임아웃자: TIMEOUT 또는 RUNNING 상태, 거리 내림차순 정렬
-    List<BattleRankingResDto> timeoutRankings = rankings.stream()
-        .filter(r -> "TIMEOUT".equals(r.getStatus()) || "RUNNING".equals(r.getStatus()))
-        .sorted((a, b) -> Double.compare(b.getTotalDistance(), a.getTotalDistance()))
-        .collect(java.util.stream.Collectors.toList());
-
-    // ✅ 포기자: GIVE_UP 상태만 (순위 없음)
-    List<BattleRankingResDto> giveUpRankings = rankings.stream()
-        .filter(r -> "GIVE_UP".equals(r.getStatus()))
-        .collect(java.util.stream.Collectors.toList());
-
-    // ✅ 3단계: 순위 부여
-    // 완주자: 1, 2, 3...
-    for (int i = 0; i < finishedRankings.size(); i++) {
-      BattleRankingResDto ranking = finishedRankings.get(i);
-      ranking.setRank(i + 1);
-
-      log.info("🏆 {}등 (완주): userId={}, username={}, 실제완주시각={}",
-          ranking.getRank(), ranking.getUserId(), ranking.getUsername(),
-          ranking.getFinishTimeActual());
-    }
-
-    // 타임아웃자: (완주자 수 + 1)부터
-    int nextRank = finishedRankings.size() + 1;
-    for (int i = 0; i < timeoutRankings.size(); i++) {
-      BattleRankingResDto ranking = timeoutRankings.get(i);
-      ranking.setRank(nextRank++);
-
-      log.info("⏰ {}등 (타임아웃): userId={}, username={}, distance={}m",
-          ranking.getRank(), ranking.getUserId(), ranking.getUsername(),
-          ranking.getTotalDistance());
-    }
-
-    // 포기자: 순위 0
-    for (BattleRankingResDto giveUp : giveUpRankings) {
-      giveUp.setRank(0);
-      log.info("🚪 순위없음 (포기): userId={}, username={}",
-          giveUp.getUserId(), giveUp.getUsername());
-    }
-
-    // ✅ 4단계: 합치기 (완주자 + 타임아웃자 + 포기자)
-    List<BattleRankingResDto> finalRankings = new ArrayList<>();
-    finalRankings.addAll(finishedRankings);
-    finalRankings.addAll(timeoutRankings);
-    finalRankings.addAll(giveUpRankings);
+    // ✅ 2단계: 상태별 정렬 및 순위 부여 (완주자 → 타임아웃자 → 포기자)
+    List<BattleRankingResDto> finalRankings = BattleRankingSorter.rank(rankings);
 
-    log.info("📊 순위 조회 완료: sessionId={}, 완주={}명, 타임아웃={}명, 포기={}명",
-        sessionId, finishedRankings.size(), timeoutRankings.size(), giveUpRankings.size());
+    log.debug("📊 순위 조회 완료: sessionId={}, 참가자={}명", sessionId, finalRankings.size());
     return finalRankings;
   }
 
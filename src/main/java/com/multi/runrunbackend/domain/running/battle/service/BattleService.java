@@ -1,10 +1,11 @@
 package com.multi.runrunbackend.domain.running.battle.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.multi.runrunbackend.common.constant.DistanceType;
+import com.multi.runrunbackend.common.event.StatsRollupEvent;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.custom.ValidationException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.domain.chat.service.RedisPublisher;
 import com.multi.runrunbackend.domain.match.constant.RunStatus;
 import com.multi.runrunbackend.domain.match.constant.RunningType;
 import com.multi.runrunbackend.domain.match.constant.SessionStatus;
@@ -17,13 +18,13 @@ import com.multi.runrunbackend.domain.match.repository.MatchSessionRepository;
 import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
 import com.multi.runrunbackend.domain.match.repository.SessionUserRepository;
 import com.multi.runrunbackend.domain.match.service.RunningResultService;
-import com.multi.runrunbackend.domain.point.service.PointService;
 import com.multi.runrunbackend.domain.rating.entity.DistanceRating;
 import com.multi.runrunbackend.domain.rating.repository.DistanceRatingRepository;
 import com.multi.runrunbackend.domain.rating.service.DistanceRatingService;
 import com.multi.runrunbackend.domain.running.battle.dto.TimeoutDto;
 import com.multi.runrunbackend.domain.running.battle.dto.req.BattleGpsReqDto.GpsData;
 import com.multi.runrunbackend.domain.running.battle.dto.res.BattleRankingResDto;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
 import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import java.math.BigDecimal;
@@ -33,12 +34,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -63,15 +61,10 @@ public class BattleService {
   private final BattleResultRepository battleResultRepository;
   private final DistanceRatingRepository distanceRatingRepository;
   private final SimpMessagingTemplate messagingTemplate;
-  private final RedisTemplate<String, Object> redisPubSubTemplate;
-  private final ObjectMapper objectMapper;
+  private final RedisPublisher redisPublisher;
   private final DistanceRatingService distanceRatingService;
-  private final com.multi.runrunbackend.domain.challenge.service.ChallengeProgressService challengeProgressService;
-  private final PointService pointService;
-
-
-  // ✅ 타임아웃 스케줄러
-  private final ScheduledExecutorService timeoutScheduler = Executors.newScheduledThreadPool(10);
+  private final ApplicationEventPublisher eventPublisher;
+  private final BattleTimeoutQueue battleTimeoutQueue;
 
   /**
    * Ready 상태 토글
@@ -319,21 +312,7 @@ public class BattleService {
    * Redis Pub/Sub을 통한 메시지 발행 (다중 서버 환경 지원)
    */
   private void publishToRedis(String destination, Object message) {
-    try {
-      Map<String, Object> redisMessage = new HashMap<>();
-      redisMessage.put("destination", destination);
-      redisMessage.put("message", message);
-
-      String channel = "battle:" + destination.hashCode();
-      String payload = objectMapper.writeValueAsString(redisMessage);
-
-      redisPubSubTemplate.convertAndSend(channel, payload);
-
-      log.info("📤 [Redis Pub] 메시지 발행 - destination: {}, channel: {}", destination, channel);
-
-    } catch (Exception e) {
-      log.error("❌ Redis Pub 실패: destination={}", destination, e);
-    }
+    redisPublisher.publishToDestination(destination, message);
   }
 
   /**
@@ -435,17 +414,11 @@ public class BattleService {
         log.info("🏆 첫 완주자 등장 - 타임아웃 시작: sessionId={}, timeout={}초",
             sessionId, timeoutSeconds);
 
-        // ✅ 30초 후 자동 종료 예약
-        timeoutScheduler.schedule(() -> {
-          try {
-            log.info("⏰ 타임아웃 만료! 배틀 자동 종료: sessionId={}", sessionId);
-            executeTimeoutFinish(sessionId);
-          } catch (Exception e) {
-            log.error("❌ 타임아웃 종료 실패: sessionId={}", sessionId, e);
-          }
-        }, timeoutSeconds, TimeUnit.SECONDS);
+        // ✅ 30초 후 자동 종료 예약 (Redis 지연 큐 → BattleTimeoutScheduler 가 처리)
+        battleTimeoutQueue.schedule(sessionId,
+            System.currentTimeMillis() + timeoutSeconds * 1000L);
 
-        log.info("✅ 타임아웃 스케줄러 등록: {}초 후 자동 종료", timeoutSeconds);
+        log.info("✅ 타임아웃 큐 등록: {}초 후 자동 종료", timeoutSeconds);
       }
     }
 
@@ -457,6 +430,7 @@ public class BattleService {
       if (session.getStatus() == SessionStatus.IN_PROGRESS) {
         log.info("✅ 모든 참가자 완주 감지 - 배틀 종료: sessionId={}", sessionId);
         finishBattle(sessionId);
+        battleTimeoutQueue.remove(sessionId);
       } else {
         log.info("ℹ️ 이미 종료된 배틀: sessionId={}, status={}", sessionId, session.getStatus());
       }
@@ -590,21 +564,10 @@ public class BattleService {
           .runningType(RunningType.ONLINEBATTLE)
           .build();
 
-      RunningResult saved = runningResultService.saveAndUpdateAverage(runningResult);
+      // 포인트 적립, 챌린지 진행도(완주자, 타임아웃만)는 후처리 작업으로 등록
+      RunningResult saved = runningResultService.saveAndEnqueuePostRun(runningResult);
       runningResults.add(saved);
 
-      // 포인트 적립: COMPLETED와 TIME_OUT 모두 적립
-      if (runStatus == RunStatus.COMPLETED || runStatus == RunStatus.TIME_OUT) {
-        double distanceMeters = ranking.getTotalDistance();  // 이미 미터 단위
-        pointService.earnPointsForRunningComplete(user.getId(), distanceMeters);
-      }
-
-      // [추가] 챌린지 진행도 반영 (완주자, 타임아웃만)
-      if (runStatus == RunStatus.COMPLETED || runStatus == RunStatus.TIME_OUT) {
-        challengeProgressService.applyRunningResult(saved);
-        log.info(" 챌린지 진행도 반영 완료: userId={}, runStatus={}", user.getId(), runStatus);
-      }
-
       savedCount++;
       log.info(
           "✅ RunningResult 저장 완료: userId={}, username={}, rank={}, status={}, runStatus={}, distance={}km",
@@ -633,48 +596,15 @@ public class BattleService {
           r.getUser().getId(), r.getRunStatus(), r.getTotalDistance());
     }
 
-    List<RunningResult> giveUpResults = runningResults.stream()
-        .filter(r -> r.getRunStatus() == RunStatus.GIVE_UP)
-        .toList();
-
-    if (!ratedResults.isEmpty()) {
-      log.info("processBattleResults 호출: sessionId={}, ratedResults={}명",
-          sessionId, ratedResults.size());
-      distanceRatingService.processBattleResults(sessionId, ratedResults, distanceType);
-    } else {
-      log.warn("⚠레이팅 정산 대상 없음: sessionId={}", sessionId);
-    }
-
-    for (RunningResult giveUpResult : giveUpResults) {
-      User user = giveUpResult.getUser();
-      DistanceRating rating = distanceRatingRepository
-          .findByUserIdAndDistanceType(user.getId(), distanceType)
-          .orElseGet(() -> createNewRatingForGiveUp(user, distanceType));
-
-      int previousRating = rating.getCurrentRating();
+    long giveUpCount = runningResults.size() - ratedResults.size();
 
-      int penalty = calculateGiveUpPenalty(rating, distanceType);
-      rating.updateRating(-penalty, 0);  // 음수로 점수 감소
-      distanceRatingRepository.save(rating);
-
-      BattleResult giveUpBattleResult = BattleResult.builder()
-          .session(session)
-          .user(user)
-          .runningResult(giveUpResult)
-          .distanceType(distanceType)
-          .ranking(0)
-          .previousRating(previousRating)
-          .currentRating(rating.getCurrentRating())
-          .build();
-
-      battleResultRepository.save(giveUpBattleResult);
-
-      log.info(" 포기자 BattleResult 저장 (패널티 -{}점): userId={}, username={}, rating: {} -> {}",
-          penalty, user.getId(), user.getName(), previousRating, rating.getCurrentRating());
-    }
+    // 완주/타임아웃 Elo 정산과 포기자 패널티를 한 번에 (레이팅/판수 일괄 조회, saveAll)
+    log.info("processBattleResults 호출: sessionId={}, ratedResults={}명, 포기자={}명",
+        sessionId, ratedResults.size(), giveUpCount);
+    distanceRatingService.processBattleResults(sessionId, runningResults, distanceType);
 
     log.info(" 배틀 결과 저장 및 레이팅 정산 완료: sessionId={}, 레이팅대상={}명, 포기자={}명",
-        sessionId, ratedResults.size(), giveUpResults.size());
+        sessionId, ratedResults.size(), giveUpCount);
   }
 
   /**
@@ -881,6 +811,8 @@ public class BattleService {
             .build();
 
         runningResultRepository.save(minimalResult);
+        eventPublisher.publishEvent(
+            StatsRollupEvent.of(RollupSource.RUNNING_RESULT, minimalResult.getId()));
 
         // 최소한의 BattleResult 저장
         DistanceRating rating = distanceRatingRepository
@@ -899,6 +831,8 @@ public class BattleService {
             .build();
 
         battleResultRepository.save(minimalBattleResult);
+        eventPublisher.publishEvent(
+            StatsRollupEvent.of(RollupSource.BATTLE_RESULT, minimalBattleResult.getId()));
 
         log.warn(" 최소한 데이터 저장: sessionId={}, userId={}, username={}",
             sessionId, user.getId(), user.getName());
@@ -912,29 +846,6 @@ public class BattleService {
     }
   }
 
-  /**
-   * 포기자 패널티 계산
-   */
-  private int calculateGiveUpPenalty(DistanceRating rating, DistanceType distanceType) {
-    int k = distanceRatingService.kFactor(rating.getUser(), distanceType);
-
-    return Math.max(10, (int) Math.round(k * 0.25));
-  }
-
-  /**
-   * 포기자를 위한 새 레이팅 생성
-   */
-  private DistanceRating createNewRatingForGiveUp(User user, DistanceType type) {
-    return distanceRatingRepository.findByUserIdAndDistanceType(user.getId(), type)
-        .orElseGet(() -> distanceRatingRepository.save(
-            DistanceRating.builder()
-                .user(user)
-                .distanceType(type)
-                .build()
-        ));
-  }
-
-
   /**
    * 배틀 결과 조회
    */
@@ -1042,6 +953,7 @@ public class BattleService {
       // 모두 포기 - 배틀 종료 (✅ finishBattle 호출)
       log.info("⚠️ 모든 참가자 포기 - 배틀 종료: sessionId={}", sessionId);
       finishBattle(sessionId);  // ✅ saveBattleResults 호출됨
+      battleTimeoutQueue.remove(sessionId);
 
       result.put("shouldShowResult", true);
       result.put("message", "모든 참가자가 포기하여 배틀이 종료되었습니다.");
@@ -1079,7 +991,7 @@ public class BattleService {
   }
 
   /**
-   * ✅ 타임아웃 만료 시 배틀 종료 처리 (스케줄러에서 호출)
+   * ✅ 타임아웃 만료 시 배틀 종료 처리 (BattleTimeoutScheduler 에서 호출)
    */
   @Transactional
   public void executeTimeoutFinish(Long sessionId) {
@@ -1111,18 +1023,9 @@ public class BattleService {
         .forEach(p -> log.info("  - 미완주: userId={}, username={}, distance={}m",
             p.getUserId(), p.getUsername(), p.getTotalDistance()));
 
-    // ✅ 모든 미완주자를 Redis에서 TIMEOUT 상태로 변경
+    // ✅ 모든 미완주자를 Redis에서 TIMEOUT 상태로 변경 (동기 쓰기라 바로 다시 읽어도 반영돼 있음)
     battleRedisService.setAllUnfinishedToTimeout(sessionId);
 
-    // ✅ Redis 업데이트 완료 대기 (200ms)
-    try {
-      log.info("⏳ Redis 업데이트 반영 대기 중... (200ms)");
-      Thread.sleep(200);
-    } catch (InterruptedException e) {
-      log.warn("⚠️ 대기 중 인터럽트 발생", e);
-      Thread.currentThread().interrupt();
-    }
-
     // ✅ 업데이트 확인용 재조회
     List<BattleRankingResDto> updatedRankings = getRankings(sessionId);
     log.info("📊 업데이트 후 재조회 ({}명):", updatedRankings.size());
@@ -0,0 +1,72 @@
+package com.multi.runrunbackend.domain.running.battle.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author : chang
+ * @description : 배틀 타임아웃 지연 큐 (Redis ZSET, score = 만료 시각 ms). 서버 메모리가 아니라 Redis 에 있으므로 재시작/배포 중에도
+ * 유지되고, 꺼내기는 Lua 로 원자적으로 해서 여러 서버 중 한 곳만 가져간다. 꺼낸 항목은 lease 만큼 뒤로 밀어두고 처리 후 ack 로 지우므로,
+ * 처리 중 서버가 죽어도 lease 가 지나면 다시 나온다.
+ * @filename : BattleTimeoutQueue
+ * @since : 2026. 1. 24. Saturday
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BattleTimeoutQueue {
+
+  private static final String QUEUE_KEY = "battle:timeout_queue";
+
+  /**
+   * 만료된 항목을 limit 개까지 꺼내면서 score 를 (now + lease) 로 옮긴다 (= 처리 중 표시)
+   */
+  private static final String CLAIM_DUE_SCRIPT = """
+      local key = KEYS[1]
+      local now = tonumber(ARGV[1])
+      local limit = tonumber(ARGV[2])
+      local leaseUntil = tonumber(ARGV[3])
+
+      local due = redis.call('ZRANGEBYSCORE', key, '-inf', now, 'LIMIT', 0, limit)
+      for i = 1, #due do
+        redis.call('ZADD', key, 'XX', leaseUntil, due[i])
+      end
+      return due
+      """;
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  /**
+   * 타임아웃 예약 - 이미 예약돼 있으면 기존 만료 시각 유지
+   */
+  public void schedule(Long sessionId, long dueAtMillis) {
+    redisTemplate.opsForZSet().addIfAbsent(QUEUE_KEY, sessionId.toString(), dueAtMillis);
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<Long> claimDue(long nowMillis, int limit, long leaseMillis) {
+    List<String> claimed = redisTemplate.execute(
+        new DefaultRedisScript<>(CLAIM_DUE_SCRIPT, List.class),
+        List.of(QUEUE_KEY),
+        String.valueOf(nowMillis),
+        String.valueOf(limit),
+        String.valueOf(nowMillis + leaseMillis)
+    );
+
+    if (claimed == null || claimed.isEmpty()) {
+      return List.of();
+    }
+    return claimed.stream().map(Long::valueOf).toList();
+  }
+
+  /**
+   * 처리 완료 또는 더 이상 필요 없는 타임아웃 제거
+   */
+  public void remove(Long sessionId) {
+    redisTemplate.opsForZSet().remove(QUEUE_KEY, sessionId.toString());
+  }
+}
@@ -0,0 +1,68 @@
+package com.multi.runrunbackend.domain.running.battle.util;
+
+import com.multi.runrunbackend.domain.running.battle.dto.res.BattleRankingResDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * @author : chang
+ * @description : 배틀 순위 정렬/부여 (Redis 조회 없이 수집된 목록만 다룸, GPS tick 마다 호출)
+ * <p>
+ * 완주자(FINISHED)는 실제 완주 시각 오름차순, 타임아웃/진행중(TIMEOUT, RUNNING)은 거리 내림차순, 포기자(GIVE_UP)는 순위 0 으로 맨 뒤.
+ * @filename : BattleRankingSorter
+ * @since : 2026. 1. 27. Tuesday
+ */
+public final class BattleRankingSorter {
+
+  // 빠른 완주 시각이 1등, 완주 시각이 없으면 뒤로
+  private static final Comparator<BattleRankingResDto> BY_FINISH_TIME = Comparator.comparing(
+      BattleRankingResDto::getFinishTimeActual,
+      Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()));
+
+  private static final Comparator<BattleRankingResDto> BY_DISTANCE_DESC = (a, b) ->
+      Double.compare(b.getTotalDistance(), a.getTotalDistance());
+
+  private BattleRankingSorter() {
+  }
+
+  /**
+   * @return 완주자 + 타임아웃/진행중 + 포기자 순으로 합친 목록 (rank 채워짐)
+   */
+  public static List<BattleRankingResDto> rank(List<BattleRankingResDto> rankings) {
+    List<BattleRankingResDto> finished = new ArrayList<>();
+    List<BattleRankingResDto> running = new ArrayList<>();
+    List<BattleRankingResDto> giveUp = new ArrayList<>();
+
+    for (BattleRankingResDto r : rankings) {
+      if ("FINISHED".equals(r.getStatus())) {
+        finished.add(r);
+      } else if ("TIMEOUT".equals(r.getStatus()) || "RUNNING".equals(r.getStatus())) {
+        running.add(r);
+      } else if ("GIVE_UP".equals(r.getStatus())) {
+        giveUp.add(r);
+      }
+    }
+
+    finished.sort(BY_FINISH_TIME);
+    running.sort(BY_DISTANCE_DESC);
+
+    List<BattleRankingResDto> result = new ArrayList<>(
+        finished.size() + running.size() + giveUp.size());
+    int rank = 1;
+    for (BattleRankingResDto r : finished) {
+      r.setRank(rank++);
+      result.add(r);
+    }
+    for (BattleRankingResDto r : running) {
+      r.setRank(rank++);
+      result.add(r);
+    }
+    for (BattleRankingResDto r : giveUp) {
+      r.setRank(0);
+      result.add(r);
+    }
+    return result;
+  }
+}
@@ -5,6 +5,7 @@ import com.multi.runrunbackend.common.exception.custom.BusinessException;
 import com.multi.runrunbackend.common.exception.custom.CustomException;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.common.metrics.RunRunMetrics;
 import com.multi.runrunbackend.domain.chat.service.RedisPublisher;
 import com.multi.runrunbackend.domain.running.dto.GPSDataDTO;
 import com.multi.runrunbackend.domain.running.dto.RunningStatsDTO;
@@ -31,6 +32,7 @@ public class RunningWebSocketController {
   private final RunningTrackingService trackingService;
   private final RedisPublisher redisPublisher;
   private final SimpMessagingTemplate messagingTemplate;
+  private final RunRunMetrics runRunMetrics;
 
   /**
    * GPS 데이터 수신 및 통계 브로드캐스트
@@ -51,12 +53,15 @@ public class RunningWebSocketController {
 
     try {
 
-      // 1. GPS 데이터 처리 및 통계 계산
-      RunningStatsDTO stats = trackingService.processGPSData(gpsData);
-
-      // 2. Redis Pub/Sub으로 모든 서버에 브로드캐스트
       String channel = "running:" + gpsData.getSessionId();
-      redisPublisher.publishObject(channel, stats);
+      RunningStatsDTO stats = runRunMetrics.gpsTick("solo", () -> {
+        // 1. GPS 데이터 처리 및 통계 계산
+        RunningStatsDTO computed = trackingService.processGPSData(gpsData);
+
+        // 2. Redis Pub/Sub으로 모든 서버에 브로드캐스트
+        redisPublisher.publishObject(channel, computed);
+        return computed;
+      });
 
       log.info("📊 통계 브로드캐스트: sessionId={}, avgPace={}, distance={}km, remaining={}km",
           stats.getSessionId(),
@@ -0,0 +1,20 @@
+package com.multi.runrunbackend.domain.running.ghost.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author : chang
+ * @description : 고스트 비교 기준 (어떤 데이터로 GhostTrace 를 만들었는지)
+ * @filename : GhostCompareMethod
+ * @since : 2026. 1. 24. Saturday
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GhostCompareMethod {
+  TRACE("GPS 트랙 기반 (100m 단위)"),
+  KM_BASED("km 스플릿 보간"),
+  AVG_PACE("평균 페이스");
+
+  private final String description;
+}
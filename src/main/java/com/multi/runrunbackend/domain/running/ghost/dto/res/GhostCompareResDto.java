@@ -0,0 +1,24 @@
+package com.multi.runrunbackend.domain.running.ghost.dto.res;
+
+import com.multi.runrunbackend.domain.running.ghost.constant.GhostCompareMethod;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author : chang
+ * @description : 고스트 실시간 비교 결과 (/sub/ghost-run/{sessionId}). 필드명은 기존 Map 응답과 동일
+ * @filename : GhostCompareResDto
+ * @since : 2026. 1. 24. Saturday
+ */
+@Getter
+@AllArgsConstructor
+public class GhostCompareResDto {
+
+  private final String status;              // AHEAD, BEHIND, EVEN
+  private final int distanceDiffMeters;     // 고스트와의 거리 차이 (m)
+  private final long timeDiffSeconds;       // 고스트와의 시간 차이 (초, 절댓값)
+  private final double myDistance;          // 내 거리 (km)
+  private final long myTime;                // 내 시간 (초)
+  private final long ghostTime;             // 고스트가 내 거리에 도달한 시간 (초)
+  private final GhostCompareMethod compareMethod;
+}
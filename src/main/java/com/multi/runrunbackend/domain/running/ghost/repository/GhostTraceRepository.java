@@ -0,0 +1,68 @@
+package com.multi.runrunbackend.domain.running.ghost.repository;
+
+import com.multi.runrunbackend.domain.running.ghost.constant.GhostCompareMethod;
+import com.multi.runrunbackend.domain.running.ghost.util.GhostTrace;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author : chang
+ * @description : 러닝 기록별 GPS 트랙 기반 고스트 트레이스 (스키마: resources/db/running-result-trace.sql)
+ * @filename : GhostTraceRepository
+ * @since : 2026. 1. 24. Saturday
+ */
+@Repository
+@RequiredArgsConstructor
+public class GhostTraceRepository {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public void save(Long runningResultId, GhostTrace trace) {
+    jdbc.update("""
+        INSERT INTO running_result_trace
+            (running_result_id, step_meters, total_meters, total_seconds, times, created_at)
+        VALUES (:runningResultId, :stepMeters, :totalMeters, :totalSeconds,
+                CAST(:times AS integer[]), now())
+        ON CONFLICT (running_result_id) DO UPDATE
+        SET step_meters = EXCLUDED.step_meters,
+            total_meters = EXCLUDED.total_meters,
+            total_seconds = EXCLUDED.total_seconds,
+            times = EXCLUDED.times
+        """, new MapSqlParameterSource("runningResultId", runningResultId)
+        .addValue("stepMeters", trace.getStepMeters())
+        .addValue("totalMeters", trace.getTotalMeters())
+        .addValue("totalSeconds", trace.getTotalSeconds())
+        .addValue("times", toArrayLiteral(trace.getTimes())));
+  }
+
+  public Optional<GhostTrace> findByRunningResultId(Long runningResultId) {
+    return jdbc.query("""
+            SELECT step_meters, total_meters, total_seconds, times
+            FROM running_result_trace
+            WHERE running_result_id = :runningResultId
+            """, new MapSqlParameterSource("runningResultId", runningResultId),
+        (rs, i) -> {
+          Integer[] times = (Integer[]) rs.getArray("times").getArray();
+          int[] values = new int[times.length];
+          for (int j = 0; j < times.length; j++) {
+            values[j] = times[j];
+          }
+          return GhostTrace.of(GhostCompareMethod.TRACE, rs.getInt("step_meters"),
+              rs.getInt("total_meters"), rs.getInt("total_seconds"), values);
+        }).stream().findFirst();
+  }
+
+  private String toArrayLiteral(int[] times) {
+    StringBuilder sb = new StringBuilder(times.length * 5 + 2).append('{');
+    for (int i = 0; i < times.length; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(times[i]);
+    }
+    return sb.append('}').toString();
+  }
+}
@@ -2,7 +2,6 @@ package com.multi.runrunbackend.domain.running.ghost.service;
 
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
-import com.multi.runrunbackend.domain.challenge.service.ChallengeProgressService;
 import com.multi.runrunbackend.domain.match.constant.RunStatus;
 import com.multi.runrunbackend.domain.match.constant.RunningType;
 import com.multi.runrunbackend.domain.match.constant.SessionStatus;
@@ -11,8 +10,10 @@ import com.multi.runrunbackend.domain.match.entity.RunningResult;
 import com.multi.runrunbackend.domain.match.repository.MatchSessionRepository;
 import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
 import com.multi.runrunbackend.domain.match.service.RunningResultService;
-import com.multi.runrunbackend.domain.point.service.PointService;
 import com.multi.runrunbackend.domain.running.ghost.dto.req.GhostRunFinishReqDto;
+import com.multi.runrunbackend.domain.running.ghost.dto.res.GhostCompareResDto;
+import com.multi.runrunbackend.domain.running.ghost.repository.GhostTraceRepository;
+import com.multi.runrunbackend.domain.running.ghost.util.GhostTrace;
 import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,9 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author : chang
@@ -44,28 +43,9 @@ public class GhostRunService {
     private final MatchSessionRepository matchSessionRepository;
     private final UserRepository userRepository;
     private final GhostCompareService ghostCompareService;
+    private final GhostTraceRepository ghostTraceRepository;
+    private final GhostTraceStore ghostTraceStore;
     private final SimpMessagingTemplate messagingTemplate;
-    private final ChallengeProgressService challengeProgressService;
-    private final PointService pointService;
-
-    // 세션별 고스트 데이터 (메모리 캐싱)
-    private final Map<Long, GhostSessionData> ghostSessions = new ConcurrentHashMap<>();
-
-    /**
-     * 고스트 세션 데이터 (메모리 저장용)
-     */
-    private static class GhostSessionData {
-
-        List<Map<String, Object>> splitPace;
-        double totalDistance;
-        int totalTime;
-
-        GhostSessionData(List<Map<String, Object>> splitPace, double totalDistance, int totalTime) {
-            this.splitPace = splitPace;
-            this.totalDistance = totalDistance;
-            this.totalTime = totalTime;
-        }
-    }
 
     /**
      * 기존 MatchSession을 사용한 고스트 세션 초기화
@@ -73,7 +53,7 @@ public class GhostRunService {
      * @param sessionId 기존에 생성된 MatchSession ID
      */
     @Transactional(readOnly = true)
-    public void initializeGhostSession(Long sessionId) {
+    public GhostTrace initializeGhostSession(Long sessionId) {
         // 세션 조회 (RunningResult JOIN FETCH)
         MatchSession session = matchSessionRepository.findByIdWithRunningResult(sessionId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.SESSION_NOT_FOUND));
@@ -84,18 +64,23 @@ public class GhostRunService {
             throw new NotFoundException(ErrorCode.RUNNING_RESULT_NOT_FOUND);
         }
 
-        // splitPace 데이터 가져오기
-        List<Map<String, Object>> ghostSplits = ghostRecord.getSplitPace();
+        // GPS 트랙 기반 트레이스, 없으면(기존 기록) splitPace 보간
+        GhostTrace trace = ghostTraceRepository.findByRunningResultId(ghostRecord.getId())
+                .orElseGet(() -> GhostTrace.fromSplits(
+                        ghostRecord.getSplitPace(),
+                        ghostRecord.getTotalDistance().doubleValue(),
+                        ghostRecord.getTotalTime(),
+                        GhostTrace.DEFAULT_STEP_METERS
+                ));
+        if (trace == null) {
+            throw new NotFoundException(ErrorCode.RUNNING_RESULT_NOT_FOUND);
+        }
 
-        // 메모리에 저장
-        GhostSessionData sessionData = new GhostSessionData(
-                ghostSplits,
-                ghostRecord.getTotalDistance().doubleValue(),
-                ghostRecord.getTotalTime()
-        );
-        ghostSessions.put(sessionId, sessionData);
+        // Redis(+로컬)에 저장
+        ghostTraceStore.put(sessionId, trace);
 
-        log.info("🏃 고스트 세션 초기화: sessionId={}", sessionId);
+        log.info("🏃 고스트 세션 초기화: sessionId={}, method={}", sessionId, trace.getMethod());
+        return trace;
     }
 
     /**
@@ -109,13 +94,13 @@ public class GhostRunService {
     public void handleGpsUpdate(Long sessionId, double myDistance, long myElapsedTime) {
         try {
             // 고스트와 비교 계산
-            Map<String, Object> comparison = compareWithGhost(sessionId, myDistance, myElapsedTime);
+            GhostCompareResDto comparison = compareWithGhost(sessionId, myDistance, myElapsedTime);
 
             // WebSocket으로 결과 전송
             sendComparisonMessage(sessionId, comparison);
 
             log.info("📊 고스트 비교 완료: sessionId={}, status={}, diff={}m",
-                    sessionId, comparison.get("status"), comparison.get("distanceDiffMeters"));
+                    sessionId, comparison.getStatus(), comparison.getDistanceDiffMeters());
 
         } catch (Exception e) {
             log.error("❌ GPS 처리 실패: sessionId={}", sessionId, e);
@@ -131,30 +116,23 @@ public class GhostRunService {
      * @param myElapsedTime 내가 달린 시간 (초)
      * @return 비교 결과
      */
-    //메모리에서 고스트 데이터를 가져와서 GhostCompareService에게 비교 계산을 시키는 메서드
-    private Map<String, Object> compareWithGhost(
+    //저장소에서 고스트 트레이스를 가져와서 GhostCompareService에게 비교 계산을 시키는 메서드
+    private GhostCompareResDto compareWithGhost(
             Long sessionId,
             double myDistance,
             long myElapsedTime
     ) {
-        // 메모리에서 고스트 데이터 가져오기
-        GhostSessionData sessionData = ghostSessions.get(sessionId);
+        // 로컬 → Redis 순으로 고스트 트레이스 가져오기 (다른 서버로 재접속해도 Redis 에 남아 있음)
+        GhostTrace trace = ghostTraceStore.get(sessionId);
 
         // 없으면 DB에서 로드 (자동 초기화)
-        if (sessionData == null) {
-            log.warn("⚠️ 메모리에 없음, DB에서 로드: sessionId={}", sessionId);
-            initializeGhostSession(sessionId);
-            sessionData = ghostSessions.get(sessionId);
+        if (trace == null) {
+            log.warn("⚠️ 고스트 트레이스 없음, DB에서 로드: sessionId={}", sessionId);
+            trace = initializeGhostSession(sessionId);
         }
 
         // 비교 계산
-        return ghostCompareService.compare(
-                myDistance,
-                myElapsedTime,
-                sessionData.splitPace,
-                sessionData.totalDistance,
-                sessionData.totalTime
-        );
+        return ghostCompareService.compare(trace, myDistance, myElapsedTime);
     }
 
     /**
@@ -164,7 +142,7 @@ public class GhostRunService {
      */
     @Transactional
     public void endGhostSession(Long sessionId) {
-        ghostSessions.remove(sessionId);
+        ghostTraceStore.evict(sessionId);
 
         MatchSession session = matchSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.SESSION_NOT_FOUND));
@@ -243,14 +221,8 @@ public class GhostRunService {
                 .runStatus(RunStatus.COMPLETED)
                 .build();
 
-        RunningResult savedResult = runningResultService.saveAndUpdateAverage(result);
-
-        // 포인트 적립 (100m당 1P)
-        double distanceMeters = request.getTotalDistance() * 1000;
-        pointService.earnPointsForRunningComplete(userId, distanceMeters);
-
-        // 챌린지 진행도 반영
-        challengeProgressService.applyRunningResult(savedResult);
+        // 포인트 적립, 챌린지 진행도 등은 후처리 작업으로 등록
+        RunningResult savedResult = runningResultService.saveAndEnqueuePostRun(result);
 
         // 메모리 정리
         endGhostSession(sessionId);
@@ -261,10 +233,10 @@ public class GhostRunService {
     /**
      * WebSocket 비교 결과 메시지 전송
      */
-    private void sendComparisonMessage(Long sessionId, Map<String, Object> comparison) {
+    private void sendComparisonMessage(Long sessionId, GhostCompareResDto comparison) {
         messagingTemplate.convertAndSend(
                 "/sub/ghost-run/" + sessionId,
-                (Object) comparison
+                comparison
         );
     }
 
@@ -0,0 +1,80 @@
+package com.multi.runrunbackend.domain.running.ghost.service;
+
+import com.multi.runrunbackend.domain.running.ghost.util.GhostTrace;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : chang
+ * @description : 고스트 세션별 GhostTrace 보관소. Redis 에 압축 문자열로 두고(다른 서버로 재접속해도 유지), 이 서버에서 디코딩한 것은 로컬에
+ * 잠깐 들고 있어 GPS 틱마다 Redis 를 치지 않는다.
+ * @filename : GhostTraceStore
+ * @since : 2026. 1. 24. Saturday
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GhostTraceStore {
+
+  private static final String KEY_PREFIX = "ghost_trace:";
+  private static final Duration TTL = Duration.ofHours(3);
+  private static final long LOCAL_TTL_MS = Duration.ofMinutes(10).toMillis();
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  private final Map<Long, LocalEntry> local = new ConcurrentHashMap<>();
+
+  private record LocalEntry(GhostTrace trace, long expiresAt) {
+
+  }
+
+  /**
+   * 로컬 → Redis 순으로 조회, 둘 다 없으면 null
+   */
+  public GhostTrace get(Long sessionId) {
+    long now = System.currentTimeMillis();
+    LocalEntry entry = local.get(sessionId);
+    if (entry != null && entry.expiresAt() > now) {
+      return entry.trace();
+    }
+
+    try {
+      String cached = redisTemplate.opsForValue().get(KEY_PREFIX + sessionId);
+      if (cached != null) {
+        GhostTrace trace = GhostTrace.decode(cached);
+        local.put(sessionId, new LocalEntry(trace, now + LOCAL_TTL_MS));
+        return trace;
+      }
+    } catch (Exception e) {
+      log.warn("고스트 트레이스 조회 실패 - DB 조회로 대체. sessionId={}", sessionId, e);
+    }
+    local.remove(sessionId);
+    return null;
+  }
+
+  public void put(Long sessionId, GhostTrace trace) {
+    long now = System.currentTimeMillis();
+    local.values().removeIf(e -> e.expiresAt() <= now);
+    local.put(sessionId, new LocalEntry(trace, now + LOCAL_TTL_MS));
+
+    try {
+      redisTemplate.opsForValue().set(KEY_PREFIX + sessionId, trace.encode(), TTL);
+    } catch (Exception e) {
+      log.warn("고스트 트레이스 저장 실패. sessionId={}", sessionId, e);
+    }
+  }
+
+  public void evict(Long sessionId) {
+    local.remove(sessionId);
+    try {
+      redisTemplate.delete(KEY_PREFIX + sessionId);
+    } catch (Exception e) {
+      log.warn("고스트 트레이스 삭제 실패. sessionId={}", sessionId, e);
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package com.multi.runrunbackend.domain.running.ghost.util;
+
+import com.multi.runrunbackend.domain.running.dto.GPSDataDTO;
+import com.multi.runrunbackend.domain.running.ghost.constant.GhostCompareMethod;
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author : chang
+ * @description : 고스트 기록의 거리별 누적 시간 (stepMeters 간격, int 배열). 한 번 만들어 두면 GPS 틱마다 객체 생성 없이 보간만 한다.
+ * <p>
+ * times[i] = i * stepMeters 지점 도달 시간(초), 마지막 샘플 이후는 (totalMeters, totalSeconds) 까지 선형 보간, 완주 거리 이후는 평균
+ * 페이스로 연장한다.
+ * @filename : GhostTrace
+ * @since : 2026. 1. 24. Saturday
+ */
+public final class GhostTrace {
+
+  public static final int DEFAULT_STEP_METERS = 100;
+
+  private static final char SEPARATOR = '|';
+
+  private final GhostCompareMethod method;
+  private final int stepMeters;
+  private final int totalMeters;
+  private final int totalSeconds;
+  private final int[] times;
+
+  private GhostTrace(GhostCompareMethod method, int stepMeters, int totalMeters, int totalSeconds,
+      int[] times) {
+    this.method = method;
+    this.stepMeters = stepMeters;
+    this.totalMeters = totalMeters;
+    this.totalSeconds = totalSeconds;
+    this.times = times;
+  }
+
+  public static GhostTrace of(GhostCompareMethod method, int stepMeters, int totalMeters,
+      int totalSeconds, int[] times) {
+    return new GhostTrace(method, stepMeters, totalMeters, totalSeconds, times.clone());
+  }
+
+  /**
+   * 러닝 종료 시 Redis 에 쌓인 GPS 트랙으로 생성. 거리/시간이 없는 포인트와 뒤로 가는 포인트는 건너뛴다.
+   *
+   * @return 유효한 포인트가 없으면 null
+   */
+  public static GhostTrace fromGps(List<GPSDataDTO> track, int stepMeters) {
+    double[] meters = new double[track.size() + 1];
+    double[] seconds = new double[track.size() + 1];
+    int count = 1;
+
+    for (GPSDataDTO gps : track) {
+      if (gps.getTotalDistance() == null || gps.getRunningTime() == null) {
+        continue;
+      }
+      double m = gps.getTotalDistance() * 1000;
+      double s = gps.getRunningTime();
+      if (m < meters[count - 1] || s < seconds[count - 1]) {
+        continue;
+      }
+      meters[count] = m;
+      seconds[count] = s;
+      count++;
+    }
+
+    return resample(GhostCompareMethod.TRACE, meters, seconds, count, stepMeters);
+  }
+
+  /**
+   * GPS 트랙이 저장되지 않은 기존 기록용 - split_pace 의 km별 누적 시간을 보간해 생성, 스플릿이 없으면 평균 페이스
+   *
+   * @param splits km별 페이스 [{km: 1, pace: 5.5, time: 330}, ...] (null 가능)
+   */
+  public static GhostTrace fromSplits(List<Map<String, Object>> splits, double totalKm,
+      int totalTime, int stepMeters) {
+    int size = splits == null ? 0 : splits.size();
+    double[] meters = new double[size + 2];
+    double[] seconds = new double[size + 2];
+    int count = 1;
+
+    for (int i = 0; i < size; i++) {
+      Map<String, Object> split = splits.get(i);
+      if (!(split.get("km") instanceof Number km) || !(split.get("time") instanceof Number time)) {
+        continue;
+      }
+      double m = km.doubleValue() * 1000;
+      double s = time.doubleValue();
+      if (m <= meters[count - 1] || s < seconds[count - 1]) {
+        continue;
+      }
+      meters[count] = m;
+      seconds[count] = s;
+      count++;
+    }
+
+    GhostCompareMethod method = count > 1 ? GhostCompareMethod.KM_BASED
+        : GhostCompareMethod.AVG_PACE;
+
+    double totalMeters = totalKm * 1000;
+    if (totalMeters > meters[count - 1] && totalTime >= seconds[count - 1]) {
+      meters[count] = totalMeters;
+      seconds[count] = totalTime;
+      count++;
+    }
+
+    return resample(method, meters, seconds, count, stepMeters);
+  }
+
+  /**
+   * (0,0) 부터 시작하는 단조 증가 (거리, 시간) 포인트를 stepMeters 간격으로 재표본화
+   */
+  private static GhostTrace resample(GhostCompareMethod method, double[] meters,
+      double[] seconds, int count, int stepMeters) {
+    if (count < 2 || meters[count - 1] <= 0 || seconds[count - 1] <= 0) {
+      return null;
+    }
+
+    int totalMeters = (int) Math.round(meters[count - 1]);
+    int totalSeconds = (int) Math.round(seconds[count - 1]);
+    int[] times = new int[totalMeters / stepMeters + 1];
+
+    int j = 1;
+    for (int i = 1; i < times.length; i++) {
+      double target = (double) i * stepMeters;
+      while (j < count - 1 && meters[j] < target) {
+        j++;
+      }
+      double span = meters[j] - meters[j - 1];
+      double ratio = span > 0 ? Math.min(1, Math.max(0, (target - meters[j - 1]) / span)) : 1;
+      int time = (int) Math.round(seconds[j - 1] + (seconds[j] - seconds[j - 1]) * ratio);
+      times[i] = Math.max(time, times[i - 1]);
+    }
+
+    return new GhostTrace(method, stepMeters, totalMeters, totalSeconds, times);
+  }
+
+  /**
+   * 고스트가 해당 거리에 도달한 시간 (초)
+   */
+  public double timeAt(double meters) {
+    if (meters <= 0) {
+      return 0;
+    }
+
+    double position = meters / stepMeters;
+    int last = times.length - 1;
+    int index = (int) position;
+    if (index < last) {
+      return times[index] + (times[index + 1] - times[index]) * (position - index);
+    }
+
+    double lastMeters = (double) last * stepMeters;
+    if (meters <= totalMeters && totalMeters > lastMeters) {
+      return times[last]
+          + (totalSeconds - times[last]) * (meters - lastMeters) / (totalMeters - lastMeters);
+    }
+
+    // 완주 거리 이후는 평균 페이스로 연장
+    return totalSeconds + (meters - totalMeters) * totalSeconds / totalMeters;
+  }
+
+  /**
+   * 해당 거리 구간의 고스트 속도 (m/s). 구간 시간이 0 이거나 완주 거리 이후면 평균 속도
+   */
+  public double speedAt(double meters) {
+    int index = (int) (Math.max(0, meters) / stepMeters);
+    if (index < times.length - 1) {
+      int segmentSeconds = times[index + 1] - times[index];
+      if (segmentSeconds > 0) {
+        return (double) stepMeters / segmentSeconds;
+      }
+    }
+    return (double) totalMeters / totalSeconds;
+  }
+
+  public GhostCompareMethod getMethod() {
+    return method;
+  }
+
+  public int getStepMeters() {
+    return stepMeters;
+  }
+
+  public int getTotalMeters() {
+    return totalMeters;
+  }
+
+  public int getTotalSeconds() {
+    return totalSeconds;
+  }
+
+  public int[] getTimes() {
+    return times.clone();
+  }
+
+  /**
+   * Redis 저장용 문자열: method|step|totalMeters|totalSeconds|base64(구간 시간 varint)
+   */
+  public String encode() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(times.length + 8);
+    for (int i = 1; i < times.length; i++) {
+      int delta = times[i] - times[i - 1];
+      while ((delta & ~0x7F) != 0) {
+        out.write((delta & 0x7F) | 0x80);
+        delta >>>= 7;
+      }
+      out.write(delta);
+    }
+
+    return method.name() + SEPARATOR + stepMeters + SEPARATOR + totalMeters + SEPARATOR
+        + totalSeconds + SEPARATOR + Base64.getEncoder().withoutPadding()
+        .encodeToString(out.toByteArray());
+  }
+
+  public static GhostTrace decode(String value) {
+    String[] parts = value.split("\\|", -1);
+    if (parts.length != 5) {
+      throw new IllegalArgumentException("잘못된 고스트 트레이스 형식: " + value);
+    }
+
+    int stepMeters = Integer.parseInt(parts[1]);
+    int totalMeters = Integer.parseInt(parts[2]);
+    byte[] deltas = Base64.getDecoder().decode(parts[4]);
+
+    int[] times = new int[totalMeters / stepMeters + 1];
+    int position = 0;
+    for (int i = 1; i < times.length; i++) {
+      int delta = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = deltas[position++];
+        delta |= (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      times[i] = times[i - 1] + delta;
+    }
+
+    return new GhostTrace(GhostCompareMethod.valueOf(parts[0]), stepMeters, totalMeters,
+        Integer.parseInt(parts[3]), times);
+  }
+}
@@ -6,7 +6,6 @@ import com.multi.runrunbackend.common.exception.custom.ForbiddenException;
 import com.multi.runrunbackend.common.exception.custom.NotFoundException;
 import com.multi.runrunbackend.common.exception.dto.ErrorCode;
 import com.multi.runrunbackend.domain.auth.dto.CustomUser;
-import com.multi.runrunbackend.domain.challenge.service.ChallengeProgressService;
 import com.multi.runrunbackend.domain.chat.dto.ChatMessageDto;
 import com.multi.runrunbackend.domain.chat.service.ChatService;
 import com.multi.runrunbackend.domain.course.entity.Course;
@@ -24,7 +23,6 @@ import com.multi.runrunbackend.domain.match.repository.MatchSessionRepository;
 import com.multi.runrunbackend.domain.match.repository.RunningResultRepository;
 import com.multi.runrunbackend.domain.match.repository.SessionUserRepository;
 import com.multi.runrunbackend.domain.match.service.RunningResultService;
-import com.multi.runrunbackend.domain.point.service.PointService;
 import com.multi.runrunbackend.domain.recruit.constant.RecruitStatus;
 import com.multi.runrunbackend.domain.recruit.repository.RecruitRepository;
 import com.multi.runrunbackend.domain.running.dto.FreeRunCoursePreviewResDto;
@@ -32,6 +30,10 @@ import com.multi.runrunbackend.domain.running.dto.GPSDataDTO;
 import com.multi.runrunbackend.domain.running.dto.RunningCoursePathResDto;
 import com.multi.runrunbackend.domain.running.dto.RunningStatsDTO;
 import com.multi.runrunbackend.domain.running.dto.req.FinishRunningReqDto;
+import com.multi.runrunbackend.domain.running.ghost.repository.GhostTraceRepository;
+import com.multi.runrunbackend.domain.running.ghost.util.GhostTrace;
+import com.multi.runrunbackend.domain.running.util.CoursePathMatcher;
+import com.multi.runrunbackend.domain.running.util.CoursePathMatcher.MatchResult;
 import com.multi.runrunbackend.domain.user.entity.User;
 import com.multi.runrunbackend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -65,12 +67,11 @@ public class RunningTrackingService {
     private final RunningResultRepository runningResultRepository;
     private final RunningResultService runningResultService;
     private final UserRepository userRepository;
-    private final ChallengeProgressService challengeProgressService;
     private final CourseRepository courseRepository;
     private final CoursePathProcessor coursePathProcessor;
     private final ChatService chatService;
     private final RecruitRepository recruitRepository;
-    private final PointService pointService;
+    private final GhostTraceRepository ghostTraceRepository;
 
     private static final Duration LATEST_STATS_TTL = Duration.ofHours(2);
 
@@ -126,7 +127,7 @@ public class RunningTrackingService {
         boolean courseDone = true;
         try {
             if (session.getCourse() != null && session.getCourse().getPath() != null) {
-                double totalM = computeLineStringMeters(session.getCourse().getPath());
+                double totalM = CoursePathMatcher.lineStringMeters(session.getCourse().getPath());
                 double matchedM = gpsData.getMatchedDistanceM() != null && Double.isFinite(
                         gpsData.getMatchedDistanceM()) ? gpsData.getMatchedDistanceM() : 0.0;
                 // 5m 여유 (좌표/근사 오차)
@@ -231,7 +232,8 @@ public class RunningTrackingService {
             return prev;
         }
 
-        MatchResult r = matchAlongMeters(path, gpsData.getLatitude(), gpsData.getLongitude(), prev);
+        MatchResult r = CoursePathMatcher.matchAlongMeters(path, gpsData.getLatitude(),
+                gpsData.getLongitude(), prev);
         if (r == null) {
             return prev;
         }
@@ -243,11 +245,11 @@ public class RunningTrackingService {
                 ? gpsData.getAccuracy()
                 : 30.0;
         double thresholdM = clamp(accM * 2.0, 50.0, 150.0); // 1.8 → 2.0, 40~120m → 50~150m로 증가
-        if (r.minDistM > thresholdM) {
+        if (r.minDistM() > thresholdM) {
             return prev;
         }
 
-        double along = Math.max(0, r.alongM);
+        double along = Math.max(0, r.alongM());
         if (prev != null && Double.isFinite(prev)) {
             // ✅ 1초 tick에서 비정상적으로 크게 점프하는 경우 제한 (루프/교차 점프 방지)
             double maxForwardJumpM = 300.0; // 250m → 300m로 증가
@@ -261,149 +263,6 @@ public class RunningTrackingService {
         return Math.max(min, Math.min(max, v));
     }
 
-    private static final class MatchResult {
-
-        final double alongM;
-        final double minDistM;
-
-        MatchResult(double alongM, double minDistM) {
-            this.alongM = alongM;
-            this.minDistM = minDistM;
-        }
-    }
-
-    private MatchResult matchAlongMeters(LineString path, double lat, double lng,
-                                         Double prevAlongM) {
-        Coordinate[] coords = path.getCoordinates();
-        if (coords == null || coords.length < 2) {
-            return null;
-        }
-
-        // 누적거리(미터)
-        double[] cum = new double[coords.length];
-        double acc = 0;
-        cum[0] = 0;
-        for (int i = 1; i < coords.length; i++) {
-            double aLng = coords[i - 1].x;
-            double aLat = coords[i - 1].y;
-            double bLng = coords[i].x;
-            double bLat = coords[i].y;
-            acc += haversineMeters(aLat, aLng, bLat, bLng);
-            cum[i] = acc;
-        }
-
-        double bestDist = Double.POSITIVE_INFINITY;
-        double bestAlong = 0;
-
-        // ✅ prev가 있으면 루프/교차에서 뒤쪽으로 점프하지 않도록, prev 근처만 탐색
-        // - prev가 없으면 전체 탐색
-        double windowBackM = 30.0;
-        double windowForwardM = 400.0;
-        double windowStart = 0;
-        double windowEnd = Double.POSITIVE_INFINITY;
-        if (prevAlongM != null && Double.isFinite(prevAlongM)) {
-            windowStart = Math.max(0, prevAlongM - windowBackM);
-            windowEnd = prevAlongM + windowForwardM;
-        }
-
-        // 탐색 구간 인덱스 계산 (cum 기반)
-        int startIdx = 0;
-        int endIdx = coords.length - 2;
-        if (prevAlongM != null && Double.isFinite(prevAlongM)) {
-            // start: cum[i+1] >= windowStart 인 첫 i
-            int lo = 0, hi = coords.length - 1;
-            while (lo < hi) {
-                int mid = (lo + hi) >>> 1;
-                if (cum[mid] < windowStart) {
-                    lo = mid + 1;
-                } else {
-                    hi = mid;
-                }
-            }
-            startIdx = Math.max(0, lo - 1);
-
-            // end: cum[i] <= windowEnd 인 마지막 i
-            lo = 0;
-            hi = coords.length - 1;
-            while (lo < hi) {
-                int mid = (lo + hi + 1) >>> 1;
-                if (cum[mid] <= windowEnd) {
-                    lo = mid;
-                } else {
-                    hi = mid - 1;
-                }
-            }
-            endIdx = Math.min(coords.length - 2, lo);
-        }
-
-        // P를 원점으로 하는 평면 근사 좌표 (미터)
-        double cosLat = Math.cos(Math.toRadians(lat));
-        for (int i = startIdx; i <= endIdx; i++) {
-            double aLng = coords[i].x;
-            double aLat = coords[i].y;
-            double bLng = coords[i + 1].x;
-            double bLat = coords[i + 1].y;
-
-            // meters (근사)
-            double ax = (aLng - lng) * 111320.0 * cosLat;
-            double ay = (aLat - lat) * 110540.0;
-            double bx = (bLng - lng) * 111320.0 * cosLat;
-            double by = (bLat - lat) * 110540.0;
-
-            double abx = bx - ax;
-            double aby = by - ay;
-            double denom = abx * abx + aby * aby;
-            if (denom <= 1e-9) {
-                continue;
-            }
-
-            // AP = -A (P=0,0)
-            double t = ((-ax) * abx + (-ay) * aby) / denom;
-            if (t < 0) {
-                t = 0;
-            } else if (t > 1) {
-                t = 1;
-            }
-
-            double qx = ax + t * abx;
-            double qy = ay + t * aby;
-            double dist = Math.sqrt(qx * qx + qy * qy);
-
-            // 후보 along (세그먼트 길이는 cum 기반)
-            double segLen = Math.max(1.0, cum[i + 1] - cum[i]);
-            double along = cum[i] + t * segLen;
-
-            // window 밖이면 제외
-            if (along < windowStart - 1e-6 || along > windowEnd + 1e-6) {
-                continue;
-            }
-
-            // best 갱신: dist 우선, dist 동률이면 prev가 있으면 prev에 더 가까운 along,
-            // prev 없으면 더 작은 along(시작점 쪽) 선택
-            double eps = 0.5; // meters
-            boolean better = false;
-            if (dist + eps < bestDist) {
-                better = true;
-            } else if (Math.abs(dist - bestDist) <= eps) {
-                if (prevAlongM != null && Double.isFinite(prevAlongM)) {
-                    better = Math.abs(along - prevAlongM) < Math.abs(bestAlong - prevAlongM);
-                } else {
-                    better = along < bestAlong;
-                }
-            }
-
-            if (better) {
-                bestDist = dist;
-                bestAlong = along;
-            }
-        }
-
-        if (!Double.isFinite(bestDist)) {
-            return null;
-        }
-        return new MatchResult(bestAlong, bestDist);
-    }
-
     /**
      * hostMatchedDistM 만큼 진행된 구간을 제거한 remainingPath(GeoJSON LineString)를 만든다. - coordinates:
      * [[lng,lat], ...]
@@ -423,7 +282,8 @@ public class RunningTrackingService {
         double acc = 0;
         cum[0] = 0;
         for (int i = 1; i < coords.length; i++) {
-            acc += haversineMeters(coords[i - 1].y, coords[i - 1].x, coords[i].y, coords[i].x);
+            acc += CoursePathMatcher.haversineMeters(coords[i - 1].y, coords[i - 1].x,
+                    coords[i].y, coords[i].x);
             cum[i] = acc;
         }
 
@@ -480,31 +340,6 @@ public class RunningTrackingService {
         return geoJson;
     }
 
-    private double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
-        double R = 6371000.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLng = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
-    }
-
-    private double computeLineStringMeters(LineString lineString) {
-        if (lineString == null || lineString.isEmpty() || lineString.getNumPoints() < 2) {
-            return 0.0;
-        }
-        double acc = 0.0;
-        for (int i = 1; i < lineString.getNumPoints(); i++) {
-            double aLng = lineString.getCoordinateN(i - 1).x;
-            double aLat = lineString.getCoordinateN(i - 1).y;
-            double bLng = lineString.getCoordinateN(i).x;
-            double bLat = lineString.getCoordinateN(i).y;
-            acc += haversineMeters(aLat, aLng, bLat, bLng);
-        }
-        return acc;
-    }
 
     /**
      * 최신 러닝 통계 조회 (재진입 복원용)
@@ -620,8 +455,9 @@ public class RunningTrackingService {
                 finalGPS.getRunningTime()
         );
         List<SessionUser> participants = null;
-        // 5. split_pace JSON 생성
+        // 5. split_pace JSON 생성 + 고스트런용 100m 단위 트레이스 (GPS 트랙은 Redis 에만 있으므로 지금 한 번 계산)
         List<Map<String, Object>> splitPace = createSplitPace(sessionId, hostUserId);
+        GhostTrace ghostTrace = GhostTrace.fromGps(allGPS, GhostTrace.DEFAULT_STEP_METERS);
         if (session.getType() == SessionType.OFFLINE) {
             // 6. 모든 참여자 조회
             participants = sessionUserRepository.findActiveUsersBySessionId(
@@ -651,13 +487,9 @@ public class RunningTrackingService {
                             .runningType(RunningType.OFFLINE)
                             .build();
 
-                    RunningResult saved = runningResultService.saveAndUpdateAverage(result);
-                    // 추가 : 챌린지 진행도 반영
-                    challengeProgressService.applyRunningResult(saved);
-
-                    // 포인트 적립 (100m당 1P)
-                    double distanceMeters = finalGPS.getTotalDistance() * 1000;
-                    pointService.earnPointsForRunningComplete(participant.getUser().getId(), distanceMeters);
+                    // 챌린지 진행도, 포인트 적립 등은 후처리 작업으로 등록
+                    runningResultService.saveAndEnqueuePostRun(result);
+                    saveGhostTrace(result, ghostTrace);
 
                     if (participant.getUser().getId().equals(hostUserId)) {
                         hostResult = result;
@@ -685,14 +517,9 @@ public class RunningTrackingService {
                     .runningType(RunningType.SOLO)
                     .build();
 
-            hostResult = runningResultService.saveAndUpdateAverage(result);
-
-
-            challengeProgressService.applyRunningResult(hostResult);
-
-            // 포인트 적립 (100m당 1P)
-            double distanceMeters = finalGPS.getTotalDistance() * 1000;
-            pointService.earnPointsForRunningComplete(hostUserId, distanceMeters);
+            // 챌린지 진행도, 포인트 적립 등은 후처리 작업으로 등록
+            hostResult = runningResultService.saveAndEnqueuePostRun(result);
+            saveGhostTrace(hostResult, ghostTrace);
 
             log.info("✅ 솔로런 기록 저장: userId={}, distance={}km, time={}초, pace={}분/km",
                     hostUserId,
@@ -800,7 +627,7 @@ public class RunningTrackingService {
 
                 if (timeSinceStart < 10) {
                     // 시작 후 10초 이내: 거리 체크
-                    double distFromStart = haversineMeters(
+                    double distFromStart = CoursePathMatcher.haversineMeters(
                             startLat, startLng,
                             gps.getLatitude(), gps.getLongitude()
                     );
@@ -820,7 +647,7 @@ public class RunningTrackingService {
                 // ✅ 추가 필터: 이전 GPS와의 거리가 너무 멀면 제외 (100m 이상 점프)
                 if (!coords.isEmpty()) {
                     Coordinate lastCoord = coords.get(coords.size() - 1);
-                    double distFromLast = haversineMeters(
+                    double distFromLast = CoursePathMatcher.haversineMeters(
                             lastCoord.y, lastCoord.x, // (lat, lng)
                             gps.getLatitude(), gps.getLongitude()
                     );
@@ -860,7 +687,7 @@ public class RunningTrackingService {
         }
 
         Coordinate start = cleaned.getCoordinateN(0);
-        double distM = computeLineStringMeters(cleaned); // 코스 경로 거리 (참고용)
+        double distM = CoursePathMatcher.lineStringMeters(cleaned); // 코스 경로 거리 (참고용)
 
         // ✅ 실제 뛴 거리 사용 (마지막 GPS의 totalDistance)
         // - 코스 없이 뛸 때: 목표 거리만큼 뛰면 종료 → 실제 거리 = 목표 거리
@@ -1090,6 +917,12 @@ public class RunningTrackingService {
         return null;  // 새로 도달한 km 없음
     }
 
+    private void saveGhostTrace(RunningResult result, GhostTrace ghostTrace) {
+        if (ghostTrace != null) {
+            ghostTraceRepository.save(result.getId(), ghostTrace);
+        }
+    }
+
     /**
      * split_pace JSON 생성 (DB 저장용)
      */
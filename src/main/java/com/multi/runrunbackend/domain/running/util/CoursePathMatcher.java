@@ -0,0 +1,185 @@
+package com.multi.runrunbackend.domain.running.util;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+
+/**
+ * @author : chang
+ * @description : 코스 경로 위 GPS 진행도 매칭/거리 계산 (GPS tick 마다 호출되는 순수 계산이라 서비스에서 분리, JMH 벤치마크 대상)
+ * @filename : CoursePathMatcher
+ * @since : 2026. 1. 27. Tuesday
+ */
+public final class CoursePathMatcher {
+
+    private CoursePathMatcher() {
+    }
+
+    /**
+     * @param alongM   경로 시작점부터 매칭 지점까지 거리(m)
+     * @param minDistM GPS 좌표와 경로 사이 최단 거리(m)
+     */
+    public record MatchResult(double alongM, double minDistM) {
+
+    }
+
+    /**
+     * prevAlongM 이 있으면 그 주변(-30m ~ +400m)만 탐색해 루프/교차 구간에서 뒤로 점프하지 않는다.
+     */
+    public static MatchResult matchAlongMeters(LineString path, double lat, double lng,
+                                               Double prevAlongM) {
+        Coordinate[] coords = path.getCoordinates();
+        if (coords == null || coords.length < 2) {
+            return null;
+        }
+
+        // 누적거리(미터)
+        double[] cum = new double[coords.length];
+        double acc = 0;
+        cum[0] = 0;
+        for (int i = 1; i < coords.length; i++) {
+            double aLng = coords[i - 1].x;
+            double aLat = coords[i - 1].y;
+            double bLng = coords[i].x;
+            double bLat = coords[i].y;
+            acc += haversineMeters(aLat, aLng, bLat, bLng);
+            cum[i] = acc;
+        }
+
+        double bestDist = Double.POSITIVE_INFINITY;
+        double bestAlong = 0;
+
+        // ✅ prev가 있으면 루프/교차에서 뒤쪽으로 점프하지 않도록, prev 근처만 탐색
+        // - prev가 없으면 전체 탐색
+        double windowBackM = 30.0;
+        double windowForwardM = 400.0;
+        double windowStart = 0;
+        double windowEnd = Double.POSITIVE_INFINITY;
+        if (prevAlongM != null && Double.isFinite(prevAlongM)) {
+            windowStart = Math.max(0, prevAlongM - windowBackM);
+            windowEnd = prevAlongM + windowForwardM;
+        }
+
+        // 탐색 구간 인덱스 계산 (cum 기반)
+        int startIdx = 0;
+        int endIdx = coords.length - 2;
+        if (prevAlongM != null && Double.isFinite(prevAlongM)) {
+            // start: cum[i+1] >= windowStart 인 첫 i
+            int lo = 0, hi = coords.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cum[mid] < windowStart) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            startIdx = Math.max(0, lo - 1);
+
+            // end: cum[i] <= windowEnd 인 마지막 i
+            lo = 0;
+            hi = coords.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (cum[mid] <= windowEnd) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            endIdx = Math.min(coords.length - 2, lo);
+        }
+
+        // P를 원점으로 하는 평면 근사 좌표 (미터)
+        double cosLat = Math.cos(Math.toRadians(lat));
+        for (int i = startIdx; i <= endIdx; i++) {
+            double aLng = coords[i].x;
+            double aLat = coords[i].y;
+            double bLng = coords[i + 1].x;
+            double bLat = coords[i + 1].y;
+
+            // meters (근사)
+            double ax = (aLng - lng) * 111320.0 * cosLat;
+            double ay = (aLat - lat) * 110540.0;
+            double bx = (bLng - lng) * 111320.0 * cosLat;
+            double by = (bLat - lat) * 110540.0;
+
+            double abx = bx - ax;
+            double aby = by - ay;
+            double denom = abx * abx + aby * aby;
+            if (denom <= 1e-9) {
+                continue;
+            }
+
+            // AP = -A (P=0,0)
+            double t = ((-ax) * abx + (-ay) * aby) / denom;
+            if (t < 0) {
+                t = 0;
+            } else if (t > 1) {
+                t = 1;
+            }
+
+            double qx = ax + t * abx;
+            double qy = ay + t * aby;
+            double dist = Math.sqrt(qx * qx + qy * qy);
+
+            // 후보 along (세그먼트 길이는 cum 기반)
+            double segLen = Math.max(1.0, cum[i + 1] - cum[i]);
+            double along = cum[i] + t * segLen;
+
+            // window 밖이면 제외
+            if (along < windowStart - 1e-6 || along > windowEnd + 1e-6) {
+                continue;
+            }
+
+            // best 갱신: dist 우선, dist 동률이면 prev가 있으면 prev에 더 가까운 along,
+            // prev 없으면 더 작은 along(시작점 쪽) 선택
+            double eps = 0.5; // meters
+            boolean better = false;
+            if (dist + eps < bestDist) {
+                better = true;
+            } else if (Math.abs(dist - bestDist) <= eps) {
+                if (prevAlongM != null && Double.isFinite(prevAlongM)) {
+                    better = Math.abs(along - prevAlongM) < Math.abs(bestAlong - prevAlongM);
+                } else {
+                    better = along < bestAlong;
+                }
+            }
+
+            if (better) {
+                bestDist = dist;
+                bestAlong = along;
+            }
+        }
+
+        if (!Double.isFinite(bestDist)) {
+            return null;
+        }
+        return new MatchResult(bestAlong, bestDist);
+    }
+
+    public static double lineStringMeters(LineString lineString) {
+        if (lineString == null || lineString.isEmpty() || lineString.getNumPoints() < 2) {
+            return 0.0;
+        }
+        double acc = 0.0;
+        for (int i = 1; i < lineString.getNumPoints(); i++) {
+            double aLng = lineString.getCoordinateN(i - 1).x;
+            double aLat = lineString.getCoordinateN(i - 1).y;
+            double bLng = lineString.getCoordinateN(i).x;
+            double bLat = lineString.getCoordinateN(i).y;
+            acc += haversineMeters(aLat, aLng, bLat, bLng);
+        }
+        return acc;
+    }
+
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double R = 6371000.0;
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return R * c;
+    }
+}
@@ -0,0 +1,24 @@
+package com.multi.runrunbackend.domain.stats.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author : kyungsoo
+ * @description : 통계 롤업 원본. 원본 테이블과 백필 시 기간 필터에 쓰는 시각 컬럼을 함께 가진다.
+ * @filename : RollupSource
+ * @since : 2026. 1. 22. Thursday
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupSource {
+    RUNNING_RESULT("running_result", "started_at"),
+    BATTLE_RESULT("battle_result", "created_at"),
+    USER("users", "created_at"),
+    MEMBERSHIP("membership", "created_at"),
+    COUPON_ISSUE("coupon_issue", "created_at"),
+    COUPON_USE("coupon_issue", "used_at");
+
+    private final String table;
+    private final String timeColumn;
+}
@@ -0,0 +1,20 @@
+package com.multi.runrunbackend.domain.stats.constant;
+
+/**
+ * @author : kyungsoo
+ * @description : stats_daily_metric 의 metric 값
+ * @filename : StatsMetric
+ * @since : 2026. 1. 22. Thursday
+ */
+public enum StatsMetric {
+    // 이벤트로 증분 반영
+    NEW_USER,
+    NEW_MEMBERSHIP,
+    COUPON_ISSUED,
+    COUPON_USED,
+
+    // 주기적으로 덮어쓰는 스냅샷
+    MATCH_DURATION_SUM,
+    MATCH_DURATION_COUNT,
+    MATCH_PARTICIPANTS
+}
@@ -0,0 +1,77 @@
+package com.multi.runrunbackend.domain.stats.controller;
+
+import com.multi.runrunbackend.common.response.ApiResponse;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
+import com.multi.runrunbackend.domain.stats.dto.res.RollupBackfillResDto;
+import com.multi.runrunbackend.domain.stats.dto.res.RollupMismatchResDto;
+import com.multi.runrunbackend.domain.stats.service.StatsRollupService;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author : kyungsoo
+ * @description : 통계 롤업 관리 (백필 / 재집계 / 정합성 검사 / 스냅샷 즉시 갱신)
+ * @filename : StatsRollupController
+ * @since : 2026. 1. 22. Thursday
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/stats/rollup")
+@PreAuthorize("hasRole('ADMIN')")
+public class StatsRollupController {
+
+    private final StatsRollupService statsRollupService;
+
+    /**
+     * source 를 생략하면 전체 원본을 백필
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<List<RollupBackfillResDto>>> backfill(
+        @RequestParam(required = false) RollupSource source,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(
+            ApiResponse.success("통계 롤업 백필 완료", statsRollupService.backfill(source, from, to))
+        );
+    }
+
+    /**
+     * /check 불일치 복구 - 기간을 원본에서 다시 집계 (source 생략 시 전체)
+     */
+    @PostMapping("/reaggregate")
+    public ResponseEntity<ApiResponse<List<RollupBackfillResDto>>> reaggregate(
+        @RequestParam(required = false) RollupSource source,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(
+            ApiResponse.success("통계 롤업 재집계 완료", statsRollupService.reaggregate(source, from, to))
+        );
+    }
+
+    @GetMapping("/check")
+    public ResponseEntity<ApiResponse<List<RollupMismatchResDto>>> check(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(
+            ApiResponse.success("통계 롤업 정합성 검사 완료", statsRollupService.check(from, to))
+        );
+    }
+
+    @PostMapping("/snapshots")
+    public ResponseEntity<ApiResponse<Void>> refreshSnapshots() {
+        statsRollupService.refreshSnapshots();
+        return ResponseEntity.ok(ApiResponse.success("통계 스냅샷 갱신 완료", null));
+    }
+}
@@ -0,0 +1,24 @@
+package com.multi.runrunbackend.domain.stats.dto.res;
+
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author : kyungsoo
+ * @description : 롤업 백필 결과
+ * @filename : RollupBackfillResDto
+ * @since : 2026. 1. 22. Thursday
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupBackfillResDto {
+
+    private RollupSource source;
+    private long scanned;
+    private long applied;
+}
@@ -0,0 +1,25 @@
+package com.multi.runrunbackend.domain.stats.dto.res;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author : kyungsoo
+ * @description : 롤업 정합성 검사 결과 - 원본 집계와 롤업 값이 다른 날
+ * @filename : RollupMismatchResDto
+ * @since : 2026. 1. 22. Thursday
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupMismatchResDto {
+
+    private String metric;
+    private LocalDate date;
+    private long source;
+    private long rollup;
+}
@@ -0,0 +1,748 @@
+package com.multi.runrunbackend.domain.stats.repository;
+
+import com.multi.runrunbackend.domain.match.constant.RunningType;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
+import com.multi.runrunbackend.domain.stats.constant.StatsMetric;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author : kyungsoo
+ * @description : 관리자 통계 롤업 테이블 접근 (스키마: resources/db/stats-rollup.sql)
+ * <p>
+ * 반영은 stats_rollup_applied 에 (source, source_id) 를 먼저 선점한 id 만 증분 upsert 하므로 이벤트 재전달/백필이 겹쳐도 한 번만
+ * 더해진다. 조회 메서드는 기존 RunningStatsRepository 와 같은 행 모양(Object[])을 돌려준다.
+ * @filename : StatsRollupRepository
+ * @since : 2026. 1. 22. Thursday
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatsRollupRepository {
+
+    private static final String COMPLETED = "('COMPLETED', 'TIME_OUT')";
+
+    private static final String TIER_CASE = """
+        CASE
+            WHEN br.current_rating < 800 THEN '거북이'
+            WHEN br.current_rating < 1200 THEN '토끼'
+            WHEN br.current_rating < 1600 THEN '사슴'
+            WHEN br.current_rating < 2000 THEN '표범'
+            WHEN br.current_rating < 2400 THEN '호랑이'
+            ELSE '장산범'
+        END
+        """;
+
+    private static final String PACE_RANGE_CASE = """
+        CASE
+            WHEN rr.avg_pace < 3.0 THEN '~3:00'
+            WHEN rr.avg_pace < 4.0 THEN '3:00-4:00'
+            WHEN rr.avg_pace < 5.0 THEN '4:00-5:00'
+            WHEN rr.avg_pace < 6.0 THEN '5:00-6:00'
+            WHEN rr.avg_pace < 7.0 THEN '6:00-7:00'
+            WHEN rr.avg_pace < 8.0 THEN '7:00-8:00'
+            WHEN rr.avg_pace < 9.0 THEN '8:00-9:00'
+            WHEN rr.avg_pace < 10.0 THEN '9:00-10:00'
+            ELSE '10:00~'
+        END
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /* ==================== 반영 ==================== */
+
+    /**
+     * 아직 반영되지 않은 id 만 선점해서 반환
+     */
+    public List<Long> claim(RollupSource source, Collection<Long> ids) {
+        String sql = """
+            INSERT INTO stats_rollup_applied (source, source_id, applied_at)
+            SELECT :source, s.id, now()
+            FROM %s s
+            WHERE s.id IN (:ids)
+            ON CONFLICT (source, source_id) DO NOTHING
+            RETURNING source_id
+            """.formatted(source.getTable());
+        return jdbc.queryForList(sql,
+            new MapSqlParameterSource("source", source.name()).addValue("ids", ids), Long.class);
+    }
+
+    /**
+     * 선점 해제 (쿠폰 사용 취소처럼 반영을 되돌릴 때). 해제됐으면 true
+     */
+    public boolean release(RollupSource source, Long id) {
+        return jdbc.update("""
+            DELETE FROM stats_rollup_applied
+            WHERE source = :source AND source_id = :id
+            """, new MapSqlParameterSource("source", source.name()).addValue("id", id)) > 0;
+    }
+
+    public void applyRunningResults(Collection<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+
+        jdbc.update("""
+            INSERT INTO stats_running_hourly AS h
+                (bucket_at, running_type, run_status, run_count, total_distance, total_time, pace_sum, pace_count)
+            SELECT DATE_TRUNC('hour', rr.started_at), rr.running_type, rr.run_status,
+                   COUNT(*), COALESCE(SUM(rr.total_distance), 0), COALESCE(SUM(rr.total_time), 0),
+                   COALESCE(SUM(rr.avg_pace), 0), COUNT(rr.avg_pace)
+            FROM running_result rr
+            WHERE rr.id IN (:ids)
+              AND rr.is_deleted = false
+            GROUP BY DATE_TRUNC('hour', rr.started_at), rr.running_type, rr.run_status
+            ON CONFLICT (bucket_at, running_type, run_status) DO UPDATE SET
+                run_count = h.run_count + EXCLUDED.run_count,
+                total_distance = h.total_distance + EXCLUDED.total_distance,
+                total_time = h.total_time + EXCLUDED.total_time,
+                pace_sum = h.pace_sum + EXCLUDED.pace_sum,
+                pace_count = h.pace_count + EXCLUDED.pace_count
+            """, params);
+
+        jdbc.update("""
+            INSERT INTO stats_course_usage AS cu (course_id, usage_count)
+            SELECT rr.course_id, COUNT(*)
+            FROM running_result rr
+            WHERE rr.id IN (:ids)
+              AND rr.is_deleted = false
+              AND rr.run_status IN %s
+              AND rr.course_id IS NOT NULL
+            GROUP BY rr.course_id
+            ON CONFLICT (course_id) DO UPDATE SET
+                usage_count = cu.usage_count + EXCLUDED.usage_count
+            """.formatted(COMPLETED), params);
+
+        jdbc.update("""
+            INSERT INTO stats_user_pace_bucket (user_id, pace_range)
+            SELECT DISTINCT rr.user_id, %s
+            FROM running_result rr
+            WHERE rr.id IN (:ids)
+              AND rr.is_deleted = false
+              AND rr.run_status IN %s
+              AND rr.avg_pace IS NOT NULL
+            ON CONFLICT (user_id, pace_range) DO NOTHING
+            """.formatted(PACE_RANGE_CASE, COMPLETED), params);
+    }
+
+    public void applyBattleResults(Collection<Long> ids) {
+        jdbc.update("""
+            INSERT INTO stats_running_tier AS t (tier, battle_count, total_distance, pace_sum, pace_count)
+            SELECT %s, COUNT(*), COALESCE(SUM(rr.total_distance), 0),
+                   COALESCE(SUM(rr.avg_pace), 0), COUNT(rr.avg_pace)
+            FROM battle_result br
+            JOIN running_result rr ON br.running_result_id = rr.id
+            WHERE br.id IN (:ids)
+              AND br.is_deleted = false
+              AND rr.is_deleted = false
+            GROUP BY 1
+            ON CONFLICT (tier) DO UPDATE SET
+                battle_count = t.battle_count + EXCLUDED.battle_count,
+                total_distance = t.total_distance + EXCLUDED.total_distance,
+                pace_sum = t.pace_sum + EXCLUDED.pace_sum,
+                pace_count = t.pace_count + EXCLUDED.pace_count
+            """.formatted(TIER_CASE), new MapSqlParameterSource("ids", ids));
+    }
+
+    public void applyUsers(Collection<Long> ids) {
+        addDailyMetric(StatsMetric.NEW_USER, "users", "created_at", ids);
+    }
+
+    public void applyMemberships(Collection<Long> ids) {
+        addDailyMetric(StatsMetric.NEW_MEMBERSHIP, "membership", "created_at", ids);
+    }
+
+    public void applyCouponIssues(Collection<Long> ids) {
+        addDailyMetric(StatsMetric.COUPON_ISSUED, "coupon_issue", "created_at", ids);
+
+        jdbc.update("""
+            INSERT INTO stats_coupon_daily AS cd (stat_date, coupon_id, issued_count, used_count)
+            SELECT CAST(ci.created_at AS date), ci.coupon_id, COUNT(*), 0
+            FROM coupon_issue ci
+            WHERE ci.id IN (:ids)
+            GROUP BY CAST(ci.created_at AS date), ci.coupon_id
+            ON CONFLICT (stat_date, coupon_id) DO UPDATE SET
+                issued_count = cd.issued_count + EXCLUDED.issued_count
+            """, new MapSqlParameterSource("ids", ids));
+    }
+
+    public void applyCouponUses(Collection<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+
+        jdbc.update("""
+            INSERT INTO stats_daily_metric AS m (stat_date, metric, value)
+            SELECT CAST(ci.used_at AS date), 'COUPON_USED', COUNT(*)
+            FROM coupon_issue ci
+            WHERE ci.id IN (:ids)
+              AND ci.status = 'USED'
+              AND ci.used_at IS NOT NULL
+            GROUP BY CAST(ci.used_at AS date)
+            ON CONFLICT (stat_date, metric) DO UPDATE SET
+                value = m.value + EXCLUDED.value
+            """, params);
+
+        jdbc.update("""
+            INSERT INTO stats_coupon_daily AS cd (stat_date, coupon_id, issued_count, used_count)
+            SELECT CAST(ci.used_at AS date), ci.coupon_id, 0, COUNT(*)
+            FROM coupon_issue ci
+            WHERE ci.id IN (:ids)
+              AND ci.status = 'USED'
+              AND ci.used_at IS NOT NULL
+            GROUP BY CAST(ci.used_at AS date), ci.coupon_id
+            ON CONFLICT (stat_date, coupon_id) DO UPDATE SET
+                used_count = cd.used_count + EXCLUDED.used_count
+            """, params);
+    }
+
+    public void revertCouponUse(Long couponId, LocalDate usedDate) {
+        MapSqlParameterSource params = new MapSqlParameterSource("statDate", Date.valueOf(usedDate))
+            .addValue("couponId", couponId);
+
+        jdbc.update("""
+            UPDATE stats_daily_metric
+            SET value = GREATEST(value - 1, 0)
+            WHERE stat_date = :statDate AND metric = 'COUPON_USED'
+            """, params);
+        jdbc.update("""
+            UPDATE stats_coupon_daily
+            SET used_count = GREATEST(used_count - 1, 0)
+            WHERE stat_date = :statDate AND coupon_id = :couponId
+            """, params);
+    }
+
+    /**
+     * 스냅샷 지표 덮어쓰기 (하루 한 행, 마지막 값 유지)
+     */
+    public void putSnapshot(StatsMetric metric, LocalDate statDate, long value) {
+        jdbc.update("""
+            INSERT INTO stats_daily_metric (stat_date, metric, value)
+            VALUES (:statDate, :metric, :value)
+            ON CONFLICT (stat_date, metric) DO UPDATE SET value = EXCLUDED.value
+            """, new MapSqlParameterSource("statDate", Date.valueOf(statDate))
+            .addValue("metric", metric.name())
+            .addValue("value", value));
+    }
+
+    private void addDailyMetric(StatsMetric metric, String table, String dateColumn,
+        Collection<Long> ids) {
+        jdbc.update("""
+            INSERT INTO stats_daily_metric AS m (stat_date, metric, value)
+            SELECT CAST(s.%2$s AS date), :metric, COUNT(*)
+            FROM %1$s s
+            WHERE s.id IN (:ids)
+            GROUP BY CAST(s.%2$s AS date)
+            ON CONFLICT (stat_date, metric) DO UPDATE SET
+                value = m.value + EXCLUDED.value
+            """.formatted(table, dateColumn),
+            new MapSqlParameterSource("metric", metric.name()).addValue("ids", ids));
+    }
+
+    /* ==================== 재집계 ==================== */
+
+    /**
+     * 재집계 동안 이벤트 반영(선점)을 막는다 (트랜잭션 끝까지 유지). 재집계는 선점된 행만 다시 더하므로 그 사이 새로 선점·반영되는 행이
+     * 없어야 두 번 세지 않는다.
+     */
+    public void lockClaims() {
+        jdbc.update("LOCK TABLE stats_rollup_applied IN SHARE ROW EXCLUSIVE MODE", Map.of());
+    }
+
+    /**
+     * 기간 내 원본 행을 모두 선점 (이미 선점된 행은 그대로)
+     *
+     * @return 새로 선점한 건수
+     */
+    public int claimRange(RollupSource source, LocalDate from, LocalDate to) {
+        String extra = source == RollupSource.COUPON_USE ? "AND s.status = 'USED'" : "";
+        String sql = """
+            INSERT INTO stats_rollup_applied (source, source_id, applied_at)
+            SELECT :source, s.id, now()
+            FROM %1$s s
+            WHERE s.%2$s >= :from AND s.%2$s < :to
+              %3$s
+            ON CONFLICT (source, source_id) DO NOTHING
+            """.formatted(source.getTable(), source.getTimeColumn(), extra);
+        return jdbc.update(sql, rangeParams(from, to).addValue("source", source.name()));
+    }
+
+    /**
+     * 러닝 결과: 기간 내 시간 버킷은 원본에서 다시 만들고, 날짜 축이 없는 코스 사용 수 / 페이스 구간은 선점된 전체 행 기준으로 다시 만든다.
+     * 삭제(soft delete)된 기록은 빠진다.
+     */
+    public void reaggregateRunningResults(LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = rangeParams(from, to);
+
+        jdbc.update("""
+            DELETE FROM stats_running_hourly
+            WHERE bucket_at >= :from AND bucket_at < :to
+            """, params);
+        jdbc.update("""
+            INSERT INTO stats_running_hourly
+                (bucket_at, running_type, run_status, run_count, total_distance, total_time, pace_sum, pace_count)
+            SELECT DATE_TRUNC('hour', rr.started_at), rr.running_type, rr.run_status,
+                   COUNT(*), COALESCE(SUM(rr.total_distance), 0), COALESCE(SUM(rr.total_time), 0),
+                   COALESCE(SUM(rr.avg_pace), 0), COUNT(rr.avg_pace)
+            FROM running_result rr
+            JOIN stats_rollup_applied a ON a.source = 'RUNNING_RESULT' AND a.source_id = rr.id
+            WHERE rr.started_at >= :from AND rr.started_at < :to
+              AND rr.is_deleted = false
+            GROUP BY DATE_TRUNC('hour', rr.started_at), rr.running_type, rr.run_status
+            """, params);
+
+        jdbc.update("DELETE FROM stats_course_usage", Map.of());
+        jdbc.update("""
+            INSERT INTO stats_course_usage (course_id, usage_count)
+            SELECT rr.course_id, COUNT(*)
+            FROM running_result rr
+            JOIN stats_rollup_applied a ON a.source = 'RUNNING_RESULT' AND a.source_id = rr.id
+            WHERE rr.is_deleted = false
+              AND rr.run_status IN %s
+              AND rr.course_id IS NOT NULL
+            GROUP BY rr.course_id
+            """.formatted(COMPLETED), Map.of());
+
+        jdbc.update("DELETE FROM stats_user_pace_bucket", Map.of());
+        jdbc.update("""
+            INSERT INTO stats_user_pace_bucket (user_id, pace_range)
+            SELECT DISTINCT rr.user_id, %s
+            FROM running_result rr
+            JOIN stats_rollup_applied a ON a.source = 'RUNNING_RESULT' AND a.source_id = rr.id
+            WHERE rr.is_deleted = false
+              AND rr.run_status IN %s
+              AND rr.avg_pace IS NOT NULL
+            """.formatted(PACE_RANGE_CASE, COMPLETED), Map.of());
+    }
+
+    /**
+     * 배틀 결과: 티어 누적은 날짜 축이 없으므로 선점된 전체 행 기준으로 다시 만든다
+     */
+    public void reaggregateBattleResults() {
+        jdbc.update("DELETE FROM stats_running_tier", Map.of());
+        jdbc.update("""
+            INSERT INTO stats_running_tier (tier, battle_count, total_distance, pace_sum, pace_count)
+            SELECT %s, COUNT(*), COALESCE(SUM(rr.total_distance), 0),
+                   COALESCE(SUM(rr.avg_pace), 0), COUNT(rr.avg_pace)
+            FROM battle_result br
+            JOIN running_result rr ON br.running_result_id = rr.id
+            JOIN stats_rollup_applied a ON a.source = 'BATTLE_RESULT' AND a.source_id = br.id
+            WHERE br.is_deleted = false
+              AND rr.is_deleted = false
+            GROUP BY 1
+            """.formatted(TIER_CASE), Map.of());
+    }
+
+    public void reaggregateUsers(LocalDate from, LocalDate to) {
+        replaceDailyMetric(StatsMetric.NEW_USER, RollupSource.USER, from, to);
+    }
+
+    public void reaggregateMemberships(LocalDate from, LocalDate to) {
+        replaceDailyMetric(StatsMetric.NEW_MEMBERSHIP, RollupSource.MEMBERSHIP, from, to);
+    }
+
+    public void reaggregateCouponIssues(LocalDate from, LocalDate to) {
+        replaceDailyMetric(StatsMetric.COUPON_ISSUED, RollupSource.COUPON_ISSUE, from, to);
+
+        MapSqlParameterSource params = rangeParams(from, to);
+        jdbc.update("""
+            UPDATE stats_coupon_daily
+            SET issued_count = 0
+            WHERE stat_date >= :from AND stat_date < :to
+            """, params);
+        jdbc.update("""
+            INSERT INTO stats_coupon_daily AS cd (stat_date, coupon_id, issued_count, used_count)
+            SELECT CAST(ci.created_at AS date), ci.coupon_id, COUNT(*), 0
+            FROM coupon_issue ci
+            JOIN stats_rollup_applied a ON a.source = 'COUPON_ISSUE' AND a.source_id = ci.id
+            WHERE ci.created_at >= :from AND ci.created_at < :to
+            GROUP BY CAST(ci.created_at AS date), ci.coupon_id
+            ON CONFLICT (stat_date, coupon_id) DO UPDATE SET
+                issued_count = EXCLUDED.issued_count
+            """, params);
+    }
+
+    public void reaggregateCouponUses(LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = rangeParams(from, to);
+
+        jdbc.update("""
+            DELETE FROM stats_daily_metric
+            WHERE metric = 'COUPON_USED'
+              AND stat_date >= :from AND stat_date < :to
+            """, params);
+        jdbc.update("""
+            INSERT INTO stats_daily_metric (stat_date, metric, value)
+            SELECT CAST(ci.used_at AS date), 'COUPON_USED', COUNT(*)
+            FROM coupon_issue ci
+            JOIN stats_rollup_applied a ON a.source = 'COUPON_USE' AND a.source_id = ci.id
+            WHERE ci.used_at >= :from AND ci.used_at < :to
+              AND ci.status = 'USED'
+            GROUP BY CAST(ci.used_at AS date)
+            """, params);
+
+        jdbc.update("""
+            UPDATE stats_coupon_daily
+            SET used_count = 0
+            WHERE stat_date >= :from AND stat_date < :to
+            """, params);
+        jdbc.update("""
+            INSERT INTO stats_coupon_daily AS cd (stat_date, coupon_id, issued_count, used_count)
+            SELECT CAST(ci.used_at AS date), ci.coupon_id, 0, COUNT(*)
+            FROM coupon_issue ci
+            JOIN stats_rollup_applied a ON a.source = 'COUPON_USE' AND a.source_id = ci.id
+            WHERE ci.used_at >= :from AND ci.used_at < :to
+              AND ci.status = 'USED'
+            GROUP BY CAST(ci.used_at AS date), ci.coupon_id
+            ON CONFLICT (stat_date, coupon_id) DO UPDATE SET
+                used_count = EXCLUDED.used_count
+            """, params);
+    }
+
+    private void replaceDailyMetric(StatsMetric metric, RollupSource source, LocalDate from,
+        LocalDate to) {
+        MapSqlParameterSource params = rangeParams(from, to)
+            .addValue("metric", metric.name())
+            .addValue("source", source.name());
+
+        jdbc.update("""
+            DELETE FROM stats_daily_metric
+            WHERE metric = :metric
+              AND stat_date >= :from AND stat_date < :to
+            """, params);
+        jdbc.update("""
+            INSERT INTO stats_daily_metric (stat_date, metric, value)
+            SELECT CAST(s.%2$s AS date), :metric, COUNT(*)
+            FROM %1$s s
+            JOIN stats_rollup_applied a ON a.source = :source AND a.source_id = s.id
+            WHERE s.%2$s >= :from AND s.%2$s < :to
+            GROUP BY CAST(s.%2$s AS date)
+            """.formatted(source.getTable(), source.getTimeColumn()), params);
+    }
+
+    private MapSqlParameterSource rangeParams(LocalDate from, LocalDate to) {
+        return new MapSqlParameterSource()
+            .addValue("from", Date.valueOf(from))
+            .addValue("to", Date.valueOf(to));
+    }
+
+    /* ==================== 백필 / 정합성 ==================== */
+
+    /**
+     * 기간 내 원본 id 를 id 순으로 한 덩어리씩 조회 (백필용)
+     */
+    public List<Long> findSourceIds(RollupSource source, LocalDate from, LocalDate to,
+        long afterId, int limit) {
+        String extra = source == RollupSource.COUPON_USE ? "AND s.status = 'USED'" : "";
+        String sql = """
+            SELECT s.id
+            FROM %s s
+            WHERE s.%s >= :from AND s.%s < :to
+              AND s.id > :afterId
+              %s
+            ORDER BY s.id
+            LIMIT :limit
+            """.formatted(source.getTable(), source.getTimeColumn(), source.getTimeColumn(), extra);
+        return jdbc.queryForList(sql, new MapSqlParameterSource()
+            .addValue("from", Date.valueOf(from))
+            .addValue("to", Date.valueOf(to))
+            .addValue("afterId", afterId)
+            .addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * 원본 기준 일별 러닝 건수 (정합성 검사용, 기간 한정)
+     */
+    public Map<LocalDate, Long> countRunningResultsByDay(LocalDate from, LocalDate to) {
+        return queryDailyCounts("""
+            SELECT CAST(started_at AS date) AS d, COUNT(*) AS cnt
+            FROM running_result
+            WHERE is_deleted = false
+              AND started_at >= :from AND started_at < :to
+            GROUP BY CAST(started_at AS date)
+            """, from, to);
+    }
+
+    public Map<LocalDate, Long> countRollupRunsByDay(LocalDate from, LocalDate to) {
+        return queryDailyCounts("""
+            SELECT CAST(bucket_at AS date) AS d, SUM(run_count) AS cnt
+            FROM stats_running_hourly
+            WHERE bucket_at >= :from AND bucket_at < :to
+            GROUP BY CAST(bucket_at AS date)
+            """, from, to);
+    }
+
+    public Map<LocalDate, Long> countSourceByDay(String table, LocalDate from, LocalDate to) {
+        return queryDailyCounts("""
+            SELECT CAST(created_at AS date) AS d, COUNT(*) AS cnt
+            FROM %s
+            WHERE created_at >= :from AND created_at < :to
+            GROUP BY CAST(created_at AS date)
+            """.formatted(table), from, to);
+    }
+
+    public Map<LocalDate, Long> findDailyMetric(StatsMetric metric, LocalDate from, LocalDate to) {
+        return jdbc.query("""
+                SELECT stat_date AS d, value AS cnt
+                FROM stats_daily_metric
+                WHERE metric = :metric
+                  AND stat_date >= :from AND stat_date < :to
+                """,
+            new MapSqlParameterSource("metric", metric.name())
+                .addValue("from", Date.valueOf(from))
+                .addValue("to", Date.valueOf(to)),
+            this::toDailyCounts);
+    }
+
+    private Map<LocalDate, Long> queryDailyCounts(String sql, LocalDate from, LocalDate to) {
+        return jdbc.query(sql, new MapSqlParameterSource()
+            .addValue("from", Date.valueOf(from))
+            .addValue("to", Date.valueOf(to)), this::toDailyCounts);
+    }
+
+    private Map<LocalDate, Long> toDailyCounts(ResultSet rs) throws SQLException {
+        Map<LocalDate, Long> result = new TreeMap<>();
+        while (rs.next()) {
+            result.put(rs.getDate("d").toLocalDate(), rs.getLong("cnt"));
+        }
+        return result;
+    }
+
+    /* ==================== 조회 (러닝 통계) ==================== */
+
+    /**
+     * [성공, 취소, 이탈, 전체]
+     */
+    public Object[] sumMatchRates() {
+        return jdbc.queryForObject("""
+            SELECT
+                COALESCE(SUM(run_count) FILTER (WHERE run_status IN ('COMPLETED', 'TIME_OUT')), 0),
+                COALESCE(SUM(run_count) FILTER (WHERE run_status = 'CANCELLED'), 0),
+                COALESCE(SUM(run_count) FILTER (WHERE run_status = 'GIVE_UP'), 0),
+                COALESCE(SUM(run_count), 0)
+            FROM stats_running_hourly
+            """, Map.of(), (rs, i) -> new Object[]{
+            rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)});
+    }
+
+    /**
+     * 완주 기준 [건수, 총 거리, 총 시간]
+     */
+    public Object[] sumCompletedTotals() {
+        return jdbc.queryForObject("""
+            SELECT COALESCE(SUM(run_count), 0), COALESCE(SUM(total_distance), 0),
+                   COALESCE(SUM(total_time), 0)
+            FROM stats_running_hourly
+            WHERE run_status IN %s
+            """.formatted(COMPLETED), Map.of(), (rs, i) -> new Object[]{
+            rs.getLong(1), rs.getBigDecimal(2), rs.getLong(3)});
+    }
+
+    public Long findMaxConsecutiveDays() {
+        return jdbc.queryForObject("""
+            WITH daily_runs AS (
+                SELECT DISTINCT CAST(bucket_at AS DATE) AS run_date
+                FROM stats_running_hourly
+                WHERE run_status IN %s
+            ),
+            consecutive_groups AS (
+                SELECT run_date - CAST(ROW_NUMBER() OVER (ORDER BY run_date) AS int) AS grp
+                FROM daily_runs
+            )
+            SELECT MAX(cnt)
+            FROM (SELECT COUNT(*) AS cnt FROM consecutive_groups GROUP BY grp) sub
+            """.formatted(COMPLETED), Map.of(), Long.class);
+    }
+
+    /**
+     * [티어명, 배틀 수, 총 거리]
+     */
+    public List<Object[]> sumByTier() {
+        return jdbc.query("""
+            SELECT tier, battle_count, total_distance
+            FROM stats_running_tier
+            ORDER BY CASE tier
+                WHEN '거북이' THEN 1 WHEN '토끼' THEN 2 WHEN '사슴' THEN 3
+                WHEN '표범' THEN 4 WHEN '호랑이' THEN 5 WHEN '장산범' THEN 6
+            END
+            """, (rs, i) -> new Object[]{
+            rs.getString(1), rs.getLong(2), rs.getBigDecimal(3)});
+    }
+
+    /**
+     * [티어명, 평균 페이스, 표본 수]
+     */
+    public List<Object[]> avgPaceByTier() {
+        return jdbc.query("""
+            SELECT tier, ROUND(pace_sum / pace_count, 2), pace_count
+            FROM stats_running_tier
+            WHERE pace_count > 0
+            ORDER BY CASE tier
+                WHEN '거북이' THEN 1 WHEN '토끼' THEN 2 WHEN '사슴' THEN 3
+                WHEN '표범' THEN 4 WHEN '호랑이' THEN 5 WHEN '장산범' THEN 6
+            END
+            """, (rs, i) -> new Object[]{
+            rs.getString(1), rs.getBigDecimal(2), rs.getLong(3)});
+    }
+
+    /**
+     * [RunningType, 건수]
+     */
+    public List<Object[]> countByRunningType() {
+        return jdbc.query("""
+            SELECT running_type, SUM(run_count)
+            FROM stats_running_hourly
+            GROUP BY running_type
+            """, (rs, i) -> new Object[]{
+            RunningType.valueOf(rs.getString(1)), rs.getLong(2)});
+    }
+
+    /**
+     * [시, 건수, 총 거리]
+     */
+    public List<Object[]> sumByHour() {
+        return jdbc.query("""
+            SELECT CAST(EXTRACT(HOUR FROM bucket_at) AS int) AS hour,
+                   SUM(run_count), COALESCE(SUM(total_distance), 0)
+            FROM stats_running_hourly
+            GROUP BY EXTRACT(HOUR FROM bucket_at)
+            ORDER BY hour
+            """, (rs, i) -> new Object[]{
+            rs.getInt(1), rs.getLong(2), rs.getBigDecimal(3)});
+    }
+
+    /**
+     * 최근 12주 [주 시작일, 건수, 총 거리, 총 시간]
+     */
+    public List<Object[]> sumWeeklyTrend() {
+        return sumTrend("week", "CURRENT_DATE - INTERVAL '12 weeks'");
+    }
+
+    /**
+     * 최근 12개월 [월 시작일, 건수, 총 거리, 총 시간]
+     */
+    public List<Object[]> sumMonthlyTrend() {
+        return sumTrend("month", "DATE_TRUNC('month', CURRENT_DATE) - INTERVAL '12 months'");
+    }
+
+    private List<Object[]> sumTrend(String unit, String since) {
+        return jdbc.query("""
+            SELECT CAST(DATE_TRUNC('%1$s', bucket_at) AS date) AS period_start,
+                   SUM(run_count), COALESCE(SUM(total_distance), 0), COALESCE(SUM(total_time), 0)
+            FROM stats_running_hourly
+            WHERE run_status IN %2$s
+              AND bucket_at >= %3$s
+            GROUP BY DATE_TRUNC('%1$s', bucket_at)
+            ORDER BY period_start DESC
+            LIMIT 12
+            """.formatted(unit, COMPLETED, since), (rs, i) -> new Object[]{
+            rs.getDate(1).toLocalDate(), rs.getLong(2), rs.getBigDecimal(3), rs.getLong(4)});
+    }
+
+    /**
+     * [페이스 구간, 유저 수]
+     */
+    public List<Object[]> distributionByPace() {
+        return jdbc.query("""
+            SELECT pace_range, COUNT(*)
+            FROM stats_user_pace_bucket
+            GROUP BY pace_range
+            ORDER BY CASE pace_range
+                WHEN '~3:00' THEN 1 WHEN '3:00-4:00' THEN 2 WHEN '4:00-5:00' THEN 3
+                WHEN '5:00-6:00' THEN 4 WHEN '6:00-7:00' THEN 5 WHEN '7:00-8:00' THEN 6
+                WHEN '8:00-9:00' THEN 7 WHEN '9:00-10:00' THEN 8 WHEN '10:00~' THEN 9
+            END
+            """, (rs, i) -> new Object[]{rs.getString(1), rs.getLong(2)});
+    }
+
+    /**
+     * 상위 20개 [코스 id, 코스명, 사용 수]
+     */
+    public List<Object[]> sumByCourse() {
+        return jdbc.query("""
+            SELECT cu.course_id, c.title, cu.usage_count
+            FROM stats_course_usage cu
+            JOIN course c ON c.id = cu.course_id
+            ORDER BY cu.usage_count DESC
+            LIMIT 20
+            """, (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getLong(3)});
+    }
+
+    /* ==================== 조회 (대시보드) ==================== */
+
+    public long sumDailyMetric(StatsMetric metric, LocalDate statDate) {
+        Long value = jdbc.queryForObject("""
+            SELECT COALESCE(SUM(value), 0)
+            FROM stats_daily_metric
+            WHERE metric = :metric AND stat_date = :statDate
+            """, new MapSqlParameterSource("metric", metric.name())
+            .addValue("statDate", Date.valueOf(statDate)), Long.class);
+        return value != null ? value : 0L;
+    }
+
+    public long sumDailyMetricAll(StatsMetric metric) {
+        Long value = jdbc.queryForObject("""
+            SELECT COALESCE(SUM(value), 0)
+            FROM stats_daily_metric
+            WHERE metric = :metric
+            """, new MapSqlParameterSource("metric", metric.name()), Long.class);
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * 가장 최근 스냅샷 값 (없으면 0)
+     */
+    public long findLatestSnapshot(StatsMetric metric) {
+        List<Long> values = jdbc.queryForList("""
+            SELECT value
+            FROM stats_daily_metric
+            WHERE metric = :metric
+            ORDER BY stat_date DESC
+            LIMIT 1
+            """, new MapSqlParameterSource("metric", metric.name()), Long.class);
+        return values.isEmpty() ? 0L : values.get(0);
+    }
+
+    /**
+     * 해당 일 발급 수 상위 5개 [쿠폰 id, 쿠폰명, 발급 수]
+     */
+    public List<Object[]> findTop5CouponsByIssued(LocalDate statDate) {
+        return jdbc.query("""
+            SELECT cd.coupon_id, c.name, cd.issued_count
+            FROM stats_coupon_daily cd
+            JOIN coupon c ON c.id = cd.coupon_id
+            WHERE cd.stat_date = :statDate
+              AND cd.issued_count > 0
+              AND c.status <> 'DELETED'
+            ORDER BY cd.issued_count DESC
+            LIMIT 5
+            """, new MapSqlParameterSource("statDate", Date.valueOf(statDate)),
+            (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getLong(3)});
+    }
+
+    /**
+     * 스냅샷 계산용 원본 집계 [duration 합, 세션 수]
+     */
+    public long[] sumMatchDuration() {
+        return jdbc.queryForObject("""
+            SELECT COALESCE(SUM(duration), 0), COUNT(*)
+            FROM match_session
+            WHERE is_deleted = false
+              AND status <> 'CANCELLED'
+              AND duration > 0
+            """, Map.of(), (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2)});
+    }
+
+    public long countDistinctParticipants() {
+        Long value = jdbc.queryForObject("""
+            SELECT COUNT(DISTINCT user_id)
+            FROM session_users
+            WHERE is_deleted = false
+            """, Map.of(), Long.class);
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,28 @@
+package com.multi.runrunbackend.domain.stats.scheduler;
+
+import com.multi.runrunbackend.common.scheduler.ClusterJobRunner;
+import com.multi.runrunbackend.domain.stats.service.StatsRollupService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : kyungsoo
+ * @description : 통계 스냅샷 지표 주기 갱신 (관리자 화면 요청 시에는 계산하지 않음). 전체 테이블 집계이므로 클러스터에서 한 서버만 실행
+ * @filename : StatsSnapshotScheduler
+ * @since : 2026. 1. 22. Thursday
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsSnapshotScheduler {
+
+    private final StatsRollupService statsRollupService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
+    public void refreshSnapshots() {
+        clusterJobRunner.run("stats-snapshot-refresh", Duration.ofMinutes(9),
+            statsRollupService::refreshSnapshots);
+    }
+}
@@ -0,0 +1,83 @@
+package com.multi.runrunbackend.domain.stats.service;
+
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
+import com.multi.runrunbackend.domain.stats.repository.StatsRollupRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * @author : kyungsoo
+ * @description : 원본 id 를 롤업 테이블에 증분 반영. 선점(claim) 과 upsert 를 한 트랜잭션에서 처리해 같은 id 가 두 번 더해지지 않는다.
+ * @filename : StatsRollupApplier
+ * @since : 2026. 1. 22. Thursday
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatsRollupApplier {
+
+    private final StatsRollupRepository statsRollupRepository;
+
+    /**
+     * @return 이번에 새로 반영된 건수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int apply(RollupSource source, Collection<Long> sourceIds) {
+        if (sourceIds == null || sourceIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> claimed = statsRollupRepository.claim(source, sourceIds);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        switch (source) {
+            case RUNNING_RESULT -> statsRollupRepository.applyRunningResults(claimed);
+            case BATTLE_RESULT -> statsRollupRepository.applyBattleResults(claimed);
+            case USER -> statsRollupRepository.applyUsers(claimed);
+            case MEMBERSHIP -> statsRollupRepository.applyMemberships(claimed);
+            case COUPON_ISSUE -> statsRollupRepository.applyCouponIssues(claimed);
+            case COUPON_USE -> statsRollupRepository.applyCouponUses(claimed);
+        }
+        return claimed.size();
+    }
+
+    /**
+     * 기간 [from, to) 재집계 - 원본 행을 모두 선점한 뒤 해당 기간 롤업을 원본에서 다시 계산해 덮어쓴다 (날짜 축이 없는 누적 테이블은 선점된 전체
+     * 행 기준). 이미 반영된 뒤 삭제된 원본도 빠지므로 /check 불일치를 바로잡는다. 끝날 때까지 이벤트 반영은 대기한다.
+     *
+     * @return 새로 선점한 건수 (이벤트/백필로 아직 반영되지 않았던 행)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int reaggregate(RollupSource source, LocalDate from, LocalDate to) {
+        statsRollupRepository.lockClaims();
+        int claimed = statsRollupRepository.claimRange(source, from, to);
+
+        switch (source) {
+            case RUNNING_RESULT -> statsRollupRepository.reaggregateRunningResults(from, to);
+            case BATTLE_RESULT -> statsRollupRepository.reaggregateBattleResults();
+            case USER -> statsRollupRepository.reaggregateUsers(from, to);
+            case MEMBERSHIP -> statsRollupRepository.reaggregateMemberships(from, to);
+            case COUPON_ISSUE -> statsRollupRepository.reaggregateCouponIssues(from, to);
+            case COUPON_USE -> statsRollupRepository.reaggregateCouponUses(from, to);
+        }
+        return claimed;
+    }
+
+    /**
+     * 쿠폰 사용 취소 - 사용으로 반영돼 있던 경우만 차감
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revertCouponUse(Long couponIssueId, Long couponId, LocalDate usedDate) {
+        if (statsRollupRepository.release(RollupSource.COUPON_USE, couponIssueId)) {
+            statsRollupRepository.revertCouponUse(couponId, usedDate);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.multi.runrunbackend.domain.stats.service;
+
+import com.multi.runrunbackend.common.exception.custom.BadRequestException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.domain.stats.constant.RollupSource;
+import com.multi.runrunbackend.domain.stats.constant.StatsMetric;
+import com.multi.runrunbackend.domain.stats.dto.res.RollupBackfillResDto;
+import com.multi.runrunbackend.domain.stats.dto.res.RollupMismatchResDto;
+import com.multi.runrunbackend.domain.stats.repository.StatsRollupRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author : kyungsoo
+ * @description : 통계 롤업 운영 - 백필, 정합성 검사, 스냅샷 지표 갱신
+ * @filename : StatsRollupService
+ * @since : 2026. 1. 22. Thursday
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatsRollupService {
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final StatsRollupRepository statsRollupRepository;
+    private final StatsRollupApplier statsRollupApplier;
+
+    /**
+     * 기간 [from, to) 원본을 id 순 청크로 훑어 아직 반영되지 않은 행만 반영. 청크마다 별도 트랜잭션이라 중간에 끊겨도 다시 실행하면 이어진다.
+     * 이미 반영된 행은 건드리지 않으므로 삭제 반영은 {@link #reaggregate} 로 한다.
+     */
+    public List<RollupBackfillResDto> backfill(RollupSource source, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        List<RollupSource> sources = source != null ? List.of(source) : List.of(RollupSource.values());
+        List<RollupBackfillResDto> results = new ArrayList<>();
+        for (RollupSource target : sources) {
+            results.add(backfillSource(target, from, to));
+        }
+        return results;
+    }
+
+    private RollupBackfillResDto backfillSource(RollupSource source, LocalDate from, LocalDate to) {
+        long afterId = 0L;
+        long scanned = 0L;
+        long applied = 0L;
+
+        while (true) {
+            List<Long> ids = statsRollupRepository.findSourceIds(source, from, to, afterId,
+                BACKFILL_CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            scanned += ids.size();
+            applied += statsRollupApplier.apply(source, ids);
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        log.info("[StatsRollup] backfill 완료 source={}, from={}, to={}, scanned={}, applied={}",
+            source, from, to, scanned, applied);
+
+        return RollupBackfillResDto.builder()
+            .source(source)
+            .scanned(scanned)
+            .applied(applied)
+            .build();
+    }
+
+    /**
+     * 기간 [from, to) 를 원본에서 다시 집계 (소스별 한 트랜잭션). 백필은 아직 반영되지 않은 행만 더하므로, 반영 후 삭제된 원본처럼 /check 에
+     * 나온 불일치는 이걸로 바로잡는다.
+     */
+    public List<RollupBackfillResDto> reaggregate(RollupSource source, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        List<RollupSource> sources = source != null ? List.of(source) : List.of(RollupSource.values());
+        List<RollupBackfillResDto> results = new ArrayList<>();
+        for (RollupSource target : sources) {
+            int claimed = statsRollupApplier.reaggregate(target, from, to);
+            log.info("[StatsRollup] 재집계 완료 source={}, from={}, to={}, newlyClaimed={}",
+                target, from, to, claimed);
+            results.add(RollupBackfillResDto.builder()
+                .source(target)
+                .applied(claimed)
+                .build());
+        }
+        return results;
+    }
+
+    /**
+     * 기간 [from, to) 일별로 원본 집계와 롤업 값을 비교해 다른 날만 반환
+     */
+    public List<RollupMismatchResDto> check(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        List<RollupMismatchResDto> mismatches = new ArrayList<>();
+        compare("RUNNING_RESULT",
+            statsRollupRepository.countRunningResultsByDay(from, to),
+            statsRollupRepository.countRollupRunsByDay(from, to), mismatches);
+        compare(StatsMetric.NEW_USER.name(),
+            statsRollupRepository.countSourceByDay(RollupSource.USER.getTable(), from, to),
+            statsRollupRepository.findDailyMetric(StatsMetric.NEW_USER, from, to), mismatches);
+        compare(StatsMetric.NEW_MEMBERSHIP.name(),
+            statsRollupRepository.countSourceByDay(RollupSource.MEMBERSHIP.getTable(), from, to),
+            statsRollupRepository.findDailyMetric(StatsMetric.NEW_MEMBERSHIP, from, to), mismatches);
+        compare(StatsMetric.COUPON_ISSUED.name(),
+            statsRollupRepository.countSourceByDay(RollupSource.COUPON_ISSUE.getTable(), from, to),
+            statsRollupRepository.findDailyMetric(StatsMetric.COUPON_ISSUED, from, to), mismatches);
+
+        if (!mismatches.isEmpty()) {
+            log.warn("[StatsRollup] 정합성 불일치 {}건 from={}, to={}", mismatches.size(), from, to);
+        }
+        return mismatches;
+    }
+
+    private void compare(String metric, Map<LocalDate, Long> source, Map<LocalDate, Long> rollup,
+        List<RollupMismatchResDto> out) {
+        TreeSet<LocalDate> days = new TreeSet<>(source.keySet());
+        days.addAll(rollup.keySet());
+
+        for (LocalDate day : days) {
+            long expected = source.getOrDefault(day, 0L);
+            long actual = rollup.getOrDefault(day, 0L);
+            if (expected != actual) {
+                out.add(RollupMismatchResDto.builder()
+                    .metric(metric)
+                    .date(day)
+                    .source(expected)
+                    .rollup(actual)
+                    .build());
+            }
+        }
+    }
+
+    /**
+     * 이벤트로 쪼개기 어려운 지표(매칭 평균 시간, 매칭 참여 유저 수)는 주기적으로 한 번 계산해 오늘 날짜 스냅샷으로 저장
+     */
+    public void refreshSnapshots() {
+        LocalDate today = LocalDate.now();
+
+        long[] duration = statsRollupRepository.sumMatchDuration();
+        statsRollupRepository.putSnapshot(StatsMetric.MATCH_DURATION_SUM, today, duration[0]);
+        statsRollupRepository.putSnapshot(StatsMetric.MATCH_DURATION_COUNT, today, duration[1]);
+        statsRollupRepository.putSnapshot(StatsMetric.MATCH_PARTICIPANTS, today,
+            statsRollupRepository.countDistinctParticipants());
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new BadRequestException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.multi.runrunbackend.domain.user.controller;
+
+import com.multi.runrunbackend.common.response.ApiResponse;
+import com.multi.runrunbackend.domain.user.service.AttendanceBitmapStore;
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author : BoKyung
+ * @description : 출석 비트맵 관리 - DB(user_attendance) 기준 재구축
+ * @filename : AttendanceAdminController
+ * @since : 2026. 1. 30. Friday
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/attendance")
+@PreAuthorize("hasRole('ADMIN')")
+public class AttendanceAdminController {
+
+    private final AttendanceBitmapStore attendanceBitmapStore;
+
+    /**
+     * userId 를 생략하면 그 달 전체 사용자 재구축
+     *
+     * @return 재구축한 사용자 수
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuild(
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+        @RequestParam(required = false) Long userId
+    ) {
+        int rebuilt;
+        if (userId != null) {
+            attendanceBitmapStore.load(userId, month, true);
+            rebuilt = 1;
+        } else {
+            rebuilt = attendanceBitmapStore.rebuildMonth(month);
+        }
+        return ResponseEntity.ok(ApiResponse.success("출석 비트맵 재구축 완료", rebuilt));
+    }
+}
@@ -44,5 +44,22 @@ public interface UserAttendanceRepository extends JpaRepository<UserAttendance,
     List<LocalDate> findMonthlyAttendanceDates(@Param("user") User user,
                                                @Param("year") int year,
                                                @Param("month") int month);
-}
 
+    /**
+     * 기간 내 출석 날짜 (출석 비트맵 적재용)
+     */
+    @Query("SELECT a.attendanceDate FROM UserAttendance a " +
+            "WHERE a.user.id = :userId " +
+            "AND a.attendanceDate BETWEEN :start AND :end")
+    List<LocalDate> findAttendanceDatesBetween(@Param("userId") Long userId,
+                                               @Param("start") LocalDate start,
+                                               @Param("end") LocalDate end);
+
+    /**
+     * 기간 내 전체 출석 (userId, 날짜) - 출석 비트맵 월 재구축용
+     */
+    @Query("SELECT a.user.id, a.attendanceDate FROM UserAttendance a " +
+            "WHERE a.attendanceDate BETWEEN :start AND :end")
+    List<Object[]> findUserAttendanceBetween(@Param("start") LocalDate start,
+                                             @Param("end") LocalDate end);
+}
@@ -31,4 +31,12 @@ public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
     // 나를 차단한 유저 목록 조회
     @Query("SELECT ub FROM UserBlock ub JOIN FETCH ub.blocker WHERE ub.blockedUser.id = :userId")
     List<UserBlock> findAllByBlockedUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // 내가 차단한 사용자 id 목록 (엔티티 로딩 없이)
+    @Query("SELECT ub.blockedUser.id FROM UserBlock ub WHERE ub.blocker.id = :blockerId")
+    List<Long> findBlockedUserIdsByBlockerId(@Param("blockerId") Long blockerId);
+
+    // 나를 차단한 사용자 id 목록 (엔티티 로딩 없이)
+    @Query("SELECT ub.blocker.id FROM UserBlock ub WHERE ub.blockedUser.id = :userId")
+    List<Long> findBlockerIdsByBlockedUserId(@Param("userId") Long userId);
+}
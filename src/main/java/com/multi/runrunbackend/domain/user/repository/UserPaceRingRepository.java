@@ -0,0 +1,45 @@
+package com.multi.runrunbackend.domain.user.repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author : chang
+ * @description : 사용자별 최근 완주 페이스 링 (스키마/백필: resources/db/user-pace-ring.sql). 오래된 것부터 최대 size 개를 유지한다.
+ * @filename : UserPaceRingRepository
+ * @since : 2026. 1. 23. Friday
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserPaceRingRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * 새 페이스를 넣고 가장 오래된 것을 밀어낸 뒤, 갱신된 링을 반환 (행 잠금 한 번, upsert 한 번)
+     */
+    public List<BigDecimal> push(Long userId, BigDecimal pace, int size) {
+        return jdbc.queryForObject("""
+            INSERT INTO user_pace_ring (user_id, paces, updated_at)
+            VALUES (:userId, ARRAY[CAST(:pace AS numeric)], now())
+            ON CONFLICT (user_id) DO UPDATE
+            SET paces = (user_pace_ring.paces || EXCLUDED.paces)
+                    [greatest(cardinality(user_pace_ring.paces) + 2 - :size, 1):],
+                updated_at = now()
+            RETURNING paces
+            """, new MapSqlParameterSource("userId", userId)
+            .addValue("pace", pace)
+            .addValue("size", size), (rs, i) -> toList(rs.getArray("paces")));
+    }
+
+    private List<BigDecimal> toList(Array array) throws SQLException {
+        return Arrays.asList((BigDecimal[]) array.getArray());
+    }
+}
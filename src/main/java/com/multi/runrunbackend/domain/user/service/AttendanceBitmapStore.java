@@ -0,0 +1,284 @@
+package com.multi.runrunbackend.domain.user.service;
+
+import com.multi.runrunbackend.domain.user.repository.UserAttendanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * @author : BoKyung
+ * @description : 사용자별·월별 출석 비트맵 (Redis 읽기 모델, 원본은 user_attendance). 키 attendance:{userId}:{yyyyMM} 의 비트
+ * 0~30 이 1~31일, 비트 31 은 "DB 에서 적재됨" 표시다. 한 달이 u32 하나에 들어가므로 출석 체크(SETBIT + BITFIELD)와 월 달력 조회
+ * (BITFIELD GET)가 각각 Redis 왕복 1번이다. 적재 표시가 없으면(첫 조회, Redis 유실) DB 에서 그 달을 다시 적재한다.
+ * @filename : AttendanceBitmapStore
+ * @since : 2026. 1. 30. Friday
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceBitmapStore {
+
+    private static final String KEY_PREFIX = "attendance:";
+    private static final long LOADED_BIT = 1L;
+    private static final BitFieldSubCommands READ_MONTH = BitFieldSubCommands.create()
+            .get(BitFieldSubCommands.BitFieldType.unsigned(32)).valueAt(0);
+
+    /**
+     * 출석 체크: 적재되지 않은 달이면 {-1}, 아니면 {이전 비트, 반영 후 u32}
+     */
+    private static final String CHECK_IN_SCRIPT = """
+            local key = KEYS[1]
+
+            if redis.call('GETBIT', key, 31) == 0 then
+                return {-1}
+            end
+
+            local previous = redis.call('SETBIT', key, ARGV[1], 1)
+            local bits = redis.call('BITFIELD', key, 'GET', 'u32', 0)[1]
+
+            return {previous, bits}
+            """;
+
+    /**
+     * DB 기준 한 달 적재. ARGV[3] == '1' 이면 기존 값을 덮어쓴다 (재구축)
+     */
+    private static final String LOAD_SCRIPT = """
+            local key = KEYS[1]
+
+            if ARGV[3] ~= '1' and redis.call('GETBIT', key, 31) == 1 then
+                return 0
+            end
+
+            redis.call('BITFIELD', key, 'SET', 'u32', 0, ARGV[1])
+            redis.call('EXPIRE', key, ARGV[2])
+
+            return 1
+            """;
+
+    private static final DefaultRedisScript<List> CHECK_IN =
+            new DefaultRedisScript<>(CHECK_IN_SCRIPT, List.class);
+    private static final DefaultRedisScript<Long> LOAD =
+            new DefaultRedisScript<>(LOAD_SCRIPT, Long.class);
+
+    private final UserAttendanceRepository userAttendanceRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 한 달 출석 비트 (u32 그대로). 비트 31(최상위 바이트 순서 기준 offset 31)이 적재 표시
+     */
+    public record AttendanceMonth(YearMonth month, long bits) {
+
+        public boolean attended(int day) {
+            return (bits >>> (31 - (day - 1)) & 1L) == 1L;
+        }
+
+        public int count() {
+            return Long.bitCount(bits & ~LOADED_BIT);
+        }
+
+        public List<Integer> days() {
+            List<Integer> days = new ArrayList<>();
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                if (attended(day)) {
+                    days.add(day);
+                }
+            }
+            return days;
+        }
+
+        boolean loaded() {
+            return (bits & LOADED_BIT) == LOADED_BIT;
+        }
+    }
+
+    /**
+     * 출석 체크 결과 - alreadyAttended 면 비트는 바뀌지 않았다
+     */
+    public record CheckIn(boolean alreadyAttended, AttendanceMonth month) {
+    }
+
+    /**
+     * 오늘 비트를 세우고 반영 후 한 달 상태를 돌려준다. 트랜잭션 안이면 롤백 시 비트를 되돌린다 (DB 기록과 함께 확정).
+     *
+     * @return Redis 를 쓸 수 없으면 null (호출 측에서 DB 로 처리)
+     */
+    public CheckIn checkIn(Long userId, LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        String key = key(userId, month);
+        String offset = String.valueOf(date.getDayOfMonth() - 1);
+
+        try {
+            List<?> result = redisTemplate.execute(CHECK_IN, List.of(key), offset);
+            if (result == null || ((Number) result.get(0)).longValue() < 0) {
+                load(userId, month, false);
+                result = redisTemplate.execute(CHECK_IN, List.of(key), offset);
+            }
+            if (result == null || result.size() < 2) {
+                return null;
+            }
+
+            boolean alreadyAttended = ((Number) result.get(0)).longValue() == 1L;
+            if (!alreadyAttended) {
+                undoOnRollback(key, date.getDayOfMonth() - 1);
+            }
+            return new CheckIn(alreadyAttended,
+                    new AttendanceMonth(month, ((Number) result.get(1)).longValue()));
+        } catch (Exception e) {
+            log.warn("출석 비트맵 갱신 실패 - DB 로 처리. userId={}, date={}", userId, date, e);
+            return null;
+        }
+    }
+
+    /**
+     * 한 달 출석 상태 (BITFIELD GET 1회). 적재되지 않은 달이면 DB 에서 읽어 적재한다.
+     */
+    public AttendanceMonth getMonth(Long userId, YearMonth month) {
+        try {
+            List<Long> values = redisTemplate.opsForValue().bitField(key(userId, month), READ_MONTH);
+            if (values != null && !values.isEmpty() && values.get(0) != null) {
+                AttendanceMonth cached = new AttendanceMonth(month, values.get(0));
+                if (cached.loaded()) {
+                    return cached;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("출석 비트맵 조회 실패 - DB 조회로 대체. userId={}, month={}", userId, month, e);
+            return new AttendanceMonth(month, fromDays(
+                    userAttendanceRepository.findAttendanceDatesBetween(userId, month.atDay(1), month.atEndOfMonth())));
+        }
+        return load(userId, month, false);
+    }
+
+    /**
+     * DB 기준으로 한 사용자의 한 달을 다시 적재 (force 면 Redis 값을 덮어씀)
+     */
+    public AttendanceMonth load(Long userId, YearMonth month, boolean force) {
+        long bits = fromDays(
+                userAttendanceRepository.findAttendanceDatesBetween(userId, month.atDay(1), month.atEndOfMonth()));
+        try {
+            redisTemplate.execute(LOAD, List.of(key(userId, month)),
+                    String.valueOf(bits), String.valueOf(ttl(month).toSeconds()), force ? "1" : "0");
+        } catch (Exception e) {
+            log.warn("출석 비트맵 적재 실패. userId={}, month={}", userId, month, e);
+        }
+        return new AttendanceMonth(month, bits);
+    }
+
+    /**
+     * 한 달 전체 재구축 - 그 달에 출석 기록이 있는 모든 사용자의 비트맵을 DB 기준으로 덮어쓰고(파이프라인), DB 에 기록이 없는 사용자의
+     * 키는 지운다 (다음 조회 때 빈 달로 다시 적재)
+     *
+     * @return 재구축한 사용자 수
+     */
+    public int rebuildMonth(YearMonth month) {
+        Map<Long, List<LocalDate>> byUser = new HashMap<>();
+        for (Object[] row : userAttendanceRepository.findUserAttendanceBetween(month.atDay(1), month.atEndOfMonth())) {
+            byUser.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((LocalDate) row[1]);
+        }
+
+        Set<String> rebuilt = new HashSet<>();
+        byUser.keySet().forEach(userId -> rebuilt.add(key(userId, month)));
+        List<String> stale = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*:" + suffix(month)).count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                if (!rebuilt.contains(key)) {
+                    stale.add(key);
+                }
+            });
+        }
+        if (!stale.isEmpty()) {
+            redisTemplate.delete(stale);
+        }
+        if (byUser.isEmpty()) {
+            log.info("출석 비트맵 재구축 완료: month={}, users=0, removed={}", month, stale.size());
+            return 0;
+        }
+
+        String ttlSeconds = String.valueOf(ttl(month).toSeconds());
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                byUser.forEach((userId, dates) -> ops.execute(LOAD, List.of(key(userId, month)),
+                        String.valueOf(fromDays(dates)), ttlSeconds, "1"));
+                return null;
+            }
+        });
+        log.info("출석 비트맵 재구축 완료: month={}, users={}, removed={}", month, byUser.size(), stale.size());
+        return byUser.size();
+    }
+
+    private void undoOnRollback(String key, int offset) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    redisTemplate.opsForValue().setBit(key, offset, false);
+                } catch (Exception e) {
+                    // 남은 비트는 DB 와 어긋나므로 키를 지워 다음 조회 때 다시 적재되게 한다
+                    log.warn("출석 비트 되돌리기 실패 - 키 삭제 시도. key={}", key, e);
+                    try {
+                        redisTemplate.delete(key);
+                    } catch (Exception ignored) {
+                        // Redis 자체가 안 되면 TTL 만료 또는 재구축으로 맞춘다
+                    }
+                }
+            }
+        });
+    }
+
+    private static long fromDays(Collection<LocalDate> dates) {
+        long bits = LOADED_BIT;
+        for (LocalDate date : dates) {
+            bits |= 1L << (31 - (date.getDayOfMonth() - 1));
+        }
+        return bits;
+    }
+
+    /**
+     * 다음 달 말까지 보관 (지난달 달력 조회 대비)
+     */
+    private static Duration ttl(YearMonth month) {
+        Duration ttl = Duration.between(LocalDateTime.now(), month.plusMonths(2).atDay(1).atStartOfDay());
+        return ttl.isNegative() || ttl.isZero() ? Duration.ofDays(1) : ttl;
+    }
+
+    private static String key(Long userId, YearMonth month) {
+        return KEY_PREFIX + userId + ":" + suffix(month);
+    }
+
+    private static String suffix(YearMonth month) {
+        return month.getYear() + String.format("%02d", month.getMonthValue());
+    }
+}
@@ -0,0 +1,104 @@
+package com.multi.runrunbackend.domain.user.service;
+
+import com.multi.runrunbackend.common.exception.custom.ForbiddenException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.domain.friend.entity.Friend;
+import com.multi.runrunbackend.domain.friend.repository.FriendRepository;
+import com.multi.runrunbackend.domain.user.entity.User;
+import com.multi.runrunbackend.domain.user.entity.UserSetting;
+import com.multi.runrunbackend.domain.user.repository.UserSettingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ *
+ * @author : kimyongwon
+ * @description : 타인 프로필(러닝 기록/요약) 접근 권한 검증. 차단 여부는 UserBlockCacheService(변경 시 무효화)로,
+ * 공개 범위 + 친구 여부 판정은 짧은 TTL 로 (조회자, 대상) 단위 캐시한다.
+ * @filename : ProfileAccessService
+ * @since : 2026. 1. 23. Friday
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProfileAccessService {
+
+    private static final String ACCESS_KEY_PREFIX = "profile_access:";
+    private static final Duration ACCESS_TTL = Duration.ofSeconds(60);
+    private static final String ALLOWED = "OK";
+
+    private final UserBlockCacheService userBlockCacheService;
+    private final UserSettingRepository userSettingRepository;
+    private final FriendRepository friendRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 접근 불가면 ForbiddenException (USER_BLOCKED / PROFILE_FRIENDS_ONLY / PROFILE_PRIVATE)
+     */
+    @Transactional(readOnly = true)
+    public void validateProfileAccess(User me, User target) {
+
+        if (me.getId().equals(target.getId())) {
+            return;
+        }
+
+        if (userBlockCacheService.getExcludedUserIds(me.getId()).contains(target.getId())) {
+            throw new ForbiddenException(ErrorCode.USER_BLOCKED);
+        }
+
+        String decision = getVisibilityDecision(me, target);
+        if (!ALLOWED.equals(decision)) {
+            throw new ForbiddenException(ErrorCode.valueOf(decision));
+        }
+    }
+
+    private String getVisibilityDecision(User me, User target) {
+        String key = ACCESS_KEY_PREFIX + me.getId() + ":" + target.getId();
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (Exception e) {
+            log.warn("프로필 접근 캐시 조회 실패 - DB 조회로 대체. viewerId={}, targetId={}",
+                    me.getId(), target.getId(), e);
+        }
+
+        String decision = decideVisibility(me, target);
+
+        try {
+            redisTemplate.opsForValue().set(key, decision, ACCESS_TTL);
+        } catch (Exception e) {
+            log.warn("프로필 접근 캐시 저장 실패. viewerId={}, targetId={}", me.getId(), target.getId(), e);
+        }
+
+        return decision;
+    }
+
+    private String decideVisibility(User me, User target) {
+        UserSetting setting =
+                userSettingRepository.findByUserId(target.getId())
+                        .orElse(UserSetting.createDefault(target));
+
+        return switch (setting.getProfileVisibility()) {
+            case PUBLIC -> ALLOWED;
+
+            case FRIENDS_ONLY -> {
+                boolean isFriend =
+                        friendRepository.findBetweenUsers(me, target)
+                                .filter(Friend::isAccepted)
+                                .isPresent();
+
+                yield isFriend ? ALLOWED : ErrorCode.PROFILE_FRIENDS_ONLY.name();
+            }
+
+            case PRIVATE -> ErrorCode.PROFILE_PRIVATE.name();
+        };
+    }
+}
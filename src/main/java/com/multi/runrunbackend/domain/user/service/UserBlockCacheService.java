@@ -0,0 +1,104 @@
+package com.multi.runrunbackend.domain.user.service;
+
+import com.multi.runrunbackend.domain.user.repository.UserBlockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ *
+ * @author : kimyongwon
+ * @description : 사용자별 차단 관계(내가 차단 + 나를 차단) id 집합 캐시. 차단/해제 시 양쪽 캐시를 무효화한다.
+ * @filename : UserBlockCacheService
+ * @since : 2026. 10. 19. Monday
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBlockCacheService {
+
+    private static final String BLOCK_IDS_KEY_PREFIX = "user_block_ids:";
+    private static final Duration BLOCK_IDS_TTL = Duration.ofMinutes(30);
+
+    private final UserBlockRepository userBlockRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 피드 등에서 제외해야 하는 사용자 id 집합 (양방향 차단)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getExcludedUserIds(Long userId) {
+        String key = BLOCK_IDS_KEY_PREFIX + userId;
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return decode(cached);
+            }
+        } catch (Exception e) {
+            log.warn("차단 캐시 조회 실패 - DB 조회로 대체. userId={}", userId, e);
+        }
+
+        Set<Long> excludedUserIds = new HashSet<>(userBlockRepository.findBlockedUserIdsByBlockerId(userId));
+        excludedUserIds.addAll(userBlockRepository.findBlockerIdsByBlockedUserId(userId));
+
+        try {
+            redisTemplate.opsForValue().set(key, encode(excludedUserIds), BLOCK_IDS_TTL);
+        } catch (Exception e) {
+            log.warn("차단 캐시 저장 실패. userId={}", userId, e);
+        }
+
+        return excludedUserIds;
+    }
+
+    /**
+     * 차단 관계가 바뀐 두 사용자의 캐시 무효화 - 트랜잭션 안이면 커밋 이후에 삭제 (커밋 전 재적재 방지)
+     */
+    public void evict(Long blockerId, Long blockedUserId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(blockerId, blockedUserId);
+                }
+            });
+            return;
+        }
+        evictNow(blockerId, blockedUserId);
+    }
+
+    private void evictNow(Long blockerId, Long blockedUserId) {
+        try {
+            redisTemplate.delete(Set.of(
+                    BLOCK_IDS_KEY_PREFIX + blockerId,
+                    BLOCK_IDS_KEY_PREFIX + blockedUserId
+            ));
+        } catch (Exception e) {
+            log.warn("차단 캐시 무효화 실패. blockerId={}, blockedUserId={}", blockerId, blockedUserId, e);
+        }
+    }
+
+    private static String encode(Set<Long> ids) {
+        // 빈 집합도 캐싱해서 차단 관계가 없는 사용자가 매번 DB를 타지 않도록 "" 로 저장
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static Set<Long> decode(String value) {
+        if (value.isEmpty()) {
+            return new HashSet<>();
+        }
+        return Arrays.stream(value.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+}
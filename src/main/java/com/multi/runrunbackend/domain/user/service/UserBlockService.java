@@ -33,6 +33,7 @@ public class UserBlockService {
     private final UserBlockRepository userBlockRepository;
     private final UserRepository userRepository;
     private final FriendRepository friendRepository;
+    private final UserBlockCacheService userBlockCacheService;
 
 
     @Transactional
@@ -55,6 +56,8 @@ public class UserBlockService {
 
         UserBlock userBlock = UserBlock.block(blocker, targetUser);
         userBlockRepository.save(userBlock);
+
+        userBlockCacheService.evict(blocker.getId(), targetUser.getId());
     }
 
 
@@ -68,6 +71,8 @@ public class UserBlockService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.INVALID_REQUEST));
 
         userBlockRepository.delete(userBlock);
+
+        userBlockCacheService.evict(blocker.getId(), targetUser.getId());
     }
 
 
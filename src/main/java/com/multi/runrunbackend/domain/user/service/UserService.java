@@ -22,8 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.YearMonth;
 
 /**
  *
@@ -44,6 +43,7 @@ public class UserService {
     private static final long MAX_PROFILE_IMAGE_SIZE = 1L * 1024 * 1024;
     private final UserAttendanceRepository userAttendanceRepository;
     private final PointService pointService;
+    private final AttendanceBitmapStore attendanceBitmapStore;
 
 
     @Transactional(readOnly = true)
@@ -154,11 +154,38 @@ public class UserService {
 
     @Transactional
     public AttendanceCheckResDto checkAttendance(Long userId) {
+        LocalDate today = LocalDate.now();
+
+        // 출석 비트맵으로 중복 확인 + 이번 달 일수 (Redis 1회). 롤백되면 비트도 되돌아간다
+        AttendanceBitmapStore.CheckIn checkIn = attendanceBitmapStore.checkIn(userId, today);
+        if (checkIn == null) {
+            return checkAttendanceFromDb(userId, today);
+        }
+        if (checkIn.alreadyAttended()) {
+            throw new BusinessException(ErrorCode.ALREADY_ATTENDED_TODAY);
+        }
+
+        // 출석 기록 저장 (write-through)
+        userAttendanceRepository.save(UserAttendance.create(userRepository.getReferenceById(userId), today));
+
+        // 포인트 적립
+        pointService.earnPointsForAttendance(userId);
+
+        int monthlyCount = checkIn.month().count();
+
+        log.info("출석 체크 완료: userId={}, date={}, monthlyCount={}",
+                userId, today, monthlyCount);
+
+        return attendanceChecked(today, monthlyCount);
+    }
+
+    /**
+     * Redis 를 쓸 수 없을 때의 출석 체크 (DB 만 사용)
+     */
+    private AttendanceCheckResDto checkAttendanceFromDb(Long userId, LocalDate today) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
 
-        LocalDate today = LocalDate.now();
-
         // 이미 오늘 출석했는지 확인
         if (userAttendanceRepository.existsByUserAndAttendanceDate(user, today)) {
             throw new BusinessException(ErrorCode.ALREADY_ATTENDED_TODAY);
@@ -178,9 +205,13 @@ public class UserService {
                 today.getMonthValue()
         );
 
-        log.info("출석 체크 완료: userId={}, date={}, monthlyCount={}",
+        log.info("출석 체크 완료(DB): userId={}, date={}, monthlyCount={}",
                 userId, today, monthlyCount);
 
+        return attendanceChecked(today, monthlyCount);
+    }
+
+    private AttendanceCheckResDto attendanceChecked(LocalDate today, int monthlyCount) {
         return AttendanceCheckResDto.builder()
                 .attendanceDate(today)
                 .pointsEarned(50)
@@ -189,42 +220,21 @@ public class UserService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 이번 달 출석 현황 - 출석 비트맵 1회 조회 (적재 전이면 DB 에서 한 번 적재)
+     */
     public AttendanceStatusResDto getAttendanceStatus(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
-
         LocalDate today = LocalDate.now();
-
-        // 오늘 출석 여부
-        boolean attendedToday = userAttendanceRepository.existsByUserAndAttendanceDate(user, today);
-
-        // 이번 달 출석 일수
-        int monthlyCount = userAttendanceRepository.countMonthlyAttendance(
-                user,
-                today.getYear(),
-                today.getMonthValue()
-        );
-
-        // 이번 달 출석한 날짜 목록
-        List<LocalDate> attendedDates = userAttendanceRepository.findMonthlyAttendanceDates(
-                user,
-                today.getYear(),
-                today.getMonthValue()
-        );
-
-        // LocalDate를 day 숫자로 변환
-        List<Integer> attendedDays = attendedDates.stream()
-                .map(LocalDate::getDayOfMonth)
-                .collect(Collectors.toList());
+        AttendanceBitmapStore.AttendanceMonth month =
+                attendanceBitmapStore.getMonth(userId, YearMonth.from(today));
 
         return AttendanceStatusResDto.builder()
-                .attendedToday(attendedToday)
-                .monthlyCount(monthlyCount)
-                .attendedDays(attendedDays)
+                .attendedToday(month.attended(today.getDayOfMonth()))
+                .monthlyCount(month.count())
+                .attendedDays(month.days())
                 .todayDate(today)
                 .currentYear(today.getYear())
                 .currentMonth(today.getMonthValue())
                 .build();
     }
-}
\ No newline at end of file
+}
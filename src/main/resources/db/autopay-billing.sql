@@ -0,0 +1,35 @@
+-- 멤버십 자동결제 실행 체크포인트 / 건별 결과 원장 (ddl-auto: none 이므로 수동 적용)
+
+-- 결제일 단위 실행 상태. last_membership_id 까지 기록이 끝났으므로 재시작 시 그 다음 id 부터 이어서 처리한다
+CREATE TABLE IF NOT EXISTS autopay_billing_run (
+    billing_date       DATE        PRIMARY KEY,
+    status             VARCHAR(10) NOT NULL DEFAULT 'RUNNING', -- RUNNING / PARTIAL / DONE
+    last_membership_id BIGINT      NOT NULL DEFAULT 0,
+    succeeded_count    INT         NOT NULL DEFAULT 0,
+    failed_count       INT         NOT NULL DEFAULT 0,
+    started_at         TIMESTAMP   NOT NULL DEFAULT now(),
+    updated_at         TIMESTAMP   NOT NULL DEFAULT now(),
+    finished_at        TIMESTAMP
+);
+
+-- 건별 결과 키 (membership_id, billing_date): 같은 결제일의 같은 멤버십은 1행
+-- idempotency_key 는 토스 주문 ID 로도 쓰이므로 재시도해도 같은 값이 나간다
+CREATE TABLE IF NOT EXISTS autopay_charge (
+    membership_id   BIGINT       NOT NULL,
+    billing_date    DATE         NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    idempotency_key VARCHAR(64)  NOT NULL,
+    status          VARCHAR(10)  NOT NULL,               -- SUCCEEDED / DECLINED / ERROR(재시도 대상) / SKIPPED(빌링키 없음)
+    attempts        INT          NOT NULL DEFAULT 0,     -- 토스 호출 누적 횟수
+    payment_key     VARCHAR(200),
+    error_code      VARCHAR(20),
+    created_at      TIMESTAMP    NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMP    NOT NULL DEFAULT now(),
+    PRIMARY KEY (membership_id, billing_date),
+    CONSTRAINT uk_autopay_charge_idempotency UNIQUE (idempotency_key)
+);
+
+-- 결제일별 재시도 대상 조회
+CREATE INDEX IF NOT EXISTS idx_autopay_charge_error
+    ON autopay_charge (billing_date)
+    WHERE status = 'ERROR';
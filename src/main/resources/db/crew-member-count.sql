@@ -0,0 +1,23 @@
+-- 크루원 수 비정규화 컬럼 (ddl-auto: none 이므로 수동 적용)
+-- 가입 승인/탈퇴/강퇴/해체 시 CrewRepository 의 원자적 UPDATE 로 증감한다
+
+ALTER TABLE crew
+    ADD COLUMN IF NOT EXISTS member_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필 (재실행해도 같은 결과)
+UPDATE crew c
+SET member_count = sub.cnt
+FROM (SELECT cu.crew_id, COUNT(*) AS cnt
+      FROM crew_user cu
+      WHERE cu.is_deleted = false
+      GROUP BY cu.crew_id) sub
+WHERE c.id = sub.crew_id
+  AND c.member_count <> sub.cnt;
+
+UPDATE crew c
+SET member_count = 0
+WHERE c.member_count <> 0
+  AND NOT EXISTS (SELECT 1
+                  FROM crew_user cu
+                  WHERE cu.crew_id = c.id
+                    AND cu.is_deleted = false);
@@ -0,0 +1,30 @@
+-- 피드 좋아요/댓글 수 비정규화 컬럼 + 타임라인 키셋 인덱스 (ddl-auto: none 이므로 수동 적용)
+-- 좋아요/취소/댓글/댓글 삭제 시 FeedPostRepository 의 원자적 UPDATE 로 증감한다
+
+ALTER TABLE feed_post
+    ADD COLUMN IF NOT EXISTS like_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE feed_post
+    ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필 (재실행해도 같은 결과)
+UPDATE feed_post fp
+SET like_count = COALESCE(l.cnt, 0),
+    comment_count = COALESCE(c.cnt, 0)
+FROM feed_post p
+         LEFT JOIN (SELECT fl.feed_post_id, COUNT(*) AS cnt
+                    FROM feed_like fl
+                    WHERE fl.is_deleted = false
+                    GROUP BY fl.feed_post_id) l ON l.feed_post_id = p.id
+         LEFT JOIN (SELECT fc.feed_post_id, COUNT(*) AS cnt
+                    FROM feed_comment fc
+                    WHERE fc.is_deleted = false
+                    GROUP BY fc.feed_post_id) c ON c.feed_post_id = p.id
+WHERE fp.id = p.id
+  AND (fp.like_count <> COALESCE(l.cnt, 0) OR fp.comment_count <> COALESCE(c.cnt, 0));
+
+-- GET /api/feed/timeline: ORDER BY created_at DESC, id DESC (삭제되지 않은 글만)
+-- 부분 인덱스는 JPA @Index 로 표현할 수 없으므로 엔티티에는 두지 않고 여기서만 만든다
+CREATE INDEX IF NOT EXISTS idx_feed_post_created_id
+    ON feed_post (created_at DESC, id DESC)
+    WHERE is_deleted = false;
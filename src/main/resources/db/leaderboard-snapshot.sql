@@ -0,0 +1,29 @@
+-- 리더보드 스냅샷 (ddl-auto: none 이므로 수동 적용)
+-- 실시간 순위는 Redis ZSET(lb:{scope}:{ref}:{W|M}:{기간키})이고, 이 테이블은 주기적으로 떠 둔 상위 N명 기록이다
+-- 스냅샷 키 (board_key, snapshot_date, user_id): 같은 날 다시 떠도 덮어쓴다
+
+CREATE TABLE IF NOT EXISTS leaderboard_snapshot (
+    board_key     VARCHAR(100)   NOT NULL,
+    snapshot_date DATE           NOT NULL,
+    scope         VARCHAR(10)    NOT NULL,               -- GLOBAL / CREW / TIER
+    scope_ref     VARCHAR(40)    NOT NULL,               -- all / 크루 id / KM_3, KM_5, KM_10
+    period        VARCHAR(10)    NOT NULL,               -- WEEKLY / MONTHLY
+    period_key    VARCHAR(10)    NOT NULL,               -- 2026-W05 / 2026-01
+    user_id       BIGINT         NOT NULL,
+    rank          INT            NOT NULL,
+    distance      NUMERIC(10, 2) NOT NULL,
+    participants  INT            NOT NULL DEFAULT 0,     -- 스냅샷 시점의 보드 전체 인원 (상위 N명 밖 포함)
+    created_at    TIMESTAMP      NOT NULL DEFAULT now(),
+    PRIMARY KEY (board_key, snapshot_date, user_id)
+);
+
+-- participants 추가 전에 만든 테이블용
+ALTER TABLE leaderboard_snapshot ADD COLUMN IF NOT EXISTS participants INT NOT NULL DEFAULT 0;
+
+-- 지난 기간 순위 조회 (가장 최근 스냅샷)
+CREATE INDEX IF NOT EXISTS idx_leaderboard_snapshot_board
+    ON leaderboard_snapshot (scope, scope_ref, period, period_key, snapshot_date DESC, rank);
+
+-- 사용자별 순위 이력
+CREATE INDEX IF NOT EXISTS idx_leaderboard_snapshot_user
+    ON leaderboard_snapshot (user_id, snapshot_date DESC);
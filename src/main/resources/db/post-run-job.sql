@@ -0,0 +1,24 @@
+-- 러닝 후처리 작업 outbox (ddl-auto: none 이므로 수동 적용)
+-- 작업 키 (running_result_id, stage): 결과 1건의 단계당 1행
+
+CREATE TABLE IF NOT EXISTS post_run_job (
+    running_result_id BIGINT       NOT NULL,
+    stage             VARCHAR(20)  NOT NULL,
+    status            VARCHAR(10)  NOT NULL DEFAULT 'PENDING', -- PENDING / RUNNING / DONE / FAILED
+    attempts          INT          NOT NULL DEFAULT 0,
+    next_attempt_at   TIMESTAMP    NOT NULL DEFAULT now(),
+    locked_until      TIMESTAMP,
+    last_error        VARCHAR(500),
+    created_at        TIMESTAMP    NOT NULL DEFAULT now(),
+    updated_at        TIMESTAMP    NOT NULL DEFAULT now(),
+    PRIMARY KEY (running_result_id, stage)
+);
+
+-- 선점 대상 (완료/최종 실패 행은 인덱스에서 제외)
+CREATE INDEX IF NOT EXISTS idx_post_run_job_ready
+    ON post_run_job (next_attempt_at)
+    WHERE status IN ('PENDING', 'RUNNING');
+
+-- FAILED 작업 재처리:
+-- UPDATE post_run_job SET status = 'PENDING', attempts = 0, next_attempt_at = now()
+-- WHERE status = 'FAILED';
@@ -0,0 +1,15 @@
+-- 모집글 위치 geography 컬럼 + GiST 인덱스 (ddl-auto: none 이므로 수동 적용)
+-- location 은 latitude/longitude 에서 계산되는 STORED 생성 컬럼이라 엔티티/애플리케이션 변경 없이 항상 동기화된다
+
+ALTER TABLE recruit
+    ADD COLUMN IF NOT EXISTS location geography(Point, 4326)
+        GENERATED ALWAYS AS (ST_SetSRID(ST_MakePoint(longitude, latitude), 4326)::geography) STORED;
+
+-- 근처 모집 지도/목록: ST_DWithin 필터 + <-> KNN 정렬 (모집 중인 글만)
+CREATE INDEX IF NOT EXISTS idx_recruit_location_recruiting
+    ON recruit USING gist (location)
+    WHERE status = 'RECRUITING';
+
+-- 반경 없이 조회할 때(지역 검색 등)를 위한 전체 인덱스
+CREATE INDEX IF NOT EXISTS idx_recruit_location
+    ON recruit USING gist (location);
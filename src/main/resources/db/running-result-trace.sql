@@ -0,0 +1,12 @@
+-- 러닝 기록별 고스트 트레이스 (ddl-auto: none 이므로 수동 적용)
+-- times[i] = (i-1) * step_meters 지점 도달 누적 시간(초), 종료 시 Redis GPS 트랙에서 한 번 계산해 저장
+-- 이 테이블에 없는 기존 기록은 split_pace(km 단위) 보간으로 대체하므로 백필은 필요 없다
+
+CREATE TABLE IF NOT EXISTS running_result_trace (
+    running_result_id BIGINT    PRIMARY KEY REFERENCES running_result (id) ON DELETE CASCADE,
+    step_meters       INTEGER   NOT NULL,
+    total_meters      INTEGER   NOT NULL,
+    total_seconds     INTEGER   NOT NULL,
+    times             INTEGER[] NOT NULL,
+    created_at        TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,25 @@
+-- 스케줄 작업 실행 원장 (ddl-auto: none 이므로 수동 적용)
+-- 작업 키 (job_name, slot, partition_no): 같은 cron 시각(분 단위)의 같은 파티션은 클러스터 전체에서 1번만 실행된다
+
+CREATE TABLE IF NOT EXISTS scheduled_job_run (
+    id              BIGSERIAL PRIMARY KEY,
+    job_name        VARCHAR(100) NOT NULL,
+    slot            TIMESTAMP    NOT NULL,               -- 예약 실행 시각 (분 단위 절삭)
+    partition_no    INT          NOT NULL DEFAULT 0,
+    partition_count INT          NOT NULL DEFAULT 1,
+    instance_id     VARCHAR(100) NOT NULL,
+    status          VARCHAR(10)  NOT NULL,               -- RUNNING / SUCCEEDED / FAILED
+    rows_affected   INT,
+    duration_ms     BIGINT,
+    error_message   VARCHAR(500),
+    started_at      TIMESTAMP    NOT NULL DEFAULT now(),
+    finished_at     TIMESTAMP,
+    CONSTRAINT uk_scheduled_job_run UNIQUE (job_name, slot, partition_no)
+);
+
+-- 작업별 최근 실행 조회
+CREATE INDEX IF NOT EXISTS idx_scheduled_job_run_recent
+    ON scheduled_job_run (job_name, started_at DESC);
+
+-- 오래된 원장 정리 (필요 시):
+-- DELETE FROM scheduled_job_run WHERE started_at < now() - interval '90 days';
@@ -0,0 +1,63 @@
+-- 관리자 통계 증분 집계 테이블 (ddl-auto: none 이므로 수동 적용)
+-- 적용 후 POST /api/admin/stats/rollup/backfill?from=...&to=... 로 기존 데이터를 채운다.
+-- 반영 후 삭제된 원본 등으로 GET /check 에 불일치가 나오면 POST /api/admin/stats/rollup/reaggregate?from=...&to=... 로 다시 집계한다.
+
+-- 반영 완료된 원본 행 (중복 반영 방지)
+CREATE TABLE IF NOT EXISTS stats_rollup_applied (
+    source     VARCHAR(30) NOT NULL,
+    source_id  BIGINT      NOT NULL,
+    applied_at TIMESTAMP   NOT NULL DEFAULT now(),
+    PRIMARY KEY (source, source_id)
+);
+
+-- 러닝 결과 시간 버킷 (running_result.started_at 기준)
+CREATE TABLE IF NOT EXISTS stats_running_hourly (
+    bucket_at      TIMESTAMP      NOT NULL,
+    running_type   VARCHAR(20)    NOT NULL,
+    run_status     VARCHAR(20)    NOT NULL,
+    run_count      BIGINT         NOT NULL DEFAULT 0,
+    total_distance NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    total_time     BIGINT         NOT NULL DEFAULT 0,
+    pace_sum       NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    pace_count     BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (bucket_at, running_type, run_status)
+);
+
+-- 배틀 결과 티어별 누적
+CREATE TABLE IF NOT EXISTS stats_running_tier (
+    tier           VARCHAR(20)    PRIMARY KEY,
+    battle_count   BIGINT         NOT NULL DEFAULT 0,
+    total_distance NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    pace_sum       NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    pace_count     BIGINT         NOT NULL DEFAULT 0
+);
+
+-- 코스별 완주 횟수
+CREATE TABLE IF NOT EXISTS stats_course_usage (
+    course_id   BIGINT PRIMARY KEY,
+    usage_count BIGINT NOT NULL DEFAULT 0
+);
+
+-- 사용자별 페이스 구간 (완주 기록이 있는 구간)
+CREATE TABLE IF NOT EXISTS stats_user_pace_bucket (
+    user_id    BIGINT      NOT NULL,
+    pace_range VARCHAR(20) NOT NULL,
+    PRIMARY KEY (user_id, pace_range)
+);
+
+-- 일별 지표 (신규 회원/멤버십, 쿠폰 발급/사용, 주기 스냅샷)
+CREATE TABLE IF NOT EXISTS stats_daily_metric (
+    stat_date DATE        NOT NULL,
+    metric    VARCHAR(40) NOT NULL,
+    value     BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_date, metric)
+);
+
+-- 쿠폰별 일 발급/사용 수
+CREATE TABLE IF NOT EXISTS stats_coupon_daily (
+    stat_date    DATE   NOT NULL,
+    coupon_id    BIGINT NOT NULL,
+    issued_count BIGINT NOT NULL DEFAULT 0,
+    used_count   BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_date, coupon_id)
+);
@@ -0,0 +1,30 @@
+-- 사용자별 일 러닝 집계 (ddl-auto: none 이므로 수동 적용)
+-- 완주(COMPLETED)/타임아웃(TIME_OUT), 삭제되지 않은 기록만 started_at 날짜 기준으로 집계
+
+CREATE TABLE IF NOT EXISTS user_daily_running (
+    user_id        BIGINT         NOT NULL,
+    run_date       DATE           NOT NULL,
+    total_distance NUMERIC(10, 2) NOT NULL DEFAULT 0,
+    total_time     BIGINT         NOT NULL DEFAULT 0,
+    run_count      INT            NOT NULL DEFAULT 0,
+    best_pace      NUMERIC(6, 2),
+    updated_at     TIMESTAMP      NOT NULL DEFAULT now(),
+    PRIMARY KEY (user_id, run_date)
+);
+
+-- 1회 백필 (다시 실행해도 같은 결과)
+INSERT INTO user_daily_running (user_id, run_date, total_distance, total_time, run_count,
+                                best_pace, updated_at)
+SELECT user_id, CAST(started_at AS date), SUM(total_distance), SUM(total_time), COUNT(*),
+       MIN(avg_pace) FILTER (WHERE avg_pace > 0), now()
+FROM running_result
+WHERE run_status IN ('COMPLETED', 'TIME_OUT')
+  AND is_deleted = false
+  AND started_at IS NOT NULL
+GROUP BY user_id, CAST(started_at AS date)
+ON CONFLICT (user_id, run_date) DO UPDATE
+SET total_distance = EXCLUDED.total_distance,
+    total_time = EXCLUDED.total_time,
+    run_count = EXCLUDED.run_count,
+    best_pace = EXCLUDED.best_pace,
+    updated_at = now();
@@ -0,0 +1,30 @@
+-- 사용자별 최근 완주 페이스 링 (ddl-auto: none 이므로 수동 적용)
+-- paces: 오래된 것 → 최신 순, 최대 5개. users.average_pace = paces 평균
+
+CREATE TABLE IF NOT EXISTS user_pace_ring (
+    user_id    BIGINT        PRIMARY KEY,
+    paces      NUMERIC(6, 2)[] NOT NULL,
+    updated_at TIMESTAMP     NOT NULL DEFAULT now()
+);
+
+-- 1회 백필: 기존 완주 기록에서 최근 5개로 링을 채우고 평균 페이스를 다시 맞춘다 (다시 실행해도 같은 결과)
+INSERT INTO user_pace_ring (user_id, paces, updated_at)
+SELECT user_id, array_agg(avg_pace ORDER BY created_at, id), now()
+FROM (
+    SELECT user_id, avg_pace, created_at, id,
+           row_number() OVER (PARTITION BY user_id ORDER BY created_at DESC, id DESC) AS rn
+    FROM running_result
+    WHERE run_status = 'COMPLETED'
+      AND avg_pace IS NOT NULL
+      AND is_deleted = false
+) recent
+WHERE rn <= 5
+GROUP BY user_id
+ON CONFLICT (user_id) DO UPDATE
+SET paces = EXCLUDED.paces,
+    updated_at = now();
+
+UPDATE users u
+SET average_pace = (SELECT round(avg(p), 2) FROM unnest(r.paces) AS p)
+FROM user_pace_ring r
+WHERE r.user_id = u.id;
@@ -1299,34 +1299,111 @@ function connectWebSocket() {
 // 메시지 관련
 // ============================================
 
-// 과거 메시지 불러오기
+// 과거 메시지 페이징 상태
+let historyNextCursor = null;
+let historyHasNext = false;
+let historyLoading = false;
+
+// 과거 메시지 불러오기 (최근 페이지)
 function loadPreviousMessages() {
-  let url = `/api/chat/${currentSession.id}/messages`;
+  historyNextCursor = null;
+  historyHasNext = false;
+
+  fetchMessagePage(null)
+    .then((page) => {
+      if (!page || page.items.length === 0) {
+        return;
+      }
+      page.items.forEach((message) => {
+        displayMessage(message, true);
+      });
+
+      // 스크롤을 맨 아래로
+      setTimeout(() => {
+        const chatContainer = document.querySelector(".chat-container");
+        if (chatContainer) {
+          chatContainer.scrollTo({
+            top: chatContainer.scrollHeight,
+            behavior: "auto",
+          });
+        }
+      }, 100);
+    })
+    .catch((error) => console.error("메시지 로드 실패:", error));
+
+  bindHistoryScroll();
+}
+
+// 더 오래된 메시지 불러오기 (스크롤 최상단 도달 시)
+function loadOlderMessages() {
+  if (!historyHasNext || historyLoading) {
+    return;
+  }
+
+  const chatContainer = document.querySelector(".chat-container");
+  const messagesDiv = document.getElementById("chat-messages");
+  const prevScrollHeight = chatContainer.scrollHeight;
+
+  fetchMessagePage(historyNextCursor)
+    .then((page) => {
+      if (!page || page.items.length === 0) {
+        return;
+      }
+
+      // 기존 메시지를 떼어두고 과거 페이지를 먼저 그린 뒤 다시 붙인다
+      const existing = document.createDocumentFragment();
+      while (messagesDiv.firstChild) {
+        existing.appendChild(messagesDiv.firstChild);
+      }
+      page.items.forEach((message) => {
+        displayMessage(message, true);
+      });
+      messagesDiv.appendChild(existing);
+
+      // 보고 있던 위치 유지
+      chatContainer.scrollTop += chatContainer.scrollHeight - prevScrollHeight;
+    })
+    .catch((error) => console.error("이전 메시지 로드 실패:", error));
+}
+
+function fetchMessagePage(cursor) {
+  const params = new URLSearchParams();
   if (currentUserJoinedAt) {
-    url += `?joinedAt=${encodeURIComponent(currentUserJoinedAt)}`;
+    params.append("joinedAt", currentUserJoinedAt);
   }
+  if (cursor) {
+    params.append("cursor", cursor);
+  }
+  const query = params.toString();
+  const url = `/api/chat/${currentSession.id}/messages${query ? `?${query}` : ""}`;
 
-  fetchWithAuth(url)
+  historyLoading = true;
+  return fetchWithAuth(url)
     .then((response) => response.json())
     .then((result) => {
-      if (result.success && result.data.length > 0) {
-        result.data.forEach((message) => {
-          displayMessage(message, true);
-        });
-
-        // 스크롤을 맨 아래로
-        setTimeout(() => {
-          const chatContainer = document.querySelector(".chat-container");
-          if (chatContainer) {
-            chatContainer.scrollTo({
-              top: chatContainer.scrollHeight,
-              behavior: "auto",
-            });
-          }
-        }, 100);
+      if (!result.success || !result.data) {
+        return null;
       }
+      historyNextCursor = result.data.nextCursor;
+      historyHasNext = result.data.hasNext;
+      return result.data;
     })
-    .catch((error) => console.error("메시지 로드 실패:", error));
+    .finally(() => {
+      historyLoading = false;
+    });
+}
+
+function bindHistoryScroll() {
+  const chatContainer = document.querySelector(".chat-container");
+  if (!chatContainer || chatContainer.dataset.historyBound) {
+    return;
+  }
+  chatContainer.dataset.historyBound = "true";
+  chatContainer.addEventListener("scroll", () => {
+    if (chatContainer.scrollTop <= 50) {
+      loadOlderMessages();
+    }
+  });
 }
 
 // 메시지 전송
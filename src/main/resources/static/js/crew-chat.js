@@ -104,8 +104,30 @@ document.addEventListener('DOMContentLoaded', async function () {
 
   // 6. 이벤트 리스너 설정
   setupEventListeners();
+
+  // 7. 입장 시 + 페이지 나갈 때 읽음 처리
+  updateLastReadTime(params.roomId);
+  window.addEventListener('beforeunload', function () {
+    updateLastReadTime(params.roomId);
+  });
 });
 
+// 읽음 처리 (안 읽은 메시지 수 초기화)
+function updateLastReadTime(roomId) {
+  const token = localStorage.getItem('accessToken');
+
+  fetch(`/api/crew-chat/rooms/${roomId}/read`, {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json',
+      Authorization: `Bearer ${token}`,
+    },
+    keepalive: true, // 페이지를 나가더라도 요청 유지
+  }).catch((error) => {
+    console.error('읽음 처리 실패:', error);
+  });
+}
+
 // ============================================
 // 채팅방 정보 조회
 // ============================================
@@ -390,29 +412,104 @@ function connectWebSocket() {
 // 메시지 관련
 // ============================================
 
+// 과거 메시지 페이징 상태
+let historyNextCursor = null;
+let historyHasNext = false;
+let historyLoading = false;
+
 function loadPreviousMessages() {
-  console.log('⭐ loadPreviousMessages 시작, currentRoom.id:', currentRoom.id);  // 디버깅
-  fetchWithAuth(`/api/crew-chat/${currentRoom.id}/messages`)
-  .then(response => response.json())
-  .then(result => {
-    console.log('⭐ 과거 메시지 응답:', result);  // 디버깅
-    if (result.success && result.data.length > 0) {
-      result.data.forEach(message => {
-        displayMessage(message, true);
-      });
+  historyNextCursor = null;
+  historyHasNext = false;
 
-      setTimeout(() => {
-        const chatContainer = document.querySelector('.chat-container');
-        if (chatContainer) {
-          chatContainer.scrollTo({
-            top: chatContainer.scrollHeight,
-            behavior: 'auto'
-          });
-        }
-      }, 100);
+  fetchMessagePage(null)
+  .then(page => {
+    if (!page || page.items.length === 0) {
+      return;
     }
+    page.items.forEach(message => {
+      displayMessage(message, true);
+    });
+
+    setTimeout(() => {
+      const chatContainer = document.querySelector('.chat-container');
+      if (chatContainer) {
+        chatContainer.scrollTo({
+          top: chatContainer.scrollHeight,
+          behavior: 'auto'
+        });
+      }
+    }, 100);
   })
   .catch(error => console.error('메시지 로드 실패:', error));
+
+  bindHistoryScroll();
+}
+
+// 더 오래된 메시지 불러오기 (스크롤 최상단 도달 시)
+function loadOlderMessages() {
+  if (!historyHasNext || historyLoading) {
+    return;
+  }
+
+  const chatContainer = document.querySelector('.chat-container');
+  const messagesDiv = document.getElementById('chat-messages');
+  const prevScrollHeight = chatContainer.scrollHeight;
+
+  fetchMessagePage(historyNextCursor)
+  .then(page => {
+    if (!page || page.items.length === 0) {
+      return;
+    }
+
+    // 기존 메시지를 떼어두고 과거 페이지를 먼저 그린 뒤 다시 붙인다
+    const existing = document.createDocumentFragment();
+    while (messagesDiv.firstChild) {
+      existing.appendChild(messagesDiv.firstChild);
+    }
+    page.items.forEach(message => {
+      displayMessage(message, true);
+    });
+    messagesDiv.appendChild(existing);
+
+    // 보고 있던 위치 유지
+    chatContainer.scrollTop += chatContainer.scrollHeight - prevScrollHeight;
+  })
+  .catch(error => console.error('이전 메시지 로드 실패:', error));
+}
+
+function fetchMessagePage(cursor) {
+  let url = `/api/crew-chat/${currentRoom.id}/messages`;
+  if (cursor) {
+    url += `?cursor=${encodeURIComponent(cursor)}`;
+  }
+
+  historyLoading = true;
+  return fetchWithAuth(url)
+  .then(response => response.json())
+  .then(result => {
+    if (!result.success || !result.data) {
+      return null;
+    }
+    historyNextCursor = result.data.nextCursor;
+    historyHasNext = result.data.hasNext;
+    return result.data;
+  })
+  .finally(() => {
+    historyLoading = false;
+  });
+}
+
+function bindHistoryScroll() {
+  const chatContainer = document.querySelector('.chat-container');
+  if (!chatContainer || chatContainer.dataset.historyBound) {
+    return;
+  }
+  chatContainer.dataset.historyBound = 'true';
+  chatContainer.addEventListener('scroll', () => {
+    if (chatContainer.scrollTop <= 50) {
+      loadOlderMessages();
+    }
+  });
 }
 
 function sendMessage() {
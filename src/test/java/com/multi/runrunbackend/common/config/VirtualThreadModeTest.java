@@ -0,0 +1,230 @@
+package com.multi.runrunbackend.common.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.broker.SubscriptionRegistry;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * @author : kyungsoo
+ * @description : 가상 스레드 모드 - WebSocketConfig 의 STOMP inbound/outbound 채널이 가상 스레드에서 돌면서 세션 단위 수신/발행 순서를
+ * 지키는지, 애플리케이션 스케줄러가 모드별로 맞는 구현을 쓰는지 확인
+ * @filename : VirtualThreadModeTest
+ * @since : 2025. 12. 29. Monday
+ */
+@SpringJUnitWebConfig(WebSocketConfig.class)
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadModeTest {
+
+    private static final int MESSAGES = 200;
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private ExecutorSubscribableChannel clientInboundChannel;
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private ExecutorSubscribableChannel clientOutboundChannel;
+
+    @Autowired
+    @Qualifier("subProtocolWebSocketHandler")
+    private WebSocketHandler subProtocolWebSocketHandler;
+
+    @Autowired
+    @Qualifier("simpleBrokerMessageHandler")
+    private AbstractBrokerMessageHandler simpleBrokerMessageHandler;
+
+    @Autowired
+    private SimpMessagingTemplate brokerMessagingTemplate;
+
+    @Test
+    void inboundChannelHandlesFramesOnVirtualThreadsInReceiveOrder() throws Exception {
+        assertInstanceOf(VirtualThreadTaskExecutor.class, clientInboundChannel.getExecutor());
+
+        Recorder recorder = new Recorder("/pub/order-test");
+        clientInboundChannel.subscribe(recorder);
+        WebSocketSession session = session("inbound-session");
+        try {
+            subProtocolWebSocketHandler.afterConnectionEstablished(session);
+            subProtocolWebSocketHandler.handleMessage(session,
+                new TextMessage("CONNECT\naccept-version:1.2\nhost:localhost\n\n\0"));
+            for (int i = 0; i < MESSAGES; i++) {
+                subProtocolWebSocketHandler.handleMessage(session,
+                    new TextMessage("SEND\ndestination:/pub/order-test\n\n" + i + "\0"));
+            }
+
+            recorder.assertReceivedInOrderOnVirtualThreads();
+        } finally {
+            clientInboundChannel.unsubscribe(recorder);
+        }
+    }
+
+    @Test
+    void outboundChannelDeliversOnVirtualThreadsInPublishOrder() throws Exception {
+        assertInstanceOf(VirtualThreadTaskExecutor.class, clientOutboundChannel.getExecutor());
+        assertTrue(simpleBrokerMessageHandler.isPreservePublishOrder());
+
+        Recorder recorder = new Recorder("/sub/order-test");
+        WebSocketSession session = session("outbound-session");
+        doAnswer(invocation -> {
+            recorder.record(invocation.getArgument(0, TextMessage.class).getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+
+        subProtocolWebSocketHandler.afterConnectionEstablished(session);
+        subProtocolWebSocketHandler.handleMessage(session,
+            new TextMessage("CONNECT\naccept-version:1.2\nhost:localhost\n\n\0"));
+        subProtocolWebSocketHandler.handleMessage(session,
+            new TextMessage("SUBSCRIBE\nid:sub-0\ndestination:/sub/order-test\n\n\0"));
+        awaitSubscription("/sub/order-test");
+
+        for (int i = 0; i < MESSAGES; i++) {
+            brokerMessagingTemplate.convertAndSend("/sub/order-test", String.valueOf(i));
+        }
+
+        recorder.assertReceivedInOrderOnVirtualThreads();
+    }
+
+    @Test
+    void applicationSchedulerUsesVirtualThreadsOnlyInVirtualMode() throws Exception {
+        SchedulingConfig config = new SchedulingConfig();
+
+        TaskScheduler virtual = config.taskScheduler(true, 4);
+        assertInstanceOf(SimpleAsyncTaskScheduler.class, virtual);
+        try {
+            assertTrue(scheduledOnVirtualThread(virtual));
+        } finally {
+            ((SimpleAsyncTaskScheduler) virtual).close();
+        }
+
+        TaskScheduler platform = config.taskScheduler(false, 4);
+        ThreadPoolTaskScheduler pool = assertInstanceOf(ThreadPoolTaskScheduler.class, platform);
+        pool.initialize();
+        try {
+            assertEquals(4, pool.getScheduledThreadPoolExecutor().getCorePoolSize());
+            assertFalse(scheduledOnVirtualThread(platform));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * SUBSCRIBE 는 inbound 채널에서 비동기로 처리되므로 브로커에 등록될 때까지 기다린다
+     */
+    private void awaitSubscription(String destination) throws InterruptedException {
+        SimpMessageHeaderAccessor probe = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        probe.setDestination(destination);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0],
+            probe.getMessageHeaders());
+        SubscriptionRegistry registry =
+            ((SimpleBrokerMessageHandler) simpleBrokerMessageHandler).getSubscriptionRegistry();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (registry.findSubscriptions(message).isEmpty()) {
+            assertTrue(System.nanoTime() < deadline, "구독이 등록되지 않음: " + destination);
+            Thread.sleep(10);
+        }
+    }
+
+    private static WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        when(session.getId()).thenReturn(id);
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getTextMessageSizeLimit()).thenReturn(64 * 1024);
+        return session;
+    }
+
+    private static boolean scheduledOnVirtualThread(TaskScheduler scheduler) throws Exception {
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        scheduler.schedule(() -> virtual.complete(Thread.currentThread().isVirtual()),
+            Instant.now().plusMillis(10));
+        return virtual.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * destination 이 같은 메시지의 본문과 처리 스레드 종류를 도착 순서대로 기록 (inbound 는 채널 구독자, outbound 는 세션 전송)
+     */
+    private static class Recorder implements MessageHandler {
+
+        private final String destination;
+        private final List<String> payloads = new CopyOnWriteArrayList<>();
+        private final List<Boolean> virtualThreads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(MESSAGES);
+
+        Recorder(String destination) {
+            this.destination = destination;
+        }
+
+        @Override
+        public void handleMessage(Message<?> message) {
+            if (!destination.equals(SimpMessageHeaderAccessor.getDestination(
+                message.getHeaders()))) {
+                return;
+            }
+            // 처리 시간을 흔들어 순서 보장이 없으면 도착 순서가 섞이게 한다
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(500_000));
+            payloads.add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+            virtualThreads.add(Thread.currentThread().isVirtual());
+            done.countDown();
+        }
+
+        /**
+         * 세션으로 나가는 STOMP 프레임 중 MESSAGE 의 본문만 기록
+         */
+        void record(String frame) {
+            if (!frame.startsWith("MESSAGE\n") || !frame.contains("destination:" + destination)) {
+                return;
+            }
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(500_000));
+            payloads.add(frame.substring(frame.indexOf("\n\n") + 2, frame.length() - 1));
+            virtualThreads.add(Thread.currentThread().isVirtual());
+            done.countDown();
+        }
+
+        void assertReceivedInOrderOnVirtualThreads() throws InterruptedException {
+            assertTrue(done.await(10, TimeUnit.SECONDS), "received " + payloads.size());
+            assertEquals(IntStream.range(0, MESSAGES).mapToObj(String::valueOf).toList(), payloads);
+            assertFalse(virtualThreads.contains(false));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.multi.runrunbackend.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * @author : changwoo
+ * @description : CountingRedisTemplate - opsForXxx, Lua 스크립트, 파이프라인이 각각 Redis 왕복 1회로 집계되는지 확인 (연결은 mock)
+ * @filename : CountingRedisTemplateTest
+ * @since : 2026. 1. 27. Tuesday
+ */
+class CountingRedisTemplateTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final RunRunMetrics metrics = new RunRunMetrics(registry);
+  private CountingRedisTemplate<String, String> template;
+
+  @BeforeEach
+  void setUp() {
+    RedisConnection connection = mock(RedisConnection.class);
+    when(connection.stringCommands()).thenReturn(mock(RedisStringCommands.class));
+    when(connection.closePipeline()).thenReturn(List.of());
+    RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+    when(connectionFactory.getConnection()).thenReturn(connection);
+
+    template = new CountingRedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(RedisSerializer.string());
+    template.setValueSerializer(RedisSerializer.string());
+    template.afterPropertiesSet();
+  }
+
+  @AfterEach
+  void clearCounter() {
+    RedisOpsCounter.end();
+  }
+
+  @Test
+  void countsOpsScriptsAndPipelinesInsideATick() {
+    metrics.gpsTick("battle", () -> {
+      template.opsForValue().set("runner:1", "a");
+      template.opsForValue().get("runner:1");
+      template.opsForHash().put("battle:1", "runner:1", "a");
+      template.execute(RedisScript.of("return 1", Long.class), List.of("battle:1"));
+      template.executePipelined((RedisCallback<Object>) connection -> {
+        connection.stringCommands().get("a".getBytes());
+        connection.stringCommands().get("b".getBytes());
+        return null;
+      });
+      return null;
+    });
+
+    assertEquals(5, registry.get("runrun.gps.tick.redis.ops").tag("mode", "battle").summary()
+        .totalAmount());
+  }
+
+  @Test
+  void doesNotCountOutsideATick() {
+    template.opsForValue().get("runner:1");
+
+    assertEquals(0, RedisOpsCounter.end());
+  }
+}
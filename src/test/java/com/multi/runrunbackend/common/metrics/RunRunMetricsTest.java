@@ -0,0 +1,124 @@
+package com.multi.runrunbackend.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : changwoo
+ * @description : RunRunMetrics - GPS tick 당 Redis 명령 수 집계(중첩, 예외 후 초기화)와 destination 패턴 카디널리티
+ * @filename : RunRunMetricsTest
+ * @since : 2026. 1. 27. Tuesday
+ */
+class RunRunMetricsTest {
+
+  private SimpleMeterRegistry registry;
+  private RunRunMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    metrics = new RunRunMetrics(registry);
+  }
+
+  @AfterEach
+  void clearCounter() {
+    RedisOpsCounter.end();
+  }
+
+  @Test
+  void gpsTickRecordsRedisOpsIssuedInsideTheTick() {
+    RedisOpsCounter.increment();
+
+    String result = metrics.gpsTick("solo", () -> {
+      RedisOpsCounter.increment();
+      RedisOpsCounter.increment();
+      RedisOpsCounter.increment();
+      return "ok";
+    });
+
+    assertEquals("ok", result);
+    DistributionSummary ops = redisOps("solo");
+    assertEquals(1, ops.count());
+    assertEquals(3, ops.totalAmount());
+    assertEquals(1, registry.get("runrun.gps.tick").tag("mode", "solo").timer().count());
+  }
+
+  @Test
+  void nestedTicksAddToTheOuterTick() {
+    metrics.gpsTick("battle", () -> {
+      RedisOpsCounter.increment();
+      metrics.gpsTick("battle", () -> {
+        RedisOpsCounter.increment();
+        RedisOpsCounter.increment();
+        return null;
+      });
+      RedisOpsCounter.increment();
+      return null;
+    });
+
+    DistributionSummary ops = redisOps("battle");
+    assertEquals(1, ops.count());
+    assertEquals(4, ops.totalAmount());
+    assertEquals(2, registry.get("runrun.gps.tick").tag("mode", "battle").timer().count());
+  }
+
+  @Test
+  void failedTickStillRecordsAndResetsTheThreadLocal() {
+    assertThrows(IllegalStateException.class, () -> metrics.gpsTick("solo", () -> {
+      RedisOpsCounter.increment();
+      throw new IllegalStateException("boom");
+    }));
+
+    assertEquals(1, redisOps("solo").totalAmount());
+    assertEquals(0, RedisOpsCounter.end());
+
+    assertTrue(RedisOpsCounter.begin());
+    RedisOpsCounter.increment();
+    assertEquals(1, RedisOpsCounter.end());
+
+    metrics.gpsTick("solo", () -> {
+      RedisOpsCounter.increment();
+      return null;
+    });
+    assertEquals(2, redisOps("solo").count());
+    assertEquals(2, redisOps("solo").totalAmount());
+  }
+
+  @Test
+  void patternOfCollapsesNumericIds() {
+    assertEquals("battle:{id}:ranking", RunRunMetrics.patternOf("battle:12:ranking"));
+    assertEquals("/sub/chat/{id}", RunRunMetrics.patternOf("/sub/chat/987654321"));
+    assertEquals("running:{id}:{id}", RunRunMetrics.patternOf("running:7:42"));
+    assertEquals("notification", RunRunMetrics.patternOf("notification"));
+    assertEquals("unknown", RunRunMetrics.patternOf(null));
+  }
+
+  @Test
+  void destinationTagStaysLowCardinality() {
+    for (int id = 1; id <= 100; id++) {
+      metrics.stompSend("/sub/battle/" + id + "/ranking", () -> {
+      });
+      metrics.pubSubPublished("battle:" + id + ":ranking", 2L);
+    }
+
+    assertEquals(1, registry.find("runrun.stomp.send").timers().size());
+    assertEquals(100, registry.get("runrun.stomp.send")
+        .tag("destination", "/sub/battle/{id}/ranking").timer().count());
+    assertEquals(1, registry.find("runrun.pubsub.messages").counters().size());
+    assertEquals(100, registry.get("runrun.pubsub.messages")
+        .tag("pattern", "battle:{id}:ranking").counter().count());
+    assertEquals(200, registry.get("runrun.pubsub.fanout")
+        .tag("pattern", "battle:{id}:ranking").summary().totalAmount());
+  }
+
+  private DistributionSummary redisOps(String mode) {
+    return registry.get("runrun.gps.tick.redis.ops").tag("mode", mode).summary();
+  }
+}
@@ -0,0 +1,56 @@
+package com.multi.runrunbackend.common.websocket;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+
+/**
+ * @author : changwoo
+ * @description : relay 모드 테스트용 내장 STOMP 브로커 (ActiveMQ Artemis). 비어 있는 포트에 STOMP acceptor 만 열고, 영속화/보안은 끈다.
+ * docker compose 의 stomp-relay 프로필 없이 websocket.broker.mode=relay 를 띄울 때 쓴다.
+ * @filename : EmbeddedStompBroker
+ * @since : 2026. 1. 24. Saturday
+ */
+public class EmbeddedStompBroker {
+
+  private final EmbeddedActiveMQ server = new EmbeddedActiveMQ();
+  private int port;
+  private Path dataDir;
+
+  public void start() throws Exception {
+    port = freePort();
+    dataDir = Files.createTempDirectory("stomp-broker");
+    Configuration config = new ConfigurationImpl()
+        .setPersistenceEnabled(false)
+        .setSecurityEnabled(false)
+        .setJournalDirectory(dataDir.resolve("journal").toString())
+        .setBindingsDirectory(dataDir.resolve("bindings").toString())
+        .setPagingDirectory(dataDir.resolve("paging").toString())
+        .setLargeMessagesDirectory(dataDir.resolve("large").toString())
+        .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + port + "?protocols=STOMP");
+    server.setConfiguration(config);
+    server.start();
+  }
+
+  public void stop() throws Exception {
+    server.stop();
+  }
+
+  public String host() {
+    return "127.0.0.1";
+  }
+
+  public int port() {
+    return port;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.multi.runrunbackend.common.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multi.runrunbackend.common.config.WebSocketConfig;
+import com.multi.runrunbackend.common.metrics.RunRunMetrics;
+import com.multi.runrunbackend.domain.chat.service.RedisPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.broker.BrokerAvailabilityEvent;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+/**
+ * @author : changwoo
+ * @description : websocket.broker.mode=relay 를 내장 STOMP 브로커에 붙여 띄우고, RedisPublisher 로 보낸 메시지가 Redis 를 거치지 않고 브로커를
+ * 통해 다른 STOMP 구독자에게 도착하는지 확인
+ * @filename : StompBrokerRelayTest
+ * @since : 2026. 1. 24. Saturday
+ */
+@SpringJUnitWebConfig(StompBrokerRelayTest.RelayTestConfig.class)
+@DirtiesContext
+class StompBrokerRelayTest {
+
+  private static final EmbeddedStompBroker BROKER = new EmbeddedStompBroker();
+
+  @Autowired
+  private RedisPublisher redisPublisher;
+
+  @Autowired
+  private RedisTemplate<String, Object> redisPubSubTemplate;
+
+  @Autowired
+  private RelayTestConfig relayTestConfig;
+
+  @Autowired
+  @Qualifier("messageBrokerTaskScheduler")
+  private TaskScheduler messageBrokerTaskScheduler;
+
+  @DynamicPropertySource
+  static void relayProperties(DynamicPropertyRegistry registry) throws Exception {
+    BROKER.start();
+    registry.add("websocket.broker.mode", () -> "relay");
+    registry.add("websocket.broker.relay.host", BROKER::host);
+    registry.add("websocket.broker.relay.port", BROKER::port);
+  }
+
+  @AfterAll
+  static void stopBroker() throws Exception {
+    BROKER.stop();
+  }
+
+  @Test
+  void publishedMessageRoundTripsThroughTheRelayBroker() throws Exception {
+    assertTrue(relayTestConfig.brokerAvailable.await(10, TimeUnit.SECONDS),
+        "relay 시스템 세션이 브로커에 연결되지 않음");
+
+    ReactorNettyTcpStompClient client = new ReactorNettyTcpStompClient(BROKER.host(),
+        BROKER.port());
+    // receipt 추적용
+    client.setTaskScheduler(messageBrokerTaskScheduler);
+    StompSession session = client.connectAsync(new StompHeaders(),
+        new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+    try {
+      BlockingQueue<String> received = new LinkedBlockingQueue<>();
+      CountDownLatch subscribed = new CountDownLatch(1);
+      session.setAutoReceipt(true);
+      session.subscribe("/sub/chat/1", new StompFrameHandler() {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+          return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+          received.add(new String((byte[]) payload, StandardCharsets.UTF_8));
+        }
+      }).addReceiptTask(subscribed::countDown);
+      assertTrue(subscribed.await(10, TimeUnit.SECONDS), "브로커 구독 확인(receipt) 없음");
+
+      redisPublisher.publishObject("chat:1", Map.of("message", "hello relay"));
+
+      String json = received.poll(10, TimeUnit.SECONDS);
+      assertEquals("{\"message\":\"hello relay\"}", json);
+      verify(redisPubSubTemplate, never()).convertAndSend(anyString(), any());
+    } finally {
+      session.disconnect();
+      client.shutdown();
+    }
+  }
+
+  @Configuration
+  @Import({WebSocketConfig.class, StompJsonSender.class, RunRunMetrics.class,
+      RedisPublisher.class})
+  static class RelayTestConfig {
+
+    private final CountDownLatch brokerAvailable = new CountDownLatch(1);
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    ObjectMapper objectMapper() {
+      return new ObjectMapper();
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    RedisTemplate<String, Object> redisPubSubTemplate() {
+      return mock(RedisTemplate.class);
+    }
+
+    @EventListener
+    void onBrokerAvailability(BrokerAvailabilityEvent event) {
+      if (event.isBrokerAvailable()) {
+        brokerAvailable.countDown();
+      }
+    }
+  }
+}
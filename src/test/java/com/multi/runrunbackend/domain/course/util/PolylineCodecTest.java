@@ -0,0 +1,151 @@
+package com.multi.runrunbackend.domain.course.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.multi.runrunbackend.common.exception.custom.BadRequestException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * @author : kyungsoo
+ * @description : PolylineCodec 인코딩/디코딩 - 참조 벡터, precision 5/6 왕복, 음수/날짜변경선 차이, 잘못된 입력
+ * @filename : PolylineCodecTest
+ * @since : 2026. 1. 31. Saturday
+ */
+class PolylineCodecTest {
+
+    private static final GeometryFactory GEOMETRY_FACTORY =
+        new GeometryFactory(new PrecisionModel(), 4326);
+
+    // Google Polyline Algorithm 문서 예제 (lat, lng): (38.5, -120.2), (40.7, -120.95), (43.252, -126.453)
+    private static final String REFERENCE = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+    @Test
+    void encodesReferenceVector() {
+        LineString path = lineString(
+            new Coordinate(-120.2, 38.5),
+            new Coordinate(-120.95, 40.7),
+            new Coordinate(-126.453, 43.252));
+
+        assertEquals(REFERENCE, PolylineCodec.encode(path, 5));
+        assertEquals(REFERENCE, PolylineCodec.encode(List.of(
+            new double[]{-120.2, 38.5},
+            new double[]{-120.95, 40.7},
+            new double[]{-126.453, 43.252}), 5));
+    }
+
+    @Test
+    void decodesReferenceVectorAsLngLat() {
+        Coordinate[] coords = PolylineCodec.decode(REFERENCE, 5);
+
+        assertEquals(3, coords.length);
+        assertCoordinate(-120.2, 38.5, coords[0], 1e-9);
+        assertCoordinate(-120.95, 40.7, coords[1], 1e-9);
+        assertCoordinate(-126.453, 43.252, coords[2], 1e-9);
+    }
+
+    @Test
+    void roundTripsRandomPathsAtPrecisionFiveAndSix() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int precision : new int[]{5, 6}) {
+            double tolerance = 0.5 / Math.pow(10, precision) + 1e-12;
+            for (int run = 0; run < 500; run++) {
+                int points = 2 + random.nextInt(200);
+                Coordinate[] coords = new Coordinate[points];
+                // 서울 근처에서 시작해 수 m 간격으로 이동 (x = lng, y = lat)
+                double lng = 126.9 + random.nextDouble(-0.5, 0.5);
+                double lat = 37.5 + random.nextDouble(-0.5, 0.5);
+                for (int i = 0; i < points; i++) {
+                    lng += random.nextDouble(-0.0005, 0.0005);
+                    lat += random.nextDouble(-0.0005, 0.0005);
+                    coords[i] = new Coordinate(lng, lat);
+                }
+
+                LineString decoded = PolylineCodec.decodeLineString(
+                    PolylineCodec.encode(lineString(coords), precision), precision);
+
+                assertEquals(4326, decoded.getSRID());
+                assertEquals(points, decoded.getNumPoints());
+                for (int i = 0; i < points; i++) {
+                    assertCoordinate(coords[i].x, coords[i].y, decoded.getCoordinateN(i), tolerance);
+                }
+            }
+        }
+    }
+
+    @Test
+    void roundTripsNegativeAndAntimeridianDeltas() {
+        LineString path = lineString(
+            new Coordinate(179.999999, -16.5),
+            new Coordinate(-179.999999, -16.500001),
+            new Coordinate(-179.5, -89.9),
+            new Coordinate(0.000001, 0.0),
+            new Coordinate(-0.000001, -0.000001),
+            new Coordinate(179.999999, 89.9));
+
+        for (int precision : new int[]{5, 6}) {
+            double tolerance = 0.5 / Math.pow(10, precision) + 1e-12;
+            Coordinate[] decoded = PolylineCodec.decode(PolylineCodec.encode(path, precision),
+                precision);
+
+            assertEquals(path.getNumPoints(), decoded.length);
+            for (int i = 0; i < decoded.length; i++) {
+                Coordinate expected = path.getCoordinateN(i);
+                assertCoordinate(expected.x, expected.y, decoded[i], tolerance);
+            }
+        }
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        // 범위 밖 문자 / 이어지는 chunk 없이 끝남 / lng 없이 lat 만 / 길이 초과 값
+        assertInvalidRoute(() -> PolylineCodec.decode("_p~iF ps|U", 5));
+        assertInvalidRoute(() -> PolylineCodec.decode("_p~iF~ps|U\u007f", 5));
+        assertInvalidRoute(() -> PolylineCodec.decode("_p~iF~ps|U_", 5));
+        assertInvalidRoute(() -> PolylineCodec.decode("_p~iF", 5));
+        assertInvalidRoute(() -> PolylineCodec.decode("~".repeat(20) + "?", 5));
+        assertInvalidRoute(() -> PolylineCodec.decode(null, 5));
+
+        // 점 1개는 LineString 이 될 수 없음
+        assertInvalidRoute(() -> PolylineCodec.decodeLineString("_p~iF~ps|U", 5));
+        assertInvalidRoute(() -> PolylineCodec.decodeLineString("", 5));
+    }
+
+    @Test
+    void rejectsPointsWithoutLngAndLat() {
+        assertInvalidRoute(() -> PolylineCodec.encode(List.of(
+            new double[]{-120.2, 38.5},
+            new double[]{-120.95}), 5));
+        assertInvalidRoute(() -> PolylineCodec.encode(List.of(new double[0]), 5));
+        assertInvalidRoute(() -> PolylineCodec.encode(Arrays.asList(
+            new double[]{-120.2, 38.5}, null), 5));
+    }
+
+    @Test
+    void rejectsUnsupportedPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> PolylineCodec.decode(REFERENCE, 0));
+        assertThrows(IllegalArgumentException.class, () -> PolylineCodec.decode(REFERENCE, 8));
+    }
+
+    private static LineString lineString(Coordinate... coords) {
+        return GEOMETRY_FACTORY.createLineString(coords);
+    }
+
+    private static void assertCoordinate(double lng, double lat, Coordinate actual, double delta) {
+        assertEquals(lng, actual.x, delta, "lng (x)");
+        assertEquals(lat, actual.y, delta, "lat (y)");
+    }
+
+    private static void assertInvalidRoute(Runnable call) {
+        BadRequestException e = assertThrows(BadRequestException.class, call::run);
+        assertEquals(ErrorCode.INVALID_ROUTE_PATH, e.getErrorCode());
+    }
+}
@@ -0,0 +1,50 @@
+package com.multi.runrunbackend.domain.leaderboard.constant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : kyungsoo
+ * @description : LeaderboardPeriod - ISO 주 연도 경계(53주차, 1주차가 전년도 12월에 시작)와 월 경계의 기간 키/시작/끝
+ * @filename : LeaderboardPeriodTest
+ * @since : 2026. 1. 30. Friday
+ */
+class LeaderboardPeriodTest {
+
+    @Test
+    void weeklyKeyFollowsIsoWeekBasedYearAcrossNewYear() {
+        // 2026 년은 목요일에 시작하므로 53주차가 있고, 2027-01-01(금)~01-03(일)은 2026-W53 이다
+        assertEquals("2026-W53", LeaderboardPeriod.WEEKLY.keyOf(LocalDate.of(2026, 12, 31)));
+        assertEquals("2026-W53", LeaderboardPeriod.WEEKLY.keyOf(LocalDate.of(2027, 1, 1)));
+        assertEquals("2026-W53", LeaderboardPeriod.WEEKLY.keyOf(LocalDate.of(2027, 1, 3)));
+        assertEquals("2027-W01", LeaderboardPeriod.WEEKLY.keyOf(LocalDate.of(2027, 1, 4)));
+        // 반대로 2024-12-30(월)은 2025-W01 이다
+        assertEquals("2025-W01", LeaderboardPeriod.WEEKLY.keyOf(LocalDate.of(2024, 12, 30)));
+    }
+
+    @Test
+    void weeklyRangeSpansNewYear() {
+        for (LocalDate date : new LocalDate[]{LocalDate.of(2026, 12, 31), LocalDate.of(2027, 1, 1)}) {
+            assertEquals(LocalDate.of(2026, 12, 28), LeaderboardPeriod.WEEKLY.startOf(date));
+            assertEquals(LocalDate.of(2027, 1, 4), LeaderboardPeriod.WEEKLY.endExclusiveOf(date));
+        }
+        LocalDate monday = LocalDate.of(2027, 1, 4);
+        assertEquals(monday, LeaderboardPeriod.WEEKLY.startOf(monday));
+        assertEquals(LocalDate.of(2027, 1, 11), LeaderboardPeriod.WEEKLY.endExclusiveOf(monday));
+    }
+
+    @Test
+    void monthlyFollowsCalendarMonth() {
+        LocalDate lastDay = LocalDate.of(2026, 12, 31);
+        assertEquals("2026-12", LeaderboardPeriod.MONTHLY.keyOf(lastDay));
+        assertEquals(LocalDate.of(2026, 12, 1), LeaderboardPeriod.MONTHLY.startOf(lastDay));
+        assertEquals(LocalDate.of(2027, 1, 1), LeaderboardPeriod.MONTHLY.endExclusiveOf(lastDay));
+
+        LocalDate firstDay = LocalDate.of(2027, 1, 1);
+        assertEquals("2027-01", LeaderboardPeriod.MONTHLY.keyOf(firstDay));
+        assertEquals(firstDay, LeaderboardPeriod.MONTHLY.startOf(firstDay));
+        assertEquals(LocalDate.of(2027, 2, 1), LeaderboardPeriod.MONTHLY.endExclusiveOf(firstDay));
+    }
+}
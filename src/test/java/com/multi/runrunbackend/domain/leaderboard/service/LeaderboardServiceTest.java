@@ -0,0 +1,181 @@
+package com.multi.runrunbackend.domain.leaderboard.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.multi.runrunbackend.common.constant.DistanceType;
+import com.multi.runrunbackend.common.exception.custom.BadRequestException;
+import com.multi.runrunbackend.domain.crew.repository.CrewUserRepository;
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardPeriod;
+import com.multi.runrunbackend.domain.leaderboard.constant.LeaderboardScope;
+import com.multi.runrunbackend.domain.leaderboard.dto.res.LeaderboardEntryResDto;
+import com.multi.runrunbackend.domain.user.entity.User;
+import com.multi.runrunbackend.domain.user.repository.UserRepository;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * @author : kyungsoo
+ * @description : LeaderboardService - 거리 구간 경계(3/5/10km), 크루 없는 기록의 보드 목록, offset 기준 순위 번호, APPLY 스크립트의
+ * 기록 id 중복 반영 방지. 스크립트는 jedis-mock(Lua 를 실행하는 인프로세스 Redis)에서 실제로 돌린다.
+ * @filename : LeaderboardServiceTest
+ * @since : 2026. 1. 30. Friday
+ */
+class LeaderboardServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+    private static final String WEEK = LeaderboardPeriod.WEEKLY.keyOf(DATE);
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private UserRepository userRepository;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()),
+            LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        userRepository = mock(UserRepository.class);
+        leaderboardService = new LeaderboardService(redisTemplate, mock(CrewUserRepository.class),
+            userRepository);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void distanceTierStartsAtEachEdge() {
+        assertNull(LeaderboardService.distanceTierOf(null));
+        assertNull(LeaderboardService.distanceTierOf(new BigDecimal("2.99")));
+        assertEquals(DistanceType.KM_3, LeaderboardService.distanceTierOf(new BigDecimal("3.00")));
+        assertEquals(DistanceType.KM_3, LeaderboardService.distanceTierOf(new BigDecimal("4.99")));
+        assertEquals(DistanceType.KM_5, LeaderboardService.distanceTierOf(new BigDecimal("5")));
+        assertEquals(DistanceType.KM_5, LeaderboardService.distanceTierOf(new BigDecimal("9.99")));
+        assertEquals(DistanceType.KM_10, LeaderboardService.distanceTierOf(BigDecimal.TEN));
+        assertEquals(DistanceType.KM_10, LeaderboardService.distanceTierOf(new BigDecimal("42.195")));
+    }
+
+    @Test
+    void boardsForRunWithoutCrewOrTier() {
+        assertEquals(List.of(board(LeaderboardScope.GLOBAL, LeaderboardScope.GLOBAL_REF)),
+            LeaderboardService.boardsFor(LeaderboardPeriod.WEEKLY, WEEK, null,
+                new BigDecimal("2.99")));
+
+        assertEquals(List.of(
+                board(LeaderboardScope.GLOBAL, LeaderboardScope.GLOBAL_REF),
+                board(LeaderboardScope.TIER, "KM_5")),
+            LeaderboardService.boardsFor(LeaderboardPeriod.WEEKLY, WEEK, null, new BigDecimal("5")));
+    }
+
+    @Test
+    void boardsForCrewRunAtTenKm() {
+        assertEquals(List.of(
+                board(LeaderboardScope.GLOBAL, LeaderboardScope.GLOBAL_REF),
+                board(LeaderboardScope.CREW, "7"),
+                board(LeaderboardScope.TIER, "KM_10")),
+            LeaderboardService.boardsFor(LeaderboardPeriod.WEEKLY, WEEK, 7L, BigDecimal.TEN));
+    }
+
+    @Test
+    void toEntriesNumbersRanksFromOffset() {
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+            User.builder().id(11L).name("러너11").build(),
+            User.builder().id(12L).name("러너12").build()));
+
+        List<LeaderboardEntryResDto> entries = leaderboardService.toEntries(20,
+            List.of("11", "15.456", "12", "12.0", "99", "3.001"));
+
+        assertEquals(List.of(21, 22, 23),
+            entries.stream().map(LeaderboardEntryResDto::getRank).toList());
+        assertEquals(List.of(11L, 12L, 99L),
+            entries.stream().map(LeaderboardEntryResDto::getUserId).toList());
+        assertEquals(15.46, entries.get(0).getDistance());
+        assertEquals("러너12", entries.get(1).getName());
+        // 탈퇴 등으로 사용자가 없으면 이름만 비운다
+        assertNull(entries.get(2).getName());
+    }
+
+    @Test
+    void applyAddsEachRunningResultOnlyOnce() {
+        leaderboardService.apply(LeaderboardPeriod.WEEKLY, DATE, 1L, 10L, 7L,
+            new BigDecimal("5.50"));
+        leaderboardService.apply(LeaderboardPeriod.WEEKLY, DATE, 1L, 10L, 7L,
+            new BigDecimal("5.50"));
+
+        assertEquals(5.5, score(board(LeaderboardScope.GLOBAL, LeaderboardScope.GLOBAL_REF), "10"));
+        assertEquals(5.5, score(board(LeaderboardScope.CREW, "7"), "10"));
+        assertEquals(5.5, score(board(LeaderboardScope.TIER, "KM_5"), "10"));
+        assertTrue(redisTemplate.opsForSet().isMember(
+            LeaderboardService.appliedKey(LeaderboardPeriod.WEEKLY, WEEK), "1"));
+
+        // 다른 기록은 더해지고, 구간 보드는 그 기록의 거리 기준이다
+        leaderboardService.apply(LeaderboardPeriod.WEEKLY, DATE, 2L, 10L, 7L,
+            new BigDecimal("3.00"));
+
+        assertEquals(8.5, score(board(LeaderboardScope.GLOBAL, LeaderboardScope.GLOBAL_REF), "10"));
+        assertEquals(8.5, score(board(LeaderboardScope.CREW, "7"), "10"));
+        assertEquals(5.5, score(board(LeaderboardScope.TIER, "KM_5"), "10"));
+        assertEquals(3.0, score(board(LeaderboardScope.TIER, "KM_3"), "10"));
+        assertTrue(redisTemplate.getExpire(
+            board(LeaderboardScope.GLOBAL, LeaderboardScope.GLOBAL_REF)) > 0);
+    }
+
+    @Test
+    void requireRefRejectsInvalidCrewAndTierRefs() {
+        assertEquals(LeaderboardScope.GLOBAL_REF,
+            LeaderboardService.requireRef(LeaderboardScope.GLOBAL, "anything"));
+        assertEquals("7", LeaderboardService.requireRef(LeaderboardScope.CREW, "7"));
+        assertEquals("KM_5", LeaderboardService.requireRef(LeaderboardScope.TIER, "KM_5"));
+
+        assertThrows(BadRequestException.class,
+            () -> LeaderboardService.requireRef(LeaderboardScope.CREW, null));
+        assertThrows(BadRequestException.class,
+            () -> LeaderboardService.requireRef(LeaderboardScope.CREW, "7 OR 1=1"));
+        assertThrows(BadRequestException.class,
+            () -> LeaderboardService.requireRef(LeaderboardScope.TIER, "KM_42"));
+    }
+
+    private Double score(String key, String member) {
+        return redisTemplate.opsForZSet().score(key, member);
+    }
+
+    private static String board(LeaderboardScope scope, String ref) {
+        return LeaderboardService.boardKey(scope, ref, LeaderboardPeriod.WEEKLY, WEEK);
+    }
+}
@@ -0,0 +1,255 @@
+package com.multi.runrunbackend.domain.payment.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author : BoKyung
+ * @description : 토스 빌링 API 테스트 스텁. 임의 포트에 HTTP 서버를 띄워 빌링키 발급·빌링키 결제를 흉내 낸다.
+ * 다음 N건 5xx, 승인 후 응답 지연(클라이언트 타임아웃), 빌링키별 카드 거절을 지정할 수 있고, Idempotency-Key 별 요청/승인 수를 센다.
+ * 같은 Idempotency-Key 로 다시 오면 처음 응답을 그대로 돌려준다 (토스와 동일). 주문 ID 결제 조회는 승인된 결제만 돌려주고 없으면 404.
+ * @filename : TossBillingStubServer
+ * @since : 2026. 1. 29. Thursday
+ */
+public class TossBillingStubServer {
+
+    private static final String BILLING_PREFIX = "/v1/billing/";
+    private static final String ISSUE_PATH = "/v1/billing/authorizations/issue";
+    private static final String ORDER_LOOKUP_PREFIX = "/v1/payments/orders/";
+
+    private final ObjectMapper objectMapper;
+
+    // Idempotency-Key -> (status, body)
+    private final Map<String, StubResponse> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> approvals = new ConcurrentHashMap<>();
+    // orderId -> 승인 응답 본문
+    private final Map<String, byte[]> approvedOrders = new ConcurrentHashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicInteger failLookups = new AtomicInteger();
+    private final Set<String> declinedBillingKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger failNext = new AtomicInteger();
+    private final AtomicInteger delayNext = new AtomicInteger();
+    private volatile long delayMs;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private record StubResponse(int status, byte[] body) {
+    }
+
+    public TossBillingStubServer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(BILLING_PREFIX, this::handle);
+        server.createContext(ORDER_LOOKUP_PREFIX, this::handleLookup);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 다음 count 건의 (처음 보는 키) 결제 요청에 503. 일시 장애는 결과를 남기지 않으므로 재시도 시 새로 처리된다
+     */
+    public void failNext(int count) {
+        failNext.set(count);
+    }
+
+    /**
+     * 다음 count 건은 승인까지 마친 뒤 millis 만큼 늦게 응답한다 (승인됐지만 응답을 못 받은 경우)
+     */
+    public void delayResponseOfNext(int count, long millis) {
+        delayMs = millis;
+        delayNext.set(count);
+    }
+
+    /**
+     * 다음 count 건의 주문 ID 결제 조회에 503
+     */
+    public void failLookups(int count) {
+        failLookups.set(count);
+    }
+
+    public void decline(String billingKey) {
+        declinedBillingKeys.add(billingKey);
+    }
+
+    public int requests(String idempotencyKey) {
+        AtomicInteger count = requests.get(idempotencyKey);
+        return count == null ? 0 : count.get();
+    }
+
+    public int approvals(String idempotencyKey) {
+        AtomicInteger count = approvals.get(idempotencyKey);
+        return count == null ? 0 : count.get();
+    }
+
+    public int totalApprovals() {
+        return approvals.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public int lookups() {
+        return lookups.get();
+    }
+
+    private void handleLookup(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                write(exchange, new StubResponse(405, new byte[0]));
+                return;
+            }
+            lookups.incrementAndGet();
+            if (takeOne(failLookups)) {
+                write(exchange, error(503, "PROVIDER_ERROR", "일시적인 오류가 발생했습니다."));
+                return;
+            }
+            String orderId = exchange.getRequestURI().getPath().substring(ORDER_LOOKUP_PREFIX.length());
+            byte[] approved = approvedOrders.get(orderId);
+            write(exchange, approved == null
+                    ? error(404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다.")
+                    : new StubResponse(200, approved));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                write(exchange, new StubResponse(405, new byte[0]));
+                return;
+            }
+            JsonNode req = objectMapper.readTree(exchange.getRequestBody());
+            String path = exchange.getRequestURI().getPath();
+
+            if (ISSUE_PATH.equals(path)) {
+                write(exchange, issueBillingKey(req));
+                return;
+            }
+
+            String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+            if (idempotencyKey != null) {
+                requests.computeIfAbsent(idempotencyKey, k -> new AtomicInteger()).incrementAndGet();
+                if (responses.containsKey(idempotencyKey)) {
+                    if (takeOne(delayNext)) {
+                        sleep(delayMs);
+                    }
+                    write(exchange, responses.get(idempotencyKey));
+                    return;
+                }
+            }
+
+            if (takeOne(failNext)) {
+                write(exchange, error(503, "PROVIDER_ERROR", "일시적인 오류가 발생했습니다."));
+                return;
+            }
+
+            String billingKey = path.substring(BILLING_PREFIX.length());
+            StubResponse response = declinedBillingKeys.contains(billingKey)
+                    ? error(400, "REJECT_CARD_PAYMENT", "카드 결제가 거절되었습니다.")
+                    : approve(billingKey, req, idempotencyKey);
+            if (idempotencyKey != null) {
+                StubResponse first = responses.putIfAbsent(idempotencyKey, response);
+                response = first == null ? response : first;
+            }
+
+            if (takeOne(delayNext)) {
+                sleep(delayMs);
+            }
+            write(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private StubResponse approve(String billingKey, JsonNode req, String idempotencyKey)
+            throws IOException {
+        if (idempotencyKey != null) {
+            approvals.computeIfAbsent(idempotencyKey, k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        Map<String, Object> card = new LinkedHashMap<>();
+        card.put("number", "4330********123*");
+        card.put("billingKey", billingKey);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("paymentKey", "stub_" + UUID.randomUUID());
+        body.put("orderId", req.path("orderId").asText());
+        body.put("orderName", req.path("orderName").asText());
+        body.put("status", "DONE");
+        body.put("totalAmount", req.path("amount").asInt());
+        body.put("method", "카드");
+        body.put("approvedAt", OffsetDateTime.now().toString());
+        body.put("card", card);
+        byte[] approved = objectMapper.writeValueAsBytes(body);
+        approvedOrders.putIfAbsent(req.path("orderId").asText(), approved);
+        return new StubResponse(200, approved);
+    }
+
+    private StubResponse issueBillingKey(JsonNode req) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("customerKey", req.path("customerKey").asText());
+        body.put("billingKey", "stub_bk_" + UUID.randomUUID().toString().replace("-", ""));
+        body.put("authenticatedAt", OffsetDateTime.now().toString());
+        body.put("card", Map.of("number", "4330********123*", "cardType", "신용", "ownerType", "개인"));
+        return new StubResponse(200, objectMapper.writeValueAsBytes(body));
+    }
+
+    private StubResponse error(int status, String code, String message) throws IOException {
+        return new StubResponse(status,
+                objectMapper.writeValueAsBytes(Map.of("code", code, "message", message)));
+    }
+
+    private static boolean takeOne(AtomicInteger remaining) {
+        return remaining.getAndUpdate(n -> n > 0 ? n - 1 : 0) > 0;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(HttpExchange exchange, StubResponse response) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(),
+                response.body().length == 0 ? -1 : response.body().length);
+        if (response.body().length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response.body());
+            }
+        }
+    }
+}
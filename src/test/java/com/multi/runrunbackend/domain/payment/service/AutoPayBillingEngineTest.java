@@ -0,0 +1,419 @@
+package com.multi.runrunbackend.domain.payment.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multi.runrunbackend.common.config.WebClientConfig;
+import com.multi.runrunbackend.domain.membership.constant.MembershipStatus;
+import com.multi.runrunbackend.domain.membership.entity.Membership;
+import com.multi.runrunbackend.domain.membership.repository.MembershipRepository;
+import com.multi.runrunbackend.domain.notification.service.NotificationService;
+import com.multi.runrunbackend.domain.payment.client.TossBillingStubServer;
+import com.multi.runrunbackend.domain.payment.client.TossPaymentClient;
+import com.multi.runrunbackend.domain.payment.repository.AutoPayBillingRepository;
+import com.multi.runrunbackend.domain.payment.repository.PaymentRepository;
+import com.multi.runrunbackend.domain.user.entity.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * @author : BoKyung
+ * @description : 자동결제 엔진 - 토스 빌링 스텁을 상대로 5xx/타임아웃 재시도, Idempotency-Key 재사용, 확정 전 결제 조회, 빌링키 없는 건, 중단된 실행 이어받기 확인.
+ * 체크포인트/원장은 메모리 구현, 멤버십 조회는 mock 이다.
+ * @filename : AutoPayBillingEngineTest
+ * @since : 2026. 1. 29. Thursday
+ */
+class AutoPayBillingEngineTest {
+
+    private static final LocalDate BILLING_DATE = LocalDate.of(2026, 10, 19);
+    private static final long RESPONSE_TIMEOUT_MS = 300;
+
+    private TossBillingStubServer stub;
+    private TossPaymentClient tossPaymentClient;
+    private MembershipRepository membershipRepository;
+    private InMemoryBillingRepository billingRepository;
+    private AutoPayBillingEngine engine;
+
+    private final Map<Long, Membership> memberships = new ConcurrentHashMap<>();
+    // 기록 트랜잭션 진입 횟수 (n 번째 진입에서 서버가 죽은 것처럼 예외)
+    private final AtomicInteger recordCalls = new AtomicInteger();
+    private volatile int crashOnRecordCall;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        stub = new TossBillingStubServer(new ObjectMapper());
+        stub.start();
+
+        WebClient billingWebClient = new WebClientConfig().tossBillingWebClient(stub.baseUrl(), 8,
+            2_000, RESPONSE_TIMEOUT_MS);
+        tossPaymentClient = new TossPaymentClient(WebClient.builder(), billingWebClient,
+            stub.baseUrl());
+        ReflectionTestUtils.setField(tossPaymentClient, "secretKey", "test_sk");
+
+        membershipRepository = mock(MembershipRepository.class);
+        when(membershipRepository.findDueForBillingAfter(eq(MembershipStatus.ACTIVE), any(), any(),
+            anyLong(), any())).thenAnswer(inv -> {
+                LocalDateTime start = inv.getArgument(1);
+                LocalDateTime end = inv.getArgument(2);
+                long afterId = inv.getArgument(3);
+                Pageable pageable = inv.getArgument(4);
+                return memberships.values().stream()
+                    .filter(m -> m.getMembershipStatus() == MembershipStatus.ACTIVE)
+                    .filter(m -> m.getNextBillingDate() != null
+                        && !m.getNextBillingDate().isBefore(start)
+                        && m.getNextBillingDate().isBefore(end))
+                    .filter(m -> m.getId() > afterId)
+                    .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                    .limit(pageable.getPageSize())
+                    .toList();
+            });
+        when(membershipRepository.findAllById(anyIterable())).thenAnswer(inv -> {
+            if (recordCalls.incrementAndGet() == crashOnRecordCall) {
+                throw new IllegalStateException("simulated crash after charging");
+            }
+            List<Membership> found = new ArrayList<>();
+            for (Long id : (Iterable<Long>) inv.getArgument(0)) {
+                if (memberships.containsKey(id)) {
+                    found.add(memberships.get(id));
+                }
+            }
+            return found;
+        });
+
+        billingRepository = new InMemoryBillingRepository();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+        stub.stop();
+    }
+
+    @Test
+    void retriesTransient5xxWithSameIdempotencyKey() {
+        addMembership(1);
+        stub.failNext(2);
+        engine = newEngine(10, 3, 9);
+
+        assertEquals(1, engine.run(BILLING_DATE));
+
+        String key = AutoPayBillingEngine.idempotencyKey(1, BILLING_DATE);
+        assertEquals(3, stub.requests(key));
+        assertEquals(1, stub.approvals(key));
+        assertEquals(AutoPayBillingRepository.CHARGE_SUCCEEDED, billingRepository.charge(1).status());
+        assertEquals(3, billingRepository.charge(1).attempts());
+        assertEquals(BILLING_DATE.atStartOfDay().plusMonths(1), memberships.get(1L).getNextBillingDate());
+        assertEquals(AutoPayBillingRepository.RUN_DONE, billingRepository.checkpoint(BILLING_DATE).status());
+    }
+
+    @Test
+    void retriesTimeoutWithoutDoubleApproval() {
+        addMembership(1);
+        // 토스는 승인했지만 응답이 타임아웃보다 늦게 온다
+        stub.delayResponseOfNext(1, RESPONSE_TIMEOUT_MS * 5);
+        engine = newEngine(10, 3, 9);
+
+        assertEquals(1, engine.run(BILLING_DATE));
+
+        String key = AutoPayBillingEngine.idempotencyKey(1, BILLING_DATE);
+        assertEquals(2, stub.requests(key));
+        assertEquals(1, stub.approvals(key));
+        assertEquals(AutoPayBillingRepository.CHARGE_SUCCEEDED, billingRepository.charge(1).status());
+        assertEquals(2, billingRepository.charge(1).attempts());
+    }
+
+    @Test
+    void leavesExhaustedRetriesForNextRunAndReusesKey() {
+        addMembership(1);
+        stub.failNext(3);
+        engine = newEngine(10, 3, 9);
+
+        assertEquals(0, engine.run(BILLING_DATE));
+        assertEquals(AutoPayBillingRepository.CHARGE_ERROR, billingRepository.charge(1).status());
+        assertEquals(AutoPayBillingRepository.RUN_PARTIAL, billingRepository.checkpoint(BILLING_DATE).status());
+        // 확정 전이므로 멤버십은 그대로
+        assertEquals(MembershipStatus.ACTIVE, memberships.get(1L).getMembershipStatus());
+        assertEquals(BILLING_DATE.atStartOfDay(), memberships.get(1L).getNextBillingDate());
+
+        assertEquals(1, engine.run(BILLING_DATE));
+
+        String key = AutoPayBillingEngine.idempotencyKey(1, BILLING_DATE);
+        assertEquals(4, stub.requests(key));
+        assertEquals(1, stub.approvals(key));
+        assertEquals(AutoPayBillingRepository.CHARGE_SUCCEEDED, billingRepository.charge(1).status());
+        assertEquals(4, billingRepository.charge(1).attempts());
+        assertEquals(AutoPayBillingRepository.RUN_DONE, billingRepository.checkpoint(BILLING_DATE).status());
+    }
+
+    @Test
+    void declinesAndExpiresAfterMaxTotalAttempts() {
+        addMembership(1);
+        stub.failNext(4);
+        engine = newEngine(10, 2, 3);
+
+        assertEquals(0, engine.run(BILLING_DATE));
+        assertEquals(AutoPayBillingRepository.CHARGE_ERROR, billingRepository.charge(1).status());
+
+        assertEquals(0, engine.run(BILLING_DATE));
+        assertEquals(AutoPayBillingRepository.CHARGE_DECLINED, billingRepository.charge(1).status());
+        assertEquals(4, billingRepository.charge(1).attempts());
+        assertEquals(MembershipStatus.EXPIRED, memberships.get(1L).getMembershipStatus());
+        assertEquals(0, stub.totalApprovals());
+        // 실패로 확정하기 전에 토스에 결제가 없는지 한 번 확인한다
+        assertEquals(1, stub.lookups());
+    }
+
+    @Test
+    void settlesApprovedChargeFromLookupWhenEveryResponseTimedOut() {
+        addMembership(1);
+        // 첫 호출에서 승인됐지만 두 번 다 응답이 타임아웃보다 늦다
+        stub.delayResponseOfNext(2, RESPONSE_TIMEOUT_MS * 5);
+        engine = newEngine(10, 2, 2);
+
+        assertEquals(1, engine.run(BILLING_DATE));
+
+        String key = AutoPayBillingEngine.idempotencyKey(1, BILLING_DATE);
+        assertEquals(2, stub.requests(key));
+        assertEquals(1, stub.approvals(key));
+        assertEquals(1, stub.lookups());
+        assertEquals(AutoPayBillingRepository.CHARGE_SUCCEEDED, billingRepository.charge(1).status());
+        assertEquals(MembershipStatus.ACTIVE, memberships.get(1L).getMembershipStatus());
+        assertEquals(BILLING_DATE.atStartOfDay().plusMonths(1), memberships.get(1L).getNextBillingDate());
+    }
+
+    @Test
+    void keepsUnknownChargeOpenWhenLookupFails() {
+        addMembership(1);
+        stub.failNext(2);
+        stub.failLookups(1);
+        engine = newEngine(10, 2, 2);
+
+        assertEquals(0, engine.run(BILLING_DATE));
+        assertEquals(AutoPayBillingRepository.CHARGE_ERROR, billingRepository.charge(1).status());
+        assertEquals(MembershipStatus.ACTIVE, memberships.get(1L).getMembershipStatus());
+        assertEquals(AutoPayBillingRepository.RUN_PARTIAL, billingRepository.checkpoint(BILLING_DATE).status());
+
+        assertEquals(1, engine.run(BILLING_DATE));
+        assertEquals(AutoPayBillingRepository.CHARGE_SUCCEEDED, billingRepository.charge(1).status());
+        assertEquals(1, stub.approvals(AutoPayBillingEngine.idempotencyKey(1, BILLING_DATE)));
+    }
+
+    @Test
+    void skipsMembershipWithoutBillingKeyAndLeavesItUntouched() {
+        addMembership(1);
+        billingRepository.removeBillingKey(101);
+        engine = newEngine(10, 3, 9);
+
+        assertEquals(0, engine.run(BILLING_DATE));
+
+        assertEquals(0, stub.requests(AutoPayBillingEngine.idempotencyKey(1, BILLING_DATE)));
+        assertEquals(AutoPayBillingRepository.CHARGE_SKIPPED, billingRepository.charge(1).status());
+        assertEquals(MembershipStatus.ACTIVE, memberships.get(1L).getMembershipStatus());
+        assertEquals(BILLING_DATE.atStartOfDay(), memberships.get(1L).getNextBillingDate());
+        assertEquals(AutoPayBillingRepository.RUN_DONE, billingRepository.checkpoint(BILLING_DATE).status());
+    }
+
+    @Test
+    void declinedCardIsSettledWithoutRetry() {
+        addMembership(1);
+        stub.decline(billingKeyOf(1));
+        engine = newEngine(10, 3, 9);
+
+        assertEquals(0, engine.run(BILLING_DATE));
+
+        assertEquals(1, stub.requests(AutoPayBillingEngine.idempotencyKey(1, BILLING_DATE)));
+        assertEquals(AutoPayBillingRepository.CHARGE_DECLINED, billingRepository.charge(1).status());
+        assertEquals(MembershipStatus.EXPIRED, memberships.get(1L).getMembershipStatus());
+    }
+
+    @Test
+    void resumesInterruptedRunFromCheckpointWithoutDoubleCharging() {
+        for (long id = 1; id <= 5; id++) {
+            addMembership(id);
+        }
+        // 페이지 2건씩, 두 번째 페이지는 토스 승인 후 기록 전에 서버가 죽는다
+        crashOnRecordCall = 2;
+        engine = newEngine(2, 3, 9);
+
+        assertThrows(IllegalStateException.class, () -> engine.run(BILLING_DATE));
+        assertEquals(AutoPayBillingRepository.RUN_RUNNING, billingRepository.checkpoint(BILLING_DATE).status());
+        assertEquals(2, billingRepository.checkpoint(BILLING_DATE).lastMembershipId());
+        assertEquals(2, billingRepository.chargeCount());
+        assertEquals(4, stub.totalApprovals());
+
+        // 다음 날 실행이 중단된 결제일을 먼저 이어받는다
+        assertEquals(3, engine.runDue(BILLING_DATE.plusDays(1)));
+
+        for (long id = 1; id <= 5; id++) {
+            String key = AutoPayBillingEngine.idempotencyKey(id, BILLING_DATE);
+            assertEquals(1, stub.approvals(key), key);
+            assertEquals(AutoPayBillingRepository.CHARGE_SUCCEEDED, billingRepository.charge(id).status());
+            assertEquals(BILLING_DATE.atStartOfDay().plusMonths(1), memberships.get(id).getNextBillingDate());
+        }
+        // 기록까지 끝난 1, 2 는 다시 호출하지 않고, 기록 전에 죽은 3, 4 는 같은 키로 다시 호출해 처음 승인을 돌려받는다
+        assertEquals(1, stub.requests(AutoPayBillingEngine.idempotencyKey(1, BILLING_DATE)));
+        assertEquals(1, stub.requests(AutoPayBillingEngine.idempotencyKey(2, BILLING_DATE)));
+        assertEquals(2, stub.requests(AutoPayBillingEngine.idempotencyKey(3, BILLING_DATE)));
+        assertEquals(2, stub.requests(AutoPayBillingEngine.idempotencyKey(4, BILLING_DATE)));
+        assertEquals(1, stub.requests(AutoPayBillingEngine.idempotencyKey(5, BILLING_DATE)));
+        assertEquals(AutoPayBillingRepository.RUN_DONE, billingRepository.checkpoint(BILLING_DATE).status());
+    }
+
+    private AutoPayBillingEngine newEngine(int pageSize, int maxAttempts, int maxTotalAttempts) {
+        return new AutoPayBillingEngine(
+            membershipRepository,
+            mock(PaymentRepository.class),
+            billingRepository,
+            tossPaymentClient,
+            mock(NotificationService.class),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            pageSize,
+            4,
+            maxAttempts,
+            maxTotalAttempts,
+            10,
+            false);
+    }
+
+    private void addMembership(long id) {
+        User user = User.builder()
+            .id(100 + id)
+            .loginId("autopay" + id)
+            .email("autopay" + id + "@test.local")
+            .name("회원" + id)
+            .build();
+        memberships.put(id, Membership.builder()
+            .id(id)
+            .user(user)
+            .membershipStatus(MembershipStatus.ACTIVE)
+            .startDate(BILLING_DATE.atStartOfDay().minusMonths(1))
+            .nextBillingDate(BILLING_DATE.atStartOfDay())
+            .build());
+    }
+
+    private static String billingKeyOf(long membershipId) {
+        return "bk_" + (100 + membershipId);
+    }
+
+    /**
+     * autopay_billing_run / autopay_charge 를 흉내 낸 메모리 구현 (SQL 과 같은 갱신 규칙)
+     */
+    private static class InMemoryBillingRepository extends AutoPayBillingRepository {
+
+        private final Map<LocalDate, Checkpoint> runs = new HashMap<>();
+        private final Map<Long, ChargeRow> charges = new HashMap<>();
+        private final Set<Long> usersWithoutBillingKey = ConcurrentHashMap.newKeySet();
+
+        InMemoryBillingRepository() {
+            super(null);
+        }
+
+        @Override
+        public synchronized Checkpoint open(LocalDate billingDate) {
+            Checkpoint checkpoint = runs.getOrDefault(billingDate, new Checkpoint(RUN_RUNNING, 0));
+            if (RUN_PARTIAL.equals(checkpoint.status())) {
+                checkpoint = new Checkpoint(RUN_RUNNING, 0);
+            }
+            runs.put(billingDate, checkpoint);
+            return checkpoint;
+        }
+
+        @Override
+        public synchronized List<LocalDate> findUnfinishedBefore(LocalDate billingDate,
+            LocalDate since) {
+            return runs.entrySet().stream()
+                .filter(e -> e.getKey().isBefore(billingDate) && !e.getKey().isBefore(since))
+                .filter(e -> !RUN_DONE.equals(e.getValue().status()))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        }
+
+        @Override
+        public synchronized Map<Long, PreviousCharge> findCharges(LocalDate billingDate,
+            Collection<Long> membershipIds) {
+            Map<Long, PreviousCharge> found = new HashMap<>();
+            for (Long id : membershipIds) {
+                ChargeRow row = charges.get(id);
+                if (row != null && row.idempotencyKey()
+                    .equals(AutoPayBillingEngine.idempotencyKey(id, billingDate))) {
+                    found.put(id, new PreviousCharge(row.status(), row.attempts()));
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public Map<Long, String> findLatestBillingKeys(Collection<Long> userIds) {
+            Map<Long, String> keys = new HashMap<>();
+            userIds.stream()
+                .filter(userId -> !usersWithoutBillingKey.contains(userId))
+                .forEach(userId -> keys.put(userId, "bk_" + userId));
+            return keys;
+        }
+
+        void removeBillingKey(long userId) {
+            usersWithoutBillingKey.add(userId);
+        }
+
+        @Override
+        public synchronized void saveCharges(LocalDate billingDate, List<ChargeRow> rows) {
+            for (ChargeRow row : rows) {
+                ChargeRow prev = charges.get(row.membershipId());
+                int attempts = prev == null ? row.attempts() : prev.attempts() + row.attempts();
+                charges.put(row.membershipId(), new ChargeRow(row.membershipId(), row.userId(),
+                    row.idempotencyKey(), row.status(), attempts, row.paymentKey(), row.errorCode()));
+            }
+        }
+
+        @Override
+        public synchronized void advance(LocalDate billingDate, long lastMembershipId,
+            int succeeded, int failed) {
+            runs.put(billingDate, new Checkpoint(runs.get(billingDate).status(), lastMembershipId));
+        }
+
+        @Override
+        public synchronized void finish(LocalDate billingDate, boolean pendingRetry) {
+            runs.put(billingDate, new Checkpoint(pendingRetry ? RUN_PARTIAL : RUN_DONE,
+                runs.get(billingDate).lastMembershipId()));
+        }
+
+        synchronized Checkpoint checkpoint(LocalDate billingDate) {
+            return runs.get(billingDate);
+        }
+
+        synchronized ChargeRow charge(long membershipId) {
+            return charges.get(membershipId);
+        }
+
+        synchronized int chargeCount() {
+            return charges.size();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.multi.runrunbackend.domain.rating.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : EloCalculator 가 배치 전환 전 DistanceRatingService.calculateEloDelta 와 같은 변동값을 내는지 무작위 입력으로 비교
+ * @filename : EloCalculatorTest
+ * @since : 2026. 1. 23. Friday
+ */
+class EloCalculatorTest {
+
+  private static final long SEED = 20260123L;
+  private static final int SESSIONS = 200_000;
+
+  @Test
+  void deltasMatchPreviousAlgorithmForRandomSessions() {
+    SplittableRandom random = new SplittableRandom(SEED);
+
+    for (int s = 0; s < SESSIONS; s++) {
+      int n = 2 + random.nextInt(9);
+      int[] ratings = new int[n];
+      int[] kFactors = new int[n];
+      boolean[] completed = new boolean[n];
+      for (int i = 0; i < n; i++) {
+        // 대부분 실제 분포(0~3000), 가끔 극단값
+        ratings[i] = random.nextInt(20) == 0 ? random.nextInt(-500, 6000) : random.nextInt(3001);
+        kFactors[i] = EloCalculator.kFactor(random.nextLong(60));
+        completed[i] = random.nextBoolean();
+      }
+
+      int[] expected = previousDeltas(ratings, kFactors, completed);
+      int[] actual = EloCalculator.deltas(ratings, kFactors, completed);
+      assertArrayEquals(expected, actual, () -> "seed=" + SEED + ", ratings="
+          + Arrays.toString(ratings) + ", k=" + Arrays.toString(kFactors)
+          + ", completed=" + Arrays.toString(completed));
+    }
+  }
+
+  @Test
+  void deltasMatchPreviousAlgorithmForEqualRatings() {
+    for (int n = 2; n <= 10; n++) {
+      int[] ratings = new int[n];
+      int[] kFactors = new int[n];
+      boolean[] completed = new boolean[n];
+      Arrays.fill(ratings, 1000);
+      Arrays.fill(kFactors, 40);
+      for (int mask = 0; mask < 4; mask++) {
+        for (int i = 0; i < n; i++) {
+          completed[i] = ((mask >> (i % 2)) & 1) == 1;
+        }
+        assertArrayEquals(previousDeltas(ratings, kFactors, completed),
+            EloCalculator.deltas(ratings, kFactors, completed));
+      }
+    }
+  }
+
+  @Test
+  void kFactorAndCompletionBonusMatchPreviousRules() {
+    for (long games = 0; games < 100; games++) {
+      int expectedK = games < 10 ? 40 : games < 30 ? 32 : 24;
+      assertEquals(expectedK, EloCalculator.kFactor(games));
+      assertEquals((int) Math.round(expectedK * 0.5), EloCalculator.completionBonus(expectedK));
+    }
+  }
+
+  /**
+   * 배치 전환 전 DistanceRatingService.calculateEloDelta 를 참가자마다 호출하던 방식 그대로 (List 기반)
+   */
+  private static int[] previousDeltas(int[] ratings, int[] kFactors, boolean[] completed) {
+    int n = ratings.length;
+    List<Integer> preRatings = new ArrayList<>(n);
+    for (int rating : ratings) {
+      preRatings.add(rating);
+    }
+
+    int[] deltas = new int[n];
+    for (int i = 0; i < n; i++) {
+      deltas[i] = previousDelta(kFactors[i], preRatings, i, i + 1, n, completed[i]);
+    }
+    return deltas;
+  }
+
+  private static int previousDelta(int k, List<Integer> preRatings, int myIndex, int rank,
+      int totalParticipants, boolean isCompleted) {
+    if (totalParticipants <= 1) {
+      return 5;
+    }
+
+    int myRating = preRatings.get(myIndex);
+    double actual = 1.0 - (double) (rank - 1) / (double) (totalParticipants - 1);
+
+    double expected = 0.0;
+    int oppCount = 0;
+    for (int j = 0; j < totalParticipants; j++) {
+      if (j == myIndex) {
+        continue;
+      }
+      int oppRating = preRatings.get(j);
+      expected += 1.0 / (1.0 + Math.pow(10.0, (oppRating - myRating) / 400.0));
+      oppCount++;
+    }
+    expected = expected / Math.max(1, oppCount);
+
+    int delta = (int) Math.round(k * (actual - expected));
+    delta = Math.max(-50, Math.min(50, delta));
+
+    if (isCompleted && delta < 5) {
+      delta = 5;
+    }
+    if (isCompleted) {
+      int giveUpPenalty = 10;
+      if (delta < -giveUpPenalty + 1) {
+        delta = -giveUpPenalty + 1;
+      }
+    }
+    if (!isCompleted) {
+      int giveUpPenalty = 10;
+      if (delta < -giveUpPenalty + 1) {
+        delta = -giveUpPenalty + 1;
+      }
+    }
+
+    if (rank == 1 && delta <= 0) {
+      delta = 1;
+    }
+    if (rank == totalParticipants && delta >= 0) {
+      delta = -1;
+    }
+    return delta;
+  }
+}
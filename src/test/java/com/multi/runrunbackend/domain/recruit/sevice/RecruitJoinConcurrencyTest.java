@@ -0,0 +1,175 @@
+package com.multi.runrunbackend.domain.recruit.sevice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.multi.runrunbackend.common.exception.custom.ValidationException;
+import com.multi.runrunbackend.common.exception.dto.ErrorCode;
+import com.multi.runrunbackend.domain.auth.dto.CustomUser;
+import com.multi.runrunbackend.domain.recruit.constant.GenderLimit;
+import com.multi.runrunbackend.domain.recruit.entity.Recruit;
+import com.multi.runrunbackend.domain.recruit.repository.RecruitRepository;
+import com.multi.runrunbackend.domain.user.entity.User;
+import com.multi.runrunbackend.domain.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * @author : KIMGWANGHO
+ * @description : 모집글 동시 참가 - 500명이 한꺼번에 참가해도 정원을 넘지 않고 세션은 한 번만 생성되는지 확인.
+ * <p>
+ * 실제 Postgres 에 사용자 501명을 넣고 지우므로 integration 태그로 test 에서 빼고 ./gradlew integrationTest 로만 돈다. 공유 DB 가 아닌
+ * 버리는 DB 를 가리킬 때만 실행할 것
+ * @filename : RecruitJoinConcurrencyTest
+ * @since : 2025. 12. 17. Wednesday
+ */
+@Tag("integration")
+@SpringBootTest
+class RecruitJoinConcurrencyTest {
+
+    private static final int JOINERS = 500;
+    private static final int MAX_PARTICIPANTS = 10;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private RecruitService recruitService;
+
+    @Autowired
+    private RecruitRepository recruitRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long recruitId;
+
+    @AfterEach
+    void cleanUp() {
+        if (recruitId != null) {
+            jdbcTemplate.update("DELETE FROM session_users WHERE session_id IN "
+                + "(SELECT id FROM match_session WHERE recruit_id = ?)", recruitId);
+            jdbcTemplate.update("DELETE FROM match_session WHERE recruit_id = ?", recruitId);
+            jdbcTemplate.update("DELETE FROM recruit_users WHERE recruit_id = ?", recruitId);
+            jdbcTemplate.update("DELETE FROM recruit WHERE id = ?", recruitId);
+        }
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    @Test
+    void concurrentJoinsNeverOverbookAndCreateOneSession() throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User host = saveUser(run, 0);
+        recruitId = recruitRepository.save(Recruit.builder()
+            .user(host)
+            .title("동시 참가 테스트")
+            .content("동시 참가 테스트")
+            .meetingPlace("테스트 장소")
+            .latitude(37.5665)
+            .longitude(126.9780)
+            .targetDistance(5.0)
+            .targetPace("6:00")
+            .maxParticipants(MAX_PARTICIPANTS)
+            .ageMin(0)
+            .ageMax(100)
+            .genderLimit(GenderLimit.BOTH)
+            .meetingAt(LocalDateTime.now().plusDays(1))
+            .build()).getId();
+
+        List<CustomUser> joiners = new ArrayList<>(JOINERS);
+        for (int i = 1; i <= JOINERS; i++) {
+            User user = saveUser(run, i);
+            joiners.add(CustomUser.builder()
+                .userId(user.getId())
+                .loginId(user.getLoginId())
+                .roles(List.of("ROLE_USER"))
+                .build());
+        }
+
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        ConcurrentLinkedQueue<Long> sessionIds = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(JOINERS);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        boolean finished;
+        try {
+            for (CustomUser joiner : joiners) {
+                pool.submit(() -> {
+                    try {
+                        start.await();
+                        Long sessionId = recruitService.joinRecruit(recruitId, joiner);
+                        joined.incrementAndGet();
+                        if (sessionId != null) {
+                            sessionIds.add(sessionId);
+                        }
+                    } catch (ValidationException e) {
+                        if (e.getErrorCode() == ErrorCode.RECRUIT_FULL) {
+                            full.incrementAndGet();
+                        } else {
+                            unexpected.add(e);
+                        }
+                    } catch (Throwable e) {
+                        unexpected.add(e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            finished = done.await(2, TimeUnit.MINUTES);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertTrue(finished, "참가 요청이 2분 안에 끝나지 않음 - 남은 요청 " + done.getCount());
+
+        assertEquals(List.of(), List.copyOf(unexpected));
+        assertEquals(MAX_PARTICIPANTS - 1, joined.get());
+        assertEquals(JOINERS - (MAX_PARTICIPANTS - 1), full.get());
+        assertEquals(1, sessionIds.size());
+
+        assertEquals(MAX_PARTICIPANTS, recruitRepository.findById(recruitId).orElseThrow()
+            .getCurrentParticipants());
+        assertEquals(MAX_PARTICIPANTS - 1, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM recruit_users WHERE recruit_id = ?", Integer.class, recruitId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM match_session WHERE recruit_id = ?", Integer.class, recruitId));
+    }
+
+    private User saveUser(String run, int index) {
+        User user = userRepository.save(User.builder()
+            .loginId("join-" + run + "-" + index)
+            .password("test")
+            .email("join-" + run + "-" + index + "@test.local")
+            .role("ROLE_USER")
+            .name("러너")
+            .gender("M")
+            .birthDate(LocalDate.of(1995, 1, 1))
+            .build());
+        userIds.add(user.getId());
+        return user;
+    }
+}